@@ -0,0 +1,312 @@
+package com.toastlabplus.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.toastlabplus.controller.AgendaGenerationController;
+import com.toastlabplus.dto.KeysetPage;
+import com.toastlabplus.entity.AgendaTemplate;
+import com.toastlabplus.entity.Club;
+import com.toastlabplus.entity.Meeting;
+import com.toastlabplus.entity.Member;
+import com.toastlabplus.entity.RoleSlot;
+import com.toastlabplus.mcp.McpToolService;
+import com.toastlabplus.repository.AgendaTemplateRepository;
+import com.toastlabplus.repository.ClubAdminRepository;
+import com.toastlabplus.repository.ClubMembershipRepository;
+import com.toastlabplus.repository.ClubOfficerRepository;
+import com.toastlabplus.repository.ClubRepository;
+import com.toastlabplus.repository.MeetingRepository;
+import com.toastlabplus.repository.MemberRepository;
+import com.toastlabplus.repository.RoleSlotRepository;
+import com.toastlabplus.service.StorageLocation;
+import com.toastlabplus.service.StorageService;
+import com.toastlabplus.service.TavilyService;
+import com.toastlabplus.service.TemplateStructureService;
+import io.micrometer.observation.ObservationRegistry;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.ai.tool.ToolCallback;
+import org.springframework.ai.tool.ToolCallbackProvider;
+import org.springframework.ai.tool.method.MethodToolCallbackProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.lang.reflect.Proxy;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * Training run for the JDK AOT cache built into the Docker image
+ * ({@code -XX:AOTCacheOutput}). Runs only under the {@code aot-training}
+ * profile, without a database: the real agenda generation and MCP tool code
+ * run against in-memory repositories and the in-memory storage backend, so
+ * their classes end up in the cache, then the application exits.
+ */
+@Component
+@Profile("aot-training")
+public class AotTrainingRunner implements CommandLineRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(AotTrainingRunner.class);
+
+    private static final long CLUB_ID = 1L;
+    private static final long MEETING_ID = 1L;
+    private static final long PARSED_TEMPLATE_ID = 1L;
+    private static final long UNPARSED_TEMPLATE_ID = 2L;
+    private static final int SPEAKERS = 4;
+
+    // Parsed structure with two speaker rows; four speakers make generation shift rows
+    private static final String PARSED_STRUCTURE = """
+            {"variable_mappings": [
+              {"role": "MEETING_DATE", "label_position": {"row": 1, "col": 1}, "value_position": {"row": 1, "col": 2}},
+              {"role": "TME", "label_position": {"row": 3, "col": 1}, "value_position": {"row": 3, "col": 2}},
+              {"role": "TIMER", "label_position": {"row": 4, "col": 1}, "value_position": {"row": 4, "col": 2}},
+              {"role": "SPEAKER_1", "label_position": {"row": 6, "col": 1}, "value_position": {"row": 6, "col": 2}},
+              {"role": "SPEAKER_1_TITLE", "label_position": {"row": 6, "col": 1}, "value_position": {"row": 6, "col": 3}},
+              {"role": "SPEAKER_2", "label_position": {"row": 7, "col": 1}, "value_position": {"row": 7, "col": 2}},
+              {"role": "SPEAKER_2_TITLE", "label_position": {"row": 7, "col": 1}, "value_position": {"row": 7, "col": 3}},
+              {"role": "GE", "label_position": {"row": 9, "col": 1}, "value_position": {"row": 9, "col": 2}}
+            ]}
+            """;
+
+    private final ApplicationContext context;
+    private final ToolCallbackProvider toolCallbackProvider;
+    private final ObjectMapper objectMapper;
+    private final StorageService storageService;
+    private final TemplateStructureService templateStructureService;
+    private final ObservationRegistry observationRegistry;
+    private final TavilyService tavilyService;
+
+    @Value("${gcp.storage.bucket-name}")
+    private String bucketName;
+
+    public AotTrainingRunner(ApplicationContext context,
+            ToolCallbackProvider toolCallbackProvider,
+            ObjectMapper objectMapper,
+            StorageService storageService,
+            TemplateStructureService templateStructureService,
+            ObservationRegistry observationRegistry,
+            TavilyService tavilyService) {
+        this.context = context;
+        this.toolCallbackProvider = toolCallbackProvider;
+        this.objectMapper = objectMapper;
+        this.storageService = storageService;
+        this.templateStructureService = templateStructureService;
+        this.observationRegistry = observationRegistry;
+        this.tavilyService = tavilyService;
+    }
+
+    @Override
+    public void run(String... args) throws Exception {
+        TrainingData data = trainingData();
+        AgendaGenerationController agendaController = new AgendaGenerationController(
+                data.meetings(), data.roleSlots(), data.templates(),
+                stub(ClubAdminRepository.class, Map.of()), stub(MemberRepository.class, Map.of()),
+                stub(ClubMembershipRepository.class, Map.of()),
+                observationRegistry, storageService, templateStructureService);
+        Map<String, ToolCallback> tools = trainingTools(data);
+
+        for (int i = 0; i < 3; i++) {
+            trainAgendaGeneration(agendaController);
+            trainMcpTools(tools);
+        }
+        log.info("AOT training run finished");
+        System.exit(SpringApplication.exit(context, () -> 0));
+    }
+
+    // ==================== Training ====================
+
+    private void trainAgendaGeneration(AgendaGenerationController controller) {
+        // Coordinate fill with row shifting, then the label-search fallback
+        for (long templateId : List.of(PARSED_TEMPLATE_ID, UNPARSED_TEMPLATE_ID)) {
+            ResponseEntity<?> response = controller.generateAgenda(MEETING_ID, templateId, "excel", null);
+            if (!response.getStatusCode().is2xxSuccessful()) {
+                log.warn("AOT training agenda generation for template {} returned {}", templateId,
+                        response.getStatusCode());
+            }
+        }
+    }
+
+    private void trainMcpTools(Map<String, ToolCallback> tools) throws Exception {
+        // Tool definitions as served by the MCP server (through the metering wrapper)
+        for (ToolCallback callback : toolCallbackProvider.getToolCallbacks()) {
+            objectMapper.readTree(callback.getToolDefinition().inputSchema());
+        }
+        // Tool calls: JSON arguments in, method invocation, JSON result out
+        tools.get("get_clubs").call("{}");
+        tools.get("get_meetings").call("{\"clubId\": " + CLUB_ID + ", \"daysAhead\": 30}");
+        tools.get("get_role_slots").call("{\"meetingId\": " + MEETING_ID + "}");
+        tools.get("get_meeting_details").call("{\"meetingId\": " + MEETING_ID + "}");
+        tools.get("get_agenda_templates").call("{\"clubId\": " + CLUB_ID + "}");
+        objectMapper.writeValueAsString(new KeysetPage<>(List.of(Map.of("id", 1L)), null));
+    }
+
+    private Map<String, ToolCallback> trainingTools(TrainingData data) {
+        McpToolService toolService = new McpToolService(data.clubs(), data.meetings(),
+                stub(MemberRepository.class, Map.of()), data.roleSlots(),
+                stub(ClubMembershipRepository.class, Map.of()), stub(ClubOfficerRepository.class, Map.of()),
+                tavilyService, data.templates(), templateStructureService);
+        ToolCallback[] callbacks = MethodToolCallbackProvider.builder()
+                .toolObjects(toolService)
+                .build()
+                .getToolCallbacks();
+        Map<String, ToolCallback> byName = new HashMap<>();
+        for (ToolCallback callback : callbacks) {
+            byName.put(callback.getToolDefinition().name(), callback);
+        }
+        return byName;
+    }
+
+    // ==================== Training Data ====================
+
+    private record TrainingData(ClubRepository clubs, MeetingRepository meetings, RoleSlotRepository roleSlots,
+            AgendaTemplateRepository templates) {
+    }
+
+    private TrainingData trainingData() throws Exception {
+        Club club = new Club();
+        club.setId(CLUB_ID);
+        club.setName("AOT Training Club");
+        club.setLocation("Taipei");
+
+        Meeting meeting = new Meeting();
+        meeting.setId(MEETING_ID);
+        meeting.setClub(club);
+        meeting.setMeetingNumber(100);
+        meeting.setMeetingDate(LocalDate.now().plusDays(7));
+        meeting.setStartTime(LocalTime.of(19, 0));
+        meeting.setTheme("Training");
+        meeting.setLocation("Taipei");
+
+        List<RoleSlot> slots = new ArrayList<>();
+        long memberId = 1;
+        for (String role : List.of(RoleSlot.TME, RoleSlot.TIMER, RoleSlot.GE, RoleSlot.AH_COUNTER)) {
+            slots.add(slot(meeting, role, 1, member(memberId++)));
+        }
+        for (int i = 1; i <= SPEAKERS; i++) {
+            RoleSlot speaker = slot(meeting, RoleSlot.SPEAKER, i, member(memberId++));
+            speaker.setSpeechTitle("Speech " + i);
+            speaker.setProjectName("Project " + i);
+            slots.add(speaker);
+            slots.add(slot(meeting, RoleSlot.EVALUATOR, i, i % 2 == 0 ? member(memberId++) : null));
+        }
+
+        AgendaTemplate parsed = template(club, PARSED_TEMPLATE_ID, storeTemplateWorkbook("parsed"));
+        parsed.setParsedStructure(templateStructureService.normalize(PARSED_STRUCTURE));
+        AgendaTemplate unparsed = template(club, UNPARSED_TEMPLATE_ID, storeTemplateWorkbook("unparsed"));
+        Map<Long, AgendaTemplate> templates = Map.of(parsed.getId(), parsed, unparsed.getId(), unparsed);
+
+        return new TrainingData(
+                stub(ClubRepository.class, Map.of(
+                        "findById", id -> Optional.of(club),
+                        "findByIsActiveTrue", id -> List.of(club))),
+                stub(MeetingRepository.class, Map.of(
+                        "findById", id -> Optional.of(meeting),
+                        "findByClubIdAndMeetingDateBetweenOrderByMeetingDateAsc", id -> List.of(meeting),
+                        "findByMeetingDateBetweenOrderByMeetingDateAsc", id -> List.of(meeting))),
+                stub(RoleSlotRepository.class, Map.of(
+                        "findByMeetingId", id -> slots,
+                        "findByMeetingIdWithMember", id -> slots)),
+                stub(AgendaTemplateRepository.class, Map.of(
+                        "findById", id -> Optional.ofNullable(templates.get((Long) id)),
+                        "findByClubIdAndIsActiveTrue", id -> List.of(parsed, unparsed))));
+    }
+
+    /**
+     * Agenda workbook with labels in column A and placeholders, stored in
+     * the in-memory backend; returns its {@code gs://} path.
+     */
+    private String storeTemplateWorkbook(String name) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (XSSFWorkbook workbook = new XSSFWorkbook()) {
+            Sheet sheet = workbook.createSheet("Agenda");
+            String[] labels = { "Meeting {{MEETING_NUMBER}}", "{{CLUB_NAME}}", "TME", "Timer", "Speakers",
+                    "Speaker 1", "Speaker 2", "Evaluators", "General Evaluator", "Ah Counter" };
+            for (int r = 0; r < labels.length; r++) {
+                Row row = sheet.createRow(r);
+                row.createCell(0).setCellValue(labels[r]);
+                row.createCell(1).setCellValue("");
+                row.createCell(2).setCellValue("");
+            }
+            workbook.write(out);
+        }
+        StorageLocation location = StorageLocation.of(bucketName, "aot-training/" + name + ".xlsx");
+        return storageService.store(location,
+                "application/vnd.openxmlformats-officedocument.spreadsheetml.sheet",
+                new ByteArrayInputStream(out.toByteArray()));
+    }
+
+    private static AgendaTemplate template(Club club, long id, String gcsPath) {
+        AgendaTemplate template = new AgendaTemplate(club, "Training " + id);
+        template.setId(id);
+        template.setGcsPath(gcsPath);
+        return template;
+    }
+
+    private static RoleSlot slot(Meeting meeting, String role, int index, Member member) {
+        RoleSlot slot = new RoleSlot(meeting, role, index);
+        slot.setAssignedMember(member);
+        return slot;
+    }
+
+    private static Member member(long id) {
+        Member member = new Member();
+        member.setId(id);
+        member.setName("Member " + id);
+        return member;
+    }
+
+    /**
+     * Repository backed by {@code answers} (method name to a function of the
+     * first argument); other methods return empty results.
+     */
+    @SuppressWarnings("unchecked")
+    private static <T> T stub(Class<T> type, Map<String, Function<Object, Object>> answers) {
+        return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] { type }, (proxy, method, args) -> {
+            Function<Object, Object> answer = answers.get(method.getName());
+            if (answer != null) {
+                return answer.apply(args != null && args.length > 0 ? args[0] : null);
+            }
+            return switch (method.getName()) {
+                case "toString" -> type.getSimpleName() + " (AOT training)";
+                case "hashCode" -> System.identityHashCode(proxy);
+                case "equals" -> proxy == args[0];
+                default -> emptyResult(method.getReturnType());
+            };
+        });
+    }
+
+    private static Object emptyResult(Class<?> returnType) {
+        if (returnType == Optional.class) {
+            return Optional.empty();
+        }
+        if (Collection.class.isAssignableFrom(returnType)) {
+            return List.of();
+        }
+        if (returnType == boolean.class) {
+            return false;
+        }
+        if (returnType == long.class) {
+            return 0L;
+        }
+        if (returnType == int.class) {
+            return 0;
+        }
+        return null;
+    }
+}
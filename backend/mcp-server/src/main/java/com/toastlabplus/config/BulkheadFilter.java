@@ -0,0 +1,211 @@
+package com.toastlabplus.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.security.autoconfigure.SecurityProperties;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Admission control in front of the (5-connection) Hikari pool. Requests are
+ * classified as interactive reads, writes, bulk/admin work or spreadsheet
+ * transfers (imports/exports); each class has
+ * its own concurrency permits and a short queue timeout. When a class is
+ * saturated the request is rejected with 503 + Retry-After instead of
+ * waiting up to the pool's connection timeout, so one slow class cannot
+ * starve the others.
+ */
+@Component
+@Order(BulkheadFilter.ORDER)
+public class BulkheadFilter extends OncePerRequestFilter {
+
+    private static final Logger log = LoggerFactory.getLogger(BulkheadFilter.class);
+
+    // After Spring Security's filter chain: unauthenticated requests are
+    // rejected there and never take a permit
+    static final int ORDER = SecurityProperties.DEFAULT_FILTER_ORDER + 10;
+
+    public enum RequestClass {
+        READ, WRITE, BULK, TRANSFER
+    }
+
+    private final MeterRegistry meterRegistry;
+    private final Map<RequestClass, Compartment> compartments = new EnumMap<>(RequestClass.class);
+
+    @Value("${app.bulkhead.enabled:true}")
+    private boolean enabled;
+
+    public BulkheadFilter(MeterRegistry meterRegistry,
+            @Value("${spring.datasource.hikari.maximum-pool-size:10}") int poolSize,
+            @Value("${app.bulkhead.read.permits:0}") int readPermits,
+            @Value("${app.bulkhead.read.queue-timeout-ms:200}") long readTimeoutMs,
+            @Value("${app.bulkhead.read.retry-after-seconds:1}") int readRetryAfter,
+            @Value("${app.bulkhead.write.permits:0}") int writePermits,
+            @Value("${app.bulkhead.write.queue-timeout-ms:500}") long writeTimeoutMs,
+            @Value("${app.bulkhead.write.retry-after-seconds:2}") int writeRetryAfter,
+            @Value("${app.bulkhead.bulk.permits:0}") int bulkPermits,
+            @Value("${app.bulkhead.bulk.queue-timeout-ms:0}") long bulkTimeoutMs,
+            @Value("${app.bulkhead.bulk.retry-after-seconds:10}") int bulkRetryAfter,
+            @Value("${app.bulkhead.transfer.permits:0}") int transferPermits,
+            @Value("${app.bulkhead.transfer.queue-timeout-ms:2000}") long transferTimeoutMs,
+            @Value("${app.bulkhead.transfer.retry-after-seconds:10}") int transferRetryAfter) {
+        this.meterRegistry = meterRegistry;
+        Map<RequestClass, Integer> defaults = defaultPermits(poolSize);
+        register(RequestClass.READ, orDefault(readPermits, defaults.get(RequestClass.READ)), readTimeoutMs,
+                readRetryAfter);
+        register(RequestClass.WRITE, orDefault(writePermits, defaults.get(RequestClass.WRITE)), writeTimeoutMs,
+                writeRetryAfter);
+        register(RequestClass.BULK, orDefault(bulkPermits, defaults.get(RequestClass.BULK)), bulkTimeoutMs,
+                bulkRetryAfter);
+        register(RequestClass.TRANSFER, orDefault(transferPermits, defaults.get(RequestClass.TRANSFER)),
+                transferTimeoutMs, transferRetryAfter);
+
+        int total = compartments.values().stream().mapToInt(c -> c.permits).sum();
+        if (total > poolSize) {
+            log.warn("Bulkhead admits {} concurrent requests but the pool has {} connections", total, poolSize);
+        }
+    }
+
+    /**
+     * Default permits per class: one each for bulk work and transfers, a
+     * fifth of the pool (at least one) for writes and the rest (at least one)
+     * for reads.
+     */
+    static Map<RequestClass, Integer> defaultPermits(int poolSize) {
+        int bulk = 1;
+        int transfer = 1;
+        int write = Math.max(1, poolSize / 5);
+        int read = Math.max(1, poolSize - write - bulk - transfer);
+        Map<RequestClass, Integer> permits = new EnumMap<>(RequestClass.class);
+        permits.put(RequestClass.READ, read);
+        permits.put(RequestClass.WRITE, write);
+        permits.put(RequestClass.BULK, bulk);
+        permits.put(RequestClass.TRANSFER, transfer);
+        return permits;
+    }
+
+    private static int orDefault(int configured, int derived) {
+        return configured > 0 ? configured : derived;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(@NonNull HttpServletRequest request) {
+        String uri = request.getRequestURI();
+        return !enabled || uri.startsWith("/actuator") || uri.equals("/api/health")
+                || "OPTIONS".equals(request.getMethod());
+    }
+
+    @Override
+    protected void doFilterInternal(
+            @NonNull HttpServletRequest request,
+            @NonNull HttpServletResponse response,
+            @NonNull FilterChain filterChain) throws ServletException, IOException {
+        RequestClass requestClass = classify(request);
+        Compartment compartment = compartments.get(requestClass);
+
+        if (!compartment.tryEnter()) {
+            meterRegistry.counter("bulkhead.rejected", "class", requestClass.name()).increment();
+            log.warn("Bulkhead {} saturated, rejecting {} {}", requestClass, request.getMethod(),
+                    request.getRequestURI());
+            response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+            response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(compartment.retryAfterSeconds));
+            response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            response.getWriter().write("{\"error\":\"Server busy, please retry later\"}");
+            return;
+        }
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            compartment.exit();
+        }
+    }
+
+    /**
+     * Transfer: spreadsheet imports/exports, which can hold a connection for
+     * a long time and so get their own compartment. Bulk: the unpaged member
+     * list, schedule and agenda generation, member deletion and template
+     * processing. Otherwise by HTTP method.
+     */
+    static RequestClass classify(HttpServletRequest request) {
+        String method = request.getMethod();
+        String uri = request.getRequestURI();
+
+        if (uri.endsWith("/import") || uri.endsWith("/export")) {
+            return RequestClass.TRANSFER;
+        }
+        if (("GET".equals(method) && uri.equals("/api/admin/members"))
+                || uri.endsWith("/generate")
+                || (uri.contains("/templates") && !"GET".equals(method))
+                || ("DELETE".equals(method) && uri.startsWith("/api/members/"))) {
+            return RequestClass.BULK;
+        }
+        if ("GET".equals(method) || "HEAD".equals(method) || uri.startsWith("/mcp")) {
+            return RequestClass.READ;
+        }
+        return RequestClass.WRITE;
+    }
+
+    private void register(RequestClass requestClass, int permits, long queueTimeoutMs, int retryAfterSeconds) {
+        Compartment compartment = new Compartment(permits, queueTimeoutMs, retryAfterSeconds,
+                meterRegistry.timer("bulkhead.wait", "class", requestClass.name()));
+        compartments.put(requestClass, compartment);
+        Tags tags = Tags.of("class", requestClass.name());
+        meterRegistry.gauge("bulkhead.permits", tags, compartment, c -> c.permits);
+        meterRegistry.gauge("bulkhead.saturation", tags, compartment,
+                c -> (double) (c.permits - c.semaphore.availablePermits()) / c.permits);
+    }
+
+    private static final class Compartment {
+
+        private final int permits;
+        private final Semaphore semaphore;
+        private final long queueTimeoutMs;
+        private final int retryAfterSeconds;
+        private final Timer waitTimer;
+
+        private Compartment(int permits, long queueTimeoutMs, int retryAfterSeconds, Timer waitTimer) {
+            this.permits = Math.max(1, permits);
+            this.semaphore = new Semaphore(this.permits, true);
+            this.queueTimeoutMs = queueTimeoutMs;
+            this.retryAfterSeconds = retryAfterSeconds;
+            this.waitTimer = waitTimer;
+        }
+
+        boolean tryEnter() {
+            long start = System.nanoTime();
+            try {
+                return queueTimeoutMs <= 0
+                        ? semaphore.tryAcquire()
+                        : semaphore.tryAcquire(queueTimeoutMs, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            } finally {
+                waitTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            }
+        }
+
+        void exit() {
+            semaphore.release();
+        }
+    }
+}
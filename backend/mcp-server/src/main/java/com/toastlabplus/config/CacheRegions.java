@@ -0,0 +1,20 @@
+package com.toastlabplus.config;
+
+/**
+ * Hibernate second-level cache region names. Size and TTL of each region are
+ * configured in {@code application.conf} (Caffeine JCache).
+ */
+public final class CacheRegions {
+
+    // Entity regions
+    public static final String CLUB = "club";
+    public static final String AGENDA_TEMPLATE = "agenda-template";
+    public static final String MEETING_SCHEDULE = "meeting-schedule";
+    public static final String CLUB_OFFICER = "club-officer";
+
+    // Query cache region for active reference-data lists
+    public static final String REFERENCE_QUERIES = "reference-queries";
+
+    private CacheRegions() {
+    }
+}
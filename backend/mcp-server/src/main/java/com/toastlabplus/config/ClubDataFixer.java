@@ -2,23 +2,22 @@ package com.toastlabplus.config;
 
 import com.toastlabplus.entity.Club;
 import com.toastlabplus.repository.ClubRepository;
+import com.toastlabplus.service.MaintenanceTask;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.boot.CommandLineRunner;
 import org.springframework.core.annotation.Order;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.Map;
 
 /**
  * Fixes garbled club names from terminal encoding issues.
- * This runs after DataInitializer.
+ * This runs after DataInitializer, once per cluster (see MaintenanceTaskRunner).
  */
 @Component
 @Order(2)
-public class ClubDataFixer implements CommandLineRunner {
+public class ClubDataFixer implements MaintenanceTask {
 
     private static final Logger logger = LoggerFactory.getLogger(ClubDataFixer.class);
 
@@ -34,8 +33,12 @@ public class ClubDataFixer implements CommandLineRunner {
     }
 
     @Override
-    @Transactional
-    public void run(String... args) {
+    public String id() {
+        return "club-name-fix";
+    }
+
+    @Override
+    public void run() {
         logger.info("Running ClubDataFixer...");
 
         for (Map.Entry<Long, String[]> entry : CLUB_FIXES.entrySet()) {
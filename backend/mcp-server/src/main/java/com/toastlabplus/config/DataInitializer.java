@@ -2,17 +2,23 @@ package com.toastlabplus.config;
 
 import com.toastlabplus.entity.Member;
 import com.toastlabplus.repository.MemberRepository;
+import com.toastlabplus.service.MaintenanceTask;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.boot.CommandLineRunner;
+import org.springframework.core.annotation.Order;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Component;
 
 import java.time.LocalDateTime;
 
+/**
+ * Creates the platform admin account. Applied once per cluster by
+ * MaintenanceTaskRunner instead of on every instance start.
+ */
 @Component
-public class DataInitializer implements CommandLineRunner {
+@Order(1)
+public class DataInitializer implements MaintenanceTask {
 
     private static final Logger logger = LoggerFactory.getLogger(DataInitializer.class);
 
@@ -32,7 +38,12 @@ public class DataInitializer implements CommandLineRunner {
     }
 
     @Override
-    public void run(String... args) {
+    public String id() {
+        return "platform-admin";
+    }
+
+    @Override
+    public void run() {
         initializePlatformAdmin();
     }
 
@@ -0,0 +1,23 @@
+package com.toastlabplus.config;
+
+import java.util.Optional;
+
+/**
+ * Secrets provided as environment variables or system properties.
+ */
+public class EnvSecretSource implements SecretSource {
+
+    @Override
+    public String name() {
+        return "env";
+    }
+
+    @Override
+    public Optional<String> get(String secretName) {
+        String value = System.getenv(secretName);
+        if (value == null) {
+            value = System.getProperty(secretName);
+        }
+        return Optional.ofNullable(value);
+    }
+}
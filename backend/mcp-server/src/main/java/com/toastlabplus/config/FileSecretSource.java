@@ -0,0 +1,33 @@
+package com.toastlabplus.config;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+
+/**
+ * One file per secret in a directory, e.g. Cloud Run secret volume mounts or
+ * a local folder of fake secrets ({@code SECRETS_DIR}).
+ */
+public class FileSecretSource implements SecretSource {
+
+    private final Path directory;
+
+    public FileSecretSource(Path directory) {
+        this.directory = directory;
+    }
+
+    @Override
+    public String name() {
+        return "file:" + directory;
+    }
+
+    @Override
+    public Optional<String> get(String secretName) throws IOException {
+        Path file = directory.resolve(secretName);
+        if (!Files.isRegularFile(file)) {
+            return Optional.empty();
+        }
+        return Optional.of(Files.readString(file).strip());
+    }
+}
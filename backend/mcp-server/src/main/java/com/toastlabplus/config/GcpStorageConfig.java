@@ -1,6 +1,7 @@
 package com.toastlabplus.config;
 
 import com.google.auth.oauth2.GoogleCredentials;
+import com.google.cloud.NoCredentials;
 import com.google.cloud.storage.Storage;
 import com.google.cloud.storage.StorageOptions;
 import org.slf4j.Logger;
@@ -29,12 +30,19 @@ public class GcpStorageConfig {
     @Value("${spring.cloud.gcp.credentials.location:}")
     private Resource credentialsLocation;
 
+    // e.g. http://localhost:4443 for a fake-gcs-server bucket
+    @Value("${gcp.storage.host:}")
+    private String host;
+
     @Bean
     public Storage storage() throws IOException {
         StorageOptions.Builder builder = StorageOptions.newBuilder()
                 .setProjectId(projectId);
 
-        if (credentialsLocation != null && credentialsLocation.exists()) {
+        if (host != null && !host.isBlank()) {
+            log.info("Using storage emulator at {}", host);
+            builder.setHost(host).setCredentials(NoCredentials.getInstance());
+        } else if (credentialsLocation != null && credentialsLocation.exists()) {
             log.info("Loading GCP credentials from: {}", credentialsLocation.getDescription());
             GoogleCredentials credentials = GoogleCredentials.fromStream(credentialsLocation.getInputStream());
             builder.setCredentials(credentials);
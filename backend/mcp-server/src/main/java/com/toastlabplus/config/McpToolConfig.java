@@ -1,11 +1,18 @@
 package com.toastlabplus.config;
 
 import com.toastlabplus.mcp.McpToolService;
+import com.toastlabplus.service.SqlBudgetMonitor;
+import org.springframework.ai.chat.model.ToolContext;
+import org.springframework.ai.tool.ToolCallback;
 import org.springframework.ai.tool.ToolCallbackProvider;
+import org.springframework.ai.tool.definition.ToolDefinition;
+import org.springframework.ai.tool.metadata.ToolMetadata;
 import org.springframework.ai.tool.method.MethodToolCallbackProvider;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import java.util.Arrays;
+
 /**
  * Configuration for MCP Server tools.
  * Registers the McpToolService with the MCP Server's tool system.
@@ -14,9 +21,44 @@ import org.springframework.context.annotation.Configuration;
 public class McpToolConfig {
 
     @Bean
-    public ToolCallbackProvider mcpToolCallbackProvider(McpToolService mcpToolService) {
-        return MethodToolCallbackProvider.builder()
+    public ToolCallbackProvider mcpToolCallbackProvider(McpToolService mcpToolService,
+            SqlBudgetMonitor sqlBudgetMonitor) {
+        ToolCallback[] callbacks = MethodToolCallbackProvider.builder()
                 .toolObjects(mcpToolService)
-                .build();
+                .build()
+                .getToolCallbacks();
+        // Meter SQL statements per tool call
+        return ToolCallbackProvider.from(Arrays.stream(callbacks)
+                .map(callback -> (ToolCallback) new SqlBudgetToolCallback(callback, sqlBudgetMonitor))
+                .toList());
+    }
+
+    /**
+     * Delegating callback that runs each tool call in its own SQL tracking
+     * scope.
+     */
+    private record SqlBudgetToolCallback(ToolCallback delegate, SqlBudgetMonitor monitor) implements ToolCallback {
+
+        @Override
+        public ToolDefinition getToolDefinition() {
+            return delegate.getToolDefinition();
+        }
+
+        @Override
+        public ToolMetadata getToolMetadata() {
+            return delegate.getToolMetadata();
+        }
+
+        @Override
+        public String call(String toolInput) {
+            return monitor.measure(SqlBudgetMonitor.SCOPE_MCP_TOOL, getToolDefinition().name(),
+                    () -> delegate.call(toolInput));
+        }
+
+        @Override
+        public String call(String toolInput, ToolContext toolContext) {
+            return monitor.measure(SqlBudgetMonitor.SCOPE_MCP_TOOL, getToolDefinition().name(),
+                    () -> delegate.call(toolInput, toolContext));
+        }
     }
 }
@@ -0,0 +1,104 @@
+package com.toastlabplus.config;
+
+import com.toastlabplus.dto.KeysetPage;
+import com.toastlabplus.dto.MeetingSummary;
+import com.toastlabplus.dto.MemberDto;
+import com.toastlabplus.dto.MemberSummary;
+import com.toastlabplus.entity.AgendaTemplate;
+import com.toastlabplus.entity.Club;
+import com.toastlabplus.entity.ClubAdmin;
+import com.toastlabplus.entity.ClubMembership;
+import com.toastlabplus.entity.ClubOfficer;
+import com.toastlabplus.entity.Meeting;
+import com.toastlabplus.entity.MeetingSchedule;
+import com.toastlabplus.entity.MeetingScheduleException;
+import com.toastlabplus.entity.Member;
+import com.toastlabplus.entity.RoleAssignment;
+import com.toastlabplus.entity.RoleSlot;
+import com.toastlabplus.mcp.McpToolService;
+import com.toastlabplus.service.CacheInvalidationEvent;
+import com.toastlabplus.service.ParsedTemplateStructure;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.aot.hint.TypeReference;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.ImportRuntimeHints;
+
+import java.util.List;
+
+/**
+ * GraalVM native-image hints for what Spring AOT cannot infer: reflective
+ * {@code @Tool} invocation, entities/DTOs serialized by Jackson, classes
+ * Hibernate instantiates by name, jjwt's service lookups and classpath
+ * resources read by POI and Caffeine JCache. Ignored on the JVM.
+ */
+@Configuration
+@ImportRuntimeHints(NativeRuntimeHints.Registrar.class)
+public class NativeRuntimeHints {
+
+    // jjwt-impl / jjwt-jackson are runtime-scoped and loaded by class name
+    private static final List<String> JJWT_CLASSES = List.of(
+            "io.jsonwebtoken.impl.DefaultJwtBuilder",
+            "io.jsonwebtoken.impl.DefaultJwtParserBuilder",
+            "io.jsonwebtoken.impl.DefaultClaimsBuilder",
+            "io.jsonwebtoken.impl.io.StandardCompressionAlgorithms",
+            "io.jsonwebtoken.impl.security.StandardSecureDigestAlgorithms",
+            "io.jsonwebtoken.impl.security.StandardKeyAlgorithms",
+            "io.jsonwebtoken.impl.security.StandardEncryptionAlgorithms",
+            "io.jsonwebtoken.impl.security.StandardKeyOperations",
+            "io.jsonwebtoken.impl.security.DefaultDynamicJwkBuilder",
+            "io.jsonwebtoken.impl.security.DefaultJwkParserBuilder",
+            "io.jsonwebtoken.impl.security.DefaultJwkSetBuilder",
+            "io.jsonwebtoken.impl.security.DefaultJwkSetParserBuilder",
+            "io.jsonwebtoken.jackson.io.JacksonSerializer",
+            "io.jsonwebtoken.jackson.io.JacksonDeserializer");
+
+    static class Registrar implements RuntimeHintsRegistrar {
+
+        @Override
+        public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+            // Spring AI finds and invokes @Tool methods reflectively
+            hints.reflection().registerType(McpToolService.class,
+                    MemberCategory.INVOKE_PUBLIC_METHODS, MemberCategory.INVOKE_DECLARED_METHODS);
+
+            // Returned directly from controllers / serialized to JSON
+            for (Class<?> type : List.of(Club.class, ClubAdmin.class, ClubMembership.class, ClubOfficer.class,
+                    Meeting.class, MeetingSchedule.class, MeetingScheduleException.class, Member.class,
+                    RoleAssignment.class, RoleSlot.class, AgendaTemplate.class, MemberDto.class,
+                    MeetingSummary.class, MemberSummary.class, KeysetPage.class, CacheInvalidationEvent.class)) {
+                hints.reflection().registerType(type, MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS,
+                        MemberCategory.INVOKE_PUBLIC_METHODS, MemberCategory.ACCESS_DECLARED_FIELDS);
+            }
+
+            // Parsed template structure, read and written by Jackson
+            for (Class<?> type : List.of(ParsedTemplateStructure.class, ParsedTemplateStructure.CellPosition.class,
+                    ParsedTemplateStructure.VariableMapping.class, ParsedTemplateStructure.Variable.class,
+                    ParsedTemplateStructure.RoleSlotSpec.class)) {
+                hints.reflection().registerType(type, MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS,
+                        MemberCategory.INVOKE_PUBLIC_METHODS, MemberCategory.ACCESS_DECLARED_FIELDS);
+            }
+
+            // Instantiated by Hibernate from configuration class names
+            for (Class<?> type : List.of(SqlStatementInspector.class, SqlTimingSessionListener.class)) {
+                hints.reflection().registerType(type, MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS);
+            }
+            hints.reflection().registerType(
+                    TypeReference.of("com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider"),
+                    MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS);
+
+            for (String className : JJWT_CLASSES) {
+                hints.reflection().registerType(TypeReference.of(className),
+                        MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS, MemberCategory.INVOKE_PUBLIC_METHODS);
+            }
+
+            // Caffeine JCache region config (Typesafe config) and POI/XMLBeans schemas
+            hints.resources().registerPattern("application.conf");
+            hints.resources().registerPattern("reference.conf");
+            hints.resources().registerPattern("org/apache/poi/schemas/*");
+            hints.resources().registerPattern("org/apache/poi/xssf/usermodel/presetTableStyles.xml");
+            // ImageIO plugins (WebP reader) are discovered via ServiceLoader
+            hints.resources().registerPattern("META-INF/services/javax.imageio.spi.*");
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package com.toastlabplus.config;
+
+import com.toastlabplus.service.ReplicaLagMonitor;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+
+/**
+ * Read/write split between the Cloud SQL primary and a read replica.
+ *
+ * The application DataSource is a {@link LazyConnectionDataSourceProxy}: a
+ * connection is only fetched on first use, by which time Spring has marked
+ * it read-only for {@code @Transactional(readOnly = true)} work (which
+ * includes every Spring Data repository read). Read-only connections go
+ * through {@link ReplicaRoutingDataSource}, which falls back to the primary
+ * while the replica lags or the caller is inside its read-your-writes window.
+ * Everything else (writes, Flyway, advisory locks) uses the primary.
+ *
+ * Routing happens when a connection is acquired, so Hibernate is configured
+ * to release connections after every transaction
+ * ({@code hibernate.connection.handling_mode}). With the default hold mode
+ * the open-in-view EntityManager would keep the first (possibly replica)
+ * connection and run later writes of the same request on it.
+ *
+ * Enabled with {@code app.datasource.replica.enabled=true}; pointing the
+ * replica URL at the primary database gives two logical pools for local
+ * testing.
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.datasource.replica.enabled", havingValue = "true")
+public class ReadReplicaConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(
+            @Value("${spring.datasource.url}") String url,
+            @Value("${spring.datasource.username:}") String username,
+            @Value("${spring.datasource.password:}") String password,
+            @Value("${spring.datasource.driver-class-name:org.postgresql.Driver}") String driverClassName) {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setPoolName("primary");
+        dataSource.setJdbcUrl(url);
+        dataSource.setUsername(username);
+        dataSource.setPassword(password);
+        dataSource.setDriverClassName(driverClassName);
+        return dataSource;
+    }
+
+    @Bean
+    @ConfigurationProperties("app.datasource.replica.hikari")
+    public HikariDataSource replicaDataSource(
+            @Value("${app.datasource.replica.url}") String url,
+            @Value("${app.datasource.replica.username:${spring.datasource.username:}}") String username,
+            @Value("${app.datasource.replica.password:${spring.datasource.password:}}") String password,
+            @Value("${spring.datasource.driver-class-name:org.postgresql.Driver}") String driverClassName) {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setPoolName("replica");
+        dataSource.setJdbcUrl(url);
+        dataSource.setUsername(username);
+        dataSource.setPassword(password);
+        dataSource.setDriverClassName(driverClassName);
+        dataSource.setReadOnly(true);
+        return dataSource;
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(
+            @Qualifier("primaryDataSource") DataSource primaryDataSource,
+            @Qualifier("replicaDataSource") DataSource replicaDataSource,
+            ReplicaLagMonitor replicaLagMonitor) {
+        ReplicaRoutingDataSource readOnlyDataSource = new ReplicaRoutingDataSource(
+                primaryDataSource, replicaDataSource, replicaLagMonitor);
+        readOnlyDataSource.afterPropertiesSet();
+
+        LazyConnectionDataSourceProxy proxy = new LazyConnectionDataSourceProxy(primaryDataSource);
+        proxy.setReadOnlyDataSource(readOnlyDataSource);
+        return proxy;
+    }
+}
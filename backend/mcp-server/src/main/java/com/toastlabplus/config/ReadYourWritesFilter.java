@@ -0,0 +1,94 @@
+package com.toastlabplus.config;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.lang.NonNull;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Decides per request whether read-only work may use the replica.
+ *
+ * Mutating requests are pinned to the primary (their reads feed writes), and
+ * so is every request of a member for a short window after one of their own
+ * successful writes, so they never read data older than what they just
+ * saved. MCP requests are POSTs but mostly reads, so they are not pinned;
+ * MCP tools that write run in their own read-write transaction.
+ *
+ * The window is tracked per instance.
+ */
+@Component
+@ConditionalOnProperty(name = "app.datasource.replica.enabled", havingValue = "true")
+public class ReadYourWritesFilter extends OncePerRequestFilter {
+
+    private static final ThreadLocal<Boolean> PINNED = new ThreadLocal<>();
+    private static final int PURGE_THRESHOLD = 10_000;
+
+    private final Map<String, Long> lastWriteByUser = new ConcurrentHashMap<>();
+
+    @Value("${app.datasource.replica.read-your-writes-seconds:10}")
+    private long windowSeconds;
+
+    static boolean isPinnedToPrimary() {
+        return Boolean.TRUE.equals(PINNED.get());
+    }
+
+    @Override
+    protected void doFilterInternal(
+            @NonNull HttpServletRequest request,
+            @NonNull HttpServletResponse response,
+            @NonNull FilterChain filterChain) throws ServletException, IOException {
+        String user = currentUser();
+        boolean mutating = isMutating(request);
+
+        PINNED.set(mutating || withinWindow(user));
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            PINNED.remove();
+            if (mutating && user != null && response.getStatus() < 400) {
+                markWrite(user);
+            }
+        }
+    }
+
+    private boolean isMutating(HttpServletRequest request) {
+        String method = request.getMethod();
+        return !("GET".equals(method) || "HEAD".equals(method) || "OPTIONS".equals(method))
+                && !request.getRequestURI().startsWith("/mcp");
+    }
+
+    private boolean withinWindow(String user) {
+        if (user == null) {
+            return false;
+        }
+        Long lastWrite = lastWriteByUser.get(user);
+        return lastWrite != null && System.currentTimeMillis() - lastWrite < windowSeconds * 1000;
+    }
+
+    private void markWrite(String user) {
+        long now = System.currentTimeMillis();
+        if (lastWriteByUser.size() > PURGE_THRESHOLD) {
+            lastWriteByUser.values().removeIf(time -> now - time >= windowSeconds * 1000);
+        }
+        lastWriteByUser.put(user, now);
+    }
+
+    private String currentUser() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !authentication.isAuthenticated()) {
+            return null;
+        }
+        return authentication.getName();
+    }
+}
@@ -0,0 +1,33 @@
+package com.toastlabplus.config;
+
+import com.toastlabplus.service.ReplicaLagMonitor;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+/**
+ * Target for read-only connections: the replica when it is healthy and the
+ * current request is not pinned to the primary, otherwise the primary.
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    private static final String PRIMARY = "primary";
+    private static final String REPLICA = "replica";
+
+    private final ReplicaLagMonitor replicaLagMonitor;
+
+    public ReplicaRoutingDataSource(DataSource primary, DataSource replica, ReplicaLagMonitor replicaLagMonitor) {
+        this.replicaLagMonitor = replicaLagMonitor;
+        setTargetDataSources(Map.of(PRIMARY, primary, REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (ReadYourWritesFilter.isPinnedToPrimary() || !replicaLagMonitor.isReplicaUsable()) {
+            return PRIMARY;
+        }
+        return REPLICA;
+    }
+}
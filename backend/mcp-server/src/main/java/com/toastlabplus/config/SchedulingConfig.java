@@ -0,0 +1,16 @@
+package com.toastlabplus.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Enables Spring's @Scheduled background jobs (e.g. meeting generation) and
+ * @Async methods. Both run on virtual threads when
+ * spring.threads.virtual.enabled is set.
+ */
+@Configuration
+@EnableScheduling
+@EnableAsync
+public class SchedulingConfig {
+}
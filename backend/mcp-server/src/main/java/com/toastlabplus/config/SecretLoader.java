@@ -0,0 +1,127 @@
+package com.toastlabplus.config;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Resolves startup secrets concurrently through an ordered chain of
+ * {@link SecretSource}s, bounded by one overall deadline. Resolved values are
+ * published as system properties for Spring's placeholder resolution.
+ * Secrets that are not resolved in time are left unset (and fall back to
+ * whatever defaults the configuration has).
+ */
+public class SecretLoader {
+
+    private final List<SecretSource> sources;
+    private final Duration deadline;
+
+    public SecretLoader(List<SecretSource> sources, Duration deadline) {
+        this.sources = sources;
+        this.deadline = deadline;
+    }
+
+    /**
+     * Default chain: environment, then {@code SECRETS_DIR} files (if set),
+     * then Secret Manager (unless {@code SECRET_MANAGER_ENABLED=false}).
+     * Deadline from {@code SECRETS_DEADLINE_MS} (default 5000).
+     */
+    public static SecretLoader fromEnvironment() {
+        List<SecretSource> sources = new ArrayList<>();
+        sources.add(new EnvSecretSource());
+        String secretsDir = System.getenv("SECRETS_DIR");
+        if (secretsDir != null && !secretsDir.isBlank()) {
+            sources.add(new FileSecretSource(Path.of(secretsDir)));
+        }
+        if (!"false".equalsIgnoreCase(System.getenv("SECRET_MANAGER_ENABLED"))) {
+            String projectId = Optional.ofNullable(System.getenv("GCP_PROJECT_ID")).orElse("toastlabplus");
+            sources.add(new SecretManagerSecretSource(projectId));
+        }
+        long deadlineMs = Long.parseLong(Optional.ofNullable(System.getenv("SECRETS_DEADLINE_MS")).orElse("5000"));
+        return new SecretLoader(sources, Duration.ofMillis(deadlineMs));
+    }
+
+    /**
+     * Resolve all {@code secretNames} and set them as system properties.
+     *
+     * @return secret name to the source that provided it (missing ones absent)
+     */
+    public Map<String, String> load(String... secretNames) {
+        long start = System.nanoTime();
+        Map<String, String> resolvedBy = new LinkedHashMap<>();
+        Map<String, Future<Resolved>> pending = new LinkedHashMap<>();
+
+        // Not try-with-resources: close() would wait for stragglers past the deadline
+        ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+        try {
+            for (String secretName : secretNames) {
+                pending.put(secretName, executor.submit(() -> resolve(secretName)));
+            }
+
+            long deadlineNanos = start + deadline.toNanos();
+            for (Map.Entry<String, Future<Resolved>> entry : pending.entrySet()) {
+                String secretName = entry.getKey();
+                try {
+                    long remaining = Math.max(0, deadlineNanos - System.nanoTime());
+                    Resolved resolved = entry.getValue().get(remaining, TimeUnit.NANOSECONDS);
+                    if (resolved == null) {
+                        System.err.println("Warning: Secret " + secretName + " not found in any source");
+                        continue;
+                    }
+                    if (!"env".equals(resolved.source())) {
+                        System.setProperty(secretName, resolved.value());
+                    }
+                    resolvedBy.put(secretName, resolved.source());
+                } catch (TimeoutException e) {
+                    entry.getValue().cancel(true);
+                    System.err.println("Warning: Secret " + secretName + " not loaded within " + deadline.toMillis()
+                            + " ms deadline");
+                } catch (ExecutionException e) {
+                    System.err.println("Warning: Failed to load " + secretName + ": " + e.getCause().getMessage());
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    break;
+                }
+            }
+        } finally {
+            executor.shutdownNow();
+            sources.forEach(SecretSource::close);
+        }
+
+        System.out.println("Loaded secrets " + resolvedBy + " in "
+                + TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) + " ms");
+        return resolvedBy;
+    }
+
+    private Resolved resolve(String secretName) throws Exception {
+        Exception lastError = null;
+        for (SecretSource source : sources) {
+            try {
+                Optional<String> value = source.get(secretName);
+                if (value.isPresent()) {
+                    return new Resolved(value.get(), source.name());
+                }
+            } catch (Exception e) {
+                // Try the next source; report only if none has it
+                lastError = e;
+            }
+        }
+        if (lastError != null) {
+            throw lastError;
+        }
+        return null;
+    }
+
+    private record Resolved(String value, String source) {
+    }
+}
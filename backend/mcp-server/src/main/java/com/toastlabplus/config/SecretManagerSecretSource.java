@@ -0,0 +1,49 @@
+package com.toastlabplus.config;
+
+import com.google.cloud.secretmanager.v1.SecretManagerServiceClient;
+import com.google.cloud.secretmanager.v1.SecretVersionName;
+
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * GCP Secret Manager ("latest" version). The client is created in the
+ * background as soon as the source is constructed, so its start-up cost
+ * overlaps with other work; concurrent lookups share it.
+ */
+public class SecretManagerSecretSource implements SecretSource {
+
+    private final String projectId;
+    private final CompletableFuture<SecretManagerServiceClient> client;
+
+    public SecretManagerSecretSource(String projectId) {
+        this.projectId = projectId;
+        this.client = CompletableFuture.supplyAsync(() -> {
+            try {
+                return SecretManagerServiceClient.create();
+            } catch (Exception e) {
+                throw new IllegalStateException("Failed to connect to Secret Manager: " + e.getMessage(), e);
+            }
+        });
+    }
+
+    @Override
+    public String name() {
+        return "secret-manager";
+    }
+
+    @Override
+    public Optional<String> get(String secretName) {
+        String payload = client.join()
+                .accessSecretVersion(SecretVersionName.of(projectId, secretName, "latest"))
+                .getPayload()
+                .getData()
+                .toStringUtf8();
+        return Optional.of(payload);
+    }
+
+    @Override
+    public void close() {
+        client.thenAccept(SecretManagerServiceClient::close);
+    }
+}
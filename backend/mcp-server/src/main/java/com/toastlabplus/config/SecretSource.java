@@ -0,0 +1,22 @@
+package com.toastlabplus.config;
+
+import java.util.Optional;
+
+/**
+ * Where startup secrets come from (environment, mounted files, Secret
+ * Manager, or a fake in tests). Used by {@link SecretLoader} before Spring
+ * starts, so implementations must not depend on the application context.
+ */
+public interface SecretSource extends AutoCloseable {
+
+    String name();
+
+    /**
+     * The secret value, or empty if this source does not have it.
+     */
+    Optional<String> get(String secretName) throws Exception;
+
+    @Override
+    default void close() {
+    }
+}
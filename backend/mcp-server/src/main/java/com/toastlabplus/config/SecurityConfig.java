@@ -1,6 +1,7 @@
 package com.toastlabplus.config;
 
 import com.toastlabplus.security.JwtAuthenticationFilter;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
@@ -11,6 +12,7 @@ import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
+import org.springframework.security.web.util.matcher.RequestMatcher;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
@@ -24,6 +26,9 @@ public class SecurityConfig {
 
     private final JwtAuthenticationFilter jwtAuthenticationFilter;
 
+    @Value("${management.server.port:-1}")
+    private int managementPort;
+
     public SecurityConfig(JwtAuthenticationFilter jwtAuthenticationFilter) {
         this.jwtAuthenticationFilter = jwtAuthenticationFilter;
     }
@@ -39,7 +44,11 @@ public class SecurityConfig {
                         .requestMatchers("/api/auth/register", "/api/auth/login", "/api/auth/firebase").permitAll()
                         .requestMatchers("/api/clubs").permitAll()
                         .requestMatchers("/api/health").permitAll()
-                        .requestMatchers("/actuator/**").permitAll()
+                        // Probes are public; actuator endpoints only on the internal
+                        // management port (or for platform admins)
+                        .requestMatchers("/livez", "/readyz").permitAll()
+                        .requestMatchers(internalManagementPort()).permitAll()
+                        .requestMatchers("/actuator/**").hasRole("PLATFORM_ADMIN")
                         // MCP endpoints - allow for AI chat integration
                         .requestMatchers("/mcp/**").permitAll()
                         // Admin endpoints - require PLATFORM_ADMIN role
@@ -51,6 +60,14 @@ public class SecurityConfig {
         return http.build();
     }
 
+    /**
+     * Matches requests received on the management port, which is only
+     * reachable from inside the container (Prometheus sidecar).
+     */
+    private RequestMatcher internalManagementPort() {
+        return request -> managementPort > 0 && request.getLocalPort() == managementPort;
+    }
+
     @Bean
     public CorsConfigurationSource corsConfigurationSource() {
         CorsConfiguration configuration = new CorsConfiguration();
@@ -0,0 +1,59 @@
+package com.toastlabplus.config;
+
+import com.toastlabplus.service.SqlBudgetMonitor;
+import com.toastlabplus.service.SqlStatementTracker;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+/**
+ * Tracks SQL statements per HTTP request, including the ones issued by the
+ * security filters, and reports them per endpoint pattern.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+public class SqlBudgetFilter extends OncePerRequestFilter {
+
+    private final SqlBudgetMonitor sqlBudgetMonitor;
+
+    public SqlBudgetFilter(SqlBudgetMonitor sqlBudgetMonitor) {
+        this.sqlBudgetMonitor = sqlBudgetMonitor;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(@NonNull HttpServletRequest request) {
+        return !sqlBudgetMonitor.isEnabled() || request.getRequestURI().startsWith("/actuator");
+    }
+
+    @Override
+    protected void doFilterInternal(
+            @NonNull HttpServletRequest request,
+            @NonNull HttpServletResponse response,
+            @NonNull FilterChain filterChain) throws ServletException, IOException {
+        SqlStatementTracker.Scope scope = SqlStatementTracker.begin();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            scope.close();
+            sqlBudgetMonitor.record(SqlBudgetMonitor.SCOPE_HTTP, endpointName(request), scope.stats());
+        }
+    }
+
+    private String endpointName(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        if (pattern == null) {
+            // MCP streamable transport and unmatched requests
+            return request.getRequestURI().startsWith("/mcp") ? "/mcp" : "UNKNOWN";
+        }
+        return request.getMethod() + " " + pattern;
+    }
+}
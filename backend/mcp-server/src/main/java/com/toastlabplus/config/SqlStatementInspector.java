@@ -0,0 +1,17 @@
+package com.toastlabplus.config;
+
+import com.toastlabplus.service.SqlStatementTracker;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Counts every SQL statement Hibernate prepares. Registered via
+ * {@code hibernate.session_factory.statement_inspector}.
+ */
+public class SqlStatementInspector implements StatementInspector {
+
+    @Override
+    public String inspect(String sql) {
+        SqlStatementTracker.onStatement(sql);
+        return sql;
+    }
+}
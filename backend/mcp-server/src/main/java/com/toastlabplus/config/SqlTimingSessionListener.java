@@ -0,0 +1,23 @@
+package com.toastlabplus.config;
+
+import com.toastlabplus.service.SqlStatementTracker;
+import org.hibernate.SessionEventListener;
+
+/**
+ * Measures JDBC execution time per Hibernate session. Registered via
+ * {@code hibernate.session.events.auto}; one instance per session.
+ */
+public class SqlTimingSessionListener implements SessionEventListener {
+
+    private long executeStart;
+
+    @Override
+    public void jdbcExecuteStatementStart() {
+        executeStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteStatementEnd() {
+        SqlStatementTracker.onExecution(System.nanoTime() - executeStart);
+    }
+}
@@ -1,12 +1,15 @@
 package com.toastlabplus.controller;
 
+import com.toastlabplus.dto.KeysetPage;
 import com.toastlabplus.dto.MemberDto;
+import com.toastlabplus.dto.MemberSummary;
 import com.toastlabplus.entity.Club;
 import com.toastlabplus.entity.Member;
 import com.toastlabplus.repository.ClubRepository;
 import com.toastlabplus.repository.MemberRepository;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotBlank;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
@@ -75,6 +78,9 @@ public class AdminController {
 
         // ==================== Member Management ====================
 
+        /**
+         * Unpaged - prefer GET /api/admin/members/page for large member lists.
+         */
         @GetMapping("/members")
         public ResponseEntity<List<MemberDto>> getAllMembers() {
                 List<MemberDto> members = memberRepository.findAll().stream()
@@ -83,6 +89,36 @@ public class AdminController {
                 return ResponseEntity.ok(members);
         }
 
+        /**
+         * Keyset-paginated member summaries ordered by id, optionally filtered
+         * by role and a name/email search term.
+         */
+        @GetMapping("/members/page")
+        public ResponseEntity<?> getMemberPage(
+                        @RequestParam(required = false) String cursor,
+                        @RequestParam(required = false) Integer size,
+                        @RequestParam(required = false) String role,
+                        @RequestParam(required = false) String q) {
+                long afterId;
+                try {
+                        afterId = cursor == null || cursor.isBlank() ? 0L : KeysetPage.decodeId(cursor);
+                } catch (IllegalArgumentException e) {
+                        return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+                }
+
+                int pageSize = KeysetPage.clampSize(size);
+                String pattern = MemberRepository.containsPattern(q);
+                List<MemberSummary> rows = memberRepository.findSummaryPage(afterId, role, pattern,
+                                PageRequest.of(0, pageSize + 1));
+
+                if (rows.size() <= pageSize) {
+                        return ResponseEntity.ok(new KeysetPage<>(rows, null));
+                }
+                List<MemberSummary> items = List.copyOf(rows.subList(0, pageSize));
+                String next = KeysetPage.encodeId(items.get(pageSize - 1).id());
+                return ResponseEntity.ok(new KeysetPage<>(items, next));
+        }
+
         /**
          * Update member role. Only PLATFORM_ADMIN or MEMBER are valid.
          * CLUB_ADMIN is now assigned via /api/members/{id}/assign-club-admin
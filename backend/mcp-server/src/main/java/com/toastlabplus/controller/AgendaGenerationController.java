@@ -2,12 +2,14 @@ package com.toastlabplus.controller;
 
 import com.toastlabplus.entity.*;
 import com.toastlabplus.repository.*;
-import com.google.cloud.storage.BlobId;
-import com.google.cloud.storage.Storage;
-import com.google.cloud.storage.StorageOptions;
+import com.toastlabplus.service.CompiledTemplate;
+import com.toastlabplus.service.StorageLocation;
+import com.toastlabplus.service.StorageService;
+import com.toastlabplus.service.TemplateStructureService;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
 import org.apache.poi.ss.usermodel.*;
 import org.apache.poi.xssf.usermodel.XSSFWorkbook;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.*;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
@@ -15,10 +17,12 @@ import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.*;
 
 import java.io.*;
+import java.nio.ByteBuffer;
 import java.nio.file.*;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
 import java.util.*;
+import java.util.concurrent.Callable;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
@@ -32,9 +36,9 @@ public class AgendaGenerationController {
     private final ClubAdminRepository clubAdminRepository;
     private final MemberRepository memberRepository;
     private final ClubMembershipRepository clubMembershipRepository;
-
-    @Value("${gcs.bucket.templates:toastlabplus-templates}")
-    private String templatesBucket;
+    private final ObservationRegistry observationRegistry;
+    private final StorageService storageService;
+    private final TemplateStructureService templateStructureService;
 
     public AgendaGenerationController(
             MeetingRepository meetingRepository,
@@ -42,13 +46,19 @@ public class AgendaGenerationController {
             AgendaTemplateRepository templateRepository,
             ClubAdminRepository clubAdminRepository,
             MemberRepository memberRepository,
-            ClubMembershipRepository clubMembershipRepository) {
+            ClubMembershipRepository clubMembershipRepository,
+            ObservationRegistry observationRegistry,
+            StorageService storageService,
+            TemplateStructureService templateStructureService) {
         this.meetingRepository = meetingRepository;
         this.roleSlotRepository = roleSlotRepository;
         this.templateRepository = templateRepository;
         this.clubAdminRepository = clubAdminRepository;
         this.memberRepository = memberRepository;
         this.clubMembershipRepository = clubMembershipRepository;
+        this.observationRegistry = observationRegistry;
+        this.storageService = storageService;
+        this.templateStructureService = templateStructureService;
     }
 
     /**
@@ -85,23 +95,35 @@ public class AgendaGenerationController {
             return ResponseEntity.badRequest().body(Map.of("error", "No template available for this meeting"));
         }
 
-        try {
+        boolean pdf = "pdf".equalsIgnoreCase(format);
+        Observation observation = Observation.createNotStarted("agenda.generation", observationRegistry)
+                .contextualName("agenda.generate")
+                .lowCardinalityKeyValue("format", pdf ? "pdf" : "excel")
+                .highCardinalityKeyValue("meeting.id", String.valueOf(meetingId))
+                .highCardinalityKeyValue("template.id", String.valueOf(template.getId()))
+                .start();
+
+        try (Observation.Scope ignored = observation.openScope()) {
             // Download template from GCS
-            byte[] templateBytes = downloadFromGcs(template.getGcsPath());
+            String gcsPath = template.getGcsPath();
+            ByteBuffer templateBuffer = stage("download", () -> downloadFromGcs(gcsPath));
 
-            // Get variable mappings from parsed structure
-            List<Map<String, Object>> variableMappings = parseVariableMappings(template.getParsedStructure());
+            // Get the compiled cell plan (cached per parsed structure)
+            AgendaTemplate selectedTemplate = template;
+            CompiledTemplate compiledTemplate = stage("parse",
+                    () -> templateStructureService.compiled(selectedTemplate).orElse(null));
 
             // Generate filled agenda Excel
-            byte[] generatedAgenda = generateFilledAgenda(templateBytes, meeting, variableMappings);
+            byte[] generatedAgenda = stage("fill",
+                    () -> generateFilledAgenda(templateBuffer, meeting, compiledTemplate));
 
             String baseFilename = String.format("Agenda_%s_%s",
                     meeting.getClub().getName().replaceAll("[^a-zA-Z0-9]", "_"),
                     meeting.getMeetingDate().format(DateTimeFormatter.ISO_DATE));
 
             // Convert to PDF if requested
-            if ("pdf".equalsIgnoreCase(format)) {
-                byte[] pdfBytes = convertExcelToPdf(generatedAgenda, baseFilename);
+            if (pdf) {
+                byte[] pdfBytes = stage("pdf", () -> convertExcelToPdf(generatedAgenda, baseFilename));
                 String filename = baseFilename + ".pdf";
 
                 HttpHeaders headers = new HttpHeaders();
@@ -123,9 +145,12 @@ public class AgendaGenerationController {
             return new ResponseEntity<>(generatedAgenda, headers, HttpStatus.OK);
 
         } catch (Exception e) {
+            observation.error(e);
             System.err.println("=== GENERATE AGENDA ERROR ===");
             e.printStackTrace();
             return ResponseEntity.status(500).body(Map.of("error", "Failed to generate agenda: " + e.getMessage()));
+        } finally {
+            observation.stop();
         }
     }
 
@@ -146,12 +171,49 @@ public class AgendaGenerationController {
 
     // ==================== Helper Methods ====================
 
+    /**
+     * Run one pipeline stage as a child observation of the current one:
+     * a span (when tracing is exported) plus the
+     * {@code agenda.generation.stage{stage,error}} timer. Byte-array and buffer
+     * results are recorded as {@code output.bytes}.
+     */
+    private <T> T stage(String name, Callable<T> work) throws Exception {
+        Observation observation = Observation.createNotStarted("agenda.generation.stage", observationRegistry)
+                .contextualName("agenda." + name)
+                .lowCardinalityKeyValue("stage", name)
+                .start();
+        try (Observation.Scope ignored = observation.openScope()) {
+            T result = work.call();
+            if (result instanceof byte[] bytes) {
+                observation.highCardinalityKeyValue("output.bytes", String.valueOf(bytes.length));
+            } else if (result instanceof ByteBuffer buffer) {
+                observation.highCardinalityKeyValue("output.bytes", String.valueOf(buffer.remaining()));
+            }
+            return result;
+        } catch (Exception e) {
+            observation.error(e);
+            throw e;
+        } finally {
+            observation.stop();
+        }
+    }
+
+    /**
+     * Attach an attribute to the innermost running stage.
+     */
+    private void tagStage(String key, Object value) {
+        Observation current = observationRegistry.getCurrentObservation();
+        if (current != null) {
+            current.highCardinalityKeyValue(key, String.valueOf(value));
+        }
+    }
+
     /**
      * Convert Excel bytes to PDF using LibreOffice headless.
      * This preserves the Excel's print configuration (page setup, margins, print
      * area).
      */
-    private byte[] convertExcelToPdf(byte[] excelBytes, String baseFilename) throws IOException {
+    private byte[] convertExcelToPdf(byte[] excelBytes, String baseFilename) throws Exception {
         // Create temp directory for this conversion
         Path tempDir = Files.createTempDirectory("agenda-pdf-");
         Path excelFile = tempDir.resolve(baseFilename + ".xlsx");
@@ -159,7 +221,7 @@ public class AgendaGenerationController {
 
         try {
             // Write Excel to temp file
-            Files.write(excelFile, excelBytes);
+            stage("temp-write", () -> Files.write(excelFile, excelBytes));
 
             // Run LibreOffice headless to convert
             // Use full path on Windows to avoid Git Bash PATH issues
@@ -188,33 +250,36 @@ public class AgendaGenerationController {
                     excelFile.toString());
             pb.redirectErrorStream(true);
 
-            Process process = pb.start();
+            stage("libreoffice", () -> {
+                Process process = pb.start();
 
-            // Read output for debugging
-            try (BufferedReader reader = new BufferedReader(new InputStreamReader(process.getInputStream()))) {
-                String line;
-                while ((line = reader.readLine()) != null) {
-                    System.out.println("[LibreOffice] " + line);
+                // Read output for debugging
+                try (BufferedReader reader = new BufferedReader(new InputStreamReader(process.getInputStream()))) {
+                    String line;
+                    while ((line = reader.readLine()) != null) {
+                        System.out.println("[LibreOffice] " + line);
+                    }
                 }
-            }
 
-            boolean completed = process.waitFor(60, TimeUnit.SECONDS);
-            if (!completed) {
-                process.destroyForcibly();
-                throw new IOException("LibreOffice conversion timed out");
-            }
+                boolean completed = process.waitFor(60, TimeUnit.SECONDS);
+                if (!completed) {
+                    process.destroyForcibly();
+                    throw new IOException("LibreOffice conversion timed out");
+                }
 
-            int exitCode = process.exitValue();
-            if (exitCode != 0) {
-                throw new IOException("LibreOffice conversion failed with exit code: " + exitCode);
-            }
+                int exitCode = process.exitValue();
+                if (exitCode != 0) {
+                    throw new IOException("LibreOffice conversion failed with exit code: " + exitCode);
+                }
+                return null;
+            });
 
             // Read the generated PDF
             if (!Files.exists(pdfFile)) {
                 throw new IOException("PDF file was not generated");
             }
 
-            return Files.readAllBytes(pdfFile);
+            return stage("temp-read", () -> Files.readAllBytes(pdfFile));
 
         } catch (InterruptedException e) {
             Thread.currentThread().interrupt();
@@ -230,36 +295,9 @@ public class AgendaGenerationController {
         }
     }
 
-    private byte[] downloadFromGcs(String gcsPath) throws IOException {
-        Storage storage = StorageOptions.getDefaultInstance().getService();
-
-        String path = gcsPath.replace("gs://", "");
-        int slashIndex = path.indexOf('/');
-        String bucket = path.substring(0, slashIndex);
-        String objectName = path.substring(slashIndex + 1);
-
-        BlobId blobId = BlobId.of(bucket, objectName);
-        return storage.readAllBytes(blobId);
-    }
-
-    @SuppressWarnings("unchecked")
-    private List<Map<String, Object>> parseVariableMappings(String parsedStructure) {
-        if (parsedStructure == null || parsedStructure.isEmpty()) {
-            return new ArrayList<>();
-        }
-
-        try {
-            com.fasterxml.jackson.databind.ObjectMapper mapper = new com.fasterxml.jackson.databind.ObjectMapper();
-            Map<String, Object> parsed = mapper.readValue(parsedStructure, Map.class);
-            Object mappings = parsed.get("variable_mappings");
-            if (mappings instanceof List) {
-                return (List<Map<String, Object>>) mappings;
-            }
-        } catch (Exception e) {
-            System.err.println("Failed to parse variable_mappings: " + e.getMessage());
-        }
-
-        return new ArrayList<>();
+    private ByteBuffer downloadFromGcs(String gcsPath) throws IOException {
+        // Memory-mapped from the local storage cache when it is warm
+        return storageService.readBuffer(StorageLocation.parse(gcsPath));
     }
 
     private Map<String, Object> buildAgendaData(Meeting meeting) {
@@ -347,30 +385,40 @@ public class AgendaGenerationController {
         return data;
     }
 
-    @SuppressWarnings("unchecked")
-    private byte[] generateFilledAgenda(byte[] templateBytes, Meeting meeting,
-            List<Map<String, Object>> variableMappings) throws IOException {
-        Map<String, Object> agendaData = buildAgendaData(meeting);
+    private byte[] generateFilledAgenda(ByteBuffer templateBuffer, Meeting meeting,
+            CompiledTemplate compiledTemplate) throws Exception {
+        Map<String, Object> agendaData = stage("build-data", () -> buildAgendaData(meeting));
 
-        try (XSSFWorkbook workbook = new XSSFWorkbook(new ByteArrayInputStream(templateBytes))) {
+        try (XSSFWorkbook workbook = stage("load-workbook",
+                () -> new XSSFWorkbook(StorageService.asInputStream(templateBuffer)))) {
             // Only process the first sheet (Agenda)
             if (workbook.getNumberOfSheets() > 0) {
                 Sheet sheet = workbook.getSheetAt(0);
+                tagStage("sheet.rows", sheet.getLastRowNum() + 1);
 
                 // Handle dynamic speaker rows if needed
-                if (variableMappings != null && !variableMappings.isEmpty()) {
-                    variableMappings = handleDynamicSpeakerRows(sheet, agendaData, variableMappings);
-                    fillByCoordinates(sheet, agendaData, variableMappings);
+                if (compiledTemplate != null && !compiledTemplate.cellPlan().isEmpty()) {
+                    List<CompiledTemplate.CellBinding> cellPlan = stage("shift-rows",
+                            () -> handleDynamicSpeakerRows(sheet, agendaData, compiledTemplate));
+                    stage("fill-cells", () -> {
+                        fillByCoordinates(sheet, agendaData, cellPlan);
+                        return null;
+                    });
                 } else {
                     // Fallback to label-based searching only when no coordinate mappings available
-                    processSheetByLabels(sheet, agendaData);
+                    stage("fill-cells", () -> {
+                        processSheetByLabels(sheet, agendaData);
+                        return null;
+                    });
                 }
             }
 
             // Write to output
-            ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
-            workbook.write(outputStream);
-            return outputStream.toByteArray();
+            return stage("serialize", () -> {
+                ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+                workbook.write(outputStream);
+                return outputStream.toByteArray();
+            });
         }
     }
 
@@ -380,30 +428,14 @@ public class AgendaGenerationController {
      * insert additional rows by copying the last speaker row.
      */
     @SuppressWarnings("unchecked")
-    private List<Map<String, Object>> handleDynamicSpeakerRows(Sheet sheet, Map<String, Object> agendaData,
-            List<Map<String, Object>> variableMappings) {
-
-        // Find max speaker index in template
-        int maxTemplateSpeaker = 0;
-        int lastSpeakerRow = -1;
-
-        for (Map<String, Object> mapping : variableMappings) {
-            String role = (String) mapping.get("role");
-            if (role != null && role.toUpperCase().startsWith("SPEAKER_") && !role.contains("TITLE")
-                    && !role.contains("PROJECT")) {
-                try {
-                    int idx = Integer.parseInt(role.replaceAll("\\D", ""));
-                    if (idx > maxTemplateSpeaker) {
-                        maxTemplateSpeaker = idx;
-                        Map<String, Object> valuePos = (Map<String, Object>) mapping.get("value_position");
-                        if (valuePos != null) {
-                            lastSpeakerRow = ((Number) valuePos.get("row")).intValue() - 1;
-                        }
-                    }
-                } catch (NumberFormatException ignored) {
-                }
-            }
-        }
+    private List<CompiledTemplate.CellBinding> handleDynamicSpeakerRows(Sheet sheet, Map<String, Object> agendaData,
+            CompiledTemplate compiledTemplate) {
+
+        List<CompiledTemplate.CellBinding> cellPlan = compiledTemplate.cellPlan();
+
+        // Speaker positions in the template (row converted to 0-indexed)
+        int maxTemplateSpeaker = compiledTemplate.speakerCount();
+        int lastSpeakerRow = compiledTemplate.lastSpeakerRow() - 1;
 
         // Find actual speaker count from data
         List<Map<String, String>> speakers = (List<Map<String, String>>) agendaData.get("SPEAKERS");
@@ -432,84 +464,18 @@ public class AgendaGenerationController {
                 // Log error but continue
             }
 
-            // Create new mappings for additional speakers
-            List<Map<String, Object>> newMappings = new ArrayList<>(variableMappings);
-
-            // Find template mapping for last speaker to use as reference
-            Map<String, Object> lastSpeakerMapping = null;
-            Map<String, Object> lastSpeakerTitleMapping = null;
-            Map<String, Object> lastSpeakerProjectMapping = null;
-
-            for (Map<String, Object> mapping : variableMappings) {
-                String role = (String) mapping.get("role");
-                if (role != null) {
-                    if (role.equals("SPEAKER_" + maxTemplateSpeaker)) {
-                        lastSpeakerMapping = mapping;
-                    } else if (role.equals("SPEAKER_" + maxTemplateSpeaker + "_TITLE")) {
-                        lastSpeakerTitleMapping = mapping;
-                    } else if (role.equals("SPEAKER_" + maxTemplateSpeaker + "_PROJECT")) {
-                        lastSpeakerProjectMapping = mapping;
-                    }
-                }
-            }
-
-            // Add mappings for new speakers
-            for (int i = 1; i <= rowsToInsert; i++) {
-                int speakerIdx = maxTemplateSpeaker + i;
-                int rowOffset = i;
-
-                if (lastSpeakerMapping != null) {
-                    newMappings.add(createOffsetMapping("SPEAKER_" + speakerIdx, lastSpeakerMapping, rowOffset));
-                }
-                if (lastSpeakerTitleMapping != null) {
-                    newMappings.add(createOffsetMapping("SPEAKER_" + speakerIdx + "_TITLE", lastSpeakerTitleMapping,
-                            rowOffset));
-                }
-                if (lastSpeakerProjectMapping != null) {
-                    newMappings.add(createOffsetMapping("SPEAKER_" + speakerIdx + "_PROJECT", lastSpeakerProjectMapping,
-                            rowOffset));
-                }
-
-                // Add data for additional speakers
-                if (speakerIdx <= actualSpeakerCount) {
-                    Map<String, String> speakerData = speakers.get(speakerIdx - 1);
-                    agendaData.put("SPEAKER_" + speakerIdx + "_NAME", speakerData.get("name"));
-                    agendaData.put("SPEECH_TITLE_" + speakerIdx, speakerData.get("title"));
-                    agendaData.put("SPEECH_PROJECT_" + speakerIdx, speakerData.get("project"));
-                }
-            }
-
-            // Update row positions for all mappings after the inserted rows
-            for (Map<String, Object> mapping : newMappings) {
-                Map<String, Object> valuePos = (Map<String, Object>) mapping.get("value_position");
-                if (valuePos != null) {
-                    int row = ((Number) valuePos.get("row")).intValue();
-                    if (row > insertAfterRow + 1) { // 1-indexed, so +1
-                        valuePos.put("row", row + rowsToInsert);
-                    }
-                }
+            // Data for additional speakers
+            for (int speakerIdx = maxTemplateSpeaker + 1; speakerIdx <= actualSpeakerCount; speakerIdx++) {
+                Map<String, String> speakerData = speakers.get(speakerIdx - 1);
+                agendaData.put("SPEAKER_" + speakerIdx + "_NAME", speakerData.get("name"));
+                agendaData.put("SPEECH_TITLE_" + speakerIdx, speakerData.get("title"));
+                agendaData.put("SPEECH_PROJECT_" + speakerIdx, speakerData.get("project"));
             }
 
-            return newMappings;
+            return compiledTemplate.cellPlanFor(actualSpeakerCount);
         }
 
-        return variableMappings;
-    }
-
-    private Map<String, Object> createOffsetMapping(String role, Map<String, Object> sourceMapping, int rowOffset) {
-        Map<String, Object> newMapping = new HashMap<>();
-        newMapping.put("role", role);
-
-        @SuppressWarnings("unchecked")
-        Map<String, Object> sourcePos = (Map<String, Object>) sourceMapping.get("value_position");
-        if (sourcePos != null) {
-            Map<String, Object> newPos = new HashMap<>();
-            newPos.put("row", ((Number) sourcePos.get("row")).intValue() + rowOffset);
-            newPos.put("col", sourcePos.get("col"));
-            newMapping.put("value_position", newPos);
-        }
-
-        return newMapping;
+        return cellPlan;
     }
 
     private void copyRow(Row sourceRow, Row targetRow) {
@@ -539,29 +505,19 @@ public class AgendaGenerationController {
         }
     }
 
-    @SuppressWarnings("unchecked")
     private void fillByCoordinates(Sheet sheet, Map<String, Object> agendaData,
-            List<Map<String, Object>> variableMappings) {
-
-        for (Map<String, Object> mapping : variableMappings) {
-            String role = (String) mapping.get("role");
-            Map<String, Object> valuePos = (Map<String, Object>) mapping.get("value_position");
-
-            if (role == null || valuePos == null) {
-                continue;
-            }
+            List<CompiledTemplate.CellBinding> cellPlan) {
 
+        for (CompiledTemplate.CellBinding binding : cellPlan) {
             // Get row and col (1-indexed from LLM, convert to 0-indexed for POI)
-            int targetRow = ((Number) valuePos.get("row")).intValue() - 1;
-            int targetCol = ((Number) valuePos.get("col")).intValue() - 1;
+            int targetRow = binding.row() - 1;
+            int targetCol = binding.col() - 1;
 
             if (targetRow < 0 || targetCol < 0) {
                 continue;
             }
 
-            // Map role name to data key
-            String dataKey = mapRoleToDataKey(role);
-            Object value = agendaData.get(dataKey);
+            Object value = agendaData.get(binding.dataKey());
 
             if (value instanceof String && !((String) value).isEmpty()) {
                 // Check if target cell is part of a merged region
@@ -629,51 +585,6 @@ public class AgendaGenerationController {
         }
     }
 
-    private String mapRoleToDataKey(String role) {
-        // Map LLM role names to our data keys
-        Map<String, String> roleMapping = new HashMap<>();
-        roleMapping.put("TME", "TME_NAME");
-        roleMapping.put("TIMER", "TIMER_NAME");
-        roleMapping.put("AH_COUNTER", "AH_COUNTER_NAME");
-        roleMapping.put("VOTE_COUNTER", "VOTE_COUNTER_NAME");
-        roleMapping.put("GRAMMARIAN", "GRAMMARIAN_NAME");
-        roleMapping.put("GE", "GE_NAME");
-        roleMapping.put("LE", "LE_NAME");
-        roleMapping.put("PHOTOGRAPHER", "PHOTOGRAPHER_NAME");
-        roleMapping.put("SAA", "SAA_NAME");
-        roleMapping.put("SESSION_MASTER", "SESSION_MASTER_NAME");
-        roleMapping.put("VARIETY_SESSION_MASTER", "VARIETY_SESSION_MASTER_NAME");
-        roleMapping.put("VARIETY_MASTER", "VARIETY_SESSION_MASTER_NAME");
-        roleMapping.put("TABLE_TOPICS_MASTER", "TABLE_TOPICS_MASTER_NAME");
-        roleMapping.put("PRESIDENT", "PRESIDENT_NAME");
-        // Speakers
-        roleMapping.put("SPEAKER_1", "SPEAKER_1_NAME");
-        roleMapping.put("SPEAKER_2", "SPEAKER_2_NAME");
-        roleMapping.put("SPEAKER_3", "SPEAKER_3_NAME");
-        roleMapping.put("SPEAKER_4", "SPEAKER_4_NAME");
-        // Speaker titles/projects
-        roleMapping.put("SPEAKER_1_TITLE", "SPEECH_TITLE_1");
-        roleMapping.put("SPEAKER_2_TITLE", "SPEECH_TITLE_2");
-        roleMapping.put("SPEAKER_3_TITLE", "SPEECH_TITLE_3");
-        roleMapping.put("SPEAKER_1_PROJECT", "SPEECH_PROJECT_1");
-        roleMapping.put("SPEAKER_2_PROJECT", "SPEECH_PROJECT_2");
-        roleMapping.put("SPEAKER_3_PROJECT", "SPEECH_PROJECT_3");
-        // Evaluators
-        roleMapping.put("EVALUATOR_1", "EVALUATOR_1_NAME");
-        roleMapping.put("EVALUATOR_2", "EVALUATOR_2_NAME");
-        roleMapping.put("EVALUATOR_3", "EVALUATOR_3_NAME");
-        roleMapping.put("INDIVIDUAL_EVALUATOR_1", "INDIVIDUAL_EVALUATOR_1_NAME");
-        roleMapping.put("INDIVIDUAL_EVALUATOR_2", "INDIVIDUAL_EVALUATOR_2_NAME");
-        roleMapping.put("INDIVIDUAL_EVALUATOR_3", "INDIVIDUAL_EVALUATOR_3_NAME");
-        // Meeting info
-        roleMapping.put("MEETING_DATE", "MEETING_DATE");
-        roleMapping.put("MEETING_INFO", "MEETING_DATE");
-        roleMapping.put("THEME", "THEME");
-        roleMapping.put("MEETING_NUMBER", "MEETING_NUMBER");
-
-        return roleMapping.getOrDefault(role.toUpperCase(), role + "_NAME");
-    }
-
     private void processSheetByLabels(Sheet sheet, Map<String, Object> agendaData) {
         // Define role label mappings (what to search for -> data key)
         Map<String, String> roleLabelMappings = new LinkedHashMap<>();
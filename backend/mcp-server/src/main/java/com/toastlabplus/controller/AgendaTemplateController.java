@@ -7,6 +7,10 @@ import com.toastlabplus.repository.AgendaTemplateRepository;
 import com.toastlabplus.repository.ClubAdminRepository;
 import com.toastlabplus.repository.ClubRepository;
 import com.toastlabplus.repository.MemberRepository;
+import com.toastlabplus.service.StorageLocation;
+import com.toastlabplus.service.StorageService;
+import com.toastlabplus.service.TemplateParseService;
+import com.toastlabplus.service.TemplateStructureService;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -15,12 +19,8 @@ import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
-import com.google.cloud.storage.BlobId;
-import com.google.cloud.storage.BlobInfo;
-import com.google.cloud.storage.Storage;
-import com.google.cloud.storage.StorageOptions;
-
 import java.io.IOException;
+import java.io.InputStream;
 import java.time.LocalDateTime;
 import java.util.*;
 
@@ -32,22 +32,28 @@ public class AgendaTemplateController {
     private final ClubRepository clubRepository;
     private final ClubAdminRepository clubAdminRepository;
     private final MemberRepository memberRepository;
+    private final StorageService storageService;
+    private final TemplateParseService templateParseService;
+    private final TemplateStructureService templateStructureService;
 
     @Value("${gcs.bucket.templates:toastlabplus-templates}")
     private String templatesBucket;
 
-    @Value("${chat.backend.url:http://localhost:8000}")
-    private String chatBackendUrl;
-
     public AgendaTemplateController(
             AgendaTemplateRepository templateRepository,
             ClubRepository clubRepository,
             ClubAdminRepository clubAdminRepository,
-            MemberRepository memberRepository) {
+            MemberRepository memberRepository,
+            StorageService storageService,
+            TemplateParseService templateParseService,
+            TemplateStructureService templateStructureService) {
         this.templateRepository = templateRepository;
         this.clubRepository = clubRepository;
         this.clubAdminRepository = clubAdminRepository;
         this.memberRepository = memberRepository;
+        this.storageService = storageService;
+        this.templateParseService = templateParseService;
+        this.templateStructureService = templateStructureService;
     }
 
     /**
@@ -136,7 +142,10 @@ public class AgendaTemplateController {
     }
 
     /**
-     * Trigger LLM parsing for a template.
+     * Trigger LLM parsing for a template. Parsing runs asynchronously: the
+     * response is 202 with the job status; poll {@code /parse-status}.
+     * Templates whose layout was parsed before complete without calling the
+     * parser.
      */
     @PostMapping("/{templateId}/parse")
     @PreAuthorize("hasAnyRole('CLUB_ADMIN', 'PLATFORM_ADMIN')")
@@ -161,30 +170,36 @@ public class AgendaTemplateController {
             return ResponseEntity.badRequest().body(Map.of("error", "Template has no uploaded file"));
         }
 
-        try {
-            // 1. Download Excel from GCS
-            byte[] excelBytes = downloadFromGcs(template.getGcsPath());
-
-            // 2. Extract text content using Apache POI
-            String excelContent = extractExcelContent(excelBytes);
-
-            // 3. Call chat-backend /parse-template endpoint
-            String parsedJson = callChatBackendParse(excelContent, template.getOriginalFilename());
-
-            // 4. Save parsed structure
-            template.setParsedStructure(parsedJson);
-            template.setUpdatedAt(LocalDateTime.now());
-            templateRepository.save(template);
+        // The compiled plan of the previous structure must not outlive the re-parse
+        templateStructureService.evict(templateId);
+        AgendaTemplate queued = templateParseService.requestParse(template);
+        return ResponseEntity.accepted().body(Map.of(
+                "message", "Template parsing started",
+                "templateId", templateId,
+                "parseStatus", queued.getParseStatus(),
+                "statusUrl", "/api/clubs/" + clubId + "/templates/" + templateId + "/parse-status"));
+    }
 
-            return ResponseEntity.ok(Map.of(
-                    "message", "Template parsed successfully",
-                    "templateId", templateId,
-                    "parsedStructure", parsedJson));
+    /**
+     * Status of the template's parse job.
+     */
+    @GetMapping("/{templateId}/parse-status")
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<?> getParseStatus(
+            @PathVariable Long clubId,
+            @PathVariable Long templateId) {
 
-        } catch (Exception e) {
-            return ResponseEntity.status(500).body(Map.of(
-                    "error", "Failed to parse template: " + e.getMessage()));
+        AgendaTemplate template = templateRepository.findByIdAndClubId(templateId, clubId).orElse(null);
+        if (template == null) {
+            return ResponseEntity.notFound().build();
         }
+
+        Map<String, Object> status = new HashMap<>();
+        status.put("templateId", templateId);
+        status.put("parseStatus", template.getParseStatus());
+        status.put("parseError", template.getParseError());
+        status.put("hasParsedStructure", template.getParsedStructure() != null);
+        return ResponseEntity.ok(status);
     }
 
     /**
@@ -213,6 +228,7 @@ public class AgendaTemplateController {
         template.setIsActive(false);
         template.setUpdatedAt(LocalDateTime.now());
         templateRepository.save(template);
+        templateStructureService.evict(templateId);
 
         return ResponseEntity.ok(Map.of("message", "Template deleted"));
     }
@@ -235,133 +251,17 @@ public class AgendaTemplateController {
         map.put("createdAt", template.getCreatedAt());
         map.put("hasParsedStructure", template.getParsedStructure() != null);
         map.put("parsedStructure", template.getParsedStructure());
+        map.put("parseStatus", template.getParseStatus());
+        map.put("parseError", template.getParseError());
         return map;
     }
 
     private String uploadToGcs(Long clubId, MultipartFile file) throws IOException {
-        Storage storage = StorageOptions.getDefaultInstance().getService();
-
         String filename = UUID.randomUUID().toString() + "_" + file.getOriginalFilename();
         String objectName = "clubs/" + clubId + "/templates/" + filename;
 
-        BlobId blobId = BlobId.of(templatesBucket, objectName);
-        BlobInfo blobInfo = BlobInfo.newBuilder(blobId)
-                .setContentType(file.getContentType())
-                .build();
-
-        storage.create(blobInfo, file.getBytes());
-
-        return "gs://" + templatesBucket + "/" + objectName;
-    }
-
-    private byte[] downloadFromGcs(String gcsPath) throws IOException {
-        Storage storage = StorageOptions.getDefaultInstance().getService();
-
-        // Parse gs://bucket/path format
-        String path = gcsPath.replace("gs://", "");
-        int slashIndex = path.indexOf('/');
-        String bucket = path.substring(0, slashIndex);
-        String objectName = path.substring(slashIndex + 1);
-
-        BlobId blobId = BlobId.of(bucket, objectName);
-        return storage.readAllBytes(blobId);
-    }
-
-    private String extractExcelContent(byte[] excelBytes) throws IOException {
-        StringBuilder content = new StringBuilder();
-
-        try (org.apache.poi.xssf.usermodel.XSSFWorkbook workbook = new org.apache.poi.xssf.usermodel.XSSFWorkbook(
-                new java.io.ByteArrayInputStream(excelBytes))) {
-
-            // Only read the first sheet (Agenda)
-            if (workbook.getNumberOfSheets() > 0) {
-                org.apache.poi.ss.usermodel.Sheet sheet = workbook.getSheetAt(0);
-                content.append("=== Sheet: ").append(sheet.getSheetName()).append(" ===\n");
-                content.append("Format: [Row,Column] Content\n\n");
-
-                for (org.apache.poi.ss.usermodel.Row row : sheet) {
-                    int rowNum = row.getRowNum() + 1; // 1-indexed for user-friendliness
-                    for (org.apache.poi.ss.usermodel.Cell cell : row) {
-                        String cellValue = getCellValueAsString(cell);
-                        if (!cellValue.isEmpty()) {
-                            int colNum = cell.getColumnIndex() + 1; // 1-indexed
-                            // Format: [R行,C列] 內容
-                            content.append("[R").append(rowNum).append(",C").append(colNum).append("] ")
-                                    .append(cellValue).append("\n");
-                        }
-                    }
-                }
-                content.append("\n");
-            }
-        }
-
-        return content.toString();
-    }
-
-    private String getCellValueAsString(org.apache.poi.ss.usermodel.Cell cell) {
-        if (cell == null)
-            return "";
-
-        switch (cell.getCellType()) {
-            case STRING:
-                return cell.getStringCellValue().trim();
-            case NUMERIC:
-                if (org.apache.poi.ss.usermodel.DateUtil.isCellDateFormatted(cell)) {
-                    return cell.getLocalDateTimeCellValue().toString();
-                }
-                double num = cell.getNumericCellValue();
-                if (num == Math.floor(num)) {
-                    return String.valueOf((long) num);
-                }
-                return String.valueOf(num);
-            case BOOLEAN:
-                return String.valueOf(cell.getBooleanCellValue());
-            case FORMULA:
-                try {
-                    return cell.getStringCellValue().trim();
-                } catch (Exception e) {
-                    try {
-                        return String.valueOf(cell.getNumericCellValue());
-                    } catch (Exception e2) {
-                        return "";
-                    }
-                }
-            default:
-                return "";
-        }
-    }
-
-    private String callChatBackendParse(String templateContent, String filename) throws IOException {
-        java.net.URL url = new java.net.URL(chatBackendUrl + "/parse-template");
-        java.net.HttpURLConnection conn = (java.net.HttpURLConnection) url.openConnection();
-        conn.setRequestMethod("POST");
-        conn.setRequestProperty("Content-Type", "application/json");
-        conn.setDoOutput(true);
-
-        // Build request body
-        com.fasterxml.jackson.databind.ObjectMapper mapper = new com.fasterxml.jackson.databind.ObjectMapper();
-        String requestBody = String.format(
-                "{\"template_content\": %s, \"filename\": \"%s\"}",
-                mapper.writeValueAsString(templateContent),
-                filename != null ? filename : "");
-
-        try (java.io.OutputStream os = conn.getOutputStream()) {
-            os.write(requestBody.getBytes(java.nio.charset.StandardCharsets.UTF_8));
-        }
-
-        int responseCode = conn.getResponseCode();
-        if (responseCode != 200) {
-            throw new IOException("Chat backend returned status: " + responseCode);
-        }
-
-        try (java.io.BufferedReader reader = new java.io.BufferedReader(
-                new java.io.InputStreamReader(conn.getInputStream(), java.nio.charset.StandardCharsets.UTF_8))) {
-            StringBuilder response = new StringBuilder();
-            String line;
-            while ((line = reader.readLine()) != null) {
-                response.append(line);
-            }
-            return response.toString();
+        try (InputStream in = file.getInputStream()) {
+            return storageService.store(StorageLocation.of(templatesBucket, objectName), file.getContentType(), in);
         }
     }
 }
@@ -42,7 +42,7 @@ public class ClubController {
 
     @GetMapping("/{id}/admins")
     public ResponseEntity<?> getClubAdmins(@PathVariable Long id) {
-        List<Map<String, Object>> admins = clubAdminRepository.findByClubId(id).stream()
+        List<Map<String, Object>> admins = clubAdminRepository.findByClubIdWithMember(id).stream()
                 .map(ca -> Map.<String, Object>of(
                         "memberId", ca.getMember().getId(),
                         "memberName", ca.getMember().getName(),
@@ -4,9 +4,12 @@ import com.toastlabplus.dto.MemberDto;
 import com.toastlabplus.entity.Club;
 import com.toastlabplus.entity.ClubMembership;
 import com.toastlabplus.entity.Member;
+import com.toastlabplus.repository.ClubAdminRepository;
 import com.toastlabplus.repository.ClubMembershipRepository;
 import com.toastlabplus.repository.ClubRepository;
 import com.toastlabplus.repository.MemberRepository;
+import com.toastlabplus.service.RosterImportService;
+import com.toastlabplus.service.SpreadsheetReader;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotNull;
 import org.springframework.http.ResponseEntity;
@@ -14,7 +17,10 @@ import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Map;
@@ -27,14 +33,20 @@ public class ClubMembershipController {
         private final ClubMembershipRepository clubMembershipRepository;
         private final ClubRepository clubRepository;
         private final MemberRepository memberRepository;
+        private final ClubAdminRepository clubAdminRepository;
+        private final RosterImportService rosterImportService;
 
         public ClubMembershipController(
                         ClubMembershipRepository clubMembershipRepository,
                         ClubRepository clubRepository,
-                        MemberRepository memberRepository) {
+                        MemberRepository memberRepository,
+                        ClubAdminRepository clubAdminRepository,
+                        RosterImportService rosterImportService) {
                 this.clubMembershipRepository = clubMembershipRepository;
                 this.clubRepository = clubRepository;
                 this.memberRepository = memberRepository;
+                this.clubAdminRepository = clubAdminRepository;
+                this.rosterImportService = rosterImportService;
         }
 
         // ==================== 申請加入分會 ====================
@@ -170,6 +182,46 @@ public class ClubMembershipController {
                                 "membershipId", membership.getId()));
         }
 
+        // ==================== 名冊匯入 (Club Admin) ====================
+
+        /**
+         * Bulk import a roster (.xlsx or .csv with name, email and optional phone
+         * columns) as approved members of the club. Existing members are matched
+         * by email; invalid rows are reported per row and skipped.
+         */
+        @PostMapping("/club/{clubId}/import")
+        @PreAuthorize("hasAnyRole('CLUB_ADMIN', 'PLATFORM_ADMIN')")
+        public ResponseEntity<?> importRoster(
+                        @PathVariable Long clubId,
+                        @RequestParam("file") MultipartFile file,
+                        @AuthenticationPrincipal UserDetails userDetails) {
+                Member importer = memberRepository.findByEmail(userDetails.getUsername())
+                                .orElseThrow(() -> new IllegalArgumentException("Member not found"));
+
+                if (!isClubAdmin(importer, clubId)) {
+                        return ResponseEntity.status(403).body(Map.of("error", "You are not an admin of this club"));
+                }
+
+                RosterImportService.Format format = RosterImportService.Format.fromFilename(file.getOriginalFilename());
+                if (format == null) {
+                        return ResponseEntity.badRequest().body(Map.of(
+                                        "error", "Only .xlsx and .csv files are allowed"));
+                }
+
+                if (!clubRepository.existsById(clubId)) {
+                        throw new IllegalArgumentException("Club not found");
+                }
+
+                try (InputStream in = file.getInputStream()) {
+                        return ResponseEntity.ok(rosterImportService.importRoster(clubId, importer.getId(), format, in));
+                } catch (SpreadsheetReader.LimitExceededException | IllegalArgumentException e) {
+                        return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+                } catch (IOException e) {
+                        return ResponseEntity.badRequest().body(Map.of(
+                                        "error", "Failed to read file: " + e.getMessage()));
+                }
+        }
+
         // ==================== 退出分會 ====================
 
         @DeleteMapping("/{id}")
@@ -222,6 +274,11 @@ public class ClubMembershipController {
                                 "clubName", clubName));
         }
 
+        private boolean isClubAdmin(Member member, Long clubId) {
+                return "PLATFORM_ADMIN".equals(member.getRole()) ||
+                                clubAdminRepository.existsByMemberIdAndClubId(member.getId(), clubId);
+        }
+
         // ==================== Request DTOs ====================
 
         public record ApplyRequest(@NotNull(message = "Club ID is required") Long clubId) {
@@ -6,7 +6,10 @@ import com.toastlabplus.entity.Member;
 import com.toastlabplus.repository.ClubAdminRepository;
 import com.toastlabplus.repository.ClubMembershipRepository;
 import com.toastlabplus.repository.MemberRepository;
+import com.toastlabplus.service.FirebaseTokenVerifier;
 import com.toastlabplus.service.JwtService;
+import com.toastlabplus.service.RosterImportService;
+import io.jsonwebtoken.Claims;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -26,21 +29,28 @@ public class FirebaseAuthController {
     private final JwtService jwtService;
     private final ClubAdminRepository clubAdminRepository;
     private final ClubMembershipRepository clubMembershipRepository;
+    private final FirebaseTokenVerifier tokenVerifier;
 
     public FirebaseAuthController(MemberRepository memberRepository,
             JwtService jwtService,
             ClubAdminRepository clubAdminRepository,
-            ClubMembershipRepository clubMembershipRepository) {
+            ClubMembershipRepository clubMembershipRepository,
+            FirebaseTokenVerifier tokenVerifier) {
         this.memberRepository = memberRepository;
         this.jwtService = jwtService;
         this.clubAdminRepository = clubAdminRepository;
         this.clubMembershipRepository = clubMembershipRepository;
+        this.tokenVerifier = tokenVerifier;
     }
 
     /**
      * Login or register using Firebase ID Token.
      * The frontend should verify the token with Firebase first,
      * then send the verified user info to this endpoint.
+     *
+     * Accounts created by a roster import are only linked when the request
+     * carries an ID token that verifies server-side for the same uid and a
+     * verified email; the client-supplied email alone is not enough.
      */
     @PostMapping
     public ResponseEntity<?> firebaseAuth(@RequestBody FirebaseAuthRequest request) {
@@ -62,6 +72,13 @@ public class FirebaseAuthController {
                 // Try to find by email (might be existing user linking social account)
                 member = memberRepository.findByEmail(request.email()).orElse(null);
 
+                if (member != null
+                        && RosterImportService.AUTH_PROVIDER_IMPORTED.equals(member.getAuthProvider())
+                        && !ownsVerifiedEmail(request)) {
+                    return ResponseEntity.status(403).body(Map.of("error",
+                            "Could not verify this email address, please sign in again"));
+                }
+
                 if (member != null) {
                     // Existing user - update with Firebase info
                     member.setFirebaseUid(request.firebaseUid());
@@ -111,6 +128,24 @@ public class FirebaseAuthController {
         }
     }
 
+    /**
+     * Whether the request's ID token is valid and names the requested uid
+     * and email, with the email verified by the identity provider.
+     */
+    private boolean ownsVerifiedEmail(FirebaseAuthRequest request) {
+        if (request.idToken() == null || request.idToken().isBlank() || !tokenVerifier.isEnabled()) {
+            return false;
+        }
+        try {
+            Claims claims = tokenVerifier.verify(request.idToken());
+            return request.firebaseUid().equals(claims.getSubject())
+                    && request.email().equalsIgnoreCase(claims.get("email", String.class))
+                    && Boolean.TRUE.equals(claims.get("email_verified", Boolean.class));
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
     private List<Long> getAdminClubIds(Long memberId) {
         return clubAdminRepository.findByMemberId(memberId).stream()
                 .map(ca -> ca.getClub().getId())
@@ -138,7 +173,8 @@ public class FirebaseAuthController {
             String firebaseUid,
             String email,
             String name,
-            String provider // GOOGLE, FACEBOOK, etc.
+            String provider, // GOOGLE, FACEBOOK, etc.
+            String idToken // Firebase ID token, required to link imported accounts
     ) {
     }
 }
@@ -1,5 +1,7 @@
 package com.toastlabplus.controller;
 
+import com.toastlabplus.dto.KeysetPage;
+import com.toastlabplus.dto.MeetingSummary;
 import com.toastlabplus.entity.Club;
 import com.toastlabplus.entity.Meeting;
 import com.toastlabplus.entity.Member;
@@ -8,14 +10,21 @@ import com.toastlabplus.repository.ClubMembershipRepository;
 import com.toastlabplus.repository.ClubRepository;
 import com.toastlabplus.repository.MeetingRepository;
 import com.toastlabplus.repository.MemberRepository;
+import com.toastlabplus.service.ClubHistoryExportService;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotNull;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
@@ -31,22 +40,29 @@ public class MeetingController {
     private final ClubRepository clubRepository;
     private final ClubAdminRepository clubAdminRepository;
     private final ClubMembershipRepository clubMembershipRepository;
+    private final ClubHistoryExportService clubHistoryExportService;
 
     public MeetingController(MeetingRepository meetingRepository,
             MemberRepository memberRepository,
             ClubRepository clubRepository,
             ClubAdminRepository clubAdminRepository,
-            ClubMembershipRepository clubMembershipRepository) {
+            ClubMembershipRepository clubMembershipRepository,
+            ClubHistoryExportService clubHistoryExportService) {
         this.meetingRepository = meetingRepository;
         this.memberRepository = memberRepository;
         this.clubRepository = clubRepository;
         this.clubAdminRepository = clubAdminRepository;
         this.clubMembershipRepository = clubMembershipRepository;
+        this.clubHistoryExportService = clubHistoryExportService;
     }
 
+    private static final LocalDate MIN_DATE = LocalDate.of(1900, 1, 1);
+    private static final LocalDate MAX_DATE = LocalDate.of(9999, 12, 31);
+
     /**
      * Get meetings for the current user's clubs.
      * Platform Admin can see all meetings.
+     * Unpaged - prefer GET /api/meetings/page for large histories.
      */
     @GetMapping
     @PreAuthorize("isAuthenticated()")
@@ -75,6 +91,63 @@ public class MeetingController {
         return ResponseEntity.ok(meetings);
     }
 
+    /**
+     * Keyset-paginated meeting summaries, newest first.
+     * Pass the returned nextCursor to fetch the following page.
+     */
+    @GetMapping("/page")
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<?> getMeetingPage(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(required = false) String status,
+            @AuthenticationPrincipal UserDetails userDetails) {
+        Member currentMember = memberRepository.findByEmail(userDetails.getUsername())
+                .orElseThrow(() -> new IllegalArgumentException("Member not found"));
+
+        KeysetPage.DateIdCursor after;
+        try {
+            after = cursor == null || cursor.isBlank()
+                    ? new KeysetPage.DateIdCursor(MAX_DATE.plusDays(1), Long.MAX_VALUE)
+                    : KeysetPage.DateIdCursor.decode(cursor);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        }
+
+        int pageSize = KeysetPage.clampSize(size);
+        // Fetch one extra row to know whether another page exists
+        PageRequest limit = PageRequest.of(0, pageSize + 1);
+        LocalDate fromDate = from != null ? from : MIN_DATE;
+        LocalDate toDate = to != null ? to : MAX_DATE;
+
+        List<MeetingSummary> rows;
+        if ("PLATFORM_ADMIN".equals(currentMember.getRole())) {
+            rows = meetingRepository.findSummaryPage(fromDate, toDate, status,
+                    after.date(), after.id(), limit);
+        } else {
+            List<Long> clubIds = clubMembershipRepository
+                    .findByMemberIdAndStatus(currentMember.getId(), "APPROVED").stream()
+                    .map(m -> m.getClub().getId())
+                    .collect(Collectors.toList());
+
+            if (clubIds.isEmpty()) {
+                return ResponseEntity.ok(new KeysetPage<MeetingSummary>(List.of(), null));
+            }
+            rows = meetingRepository.findSummaryPageByClubIds(clubIds, fromDate, toDate, status,
+                    after.date(), after.id(), limit);
+        }
+
+        if (rows.size() <= pageSize) {
+            return ResponseEntity.ok(new KeysetPage<>(rows, null));
+        }
+        List<MeetingSummary> items = rows.subList(0, pageSize);
+        MeetingSummary last = items.get(pageSize - 1);
+        String next = new KeysetPage.DateIdCursor(last.meetingDate(), last.id()).encode();
+        return ResponseEntity.ok(new KeysetPage<>(List.copyOf(items), next));
+    }
+
     /**
      * Get a specific meeting by ID.
      */
@@ -102,6 +175,58 @@ public class MeetingController {
         return ResponseEntity.ok(meetings);
     }
 
+    /**
+     * Export a club's meetings, role slots and members as an .xlsx workbook
+     * (for district reports). {@code from}/{@code to} are inclusive and
+     * default to the whole history. The workbook is written straight to the
+     * response in constant memory; see {@link ClubHistoryExportService}.
+     */
+    @GetMapping("/club/{clubId}/export")
+    @PreAuthorize("hasAnyRole('CLUB_ADMIN', 'PLATFORM_ADMIN')")
+    public ResponseEntity<?> exportClubHistory(
+            @PathVariable Long clubId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @AuthenticationPrincipal UserDetails userDetails,
+            HttpServletResponse response) throws IOException {
+        Member currentMember = memberRepository.findByEmail(userDetails.getUsername())
+                .orElseThrow(() -> new IllegalArgumentException("Member not found"));
+
+        if (!"PLATFORM_ADMIN".equals(currentMember.getRole())
+                && !clubAdminRepository.existsByMemberIdAndClubId(currentMember.getId(), clubId)) {
+            return ResponseEntity.status(403).body(Map.of("error", "You are not an admin of this club"));
+        }
+
+        LocalDate fromDate = from != null ? from : MIN_DATE;
+        LocalDate toDate = to != null ? to : MAX_DATE;
+        if (fromDate.isAfter(toDate)) {
+            return ResponseEntity.badRequest().body(Map.of("error", "'from' must not be after 'to'"));
+        }
+
+        Club club = clubRepository.findById(clubId)
+                .orElseThrow(() -> new IllegalArgumentException("Club not found"));
+
+        String filename = "history_" + club.getName().replaceAll("[^a-zA-Z0-9]", "_")
+                + (from != null ? "_" + from : "") + (to != null ? "_" + to : "") + ".xlsx";
+        response.setContentType("application/vnd.openxmlformats-officedocument.spreadsheetml.sheet");
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
+                ContentDisposition.builder("attachment").filename(filename).build().toString());
+
+        try {
+            clubHistoryExportService.export(clubId, fromDate, toDate, response.getOutputStream());
+        } catch (RuntimeException | IOException e) {
+            // The workbook is only written once every query has finished, so
+            // unless the failure happened while sending, it can still be reported
+            if (response.isCommitted()) {
+                throw e;
+            }
+            response.reset();
+            return ResponseEntity.status(500).body(Map.of("error", "Failed to export history: " + e.getMessage()));
+        }
+        // Response already written
+        return null;
+    }
+
     /**
      * Create a new meeting.
      * Club Admin can only create meetings for clubs they manage.
@@ -1,63 +1,62 @@
 package com.toastlabplus.controller;
 
 import com.toastlabplus.entity.Club;
-import com.toastlabplus.entity.Meeting;
 import com.toastlabplus.entity.Member;
 import com.toastlabplus.entity.MeetingSchedule;
-import com.toastlabplus.entity.RoleSlot;
-import com.toastlabplus.entity.AgendaTemplate;
+import com.toastlabplus.entity.MeetingScheduleException;
 import com.toastlabplus.repository.ClubAdminRepository;
+import com.toastlabplus.repository.ClubMembershipRepository;
 import com.toastlabplus.repository.ClubRepository;
-import com.toastlabplus.repository.MeetingRepository;
+import com.toastlabplus.repository.MeetingScheduleExceptionRepository;
 import com.toastlabplus.repository.MeetingScheduleRepository;
 import com.toastlabplus.repository.MemberRepository;
-import com.toastlabplus.repository.RoleSlotRepository;
-import com.toastlabplus.repository.AgendaTemplateRepository;
+import com.toastlabplus.service.MeetingGenerationService;
+import com.toastlabplus.service.MeetingRecurrenceService;
 import jakarta.validation.Valid;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.*;
 
-import java.time.DayOfWeek;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
-import java.time.temporal.TemporalAdjusters;
 import java.util.ArrayList;
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.Set;
 
 @RestController
 @RequestMapping("/api/clubs/{clubId}/meeting-schedules")
 public class MeetingScheduleController {
 
     private final MeetingScheduleRepository meetingScheduleRepository;
-    private final MeetingRepository meetingRepository;
-    private final RoleSlotRepository roleSlotRepository;
     private final ClubRepository clubRepository;
     private final ClubAdminRepository clubAdminRepository;
+    private final ClubMembershipRepository clubMembershipRepository;
     private final MemberRepository memberRepository;
-    private final AgendaTemplateRepository agendaTemplateRepository;
+    private final MeetingScheduleExceptionRepository scheduleExceptionRepository;
+    private final MeetingRecurrenceService recurrenceService;
+    private final MeetingGenerationService meetingGenerationService;
 
     public MeetingScheduleController(MeetingScheduleRepository meetingScheduleRepository,
-            MeetingRepository meetingRepository,
-            RoleSlotRepository roleSlotRepository,
             ClubRepository clubRepository,
             ClubAdminRepository clubAdminRepository,
+            ClubMembershipRepository clubMembershipRepository,
             MemberRepository memberRepository,
-            AgendaTemplateRepository agendaTemplateRepository) {
+            MeetingScheduleExceptionRepository scheduleExceptionRepository,
+            MeetingRecurrenceService recurrenceService,
+            MeetingGenerationService meetingGenerationService) {
         this.meetingScheduleRepository = meetingScheduleRepository;
-        this.meetingRepository = meetingRepository;
-        this.roleSlotRepository = roleSlotRepository;
         this.clubRepository = clubRepository;
         this.clubAdminRepository = clubAdminRepository;
+        this.clubMembershipRepository = clubMembershipRepository;
         this.memberRepository = memberRepository;
-        this.agendaTemplateRepository = agendaTemplateRepository;
+        this.scheduleExceptionRepository = scheduleExceptionRepository;
+        this.recurrenceService = recurrenceService;
+        this.meetingGenerationService = meetingGenerationService;
     }
 
     /**
@@ -103,6 +102,7 @@ public class MeetingScheduleController {
         schedule.setFrequency(request.frequency());
         schedule.setDayOfWeek(request.dayOfWeek());
         schedule.setWeekOfMonth(request.weekOfMonth());
+        schedule.setStartDate(request.startDate());
         schedule.setStartTime(request.startTime());
         schedule.setEndTime(request.endTime());
         schedule.setDefaultSpeakerCount(request.defaultSpeakerCount() != null ? request.defaultSpeakerCount() : 3);
@@ -144,6 +144,7 @@ public class MeetingScheduleController {
         schedule.setFrequency(request.frequency());
         schedule.setDayOfWeek(request.dayOfWeek());
         schedule.setWeekOfMonth(request.weekOfMonth());
+        schedule.setStartDate(request.startDate());
         schedule.setStartTime(request.startTime());
         schedule.setEndTime(request.endTime());
         schedule.setDefaultSpeakerCount(request.defaultSpeakerCount());
@@ -210,234 +211,192 @@ public class MeetingScheduleController {
 
         // Use provided months or fall back to schedule's default
         int generateMonths = (months != null && months > 0) ? months : schedule.getAutoGenerateMonths();
-        List<LocalDate> dates = calculateMeetingDates(schedule, generateMonths);
-        int created = 0;
-
-        for (LocalDate date : dates) {
-            // Skip if meeting already exists for this date
-            if (meetingRepository.existsByClubIdAndMeetingDate(clubId, date)) {
-                continue;
-            }
-
-            // Get next meeting number
-            Integer maxNumber = meetingRepository.findMaxMeetingNumberByClubId(clubId).orElse(0);
-
-            Meeting meeting = new Meeting();
-            meeting.setClub(schedule.getClub());
-            meeting.setMeetingNumber(maxNumber + 1);
-            meeting.setMeetingDate(date);
-            meeting.setStartTime(schedule.getStartTime());
-            meeting.setEndTime(schedule.getEndTime());
-            meeting.setLocation(schedule.getDefaultLocation());
-            meeting.setSpeakerCount(schedule.getDefaultSpeakerCount());
-            meeting.setTemplateId(schedule.getTemplateId());
-            meeting.setSchedule(schedule);
-            meeting.setStatus(Meeting.STATUS_DRAFT);
-            meeting.setCreatedBy(currentMember);
-
-            Meeting saved = meetingRepository.save(meeting);
-
-            // Create default role slots
-            createDefaultRoleSlots(saved);
-
-            created++;
-        }
+        LocalDate today = meetingGenerationService.today();
+        int created = meetingGenerationService.generate(
+                schedule, today, today.plusMonths(generateMonths), currentMember, MeetingGenerationService.TRIGGER_MANUAL);
 
         return ResponseEntity.ok(Map.of(
                 "message", "Generated " + created + " meetings",
                 "count", created));
     }
 
-    // ==================== Helper Methods ====================
+    /**
+     * Preview the next N meeting dates of a schedule (exceptions applied).
+     */
+    @GetMapping("/{scheduleId}/preview")
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<?> previewOccurrences(
+            @PathVariable Long clubId,
+            @PathVariable Long scheduleId,
+            @RequestParam(defaultValue = "10") int count,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @AuthenticationPrincipal UserDetails userDetails) {
 
-    private boolean isClubAdmin(Member member, Long clubId) {
-        return "PLATFORM_ADMIN".equals(member.getRole()) ||
-                clubAdminRepository.existsByMemberIdAndClubId(member.getId(), clubId);
-    }
+        Member currentMember = memberRepository.findByEmail(userDetails.getUsername())
+                .orElseThrow(() -> new IllegalArgumentException("Member not found"));
 
-    private Map<String, Object> scheduleToMap(MeetingSchedule schedule) {
-        Map<String, Object> map = new HashMap<>();
-        map.put("id", schedule.getId());
-        map.put("name", schedule.getName());
-        map.put("frequency", schedule.getFrequency());
-        map.put("dayOfWeek", schedule.getDayOfWeek());
-        map.put("weekOfMonth", schedule.getWeekOfMonth());
-        map.put("startTime", schedule.getStartTime());
-        map.put("endTime", schedule.getEndTime());
-        map.put("defaultSpeakerCount", schedule.getDefaultSpeakerCount());
-        map.put("defaultLocation", schedule.getDefaultLocation());
-        map.put("autoGenerateMonths", schedule.getAutoGenerateMonths());
-        return map;
-    }
+        if (!isClubMember(currentMember, clubId)) {
+            return ResponseEntity.status(403).body(Map.of("error", "You are not a member of this club"));
+        }
 
-    private List<LocalDate> calculateMeetingDates(MeetingSchedule schedule, int months) {
-        List<LocalDate> dates = new ArrayList<>();
-        LocalDate today = LocalDate.now();
-        LocalDate endDate = today.plusMonths(months);
-
-        if (MeetingSchedule.FREQ_MONTHLY.equals(schedule.getFrequency())) {
-            int[] weeks = schedule.getWeekOfMonth();
-            DayOfWeek dayOfWeek = DayOfWeek.of(schedule.getDayOfWeek());
-
-            LocalDate current = today.withDayOfMonth(1);
-            while (current.isBefore(endDate)) {
-                for (int week : weeks) {
-                    LocalDate date = current.with(TemporalAdjusters.dayOfWeekInMonth(week, dayOfWeek));
-                    if (!date.isBefore(today) && date.isBefore(endDate)) {
-                        dates.add(date);
-                    }
-                }
-                current = current.plusMonths(1);
-            }
+        MeetingSchedule schedule = meetingScheduleRepository.findByIdAndClubId(scheduleId, clubId).orElse(null);
+        if (schedule == null) {
+            return ResponseEntity.notFound().build();
         }
-        // Add WEEKLY and BIWEEKLY logic as needed
 
-        return dates;
+        int limit = Math.max(1, Math.min(count, 200));
+        List<String> dates = recurrenceService
+                .nextOccurrences(schedule, from != null ? from : meetingGenerationService.today(), limit).stream()
+                .map(LocalDate::toString)
+                .toList();
+
+        return ResponseEntity.ok(Map.of(
+                "scheduleId", scheduleId,
+                "dates", dates));
     }
 
-    @SuppressWarnings("unchecked")
-    private void createDefaultRoleSlots(Meeting meeting) {
-        // Try to get roles from template's variable_mappings
-        Set<String> templateRoles = new HashSet<>();
-        Map<String, Integer> roleMaxIndex = new HashMap<>();
-
-        if (meeting.getTemplateId() != null) {
-            AgendaTemplate template = agendaTemplateRepository.findById(meeting.getTemplateId()).orElse(null);
-            if (template != null && template.getParsedStructure() != null) {
-                try {
-                    com.fasterxml.jackson.databind.ObjectMapper mapper = new com.fasterxml.jackson.databind.ObjectMapper();
-                    Map<String, Object> parsed = mapper.readValue(template.getParsedStructure(), Map.class);
-                    List<Map<String, Object>> variableMappings = (List<Map<String, Object>>) parsed
-                            .get("variable_mappings");
-
-                    if (variableMappings != null) {
-                        for (Map<String, Object> mapping : variableMappings) {
-                            String role = (String) mapping.get("role");
-                            if (role != null) {
-                                // Parse role name to get base role and index
-                                // e.g., SPEAKER_1 -> SPEAKER, 1
-                                // e.g., TME -> TME, 1
-                                String baseRole = extractBaseRole(role);
-                                int index = extractRoleIndex(role);
-
-                                if (baseRole != null) {
-                                    templateRoles.add(baseRole);
-                                    roleMaxIndex.merge(baseRole, index, Math::max);
-                                }
-                            }
-                        }
-                    }
-                } catch (Exception e) {
-                    System.err.println("Failed to parse template roles: " + e.getMessage());
-                }
-            }
+    /**
+     * List skipped / rescheduled occurrences of a schedule.
+     */
+    @GetMapping("/{scheduleId}/exceptions")
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<?> getExceptions(
+            @PathVariable Long clubId,
+            @PathVariable Long scheduleId,
+            @AuthenticationPrincipal UserDetails userDetails) {
+
+        Member currentMember = memberRepository.findByEmail(userDetails.getUsername())
+                .orElseThrow(() -> new IllegalArgumentException("Member not found"));
+
+        if (!isClubMember(currentMember, clubId)) {
+            return ResponseEntity.status(403).body(Map.of("error", "You are not a member of this club"));
         }
 
-        // Fallback to default roles if no template or parsing failed
-        if (templateRoles.isEmpty()) {
-            String[] staticRoles = { RoleSlot.TME, RoleSlot.TIMER, RoleSlot.AH_COUNTER,
-                    RoleSlot.VOTE_COUNTER, RoleSlot.GRAMMARIAN, RoleSlot.GE, RoleSlot.LE,
-                    RoleSlot.TT_MASTER, RoleSlot.SESSION_MASTER, RoleSlot.PHOTOGRAPHER };
-
-            for (String role : staticRoles) {
-                roleSlotRepository.save(new RoleSlot(meeting, role, 1));
-            }
-
-            int speakerCount = meeting.getSpeakerCount() != null ? meeting.getSpeakerCount() : 3;
-            for (int i = 1; i <= speakerCount; i++) {
-                roleSlotRepository.save(new RoleSlot(meeting, RoleSlot.SPEAKER, i));
-                roleSlotRepository.save(new RoleSlot(meeting, RoleSlot.EVALUATOR, i));
-            }
-        } else {
-            // Create role slots based on template
-            for (String baseRole : templateRoles) {
-                int maxIndex = roleMaxIndex.getOrDefault(baseRole, 1);
-
-                // For SPEAKER and EVALUATOR, create multiple slots
-                if (RoleSlot.SPEAKER.equals(baseRole) || RoleSlot.EVALUATOR.equals(baseRole)) {
-                    for (int i = 1; i <= maxIndex; i++) {
-                        roleSlotRepository.save(new RoleSlot(meeting, baseRole, i));
-                    }
-                } else {
-                    // For other roles, create single slot
-                    roleSlotRepository.save(new RoleSlot(meeting, baseRole, 1));
-                }
-            }
+        if (meetingScheduleRepository.findByIdAndClubId(scheduleId, clubId).isEmpty()) {
+            return ResponseEntity.notFound().build();
         }
+
+        List<Map<String, Object>> result = new ArrayList<>();
+        for (MeetingScheduleException exception : scheduleExceptionRepository
+                .findByScheduleIdOrderByExceptionDateAsc(scheduleId)) {
+            result.add(exceptionToMap(exception));
+        }
+        return ResponseEntity.ok(result);
     }
 
     /**
-     * Extract base role name from role string (e.g., SPEAKER_1 -> SPEAKER)
+     * Skip (e.g. holiday) or reschedule a single occurrence of a schedule.
      */
-    private String extractBaseRole(String role) {
-        if (role == null)
-            return null;
-        role = role.toUpperCase();
-
-        // Handle title/project suffixes - skip these
-        if (role.endsWith("_TITLE") || role.endsWith("_PROJECT") || role.contains("MEETING_INFO")
-                || role.contains("THEME") || role.contains("MEETING_DATE")) {
-            return null;
+    @PostMapping("/{scheduleId}/exceptions")
+    @PreAuthorize("hasAnyRole('CLUB_ADMIN', 'PLATFORM_ADMIN')")
+    public ResponseEntity<?> addException(
+            @PathVariable Long clubId,
+            @PathVariable Long scheduleId,
+            @RequestBody ScheduleExceptionRequest request,
+            @AuthenticationPrincipal UserDetails userDetails) {
+
+        Member currentMember = memberRepository.findByEmail(userDetails.getUsername())
+                .orElseThrow(() -> new IllegalArgumentException("Member not found"));
+
+        if (!isClubAdmin(currentMember, clubId)) {
+            return ResponseEntity.status(403).body(Map.of("error", "You are not an admin of this club"));
         }
 
-        // Handle indexed roles - remove the index first
-        String baseRole = role;
-        if (role.matches(".*_\\d+$")) {
-            baseRole = role.replaceAll("_\\d+$", "");
+        MeetingSchedule schedule = meetingScheduleRepository.findByIdAndClubId(scheduleId, clubId).orElse(null);
+        if (schedule == null) {
+            return ResponseEntity.notFound().build();
         }
 
-        // Map common role names
-        switch (baseRole) {
-            case "TME":
-            case "TOASTMASTER":
-                return RoleSlot.TME;
-            case "TIMER":
-                return RoleSlot.TIMER;
-            case "AH_COUNTER":
-            case "AHCOUNTER":
-                return RoleSlot.AH_COUNTER;
-            case "VOTE_COUNTER":
-            case "VOTECOUNTER":
-                return RoleSlot.VOTE_COUNTER;
-            case "GE":
-            case "GENERAL_EVALUATOR":
-                return RoleSlot.GE;
-            case "LE":
-            case "LANGUAGE_EVALUATOR":
-                return RoleSlot.LE;
-            case "TT_MASTER":
-            case "TABLE_TOPICS_MASTER":
-                return RoleSlot.TT_MASTER;
-            case "SESSION_MASTER":
-            case "VARIETY_MASTER":
-                return RoleSlot.SESSION_MASTER;
-            case "PHOTOGRAPHER":
-                return RoleSlot.PHOTOGRAPHER;
-            case "GRAMMARIAN":
-                return RoleSlot.GRAMMARIAN;
-            case "SPEAKER":
-                return RoleSlot.SPEAKER;
-            case "EVALUATOR":
-            case "INDIVIDUAL_EVALUATOR":
-                return RoleSlot.EVALUATOR;
-            default:
-                // Skip unknown roles
-                return null;
+        if (request.exceptionDate() == null) {
+            return ResponseEntity.badRequest().body(Map.of("error", "exceptionDate is required"));
+        }
+        String type = request.type() != null ? request.type().toUpperCase() : MeetingScheduleException.TYPE_SKIP;
+        if (!MeetingScheduleException.TYPE_SKIP.equals(type) && !MeetingScheduleException.TYPE_RESCHEDULE.equals(type)) {
+            return ResponseEntity.badRequest().body(Map.of("error", "type must be SKIP or RESCHEDULE"));
+        }
+        if (MeetingScheduleException.TYPE_RESCHEDULE.equals(type) && request.overrideDate() == null) {
+            return ResponseEntity.badRequest().body(Map.of("error", "overrideDate is required for RESCHEDULE"));
         }
+
+        MeetingScheduleException exception = scheduleExceptionRepository
+                .findByScheduleIdAndExceptionDate(scheduleId, request.exceptionDate())
+                .orElseGet(() -> new MeetingScheduleException(schedule, request.exceptionDate(), type));
+        exception.setType(type);
+        exception.setOverrideDate(MeetingScheduleException.TYPE_RESCHEDULE.equals(type) ? request.overrideDate() : null);
+        exception.setReason(request.reason());
+
+        MeetingScheduleException saved = scheduleExceptionRepository.save(exception);
+        return ResponseEntity.ok(exceptionToMap(saved));
     }
 
     /**
-     * Extract index from role string (e.g., SPEAKER_1 -> 1)
+     * Remove an exception so the occurrence follows the rule again.
      */
-    private int extractRoleIndex(String role) {
-        if (role == null)
-            return 1;
-        java.util.regex.Pattern pattern = java.util.regex.Pattern.compile("_(\\d+)$");
-        java.util.regex.Matcher matcher = pattern.matcher(role.toUpperCase());
-        if (matcher.find()) {
-            return Integer.parseInt(matcher.group(1));
+    @DeleteMapping("/{scheduleId}/exceptions/{exceptionId}")
+    @PreAuthorize("hasAnyRole('CLUB_ADMIN', 'PLATFORM_ADMIN')")
+    public ResponseEntity<?> deleteException(
+            @PathVariable Long clubId,
+            @PathVariable Long scheduleId,
+            @PathVariable Long exceptionId,
+            @AuthenticationPrincipal UserDetails userDetails) {
+
+        Member currentMember = memberRepository.findByEmail(userDetails.getUsername())
+                .orElseThrow(() -> new IllegalArgumentException("Member not found"));
+
+        if (!isClubAdmin(currentMember, clubId)) {
+            return ResponseEntity.status(403).body(Map.of("error", "You are not an admin of this club"));
+        }
+
+        if (meetingScheduleRepository.findByIdAndClubId(scheduleId, clubId).isEmpty()) {
+            return ResponseEntity.notFound().build();
+        }
+
+        MeetingScheduleException exception = scheduleExceptionRepository
+                .findByIdAndScheduleId(exceptionId, scheduleId).orElse(null);
+        if (exception == null) {
+            return ResponseEntity.notFound().build();
         }
-        return 1;
+
+        scheduleExceptionRepository.delete(exception);
+        return ResponseEntity.ok(Map.of("message", "Schedule exception deleted"));
+    }
+
+    // ==================== Helper Methods ====================
+
+    private boolean isClubAdmin(Member member, Long clubId) {
+        return "PLATFORM_ADMIN".equals(member.getRole()) ||
+                clubAdminRepository.existsByMemberIdAndClubId(member.getId(), clubId);
+    }
+
+    private boolean isClubMember(Member member, Long clubId) {
+        return isClubAdmin(member, clubId) ||
+                clubMembershipRepository.existsByMemberIdAndClubIdAndStatus(member.getId(), clubId, "APPROVED");
+    }
+
+    private Map<String, Object> scheduleToMap(MeetingSchedule schedule) {
+        Map<String, Object> map = new HashMap<>();
+        map.put("id", schedule.getId());
+        map.put("name", schedule.getName());
+        map.put("frequency", schedule.getFrequency());
+        map.put("dayOfWeek", schedule.getDayOfWeek());
+        map.put("weekOfMonth", schedule.getWeekOfMonth());
+        map.put("startDate", schedule.getStartDate());
+        map.put("startTime", schedule.getStartTime());
+        map.put("endTime", schedule.getEndTime());
+        map.put("defaultSpeakerCount", schedule.getDefaultSpeakerCount());
+        map.put("defaultLocation", schedule.getDefaultLocation());
+        map.put("autoGenerateMonths", schedule.getAutoGenerateMonths());
+        return map;
+    }
+
+    private Map<String, Object> exceptionToMap(MeetingScheduleException exception) {
+        Map<String, Object> map = new HashMap<>();
+        map.put("id", exception.getId());
+        map.put("exceptionDate", exception.getExceptionDate());
+        map.put("type", exception.getType());
+        map.put("overrideDate", exception.getOverrideDate());
+        map.put("reason", exception.getReason());
+        return map;
     }
 
     // ==================== Request DTOs ====================
@@ -447,10 +406,18 @@ public class MeetingScheduleController {
             String frequency,
             Integer dayOfWeek,
             int[] weekOfMonth,
+            LocalDate startDate,
             LocalTime startTime,
             LocalTime endTime,
             Integer defaultSpeakerCount,
             String defaultLocation,
             Integer autoGenerateMonths) {
     }
+
+    public record ScheduleExceptionRequest(
+            LocalDate exceptionDate,
+            String type,
+            LocalDate overrideDate,
+            String reason) {
+    }
 }
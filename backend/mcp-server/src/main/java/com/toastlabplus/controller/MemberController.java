@@ -26,18 +26,21 @@ public class MemberController {
     private final ClubAdminRepository clubAdminRepository;
     private final ClubMembershipRepository clubMembershipRepository;
     private final com.toastlabplus.repository.RoleSlotRepository roleSlotRepository;
+    private final com.toastlabplus.service.AvatarService avatarService;
     private com.toastlabplus.service.StorageService storageService;
 
     public MemberController(MemberRepository memberRepository,
             com.toastlabplus.repository.ClubRepository clubRepository,
             ClubAdminRepository clubAdminRepository,
             ClubMembershipRepository clubMembershipRepository,
-            com.toastlabplus.repository.RoleSlotRepository roleSlotRepository) {
+            com.toastlabplus.repository.RoleSlotRepository roleSlotRepository,
+            com.toastlabplus.service.AvatarService avatarService) {
         this.memberRepository = memberRepository;
         this.clubRepository = clubRepository;
         this.clubAdminRepository = clubAdminRepository;
         this.clubMembershipRepository = clubMembershipRepository;
         this.roleSlotRepository = roleSlotRepository;
+        this.avatarService = avatarService;
     }
 
     @org.springframework.beans.factory.annotation.Autowired(required = false)
@@ -69,12 +72,8 @@ public class MemberController {
         }
 
         try {
-            if (member.getAvatarUrl() != null) {
-                storageService.deleteFile(member.getAvatarUrl());
-            }
             String avatarUrl = storageService.uploadFile(file, "avatars");
-            member.setAvatarUrl(avatarUrl);
-            memberRepository.save(member);
+            avatarService.replaceAvatar(member, avatarUrl);
             return ResponseEntity.ok(java.util.Map.of("avatarUrl", avatarUrl));
         } catch (java.io.IOException e) {
             return ResponseEntity.internalServerError().body(java.util.Map.of(
@@ -82,6 +81,73 @@ public class MemberController {
         }
     }
 
+    /**
+     * Issue a short-lived signed URL to upload a new avatar directly to the
+     * bucket. Body: {@code contentType}, {@code size}. The client PUTs the
+     * image with the returned headers, then calls {@code /avatar/complete}.
+     */
+    @PostMapping("/{id}/avatar/upload-url")
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<?> createAvatarUploadUrl(
+            @PathVariable Long id,
+            @RequestBody java.util.Map<String, Object> requestBody,
+            @AuthenticationPrincipal UserDetails userDetails) {
+
+        Member member = memberRepository.findById(id)
+                .orElseThrow(() -> new IllegalArgumentException("Member not found"));
+
+        if (!member.getEmail().equals(userDetails.getUsername())) {
+            return ResponseEntity.status(403).body(java.util.Map.of("error", "Can only update your own avatar"));
+        }
+
+        String contentType = (String) requestBody.get("contentType");
+        long size = requestBody.get("size") instanceof Number n ? n.longValue() : -1;
+
+        try {
+            com.toastlabplus.service.SignedUpload upload = avatarService.createUpload(member, contentType, size);
+            return ResponseEntity.ok(java.util.Map.of(
+                    "uploadUrl", upload.url(),
+                    "method", upload.method(),
+                    "headers", upload.headers(),
+                    "objectName", upload.location().objectName(),
+                    "expiresAt", upload.expiresAt().toString()));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(java.util.Map.of("error", e.getMessage()));
+        } catch (UnsupportedOperationException e) {
+            return ResponseEntity.status(503).body(java.util.Map.of(
+                    "error", "Direct avatar upload is not available",
+                    "message", "Use POST /api/members/{id}/avatar instead."));
+        }
+    }
+
+    /**
+     * Attach an avatar uploaded through a signed URL. Body: {@code objectName}.
+     */
+    @PostMapping("/{id}/avatar/complete")
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<?> completeAvatarUpload(
+            @PathVariable Long id,
+            @RequestBody java.util.Map<String, String> requestBody,
+            @AuthenticationPrincipal UserDetails userDetails) {
+
+        Member member = memberRepository.findById(id)
+                .orElseThrow(() -> new IllegalArgumentException("Member not found"));
+
+        if (!member.getEmail().equals(userDetails.getUsername())) {
+            return ResponseEntity.status(403).body(java.util.Map.of("error", "Can only update your own avatar"));
+        }
+
+        try {
+            String avatarUrl = avatarService.completeUpload(member, requestBody.get("objectName"));
+            return ResponseEntity.ok(java.util.Map.of("avatarUrl", avatarUrl));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(java.util.Map.of("error", e.getMessage()));
+        } catch (java.io.IOException e) {
+            return ResponseEntity.internalServerError().body(java.util.Map.of(
+                    "error", "Failed to verify avatar", "message", e.getMessage()));
+        }
+    }
+
     /**
      * Assign a member as Club Admin for a specific club.
      * Only Platform Admin can perform this.
@@ -153,6 +219,7 @@ public class MemberController {
 
     /**
      * Get all members (for Platform Admin).
+     * Unpaged - prefer GET /api/admin/members/page for large member lists.
      */
     @GetMapping
     @PreAuthorize("isAuthenticated()")
@@ -222,8 +289,8 @@ public class MemberController {
             }
         }
 
-        List<MemberDto> members = clubMembershipRepository.findByClubId(clubId).stream()
-                .filter(m -> "APPROVED".equals(m.getStatus()))
+        List<MemberDto> members = clubMembershipRepository.findByClubIdAndStatusWithMember(clubId, "APPROVED")
+                .stream()
                 .map(m -> MemberDto.fromEntity(m.getMember()))
                 .collect(Collectors.toList());
         return ResponseEntity.ok(members);
@@ -246,7 +313,8 @@ public class MemberController {
             }
         }
 
-        List<MemberDto> members = clubMembershipRepository.findByClubIdAndStatus(clubId, "PENDING").stream()
+        List<MemberDto> members = clubMembershipRepository.findByClubIdAndStatusWithMember(clubId, "PENDING")
+                .stream()
                 .map(m -> MemberDto.fromEntity(m.getMember()))
                 .collect(Collectors.toList());
         return ResponseEntity.ok(members);
@@ -304,9 +372,7 @@ public class MemberController {
         });
 
         // 4. Delete avatar if exists
-        if (storageService != null && targetMember.getAvatarUrl() != null) {
-            storageService.deleteFile(targetMember.getAvatarUrl());
-        }
+        avatarService.deleteAvatars(targetMember);
 
         // 5. Delete the member
         memberRepository.delete(targetMember);
@@ -0,0 +1,71 @@
+package com.toastlabplus.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Base64;
+import java.util.List;
+
+/**
+ * One page of a keyset-paginated list. {@code nextCursor} is an opaque token
+ * to pass back as {@code cursor}; it is null on the last page.
+ */
+public record KeysetPage<T>(List<T> items, String nextCursor) {
+
+    public static final int DEFAULT_SIZE = 50;
+    public static final int MAX_SIZE = 200;
+
+    public static int clampSize(Integer size) {
+        if (size == null || size <= 0) {
+            return DEFAULT_SIZE;
+        }
+        return Math.min(size, MAX_SIZE);
+    }
+
+    // ==================== Cursor encoding ====================
+
+    /**
+     * Cursor for lists ordered by (date DESC, id DESC).
+     */
+    public record DateIdCursor(LocalDate date, long id) {
+
+        public String encode() {
+            return encodeToken(date + "|" + id);
+        }
+
+        public static DateIdCursor decode(String cursor) {
+            String[] parts = decodeToken(cursor).split("\\|");
+            try {
+                return new DateIdCursor(LocalDate.parse(parts[0]), Long.parseLong(parts[1]));
+            } catch (RuntimeException e) {
+                throw new IllegalArgumentException("Invalid cursor");
+            }
+        }
+    }
+
+    /**
+     * Cursor for lists ordered by id ASC.
+     */
+    public static String encodeId(long id) {
+        return encodeToken(Long.toString(id));
+    }
+
+    public static long decodeId(String cursor) {
+        try {
+            return Long.parseLong(decodeToken(cursor));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+    }
+
+    private static String encodeToken(String raw) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String decodeToken(String cursor) {
+        try {
+            return new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+    }
+}
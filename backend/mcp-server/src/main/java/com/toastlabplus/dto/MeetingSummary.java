@@ -0,0 +1,24 @@
+package com.toastlabplus.dto;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+/**
+ * Lightweight meeting row for list endpoints (no lazy associations).
+ */
+public record MeetingSummary(
+        Long id,
+        Long clubId,
+        String clubName,
+        String title,
+        String theme,
+        Integer meetingNumber,
+        LocalDate meetingDate,
+        LocalTime startTime,
+        LocalTime endTime,
+        String location,
+        String status,
+        Integer speakerCount,
+        Long templateId,
+        Long scheduleId) {
+}
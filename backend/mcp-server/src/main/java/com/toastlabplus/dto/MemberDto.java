@@ -11,6 +11,9 @@ public class MemberDto {
     private String email;
     private String role;
     private String avatarUrl;
+    // Pre-sized variants are always JPEG (no WebP output: the JDK has no WebP encoder)
+    private String avatarThumbUrl; // 128px, for lists
+    private String avatarMediumUrl; // 512px, for profiles
     private List<Long> adminClubIds = new ArrayList<>(); // Clubs user is admin of
     private List<Long> memberClubIds = new ArrayList<>(); // Clubs user has joined (APPROVED membership)
     private List<Long> pendingClubIds = new ArrayList<>(); // Clubs user has applied to (PENDING status)
@@ -39,6 +42,11 @@ public class MemberDto {
         dto.setEmail(member.getEmail());
         dto.setRole(member.getRole());
         dto.setAvatarUrl(member.getAvatarUrl());
+        // Fall back to the original until the variants are processed
+        dto.setAvatarThumbUrl(
+                member.getAvatarThumbUrl() != null ? member.getAvatarThumbUrl() : member.getAvatarUrl());
+        dto.setAvatarMediumUrl(
+                member.getAvatarMediumUrl() != null ? member.getAvatarMediumUrl() : member.getAvatarUrl());
         dto.setAdminClubIds(adminClubIds);
         dto.setMemberClubIds(memberClubIds);
         dto.setPendingClubIds(pendingClubIds);
@@ -86,6 +94,22 @@ public class MemberDto {
         this.avatarUrl = avatarUrl;
     }
 
+    public String getAvatarThumbUrl() {
+        return avatarThumbUrl;
+    }
+
+    public void setAvatarThumbUrl(String avatarThumbUrl) {
+        this.avatarThumbUrl = avatarThumbUrl;
+    }
+
+    public String getAvatarMediumUrl() {
+        return avatarMediumUrl;
+    }
+
+    public void setAvatarMediumUrl(String avatarMediumUrl) {
+        this.avatarMediumUrl = avatarMediumUrl;
+    }
+
     public List<Long> getAdminClubIds() {
         return adminClubIds;
     }
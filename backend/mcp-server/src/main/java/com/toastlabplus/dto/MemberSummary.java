@@ -0,0 +1,18 @@
+package com.toastlabplus.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * Lightweight member row for list endpoints. {@code avatarThumbUrl} is the
+ * 128px JPEG variant (WebP output was dropped), or the original until the
+ * variant exists.
+ */
+public record MemberSummary(
+        Long id,
+        String name,
+        String email,
+        String role,
+        String avatarUrl,
+        String avatarThumbUrl,
+        LocalDateTime createdAt) {
+}
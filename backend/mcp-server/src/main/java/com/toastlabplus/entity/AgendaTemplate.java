@@ -1,12 +1,19 @@
 package com.toastlabplus.entity;
 
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.toastlabplus.config.CacheRegions;
+import com.toastlabplus.service.CacheInvalidationEntityListener;
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.JdbcTypeCode;
 import org.hibernate.type.SqlTypes;
 import java.time.LocalDateTime;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.AGENDA_TEMPLATE)
+@EntityListeners(CacheInvalidationEntityListener.class)
 @Table(name = "agenda_template")
 public class AgendaTemplate {
 
@@ -35,6 +42,16 @@ public class AgendaTemplate {
     @Column(name = "parsed_structure", columnDefinition = "JSONB")
     private String parsedStructure;
 
+    // Async parse job state (see TemplateParseService)
+    @Column(name = "parse_status", length = 20)
+    private String parseStatus; // PENDING, RUNNING, DONE, FAILED
+
+    @Column(name = "parse_error", length = 500)
+    private String parseError;
+
+    @Column(name = "content_hash", length = 64)
+    private String contentHash;
+
     @Column
     private Integer version = 1;
 
@@ -52,6 +69,12 @@ public class AgendaTemplate {
     @JsonIgnoreProperties({ "hibernateLazyInitializer", "handler" })
     private Member createdBy;
 
+    // Parse status constants
+    public static final String PARSE_PENDING = "PENDING";
+    public static final String PARSE_RUNNING = "RUNNING";
+    public static final String PARSE_DONE = "DONE";
+    public static final String PARSE_FAILED = "FAILED";
+
     // Constructors
     public AgendaTemplate() {
     }
@@ -157,4 +180,32 @@ public class AgendaTemplate {
     public void setCreatedBy(Member createdBy) {
         this.createdBy = createdBy;
     }
+
+    public String getParseStatus() {
+        return parseStatus;
+    }
+
+    public void setParseStatus(String parseStatus) {
+        this.parseStatus = parseStatus;
+    }
+
+    public String getParseError() {
+        return parseError;
+    }
+
+    public void setParseError(String parseError) {
+        this.parseError = parseError;
+    }
+
+    public String getContentHash() {
+        return contentHash;
+    }
+
+    public void setContentHash(String contentHash) {
+        this.contentHash = contentHash;
+    }
+
+    public boolean isParseInProgress() {
+        return PARSE_PENDING.equals(parseStatus) || PARSE_RUNNING.equals(parseStatus);
+    }
 }
@@ -1,10 +1,17 @@
 package com.toastlabplus.entity;
 
+import com.toastlabplus.config.CacheRegions;
+import com.toastlabplus.service.CacheInvalidationEntityListener;
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.CLUB)
+@EntityListeners(CacheInvalidationEntityListener.class)
 @Table(name = "club")
 public class Club {
 
@@ -1,10 +1,17 @@
 package com.toastlabplus.entity;
 
+import com.toastlabplus.config.CacheRegions;
+import com.toastlabplus.service.CacheInvalidationEntityListener;
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.CLUB_OFFICER)
+@EntityListeners(CacheInvalidationEntityListener.class)
 @Table(name = "club_officer")
 public class ClubOfficer {
 
@@ -1,11 +1,19 @@
 package com.toastlabplus.entity;
 
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.toastlabplus.config.CacheRegions;
+import com.toastlabplus.service.CacheInvalidationEntityListener;
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.MEETING_SCHEDULE)
+@EntityListeners(CacheInvalidationEntityListener.class)
 @Table(name = "meeting_schedule")
 public class MeetingSchedule {
 
@@ -29,7 +37,10 @@ public class MeetingSchedule {
     private Integer dayOfWeek; // 1-7 (Monday-Sunday)
 
     @Column(name = "week_of_month", columnDefinition = "INT[]")
-    private int[] weekOfMonth; // [1, 3] = 1st and 3rd week
+    private int[] weekOfMonth; // [1, 3] = 1st and 3rd week, -1 = last week
+
+    @Column(name = "start_date")
+    private LocalDate startDate; // BIWEEKLY anchor; no occurrences before this date
 
     // Time settings
     @Column(name = "start_time", nullable = false)
@@ -124,6 +135,14 @@ public class MeetingSchedule {
         this.weekOfMonth = weekOfMonth;
     }
 
+    public LocalDate getStartDate() {
+        return startDate;
+    }
+
+    public void setStartDate(LocalDate startDate) {
+        this.startDate = startDate;
+    }
+
     public LocalTime getStartTime() {
         return startTime;
     }
@@ -0,0 +1,114 @@
+package com.toastlabplus.entity;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import jakarta.persistence.*;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * A single occurrence of a {@link MeetingSchedule} that is skipped (holiday)
+ * or moved to another date.
+ */
+@Entity
+@Table(name = "meeting_schedule_exception")
+public class MeetingScheduleException {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "schedule_id", nullable = false)
+    @JsonIgnoreProperties({ "hibernateLazyInitializer", "handler" })
+    private MeetingSchedule schedule;
+
+    @Column(name = "exception_date", nullable = false)
+    private LocalDate exceptionDate;
+
+    @Column(nullable = false, length = 20)
+    private String type = TYPE_SKIP; // SKIP, RESCHEDULE
+
+    @Column(name = "override_date")
+    private LocalDate overrideDate;
+
+    @Column(length = 200)
+    private String reason;
+
+    @Column(name = "created_at")
+    private LocalDateTime createdAt = LocalDateTime.now();
+
+    // Type constants
+    public static final String TYPE_SKIP = "SKIP";
+    public static final String TYPE_RESCHEDULE = "RESCHEDULE";
+
+    // Constructors
+    public MeetingScheduleException() {
+    }
+
+    public MeetingScheduleException(MeetingSchedule schedule, LocalDate exceptionDate, String type) {
+        this.schedule = schedule;
+        this.exceptionDate = exceptionDate;
+        this.type = type;
+    }
+
+    public boolean isReschedule() {
+        return TYPE_RESCHEDULE.equals(type) && overrideDate != null;
+    }
+
+    // Getters and Setters
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public MeetingSchedule getSchedule() {
+        return schedule;
+    }
+
+    public void setSchedule(MeetingSchedule schedule) {
+        this.schedule = schedule;
+    }
+
+    public LocalDate getExceptionDate() {
+        return exceptionDate;
+    }
+
+    public void setExceptionDate(LocalDate exceptionDate) {
+        this.exceptionDate = exceptionDate;
+    }
+
+    public String getType() {
+        return type;
+    }
+
+    public void setType(String type) {
+        this.type = type;
+    }
+
+    public LocalDate getOverrideDate() {
+        return overrideDate;
+    }
+
+    public void setOverrideDate(LocalDate overrideDate) {
+        this.overrideDate = overrideDate;
+    }
+
+    public String getReason() {
+        return reason;
+    }
+
+    public void setReason(String reason) {
+        this.reason = reason;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+}
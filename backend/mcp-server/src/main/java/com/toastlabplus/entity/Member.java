@@ -46,6 +46,13 @@ public class Member {
     @Column(name = "avatar_url", length = 500)
     private String avatarUrl;
 
+    // Resized variants of avatarUrl (null until processed)
+    @Column(name = "avatar_thumb_url", length = 500)
+    private String avatarThumbUrl;
+
+    @Column(name = "avatar_medium_url", length = 500)
+    private String avatarMediumUrl;
+
     // Firebase Auth fields for social login
     @Column(name = "auth_provider", length = 20)
     private String authProvider = "LOCAL";
@@ -154,6 +161,22 @@ public class Member {
         this.avatarUrl = avatarUrl;
     }
 
+    public String getAvatarThumbUrl() {
+        return avatarThumbUrl;
+    }
+
+    public void setAvatarThumbUrl(String avatarThumbUrl) {
+        this.avatarThumbUrl = avatarThumbUrl;
+    }
+
+    public String getAvatarMediumUrl() {
+        return avatarMediumUrl;
+    }
+
+    public void setAvatarMediumUrl(String avatarMediumUrl) {
+        this.avatarMediumUrl = avatarMediumUrl;
+    }
+
     public String getAuthProvider() {
         return authProvider;
     }
@@ -0,0 +1,93 @@
+package com.toastlabplus.entity;
+
+import jakarta.persistence.*;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+import java.time.LocalDateTime;
+
+/**
+ * Parser output for one distinct template layout, keyed by the SHA-256 of
+ * the extracted sheet content. Clubs uploading the same official template
+ * share a single parse.
+ */
+@Entity
+@Table(name = "template_parse_result")
+public class TemplateParseResult {
+
+    @Id
+    @Column(name = "content_hash", length = 64)
+    private String contentHash;
+
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(name = "parsed_structure", columnDefinition = "JSONB", nullable = false)
+    private String parsedStructure;
+
+    // TemplateLayout.encode() of the sheet, matched against new uploads
+    @Column(name = "layout_fingerprint", columnDefinition = "TEXT")
+    private String layoutFingerprint;
+
+    // Parser result these mappings were adapted from, null for parser output
+    @Column(name = "derived_from", length = 64)
+    private String derivedFrom;
+
+    @Column(name = "created_at")
+    private LocalDateTime createdAt = LocalDateTime.now();
+
+    // Constructors
+    public TemplateParseResult() {
+    }
+
+    public TemplateParseResult(String contentHash, String parsedStructure) {
+        this.contentHash = contentHash;
+        this.parsedStructure = parsedStructure;
+    }
+
+    public TemplateParseResult(String contentHash, String parsedStructure, String layoutFingerprint,
+            String derivedFrom) {
+        this.contentHash = contentHash;
+        this.parsedStructure = parsedStructure;
+        this.layoutFingerprint = layoutFingerprint;
+        this.derivedFrom = derivedFrom;
+    }
+
+    // Getters and Setters
+    public String getContentHash() {
+        return contentHash;
+    }
+
+    public void setContentHash(String contentHash) {
+        this.contentHash = contentHash;
+    }
+
+    public String getParsedStructure() {
+        return parsedStructure;
+    }
+
+    public void setParsedStructure(String parsedStructure) {
+        this.parsedStructure = parsedStructure;
+    }
+
+    public String getLayoutFingerprint() {
+        return layoutFingerprint;
+    }
+
+    public void setLayoutFingerprint(String layoutFingerprint) {
+        this.layoutFingerprint = layoutFingerprint;
+    }
+
+    public String getDerivedFrom() {
+        return derivedFrom;
+    }
+
+    public void setDerivedFrom(String derivedFrom) {
+        this.derivedFrom = derivedFrom;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+}
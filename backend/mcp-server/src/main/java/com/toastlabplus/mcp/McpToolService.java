@@ -1,21 +1,26 @@
 package com.toastlabplus.mcp;
 
+import com.toastlabplus.entity.AgendaTemplate;
 import com.toastlabplus.entity.Club;
 import com.toastlabplus.entity.ClubMembership;
 import com.toastlabplus.entity.ClubOfficer;
 import com.toastlabplus.entity.Meeting;
 import com.toastlabplus.entity.Member;
 import com.toastlabplus.entity.RoleSlot;
+import com.toastlabplus.repository.AgendaTemplateRepository;
 import com.toastlabplus.repository.ClubMembershipRepository;
 import com.toastlabplus.repository.ClubOfficerRepository;
 import com.toastlabplus.repository.ClubRepository;
 import com.toastlabplus.repository.MeetingRepository;
 import com.toastlabplus.repository.MemberRepository;
 import com.toastlabplus.repository.RoleSlotRepository;
+import com.toastlabplus.service.CompiledTemplate;
 import com.toastlabplus.service.TavilyService;
+import com.toastlabplus.service.TemplateStructureService;
 import org.springframework.ai.tool.annotation.Tool;
 import org.springframework.ai.tool.annotation.ToolParam;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -39,6 +44,8 @@ public class McpToolService {
     private final ClubMembershipRepository clubMembershipRepository;
     private final ClubOfficerRepository clubOfficerRepository;
     private final TavilyService tavilyService;
+    private final AgendaTemplateRepository agendaTemplateRepository;
+    private final TemplateStructureService templateStructureService;
 
     public McpToolService(ClubRepository clubRepository,
             MeetingRepository meetingRepository,
@@ -46,7 +53,9 @@ public class McpToolService {
             RoleSlotRepository roleSlotRepository,
             ClubMembershipRepository clubMembershipRepository,
             ClubOfficerRepository clubOfficerRepository,
-            TavilyService tavilyService) {
+            TavilyService tavilyService,
+            AgendaTemplateRepository agendaTemplateRepository,
+            TemplateStructureService templateStructureService) {
         this.clubRepository = clubRepository;
         this.meetingRepository = meetingRepository;
         this.memberRepository = memberRepository;
@@ -54,6 +63,8 @@ public class McpToolService {
         this.clubMembershipRepository = clubMembershipRepository;
         this.clubOfficerRepository = clubOfficerRepository;
         this.tavilyService = tavilyService;
+        this.agendaTemplateRepository = agendaTemplateRepository;
+        this.templateStructureService = templateStructureService;
     }
 
     // ==================== EXISTING TOOLS ====================
@@ -164,6 +175,7 @@ public class McpToolService {
     /**
      * Sign up a member for a role in a meeting.
      */
+    @Transactional // read-modify-write: keep the lookup on the primary
     @Tool(name = "signup_role", description = "[Sign Up Role] Sign up a member for a specific role in a meeting.")
     public Map<String, Object> signupRole(
             @ToolParam(description = "Meeting ID", required = true) Long meetingId,
@@ -328,6 +340,7 @@ public class McpToolService {
     /**
      * Cancel a role signup.
      */
+    @Transactional // read-modify-write: keep the lookup on the primary
     @Tool(name = "cancel_role_signup", description = "[Cancel Role Signup] Cancel a member's role signup for a meeting.")
     public Map<String, Object> cancelRoleSignup(
             @ToolParam(description = "Role slot ID", required = true) Long roleSlotId,
@@ -399,6 +412,9 @@ public class McpToolService {
             map.put("memberId", m.getMember().getId());
             map.put("name", m.getMember().getName());
             map.put("email", m.getMember().getEmail());
+            map.put("avatarUrl", m.getMember().getAvatarThumbUrl() != null
+                    ? m.getMember().getAvatarThumbUrl()
+                    : m.getMember().getAvatarUrl());
             map.put("joinedAt", m.getApprovedAt() != null ? m.getApprovedAt().toString() : null);
             result.add(map);
         }
@@ -515,6 +531,32 @@ public class McpToolService {
         return result;
     }
 
+    /**
+     * Get a club's agenda templates and the roles each one lays out.
+     */
+    @Tool(name = "get_agenda_templates", description = "[Get Agenda Templates] List a club's active agenda templates with the roles and number of speakers each template has room for.")
+    public List<Map<String, Object>> getAgendaTemplates(
+            @ToolParam(description = "Club ID", required = true) Long clubId) {
+
+        List<Map<String, Object>> result = new ArrayList<>();
+
+        for (AgendaTemplate template : agendaTemplateRepository.findByClubIdAndIsActiveTrue(clubId)) {
+            Map<String, Object> map = new HashMap<>();
+            map.put("templateId", template.getId());
+            map.put("name", template.getName());
+            map.put("description", template.getDescription());
+            map.put("parseStatus", template.getParseStatus());
+
+            Optional<CompiledTemplate> compiled = templateStructureService.compiled(template);
+            map.put("isParsed", compiled.isPresent());
+            map.put("roles", compiled.map(CompiledTemplate::roles).orElse(Map.of()));
+            map.put("speakerCount", compiled.map(CompiledTemplate::speakerCount).orElse(null));
+            result.add(map);
+        }
+
+        return result;
+    }
+
     // ==================== NEW STATISTICS TOOLS ====================
 
     /**
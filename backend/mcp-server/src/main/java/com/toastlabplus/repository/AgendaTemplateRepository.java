@@ -1,7 +1,11 @@
 package com.toastlabplus.repository;
 
+import com.toastlabplus.config.CacheRegions;
 import com.toastlabplus.entity.AgendaTemplate;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -12,6 +16,8 @@ public interface AgendaTemplateRepository extends JpaRepository<AgendaTemplate,
 
     List<AgendaTemplate> findByClubId(Long clubId);
 
+    @QueryHints({ @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = CacheRegions.REFERENCE_QUERIES) })
     List<AgendaTemplate> findByClubIdAndIsActiveTrue(Long clubId);
 
     Optional<AgendaTemplate> findByIdAndClubId(Long id, Long clubId);
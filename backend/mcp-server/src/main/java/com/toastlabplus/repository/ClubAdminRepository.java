@@ -2,6 +2,8 @@ package com.toastlabplus.repository;
 
 import com.toastlabplus.entity.ClubAdmin;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -16,6 +18,10 @@ public interface ClubAdminRepository extends JpaRepository<ClubAdmin, Long> {
     // Find all admins of a club
     List<ClubAdmin> findByClubId(Long clubId);
 
+    // Find all admins of a club with member details (avoid N+1)
+    @Query("SELECT ca FROM ClubAdmin ca JOIN FETCH ca.member WHERE ca.club.id = :clubId")
+    List<ClubAdmin> findByClubIdWithMember(@Param("clubId") Long clubId);
+
     // Check if a member is admin of a specific club
     boolean existsByMemberIdAndClubId(Long memberId, Long clubId);
 
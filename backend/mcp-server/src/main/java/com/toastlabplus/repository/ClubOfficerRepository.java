@@ -1,8 +1,12 @@
 package com.toastlabplus.repository;
 
+import com.toastlabplus.config.CacheRegions;
 import com.toastlabplus.entity.ClubOfficer;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
@@ -15,6 +19,8 @@ public interface ClubOfficerRepository extends JpaRepository<ClubOfficer, Long>
     /**
      * Find all active officers for a club
      */
+    @QueryHints({ @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = CacheRegions.REFERENCE_QUERIES) })
     List<ClubOfficer> findByClubIdAndIsActiveTrue(Long clubId);
 
     /**
@@ -38,7 +44,9 @@ public interface ClubOfficerRepository extends JpaRepository<ClubOfficer, Long>
     boolean existsByClubIdAndPositionAndIsActiveTrue(Long clubId, String position);
 
     /**
-     * Find all officers with member details (to avoid N+1 queries)
+     * Find all officers with member details (to avoid N+1 queries).
+     * Not query-cached: Member is not a cached entity, so a cache hit would
+     * load every officer's member with its own query.
      */
     @Query("SELECT o FROM ClubOfficer o LEFT JOIN FETCH o.member WHERE o.club.id = :clubId AND o.isActive = true")
     List<ClubOfficer> findByClubIdWithMember(@Param("clubId") Long clubId);
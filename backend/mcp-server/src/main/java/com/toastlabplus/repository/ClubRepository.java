@@ -1,13 +1,19 @@
 package com.toastlabplus.repository;
 
+import com.toastlabplus.config.CacheRegions;
 import com.toastlabplus.entity.Club;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
 
 @Repository
 public interface ClubRepository extends JpaRepository<Club, Long> {
+    @QueryHints({ @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = CacheRegions.REFERENCE_QUERIES) })
     List<Club> findByIsActiveTrue();
     List<Club> findByNameContainingIgnoreCase(String name);
 }
@@ -1,6 +1,8 @@
 package com.toastlabplus.repository;
 
+import com.toastlabplus.dto.MeetingSummary;
 import com.toastlabplus.entity.Meeting;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -36,6 +38,32 @@ public interface MeetingRepository extends JpaRepository<Meeting, Long> {
 
     boolean existsByClubIdAndMeetingDate(Long clubId, LocalDate meetingDate);
 
+    // Existing meeting dates of a club in [from, to) - used for idempotent generation
+    @Query("SELECT m.meetingDate FROM Meeting m WHERE m.club.id = :clubId AND m.meetingDate >= :from AND m.meetingDate < :to")
+    List<LocalDate> findMeetingDatesByClubIdInRange(@Param("clubId") Long clubId, @Param("from") LocalDate from,
+            @Param("to") LocalDate to);
+
+    // ==================== Keyset pages (meetingDate DESC, id DESC) ====================
+
+    String SUMMARY_SELECT = "SELECT new com.toastlabplus.dto.MeetingSummary(m.id, c.id, c.name, m.title, m.theme, "
+            + "m.meetingNumber, m.meetingDate, m.startTime, m.endTime, m.location, m.status, m.speakerCount, "
+            + "m.templateId, s.id) FROM Meeting m JOIN m.club c LEFT JOIN m.schedule s ";
+
+    String KEYSET_FILTER = "m.meetingDate >= :from AND m.meetingDate <= :to "
+            + "AND (:status IS NULL OR m.status = :status) "
+            + "AND (m.meetingDate < :afterDate OR (m.meetingDate = :afterDate AND m.id < :afterId)) "
+            + "ORDER BY m.meetingDate DESC, m.id DESC";
+
+    @Query(SUMMARY_SELECT + "WHERE " + KEYSET_FILTER)
+    List<MeetingSummary> findSummaryPage(@Param("from") LocalDate from, @Param("to") LocalDate to,
+            @Param("status") String status, @Param("afterDate") LocalDate afterDate,
+            @Param("afterId") Long afterId, Pageable pageable);
+
+    @Query(SUMMARY_SELECT + "WHERE c.id IN :clubIds AND " + KEYSET_FILTER)
+    List<MeetingSummary> findSummaryPageByClubIds(@Param("clubIds") List<Long> clubIds,
+            @Param("from") LocalDate from, @Param("to") LocalDate to, @Param("status") String status,
+            @Param("afterDate") LocalDate afterDate, @Param("afterId") Long afterId, Pageable pageable);
+
     @Query("SELECT MAX(m.meetingNumber) FROM Meeting m WHERE m.club.id = :clubId")
     Optional<Integer> findMaxMeetingNumberByClubId(@Param("clubId") Long clubId);
 }
@@ -0,0 +1,19 @@
+package com.toastlabplus.repository;
+
+import com.toastlabplus.entity.MeetingScheduleException;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface MeetingScheduleExceptionRepository extends JpaRepository<MeetingScheduleException, Long> {
+
+    List<MeetingScheduleException> findByScheduleIdOrderByExceptionDateAsc(Long scheduleId);
+
+    Optional<MeetingScheduleException> findByScheduleIdAndExceptionDate(Long scheduleId, LocalDate exceptionDate);
+
+    Optional<MeetingScheduleException> findByIdAndScheduleId(Long id, Long scheduleId);
+}
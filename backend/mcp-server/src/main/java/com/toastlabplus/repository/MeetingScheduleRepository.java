@@ -1,7 +1,12 @@
 package com.toastlabplus.repository;
 
+import com.toastlabplus.config.CacheRegions;
 import com.toastlabplus.entity.MeetingSchedule;
+import org.springframework.data.domain.Limit;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -12,9 +17,16 @@ public interface MeetingScheduleRepository extends JpaRepository<MeetingSchedule
 
     List<MeetingSchedule> findByClubId(Long clubId);
 
+    @QueryHints({ @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = CacheRegions.REFERENCE_QUERIES) })
     List<MeetingSchedule> findByClubIdAndIsActiveTrue(Long clubId);
 
     Optional<MeetingSchedule> findByIdAndClubId(Long id, Long clubId);
 
+    @QueryHints({ @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = CacheRegions.REFERENCE_QUERIES) })
     List<MeetingSchedule> findByIsActiveTrue();
+
+    // Keyset batches of active schedules for background generation
+    List<MeetingSchedule> findByIsActiveTrueAndIdGreaterThanOrderByIdAsc(Long afterId, Limit limit);
 }
@@ -1,9 +1,17 @@
 package com.toastlabplus.repository;
 
+import com.toastlabplus.dto.MemberSummary;
 import com.toastlabplus.entity.Member;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+import java.util.Locale;
 import java.util.Optional;
 
 @Repository
@@ -13,4 +21,38 @@ public interface MemberRepository extends JpaRepository<Member, Long> {
     boolean existsByEmail(String email);
 
     Optional<Member> findByFirebaseUid(String firebaseUid);
+
+    // Keyset page ordered by id; search matches name or email (lowercase LIKE
+    // pattern, build it with containsPattern)
+    @Query("SELECT new com.toastlabplus.dto.MemberSummary(m.id, m.name, m.email, m.role, m.avatarUrl, "
+            + "COALESCE(m.avatarThumbUrl, m.avatarUrl), m.createdAt) "
+            + "FROM Member m WHERE m.id > :afterId "
+            + "AND (:role IS NULL OR m.role = :role) "
+            + "AND (LOWER(m.name) LIKE :pattern ESCAPE '\\' OR LOWER(m.email) LIKE :pattern ESCAPE '\\') "
+            + "ORDER BY m.id ASC")
+    List<MemberSummary> findSummaryPage(@Param("afterId") Long afterId, @Param("role") String role,
+            @Param("pattern") String pattern, Pageable pageable);
+
+    /**
+     * Lowercase "contains" LIKE pattern for {@code term} with {@code %},
+     * {@code _} and the escape character itself escaped; "%" for a blank term.
+     */
+    static String containsPattern(String term) {
+        if (term == null || term.isBlank()) {
+            return "%";
+        }
+        String escaped = term.trim().toLowerCase(Locale.ROOT)
+                .replace("\\", "\\\\")
+                .replace("%", "\\%")
+                .replace("_", "\\_");
+        return "%" + escaped + "%";
+    }
+
+    // Only applies if the avatar was not replaced while the variants were built
+    @Modifying
+    @Transactional
+    @Query("UPDATE Member m SET m.avatarThumbUrl = :thumbUrl, m.avatarMediumUrl = :mediumUrl "
+            + "WHERE m.id = :id AND m.avatarUrl = :avatarUrl")
+    int updateAvatarVariants(@Param("id") Long id, @Param("avatarUrl") String avatarUrl,
+            @Param("thumbUrl") String thumbUrl, @Param("mediumUrl") String mediumUrl);
 }
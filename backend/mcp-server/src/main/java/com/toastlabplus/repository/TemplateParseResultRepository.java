@@ -0,0 +1,14 @@
+package com.toastlabplus.repository;
+
+import com.toastlabplus.entity.TemplateParseResult;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface TemplateParseResultRepository extends JpaRepository<TemplateParseResult, String> {
+
+    // Layout library: parser output only, adapted results would compound drift
+    List<TemplateParseResult> findByLayoutFingerprintIsNotNullAndDerivedFromIsNull();
+}
@@ -0,0 +1,120 @@
+package com.toastlabplus.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * PostgreSQL advisory locks for cluster-wide coordination between Cloud Run
+ * instances.
+ */
+@Service
+public class AdvisoryLockService {
+
+    private static final Logger log = LoggerFactory.getLogger(AdvisoryLockService.class);
+
+    // Namespaces for transaction-scoped locks; the namespace fills the top 16
+    // bits of the bigint key and the id the low 48 bits
+    public static final int NS_CLUB_MEETINGS = 1001;
+
+    private static final int ID_BITS = 48;
+    private static final long MAX_ID = (1L << ID_BITS) - 1;
+
+    // Session-scoped leader locks (single bigint key, below 2^48 so they never
+    // collide with a namespaced key)
+    public static final long LOCK_MEETING_GENERATOR = 7_310_001L;
+    public static final long LOCK_MAINTENANCE_TASKS = 7_310_002L;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${spring.datasource.url}")
+    private String url;
+
+    @Value("${spring.datasource.username:}")
+    private String username;
+
+    @Value("${spring.datasource.password:}")
+    private String password;
+
+    public AdvisoryLockService(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Run {@code task} only if this instance wins the session advisory lock.
+     * The lock is held for the duration of the task on a dedicated connection
+     * opened outside the Hikari pool, so the task keeps the whole pool, and
+     * released afterwards (or when the connection dies).
+     *
+     * @return true if the task ran, false if another instance holds the lock
+     */
+    public boolean runIfLeader(long lockKey, Runnable task) {
+        try (Connection connection = DriverManager.getConnection(url, username, password)) {
+            if (!tryLock(connection, lockKey)) {
+                return false;
+            }
+            try {
+                task.run();
+                return true;
+            } finally {
+                unlock(connection, lockKey);
+            }
+        } catch (SQLException e) {
+            throw new IllegalStateException("Advisory lock " + lockKey + " failed: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Block until the transaction-scoped lock (namespace, id) is acquired. It is
+     * released automatically on commit/rollback. Must be called inside a
+     * transaction.
+     */
+    public void lockForTransaction(int namespace, long id) {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            throw new IllegalStateException("lockForTransaction requires an active transaction");
+        }
+        jdbcTemplate.query("SELECT pg_advisory_xact_lock(?)", rs -> null, lockKey(namespace, id));
+    }
+
+    /**
+     * Single bigint key for (namespace, id). Distinct pairs always map to
+     * distinct keys; ids must fit in 48 bits.
+     */
+    static long lockKey(int namespace, long id) {
+        if (namespace <= 0 || namespace > Short.MAX_VALUE) {
+            throw new IllegalArgumentException("Lock namespace out of range: " + namespace);
+        }
+        if (id < 0 || id > MAX_ID) {
+            throw new IllegalArgumentException("Lock id out of range: " + id);
+        }
+        return ((long) namespace << ID_BITS) | id;
+    }
+
+    private boolean tryLock(Connection connection, long lockKey) throws SQLException {
+        try (PreparedStatement ps = connection.prepareStatement("SELECT pg_try_advisory_lock(?)")) {
+            ps.setLong(1, lockKey);
+            try (ResultSet rs = ps.executeQuery()) {
+                return rs.next() && rs.getBoolean(1);
+            }
+        }
+    }
+
+    private void unlock(Connection connection, long lockKey) {
+        try (PreparedStatement ps = connection.prepareStatement("SELECT pg_advisory_unlock(?)")) {
+            ps.setLong(1, lockKey);
+            ps.execute();
+        } catch (SQLException e) {
+            // Connection-level failure also drops the lock server-side
+            log.warn("Failed to release advisory lock {}: {}", lockKey, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,241 @@
+package com.toastlabplus.service;
+
+import com.toastlabplus.repository.MemberRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.MemoryCacheImageOutputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.Rectangle;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Builds the pre-sized avatar variants (128px thumb for lists, 512px for
+ * profiles) after an upload.
+ *
+ * The original is decoded once, already center-cropped to a square and
+ * subsampled to about {@value #DECODE_SIZE}px, then scaled down for each
+ * size; a 40 MP photo costs about 16 MB of heap, not 160 MB. Variants are
+ * JPEG, named by their content hash and stored with an immutable
+ * Cache-Control, so clients and CDNs can cache them forever. Decoding runs
+ * on a small bounded pool of platform threads - never on request threads;
+ * when the queue is full the job is dropped and the member keeps the
+ * original image.
+ */
+@Service
+public class AvatarImageProcessor {
+
+    private static final Logger log = LoggerFactory.getLogger(AvatarImageProcessor.class);
+
+    public static final int THUMB_SIZE = 128;
+    public static final int MEDIUM_SIZE = 512;
+
+    private static final String CACHE_CONTROL = "public, max-age=31536000, immutable";
+    private static final float JPEG_QUALITY = 0.85f;
+    // Refuse images with more source pixels than a phone camera produces
+    private static final long MAX_PIXELS = 40_000_000L;
+    // Decode at no less than twice the largest variant
+    private static final int DECODE_SIZE = 2 * MEDIUM_SIZE;
+
+    private final StorageService storageService;
+    private final MemberRepository memberRepository;
+    private final MeterRegistry meterRegistry;
+    private final ThreadPoolExecutor executor;
+
+    public AvatarImageProcessor(StorageService storageService,
+            MemberRepository memberRepository,
+            MeterRegistry meterRegistry,
+            @Value("${app.avatar.workers:2}") int workers,
+            @Value("${app.avatar.queue-capacity:100}") int queueCapacity) {
+        this.storageService = storageService;
+        this.memberRepository = memberRepository;
+        this.meterRegistry = meterRegistry;
+        this.executor = new ThreadPoolExecutor(workers, workers, 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                Thread.ofPlatform().name("avatar-", 0).daemon(true).factory(),
+                new ThreadPoolExecutor.AbortPolicy());
+        this.executor.allowCoreThreadTimeOut(true);
+        meterRegistry.gauge("avatar.processing.queue", executor, e -> e.getQueue().size());
+    }
+
+    /**
+     * Queue variant generation for the member's current avatar.
+     */
+    public void submit(Long memberId, String avatarUrl) {
+        if (StorageLocation.tryParse(avatarUrl).isEmpty()) {
+            return; // hosted elsewhere (e.g. Google profile photo)
+        }
+        try {
+            executor.execute(() -> process(memberId, avatarUrl));
+        } catch (RejectedExecutionException e) {
+            meterRegistry.counter("avatar.processing", "outcome", "rejected").increment();
+            log.warn("Avatar processing queue full, member {} keeps the original image", memberId);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private void process(Long memberId, String avatarUrl) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "completed";
+        List<StorageLocation> stored = new ArrayList<>();
+        try {
+            StorageLocation original = StorageLocation.parse(avatarUrl);
+            BufferedImage image = decode(original);
+            if (image == null) {
+                outcome = "unsupported";
+                log.warn("Avatar {} of member {} could not be decoded", avatarUrl, memberId);
+                return;
+            }
+
+            String thumbUrl = storeVariant(original.bucket(), memberId, image, THUMB_SIZE, stored);
+            String mediumUrl = storeVariant(original.bucket(), memberId, image, MEDIUM_SIZE, stored);
+
+            if (memberRepository.updateAvatarVariants(memberId, avatarUrl, thumbUrl, mediumUrl) == 0) {
+                // Avatar was replaced meanwhile; its own job produces the right variants
+                outcome = "superseded";
+                stored.forEach(location -> storageService.deleteFile(location.toUri()));
+            }
+        } catch (Exception e) {
+            outcome = "failed";
+            log.warn("Avatar processing failed for member {}: {}", memberId, e.getMessage());
+        } finally {
+            sample.stop(meterRegistry.timer("avatar.processing", "outcome", outcome));
+        }
+    }
+
+    private BufferedImage decode(StorageLocation original) throws IOException {
+        try (InputStream in = storageService.openStream(original);
+                ImageInputStream imageIn = ImageIO.createImageInputStream(in)) {
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(imageIn);
+            if (!readers.hasNext()) {
+                return null;
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(imageIn, true, true);
+                int width = reader.getWidth(0);
+                int height = reader.getHeight(0);
+                if ((long) width * height > MAX_PIXELS) {
+                    throw new IOException("Image too large: " + width + "x" + height);
+                }
+                return reader.read(0, squareReadParam(reader, width, height));
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    /**
+     * Read only the centered square, keeping every n-th pixel so the decoded
+     * side stays between {@link #DECODE_SIZE} and twice that.
+     */
+    static ImageReadParam squareReadParam(ImageReader reader, int width, int height) {
+        int side = Math.min(width, height);
+        int step = Math.max(1, side / DECODE_SIZE);
+        ImageReadParam param = reader.getDefaultReadParam();
+        param.setSourceRegion(new Rectangle((width - side) / 2, (height - side) / 2, side, side));
+        param.setSourceSubsampling(step, step, 0, 0);
+        return param;
+    }
+
+    private String storeVariant(String bucket, Long memberId, BufferedImage image, int size,
+            List<StorageLocation> stored) throws IOException {
+        byte[] jpeg = encodeJpeg(squareThumbnail(image, size));
+        StorageLocation location = StorageLocation.of(bucket,
+                "avatars/" + memberId + "/" + contentHash(jpeg) + "-" + size + ".jpg");
+        storageService.store(location, "image/jpeg", CACHE_CONTROL, new ByteArrayInputStream(jpeg));
+        stored.add(location);
+        return storageService.publicUrl(location);
+    }
+
+    /**
+     * Center-crop to a square and scale to {@code size}, halving step by step
+     * so large photos don't alias. Never upscales.
+     */
+    private static BufferedImage squareThumbnail(BufferedImage source, int size) {
+        int side = Math.min(source.getWidth(), source.getHeight());
+        BufferedImage current = source.getSubimage(
+                (source.getWidth() - side) / 2, (source.getHeight() - side) / 2, side, side);
+        int target = Math.min(size, side);
+
+        int currentSize = side;
+        do {
+            currentSize = Math.max(target, currentSize / 2);
+            current = draw(current, currentSize);
+        } while (currentSize > target);
+        return current;
+    }
+
+    private static BufferedImage draw(BufferedImage source, int size) {
+        // RGB on white: JPEG has no alpha channel
+        BufferedImage result = new BufferedImage(size, size, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = result.createGraphics();
+        try {
+            g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            g.setColor(Color.WHITE);
+            g.fillRect(0, 0, size, size);
+            g.drawImage(source, 0, 0, size, size, null);
+        } finally {
+            g.dispose();
+        }
+        return result;
+    }
+
+    private static byte[] encodeJpeg(BufferedImage image) throws IOException {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (MemoryCacheImageOutputStream imageOut = new MemoryCacheImageOutputStream(out)) {
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(JPEG_QUALITY);
+            param.setProgressiveMode(ImageWriteParam.MODE_DEFAULT);
+            writer.setOutput(imageOut);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+        return out.toByteArray();
+    }
+
+    private static String contentHash(byte[] content) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(content);
+            return HexFormat.of().formatHex(hash, 0, 16);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
@@ -0,0 +1,134 @@
+package com.toastlabplus.service;
+
+import com.toastlabplus.entity.Member;
+import com.toastlabplus.repository.MemberRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+/**
+ * Direct-to-bucket avatar uploads: the client gets a short-lived signed PUT
+ * URL for {@code avatars/<memberId>/<uuid>.<ext>}, uploads the image itself
+ * and then calls back so the object is verified and attached to the member.
+ * Image bytes never pass through this server. Resized variants are built
+ * afterwards by {@link AvatarImageProcessor}.
+ */
+@Service
+public class AvatarService {
+
+    private static final Logger log = LoggerFactory.getLogger(AvatarService.class);
+
+    private static final Map<String, String> EXTENSIONS = Map.of(
+            "image/jpeg", ".jpg",
+            "image/png", ".png",
+            "image/webp", ".webp");
+
+    private final StorageService storageService;
+    private final MemberRepository memberRepository;
+    private final AvatarImageProcessor imageProcessor;
+
+    @Value("${gcp.storage.bucket-name}")
+    private String bucketName;
+
+    @Value("${app.avatar.max-bytes:5242880}")
+    private long maxBytes;
+
+    @Value("${app.avatar.upload-url-ttl:10m}")
+    private Duration uploadUrlTtl;
+
+    public AvatarService(StorageService storageService, MemberRepository memberRepository,
+            AvatarImageProcessor imageProcessor) {
+        this.storageService = storageService;
+        this.memberRepository = memberRepository;
+        this.imageProcessor = imageProcessor;
+    }
+
+    /**
+     * Sign an upload URL for a new avatar of {@code member}.
+     *
+     * @throws IllegalArgumentException      for unsupported types or sizes
+     * @throws UnsupportedOperationException if the storage backend cannot sign
+     */
+    public SignedUpload createUpload(Member member, String contentType, long size) {
+        String extension = EXTENSIONS.get(contentType);
+        if (extension == null) {
+            throw new IllegalArgumentException("Unsupported image type: " + contentType);
+        }
+        if (size <= 0 || size > maxBytes) {
+            throw new IllegalArgumentException("Avatar must be between 1 and " + maxBytes + " bytes");
+        }
+        StorageLocation location = StorageLocation.of(bucketName,
+                folder(member) + UUID.randomUUID() + extension);
+        return storageService.signUpload(location, contentType, maxBytes, uploadUrlTtl);
+    }
+
+    /**
+     * Verify an uploaded avatar and make it the member's avatar. The previous
+     * avatar is deleted.
+     *
+     * @return the new avatar URL
+     * @throws IllegalArgumentException if the object is not a valid upload of
+     *                                  this member
+     */
+    public String completeUpload(Member member, String objectName) throws IOException {
+        if (objectName == null || !objectName.startsWith(folder(member)) || objectName.contains("..")) {
+            throw new IllegalArgumentException("Object does not belong to this member");
+        }
+        StorageLocation location = StorageLocation.of(bucketName, objectName);
+        StorageObjectInfo info = storageService.stat(location)
+                .orElseThrow(() -> new IllegalArgumentException("Upload not found"));
+
+        if (!EXTENSIONS.containsKey(info.contentType()) || info.size() > maxBytes) {
+            storageService.deleteFile(location.toUri());
+            throw new IllegalArgumentException("Uploaded object is not a valid avatar");
+        }
+
+        String avatarUrl = storageService.publicUrl(location);
+        replaceAvatar(member, avatarUrl);
+        return avatarUrl;
+    }
+
+    /**
+     * Point the member at a new original avatar, delete the previous one and
+     * its variants, and queue variant generation for the new one.
+     */
+    public void replaceAvatar(Member member, String avatarUrl) {
+        List<String> previous = avatarFiles(member);
+        member.setAvatarUrl(avatarUrl);
+        member.setAvatarThumbUrl(null);
+        member.setAvatarMediumUrl(null);
+        memberRepository.save(member);
+
+        previous.stream()
+                .filter(url -> !url.equals(avatarUrl))
+                .forEach(storageService::deleteFile);
+        imageProcessor.submit(member.getId(), avatarUrl);
+        log.info("Member {} avatar set to {}", member.getId(), avatarUrl);
+    }
+
+    /**
+     * Delete the member's avatar and variants from storage (member removal).
+     */
+    public void deleteAvatars(Member member) {
+        avatarFiles(member).forEach(storageService::deleteFile);
+    }
+
+    private static List<String> avatarFiles(Member member) {
+        return Stream.of(member.getAvatarUrl(), member.getAvatarThumbUrl(), member.getAvatarMediumUrl())
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    private static String folder(Member member) {
+        return "avatars/" + member.getId() + "/";
+    }
+}
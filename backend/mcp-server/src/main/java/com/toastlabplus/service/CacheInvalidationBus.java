@@ -0,0 +1,257 @@
+package com.toastlabplus.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Cross-instance cache invalidation over Postgres LISTEN/NOTIFY.
+ *
+ * Write paths call {@link #publish}; the NOTIFY runs on the caller's
+ * transaction connection, so Postgres delivers it only if the transaction
+ * commits. Every instance keeps one dedicated LISTEN connection (outside the
+ * Hikari pool) and hands received events to all
+ * {@link CacheInvalidationHandler} beans. After a reconnect, handlers are
+ * resynced because notifications sent while disconnected are lost.
+ */
+@Service
+public class CacheInvalidationBus implements SmartLifecycle {
+
+    private static final Logger log = LoggerFactory.getLogger(CacheInvalidationBus.class);
+
+    private static final int POLL_TIMEOUT_MS = 10_000;
+    private static final long HEALTH_CHECK_INTERVAL_MS = 30_000;
+    private static final long INITIAL_BACKOFF_MS = 1_000;
+    private static final long MAX_BACKOFF_MS = 30_000;
+    private static final long STOP_TIMEOUT_MS = 2_000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+    private final ObjectProvider<CacheInvalidationHandler> handlers;
+    private final MeterRegistry meterRegistry;
+    private final String origin = UUID.randomUUID().toString();
+    private final AtomicBoolean connected = new AtomicBoolean(false);
+    private final Counter reconnects;
+    private final Timer lag;
+
+    @Value("${app.cache-invalidation.enabled:true}")
+    private boolean enabled;
+
+    @Value("${app.cache-invalidation.channel:cache_invalidation}")
+    private String channel;
+
+    @Value("${spring.datasource.url}")
+    private String url;
+
+    @Value("${spring.datasource.username:}")
+    private String username;
+
+    @Value("${spring.datasource.password:}")
+    private String password;
+
+    private volatile boolean running;
+    private volatile Connection listenConnection;
+    private Thread listenerThread;
+
+    public CacheInvalidationBus(JdbcTemplate jdbcTemplate,
+            ObjectMapper objectMapper,
+            ObjectProvider<CacheInvalidationHandler> handlers,
+            MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.objectMapper = objectMapper;
+        this.handlers = handlers;
+        this.meterRegistry = meterRegistry;
+        this.reconnects = meterRegistry.counter("cache.invalidation.reconnects");
+        this.lag = Timer.builder("cache.invalidation.lag")
+                .description("Time from NOTIFY to local eviction")
+                .register(meterRegistry);
+        meterRegistry.gauge("cache.invalidation.connected", connected, c -> c.get() ? 1 : 0);
+    }
+
+    /**
+     * Publish an invalidation for one row. Delivered to all instances
+     * (including this one) when the current transaction commits.
+     */
+    public void publish(String entityType, Long id, Long clubId) {
+        if (!enabled) {
+            return;
+        }
+        CacheInvalidationEvent event = new CacheInvalidationEvent(entityType, id, clubId, origin,
+                System.currentTimeMillis());
+        String payload;
+        try {
+            payload = objectMapper.writeValueAsString(event);
+        } catch (Exception e) {
+            throw new IllegalStateException("Failed to serialize cache invalidation", e);
+        }
+        jdbcTemplate.query("SELECT pg_notify(?, ?)", rs -> null, channel, payload);
+        meterRegistry.counter("cache.invalidation.published", "type", entityType).increment();
+    }
+
+    // ==================== Lifecycle ====================
+
+    @Override
+    public void start() {
+        if (!enabled || running) {
+            return;
+        }
+        if (!channel.matches("[a-z_][a-z0-9_]*")) {
+            throw new IllegalStateException("Invalid cache invalidation channel: " + channel);
+        }
+        running = true;
+        listenerThread = new Thread(this::listenLoop, "cache-invalidation-listener");
+        listenerThread.setDaemon(true);
+        listenerThread.start();
+    }
+
+    /**
+     * Aborts the LISTEN connection, which also wakes the listener from
+     * {@code getNotifications}, and waits briefly for the thread to exit.
+     */
+    @Override
+    public void stop() {
+        running = false;
+        Connection connection = listenConnection;
+        if (connection != null) {
+            try {
+                // abort() closes the socket without waiting for the blocked read
+                connection.abort(Runnable::run);
+            } catch (SQLException e) {
+                log.debug("Aborting cache invalidation connection failed: {}", e.getMessage());
+            }
+        }
+        if (listenerThread != null) {
+            listenerThread.interrupt();
+            try {
+                listenerThread.join(STOP_TIMEOUT_MS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    // ==================== Listener ====================
+
+    private void listenLoop() {
+        long backoff = INITIAL_BACKOFF_MS;
+        boolean firstConnect = true;
+
+        while (running) {
+            try (Connection connection = DriverManager.getConnection(url, username, password)) {
+                listenConnection = connection;
+                if (!running) {
+                    // stop() ran while connecting
+                    break;
+                }
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("LISTEN " + channel);
+                }
+                connected.set(true);
+                backoff = INITIAL_BACKOFF_MS;
+                if (firstConnect) {
+                    log.info("Listening for cache invalidations on channel '{}'", channel);
+                    firstConnect = false;
+                } else {
+                    reconnects.increment();
+                    log.info("Cache invalidation listener reconnected, resyncing local caches");
+                    resync();
+                }
+                poll(connection);
+            } catch (SQLException e) {
+                if (running) {
+                    log.warn("Cache invalidation listener lost connection: {}", e.getMessage());
+                }
+            } finally {
+                listenConnection = null;
+                connected.set(false);
+            }
+
+            if (running) {
+                try {
+                    Thread.sleep(backoff);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                backoff = Math.min(backoff * 2, MAX_BACKOFF_MS);
+            }
+        }
+    }
+
+    private void poll(Connection connection) throws SQLException {
+        PGConnection pgConnection = connection.unwrap(PGConnection.class);
+        long lastHealthCheck = System.currentTimeMillis();
+
+        while (running) {
+            PGNotification[] notifications = pgConnection.getNotifications(POLL_TIMEOUT_MS);
+            if (notifications != null) {
+                for (PGNotification notification : notifications) {
+                    dispatch(notification.getParameter());
+                }
+            }
+            // A half-open TCP connection never fails a notification read;
+            // a round trip does.
+            if (System.currentTimeMillis() - lastHealthCheck >= HEALTH_CHECK_INTERVAL_MS) {
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("SELECT 1");
+                }
+                lastHealthCheck = System.currentTimeMillis();
+            }
+        }
+    }
+
+    private void dispatch(String payload) {
+        CacheInvalidationEvent event;
+        try {
+            event = objectMapper.readValue(payload, CacheInvalidationEvent.class);
+        } catch (Exception e) {
+            log.warn("Ignoring malformed cache invalidation payload: {}", payload);
+            return;
+        }
+
+        lag.record(Duration.ofMillis(Math.max(0, System.currentTimeMillis() - event.sentAtMillis())));
+        meterRegistry.counter("cache.invalidation.received", "type", event.entityType()).increment();
+
+        handlers.orderedStream().forEach(handler -> {
+            try {
+                handler.onInvalidation(event);
+            } catch (RuntimeException e) {
+                log.warn("Cache invalidation handler {} failed: {}", handler.getClass().getSimpleName(),
+                        e.getMessage());
+            }
+        });
+    }
+
+    private void resync() {
+        handlers.orderedStream().forEach(handler -> {
+            try {
+                handler.onResync();
+            } catch (RuntimeException e) {
+                log.warn("Cache resync of {} failed: {}", handler.getClass().getSimpleName(), e.getMessage());
+            }
+        });
+    }
+}
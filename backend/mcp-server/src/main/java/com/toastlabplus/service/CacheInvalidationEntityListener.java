@@ -0,0 +1,47 @@
+package com.toastlabplus.service;
+
+import com.toastlabplus.entity.AgendaTemplate;
+import com.toastlabplus.entity.Club;
+import com.toastlabplus.entity.ClubOfficer;
+import com.toastlabplus.entity.MeetingSchedule;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.ObjectProvider;
+
+/**
+ * JPA entity listener that publishes an invalidation for every write to a
+ * cached entity. Callbacks run during flush, inside the writing transaction.
+ * Instantiated by Hibernate through Spring's bean container.
+ */
+public class CacheInvalidationEntityListener {
+
+    // Lazy: the bus depends (indirectly) on the EntityManagerFactory
+    private final ObjectProvider<CacheInvalidationBus> bus;
+
+    public CacheInvalidationEntityListener(ObjectProvider<CacheInvalidationBus> bus) {
+        this.bus = bus;
+    }
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void onWrite(Object entity) {
+        CacheInvalidationBus invalidationBus = bus.getIfAvailable();
+        if (invalidationBus == null) {
+            return;
+        }
+        if (entity instanceof Club club) {
+            invalidationBus.publish(CacheInvalidationEvent.CLUB, club.getId(), club.getId());
+        } else if (entity instanceof AgendaTemplate template) {
+            invalidationBus.publish(CacheInvalidationEvent.AGENDA_TEMPLATE, template.getId(),
+                    template.getClub() != null ? template.getClub().getId() : null);
+        } else if (entity instanceof MeetingSchedule schedule) {
+            invalidationBus.publish(CacheInvalidationEvent.MEETING_SCHEDULE, schedule.getId(),
+                    schedule.getClub() != null ? schedule.getClub().getId() : null);
+        } else if (entity instanceof ClubOfficer officer) {
+            invalidationBus.publish(CacheInvalidationEvent.CLUB_OFFICER, officer.getId(),
+                    officer.getClub() != null ? officer.getClub().getId() : null);
+        }
+    }
+}
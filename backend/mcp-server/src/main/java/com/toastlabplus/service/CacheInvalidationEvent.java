@@ -0,0 +1,19 @@
+package com.toastlabplus.service;
+
+/**
+ * Payload of a cross-instance cache invalidation, sent as JSON over Postgres
+ * NOTIFY. {@code id} and {@code clubId} may be null for whole-type
+ * invalidations.
+ */
+public record CacheInvalidationEvent(
+        String entityType,
+        Long id,
+        Long clubId,
+        String origin,
+        long sentAtMillis) {
+
+    public static final String CLUB = "Club";
+    public static final String AGENDA_TEMPLATE = "AgendaTemplate";
+    public static final String MEETING_SCHEDULE = "MeetingSchedule";
+    public static final String CLUB_OFFICER = "ClubOfficer";
+}
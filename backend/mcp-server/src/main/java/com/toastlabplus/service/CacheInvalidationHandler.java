@@ -0,0 +1,17 @@
+package com.toastlabplus.service;
+
+/**
+ * Evicts entries of an in-process cache when another (or this) instance
+ * changes the underlying data. Implementations are picked up as beans by
+ * {@link CacheInvalidationBus}.
+ */
+public interface CacheInvalidationHandler {
+
+    void onInvalidation(CacheInvalidationEvent event);
+
+    /**
+     * Called after the listening connection was re-established, when
+     * notifications may have been missed. Drop everything the handler owns.
+     */
+    void onResync();
+}
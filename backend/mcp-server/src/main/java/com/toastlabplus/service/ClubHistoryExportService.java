@@ -0,0 +1,293 @@
+package com.toastlabplus.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.CellStyle;
+import org.apache.poi.ss.usermodel.Font;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.xssf.streaming.SXSSFSheet;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementSetter;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.sql.Date;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+
+/**
+ * Exports a club's meeting history (meetings, role slots and members) for a
+ * date range as an .xlsx workbook.
+ *
+ * Each sheet is filled from one query read through a server-side cursor
+ * ({@code app.history-export.fetch-size} rows per round trip, inside a
+ * read-only transaction so it can run on the replica) and written with
+ * POI's {@link SXSSFWorkbook}, which keeps only the last
+ * {@code app.history-export.window-size} rows per sheet in memory and
+ * flushes the rest to compressed temp files. Heap use is therefore constant
+ * in the length of the history. Nothing is written to the output until all
+ * queries have completed, so failures can still be reported as errors.
+ */
+@Service
+public class ClubHistoryExportService {
+
+    private static final Logger log = LoggerFactory.getLogger(ClubHistoryExportService.class);
+
+    private static final String MEETINGS_SQL = """
+            SELECT m.meeting_date, m.meeting_number, m.title, m.theme, m.start_time, m.end_time,
+                   m.location, m.status, COUNT(rs.id) AS slots, COUNT(rs.assigned_member_id) AS filled
+            FROM meeting m
+            LEFT JOIN role_slot rs ON rs.meeting_id = m.id
+            WHERE m.club_id = ? AND m.meeting_date >= ? AND m.meeting_date <= ?
+            GROUP BY m.id
+            ORDER BY m.meeting_date, m.start_time, m.id
+            """;
+    private static final String ROLES_SQL = """
+            SELECT m.meeting_date, m.meeting_number, rs.role_name, rs.slot_index, mem.name, mem.email,
+                   rs.speech_title, rs.project_name
+            FROM role_slot rs
+            JOIN meeting m ON m.id = rs.meeting_id
+            LEFT JOIN member mem ON mem.id = rs.assigned_member_id
+            WHERE m.club_id = ? AND m.meeting_date >= ? AND m.meeting_date <= ?
+            ORDER BY m.meeting_date, m.start_time, m.id, rs.role_name, rs.slot_index
+            """;
+    private static final String MEMBERS_SQL = """
+            SELECT mem.name, mem.email, mem.phone, cm.status, cm.created_at, cm.approved_at,
+                   COUNT(r.id) AS roles, MAX(r.meeting_date) AS last_role
+            FROM club_membership cm
+            JOIN member mem ON mem.id = cm.member_id
+            LEFT JOIN (
+                SELECT rs.id, rs.assigned_member_id, m.meeting_date
+                FROM role_slot rs
+                JOIN meeting m ON m.id = rs.meeting_id
+                WHERE m.club_id = ? AND m.meeting_date >= ? AND m.meeting_date <= ?
+            ) r ON r.assigned_member_id = mem.id
+            WHERE cm.club_id = ?
+            GROUP BY cm.id, mem.id
+            ORDER BY mem.name, mem.id
+            """;
+
+    private static final String[] MEETING_HEADERS = { "Date", "Meeting #", "Title", "Theme", "Start", "End",
+            "Location", "Status", "Role Slots", "Filled" };
+    private static final String[] ROLE_HEADERS = { "Date", "Meeting #", "Role", "Slot", "Member", "Email",
+            "Speech Title", "Project" };
+    private static final String[] MEMBER_HEADERS = { "Name", "Email", "Phone", "Membership", "Applied",
+            "Approved", "Roles Taken", "Last Role" };
+
+    public record ExportSummary(int meetings, int roleSlots, int members) {
+    }
+
+    private final JdbcTemplate cursorJdbcTemplate;
+    private final TransactionTemplate readOnlyTransaction;
+    private final MeterRegistry meterRegistry;
+    private final int windowSize;
+
+    public ClubHistoryExportService(JdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry,
+            @Value("${app.history-export.fetch-size:500}") int fetchSize,
+            @Value("${app.history-export.window-size:100}") int windowSize) {
+        // PostgreSQL only uses a cursor when a fetch size is set and autocommit is off
+        this.cursorJdbcTemplate = new JdbcTemplate(jdbcTemplate.getDataSource());
+        this.cursorJdbcTemplate.setFetchSize(fetchSize);
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.meterRegistry = meterRegistry;
+        this.windowSize = windowSize;
+    }
+
+    /**
+     * Write the history of meetings dated {@code from} to {@code to}
+     * (inclusive) to {@code out}. The stream is not closed.
+     */
+    public ExportSummary export(Long clubId, LocalDate from, LocalDate to, OutputStream out) throws IOException {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "success";
+        SXSSFWorkbook workbook = new SXSSFWorkbook(windowSize);
+        workbook.setCompressTempFiles(true);
+        try {
+            Styles styles = new Styles(workbook);
+            ExportSummary summary = readOnlyTransaction.execute(status -> new ExportSummary(
+                    writeMeetings(workbook, styles, clubId, from, to),
+                    writeRoles(workbook, styles, clubId, from, to),
+                    writeMembers(workbook, styles, clubId, from, to)));
+            workbook.write(out);
+            log.info("Exported history of club {} ({} to {}): {} meetings, {} role slots, {} members",
+                    clubId, from, to, summary.meetings(), summary.roleSlots(), summary.members());
+            return summary;
+        } catch (IOException | RuntimeException e) {
+            outcome = "failed";
+            throw e;
+        } finally {
+            workbook.dispose();
+            workbook.close();
+            sample.stop(meterRegistry.timer("clubs.history.export", "outcome", outcome));
+        }
+    }
+
+    // ==================== Helper Methods ====================
+
+    private int writeMeetings(SXSSFWorkbook workbook, Styles styles, Long clubId, LocalDate from, LocalDate to) {
+        SheetWriter sheet = new SheetWriter(workbook.createSheet("Meetings"), styles, MEETING_HEADERS);
+        cursorJdbcTemplate.query(MEETINGS_SQL, range(clubId, from, to), rs -> {
+            Row row = sheet.nextRow();
+            sheet.date(row, 0, rs.getDate(1));
+            sheet.integer(row, 1, rs, 2);
+            sheet.text(row, 2, rs.getString(3));
+            sheet.text(row, 3, rs.getString(4));
+            sheet.time(row, 4, rs.getTime(5));
+            sheet.time(row, 5, rs.getTime(6));
+            sheet.text(row, 6, rs.getString(7));
+            sheet.text(row, 7, rs.getString(8));
+            sheet.integer(row, 8, rs, 9);
+            sheet.integer(row, 9, rs, 10);
+        });
+        return sheet.finish();
+    }
+
+    private int writeRoles(SXSSFWorkbook workbook, Styles styles, Long clubId, LocalDate from, LocalDate to) {
+        SheetWriter sheet = new SheetWriter(workbook.createSheet("Roles"), styles, ROLE_HEADERS);
+        cursorJdbcTemplate.query(ROLES_SQL, range(clubId, from, to), rs -> {
+            Row row = sheet.nextRow();
+            sheet.date(row, 0, rs.getDate(1));
+            sheet.integer(row, 1, rs, 2);
+            sheet.text(row, 2, rs.getString(3));
+            sheet.integer(row, 3, rs, 4);
+            sheet.text(row, 4, rs.getString(5));
+            sheet.text(row, 5, rs.getString(6));
+            sheet.text(row, 6, rs.getString(7));
+            sheet.text(row, 7, rs.getString(8));
+        });
+        return sheet.finish();
+    }
+
+    private int writeMembers(SXSSFWorkbook workbook, Styles styles, Long clubId, LocalDate from, LocalDate to) {
+        SheetWriter sheet = new SheetWriter(workbook.createSheet("Members"), styles, MEMBER_HEADERS);
+        cursorJdbcTemplate.query(MEMBERS_SQL, ps -> {
+            range(clubId, from, to).setValues(ps);
+            ps.setLong(4, clubId);
+        }, rs -> {
+            Row row = sheet.nextRow();
+            sheet.text(row, 0, rs.getString(1));
+            sheet.text(row, 1, rs.getString(2));
+            sheet.text(row, 2, rs.getString(3));
+            sheet.text(row, 3, rs.getString(4));
+            sheet.timestamp(row, 4, rs.getTimestamp(5));
+            sheet.timestamp(row, 5, rs.getTimestamp(6));
+            sheet.integer(row, 6, rs, 7);
+            sheet.date(row, 7, rs.getDate(8));
+        });
+        return sheet.finish();
+    }
+
+    private static PreparedStatementSetter range(Long clubId, LocalDate from, LocalDate to) {
+        return ps -> {
+            ps.setLong(1, clubId);
+            ps.setDate(2, Date.valueOf(from));
+            ps.setDate(3, Date.valueOf(to));
+        };
+    }
+
+    private static final class Styles {
+
+        private final CellStyle header;
+        private final CellStyle date;
+        private final CellStyle dateTime;
+
+        Styles(SXSSFWorkbook workbook) {
+            Font bold = workbook.createFont();
+            bold.setBold(true);
+            header = workbook.createCellStyle();
+            header.setFont(bold);
+
+            short dateFormat = workbook.createDataFormat().getFormat("yyyy-mm-dd");
+            date = workbook.createCellStyle();
+            date.setDataFormat(dateFormat);
+
+            short dateTimeFormat = workbook.createDataFormat().getFormat("yyyy-mm-dd hh:mm");
+            dateTime = workbook.createCellStyle();
+            dateTime.setDataFormat(dateTimeFormat);
+        }
+    }
+
+    /**
+     * Appends rows to one sheet. Column widths are fixed rather than
+     * auto-sized: auto-sizing needs every row in memory.
+     */
+    private static final class SheetWriter {
+
+        private final SXSSFSheet sheet;
+        private final Styles styles;
+        private int rowNum;
+
+        SheetWriter(SXSSFSheet sheet, Styles styles, String[] headers) {
+            this.sheet = sheet;
+            this.styles = styles;
+            Row header = nextRow();
+            for (int i = 0; i < headers.length; i++) {
+                Cell cell = header.createCell(i);
+                cell.setCellValue(headers[i]);
+                cell.setCellStyle(styles.header);
+                sheet.setColumnWidth(i, 18 * 256);
+            }
+            sheet.createFreezePane(0, 1);
+        }
+
+        Row nextRow() {
+            return sheet.createRow(rowNum++);
+        }
+
+        /**
+         * @return number of data rows written
+         */
+        int finish() {
+            return rowNum - 1;
+        }
+
+        void text(Row row, int col, String value) {
+            if (value != null) {
+                row.createCell(col).setCellValue(value);
+            }
+        }
+
+        void integer(Row row, int col, ResultSet rs, int index) throws SQLException {
+            long value = rs.getLong(index);
+            if (!rs.wasNull()) {
+                row.createCell(col).setCellValue(value);
+            }
+        }
+
+        void date(Row row, int col, Date value) {
+            if (value != null) {
+                Cell cell = row.createCell(col);
+                cell.setCellValue(value.toLocalDate());
+                cell.setCellStyle(styles.date);
+            }
+        }
+
+        void timestamp(Row row, int col, Timestamp value) {
+            if (value != null) {
+                Cell cell = row.createCell(col);
+                cell.setCellValue(value.toLocalDateTime());
+                cell.setCellStyle(styles.dateTime);
+            }
+        }
+
+        void time(Row row, int col, Time value) {
+            if (value != null) {
+                row.createCell(col).setCellValue(value.toLocalTime().toString());
+            }
+        }
+    }
+}
@@ -0,0 +1,233 @@
+package com.toastlabplus.service;
+
+import com.toastlabplus.entity.RoleSlot;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Immutable, precomputed view of a {@link ParsedTemplateStructure}: the role
+ * slots the template has room for, its speaker count and the cells to fill.
+ * Built once per parsed structure by {@link TemplateStructureService} and
+ * shared by agenda generation, default role slot creation and the MCP tools.
+ */
+public final class CompiledTemplate {
+
+    /**
+     * One cell to fill: agenda data under {@code dataKey} goes to
+     * ({@code row}, {@code col}), 1-indexed.
+     */
+    public record CellBinding(String role, String dataKey, int row, int col) {
+
+        public CellBinding withRow(int newRow) {
+            return new CellBinding(role, dataKey, newRow, col);
+        }
+    }
+
+    private static final Pattern INDEX_SUFFIX = Pattern.compile("_(\\d+)$");
+    private static final Pattern SPEECH_DETAIL = Pattern.compile("SPEAKER_(\\d+)_(TITLE|PROJECT)");
+
+    // Parser role names whose data key is not simply <ROLE>_NAME
+    private static final Map<String, String> DATA_KEYS = Map.of(
+            "VARIETY_MASTER", "VARIETY_SESSION_MASTER_NAME",
+            "MEETING_DATE", "MEETING_DATE",
+            "MEETING_INFO", "MEETING_DATE",
+            "THEME", "THEME",
+            "MEETING_NUMBER", "MEETING_NUMBER");
+
+    private final ParsedTemplateStructure structure;
+    private final Map<String, Integer> roles;
+    private final int speakerCount;
+    private final int lastSpeakerRow;
+    private final List<CellBinding> cellPlan;
+
+    private CompiledTemplate(ParsedTemplateStructure structure) {
+        this.structure = structure;
+
+        Map<String, Integer> roleMaxIndex = new LinkedHashMap<>();
+        List<CellBinding> bindings = new ArrayList<>();
+        int speakers = 0;
+        int speakerRow = -1;
+        for (ParsedTemplateStructure.VariableMapping mapping : structure.variableMappings()) {
+            String role = mapping.role();
+            ParsedTemplateStructure.CellPosition position = mapping.valuePosition();
+            if (position != null && position.row() >= 1 && position.col() >= 1) {
+                bindings.add(new CellBinding(role, dataKey(role), position.row(), position.col()));
+            }
+
+            String baseRole = baseRole(role);
+            if (baseRole == null) {
+                continue;
+            }
+            int index = roleIndex(role);
+            roleMaxIndex.merge(baseRole, index, Math::max);
+            if (RoleSlot.SPEAKER.equals(baseRole) && index > speakers) {
+                speakers = index;
+                speakerRow = position != null ? position.row() : -1;
+            }
+        }
+        bindings.sort(Comparator.comparingInt(CellBinding::row).thenComparingInt(CellBinding::col));
+
+        this.roles = Collections.unmodifiableMap(roleMaxIndex);
+        this.speakerCount = speakers;
+        this.lastSpeakerRow = speakerRow;
+        this.cellPlan = List.copyOf(bindings);
+    }
+
+    public static CompiledTemplate compile(ParsedTemplateStructure structure) {
+        return new CompiledTemplate(structure);
+    }
+
+    public ParsedTemplateStructure structure() {
+        return structure;
+    }
+
+    /**
+     * Role slot roles ({@link RoleSlot} constants) in template order, each with
+     * the highest slot index found (1 for single roles).
+     */
+    public Map<String, Integer> roles() {
+        return roles;
+    }
+
+    /**
+     * Number of speaker slots the template lays out.
+     */
+    public int speakerCount() {
+        return speakerCount;
+    }
+
+    /**
+     * Row (1-indexed) of the last speaker's value cell, -1 if unknown.
+     */
+    public int lastSpeakerRow() {
+        return lastSpeakerRow;
+    }
+
+    /**
+     * Cells to fill, ordered by row then column.
+     */
+    public List<CellBinding> cellPlan() {
+        return cellPlan;
+    }
+
+    /**
+     * Cells to fill for {@code speakers} speakers. When the template lays out
+     * fewer, the rows below the last speaker move down by the difference and
+     * the last speaker's cells are repeated on each inserted row.
+     */
+    public List<CellBinding> cellPlanFor(int speakers) {
+        int rowsToInsert = speakers - speakerCount;
+        if (rowsToInsert <= 0 || speakerCount == 0 || lastSpeakerRow < 1) {
+            return cellPlan;
+        }
+
+        List<CellBinding> plan = new ArrayList<>();
+        for (CellBinding binding : cellPlan) {
+            plan.add(binding.row() > lastSpeakerRow ? binding.withRow(binding.row() + rowsToInsert) : binding);
+        }
+
+        CellBinding lastSpeaker = binding("SPEAKER_" + speakerCount);
+        CellBinding lastSpeakerTitle = binding("SPEAKER_" + speakerCount + "_TITLE");
+        CellBinding lastSpeakerProject = binding("SPEAKER_" + speakerCount + "_PROJECT");
+        for (int i = 1; i <= rowsToInsert; i++) {
+            String speaker = "SPEAKER_" + (speakerCount + i);
+            addOffset(plan, speaker, lastSpeaker, i);
+            addOffset(plan, speaker + "_TITLE", lastSpeakerTitle, i);
+            addOffset(plan, speaker + "_PROJECT", lastSpeakerProject, i);
+        }
+        plan.sort(Comparator.comparingInt(CellBinding::row).thenComparingInt(CellBinding::col));
+        return List.copyOf(plan);
+    }
+
+    public CellBinding binding(String role) {
+        for (CellBinding binding : cellPlan) {
+            if (binding.role().equalsIgnoreCase(role)) {
+                return binding;
+            }
+        }
+        return null;
+    }
+
+    private static void addOffset(List<CellBinding> plan, String role, CellBinding source, int rowOffset) {
+        if (source != null) {
+            plan.add(new CellBinding(role, dataKey(role), source.row() + rowOffset, source.col()));
+        }
+    }
+
+    // ==================== Role Names ====================
+
+    /**
+     * Agenda data key for a parser role name (e.g. TME -> TME_NAME,
+     * SPEAKER_2_TITLE -> SPEECH_TITLE_2).
+     */
+    public static String dataKey(String role) {
+        String upper = role.toUpperCase(Locale.ROOT);
+        String fixed = DATA_KEYS.get(upper);
+        if (fixed != null) {
+            return fixed;
+        }
+        Matcher detail = SPEECH_DETAIL.matcher(upper);
+        if (detail.matches()) {
+            return "SPEECH_" + detail.group(2) + "_" + detail.group(1);
+        }
+        return upper + "_NAME";
+    }
+
+    /**
+     * Role slot role for a parser role name (e.g. SPEAKER_1 -> SPEAKER), or
+     * null for non-role variables and unknown roles.
+     */
+    public static String baseRole(String role) {
+        if (role == null)
+            return null;
+        role = role.toUpperCase(Locale.ROOT);
+
+        // Handle title/project suffixes - skip these
+        if (role.endsWith("_TITLE") || role.endsWith("_PROJECT") || role.contains("MEETING_INFO")
+                || role.contains("THEME") || role.contains("MEETING_DATE")) {
+            return null;
+        }
+
+        // Handle indexed roles - remove the index first
+        String baseRole = INDEX_SUFFIX.matcher(role).replaceAll("");
+
+        // Map common role names
+        return switch (baseRole) {
+            case "TME", "TOASTMASTER" -> RoleSlot.TME;
+            case "TIMER" -> RoleSlot.TIMER;
+            case "AH_COUNTER", "AHCOUNTER" -> RoleSlot.AH_COUNTER;
+            case "VOTE_COUNTER", "VOTECOUNTER" -> RoleSlot.VOTE_COUNTER;
+            case "GE", "GENERAL_EVALUATOR" -> RoleSlot.GE;
+            case "LE", "LANGUAGE_EVALUATOR" -> RoleSlot.LE;
+            case "TT_MASTER", "TABLE_TOPICS_MASTER" -> RoleSlot.TT_MASTER;
+            case "SESSION_MASTER", "VARIETY_MASTER" -> RoleSlot.SESSION_MASTER;
+            case "PHOTOGRAPHER" -> RoleSlot.PHOTOGRAPHER;
+            case "GRAMMARIAN" -> RoleSlot.GRAMMARIAN;
+            case "SPEAKER" -> RoleSlot.SPEAKER;
+            case "EVALUATOR", "INDIVIDUAL_EVALUATOR" -> RoleSlot.EVALUATOR;
+            // Skip unknown roles
+            default -> null;
+        };
+    }
+
+    /**
+     * Slot index of a parser role name (e.g. SPEAKER_2 -> 2, TME -> 1).
+     */
+    public static int roleIndex(String role) {
+        if (role == null)
+            return 1;
+        Matcher matcher = INDEX_SUFFIX.matcher(role.toUpperCase(Locale.ROOT));
+        if (matcher.find()) {
+            return Integer.parseInt(matcher.group(1));
+        }
+        return 1;
+    }
+}
@@ -0,0 +1,110 @@
+package com.toastlabplus.service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Minimal streaming CSV reader (RFC 4180: quoted fields, doubled quotes,
+ * line breaks inside quotes, CRLF or LF). UTF-8 with an optional BOM, as
+ * exported by Excel and Google Sheets. One record is in memory at a time.
+ */
+public final class CsvReader {
+
+    public interface RecordHandler {
+        /**
+         * @param rowNum 1-indexed record number
+         */
+        void record(int rowNum, List<String> fields) throws IOException;
+    }
+
+    private static final int MAX_FIELD_LENGTH = 10_000;
+
+    private CsvReader() {
+    }
+
+    /**
+     * Read all records; more than {@code maxRows} records fails with
+     * {@link SpreadsheetReader.LimitExceededException}.
+     */
+    public static void read(InputStream in, int maxRows, RecordHandler handler) throws IOException {
+        Reader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        boolean fieldStarted = false;
+        int rowNum = 0;
+
+        int c = reader.read();
+        if (c == '\uFEFF') {
+            c = reader.read();
+        }
+        while (c != -1) {
+            if (quoted) {
+                if (c == '"') {
+                    int next = reader.read();
+                    if (next == '"') {
+                        field.append('"');
+                    } else {
+                        quoted = false;
+                        c = next;
+                        continue;
+                    }
+                } else {
+                    append(field, (char) c);
+                }
+            } else if (c == '"' && !fieldStarted) {
+                quoted = true;
+                fieldStarted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+                fieldStarted = false;
+            } else if (c == '\r' || c == '\n') {
+                if (c == '\r') {
+                    int next = reader.read();
+                    if (next != '\n') {
+                        c = next;
+                        rowNum = endRecord(fields, field, rowNum, maxRows, handler);
+                        fieldStarted = false;
+                        continue;
+                    }
+                }
+                rowNum = endRecord(fields, field, rowNum, maxRows, handler);
+                fieldStarted = false;
+            } else {
+                append(field, (char) c);
+                fieldStarted = true;
+            }
+            c = reader.read();
+        }
+        if (fieldStarted || field.length() > 0 || !fields.isEmpty()) {
+            endRecord(fields, field, rowNum, maxRows, handler);
+        }
+    }
+
+    private static int endRecord(List<String> fields, StringBuilder field, int rowNum, int maxRows,
+            RecordHandler handler) throws IOException {
+        fields.add(field.toString());
+        field.setLength(0);
+        rowNum++;
+        if (rowNum > maxRows) {
+            throw new SpreadsheetReader.LimitExceededException("File has more than " + maxRows + " rows");
+        }
+        handler.record(rowNum, List.copyOf(fields));
+        fields.clear();
+        return rowNum;
+    }
+
+    private static void append(StringBuilder field, char c) throws IOException {
+        if (field.length() >= MAX_FIELD_LENGTH) {
+            throw new IOException("CSV field longer than " + MAX_FIELD_LENGTH + " characters");
+        }
+        field.append(c);
+    }
+}
@@ -0,0 +1,8 @@
+package com.toastlabplus.service;
+
+/**
+ * Result of reading an agenda template workbook: the text content sent to the
+ * LLM parser and the layout used to recognise known templates locally.
+ */
+public record ExtractedTemplate(String content, TemplateLayout layout) {
+}
@@ -0,0 +1,142 @@
+package com.toastlabplus.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.LocatorAdapter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.security.Key;
+import java.security.PublicKey;
+import java.security.cert.CertificateException;
+import java.security.cert.CertificateFactory;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Server-side check of Firebase ID tokens, without the Admin SDK: the RS256
+ * signature against Google's published securetoken certificates (cached for
+ * their max-age), issuer and audience of {@code app.firebase.project-id},
+ * and expiry.
+ */
+@Service
+public class FirebaseTokenVerifier {
+
+    private static final URI CERTIFICATES_URI = URI.create(
+            "https://www.googleapis.com/robot/v1/metadata/x509/securetoken@system.gserviceaccount.com");
+    private static final Pattern MAX_AGE = Pattern.compile("max-age=(\\d+)");
+    private static final Duration DEFAULT_MAX_AGE = Duration.ofHours(1);
+
+    private final ObjectMapper objectMapper;
+    private final String projectId;
+    private final HttpClient http = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(5)).build();
+
+    private volatile Map<String, PublicKey> keys = Map.of();
+    private volatile long keysExpireAtMillis;
+
+    public FirebaseTokenVerifier(ObjectMapper objectMapper,
+            @Value("${app.firebase.project-id:}") String projectId) {
+        this.objectMapper = objectMapper;
+        this.projectId = projectId;
+    }
+
+    public boolean isEnabled() {
+        return projectId != null && !projectId.isBlank();
+    }
+
+    /**
+     * Verified claims of {@code idToken}.
+     *
+     * @throws IllegalArgumentException if the token is malformed, expired,
+     *                                  badly signed or for another project
+     */
+    public Claims verify(String idToken) {
+        if (!isEnabled()) {
+            throw new IllegalStateException("app.firebase.project-id is not configured");
+        }
+        try {
+            return Jwts.parser()
+                    .keyLocator(new LocatorAdapter<Key>() {
+                        @Override
+                        protected Key locate(JwsHeader header) {
+                            return publicKey(header.getKeyId());
+                        }
+                    })
+                    .requireIssuer("https://securetoken.google.com/" + projectId)
+                    .requireAudience(projectId)
+                    .build()
+                    .parseSignedClaims(idToken)
+                    .getPayload();
+        } catch (JwtException e) {
+            throw new IllegalArgumentException("Invalid Firebase ID token: " + e.getMessage(), e);
+        }
+    }
+
+    // ==================== Helper Methods ====================
+
+    private PublicKey publicKey(String keyId) {
+        PublicKey key = System.currentTimeMillis() < keysExpireAtMillis ? keys.get(keyId) : null;
+        if (key == null) {
+            synchronized (this) {
+                // Unknown key ids after a rotation also trigger a refresh
+                if (System.currentTimeMillis() >= keysExpireAtMillis || !keys.containsKey(keyId)) {
+                    refreshKeys();
+                }
+                key = keys.get(keyId);
+            }
+        }
+        if (key == null) {
+            throw new JwtException("Unknown signing key: " + keyId);
+        }
+        return key;
+    }
+
+    private void refreshKeys() {
+        try {
+            HttpResponse<String> response = http.send(
+                    HttpRequest.newBuilder(CERTIFICATES_URI).timeout(Duration.ofSeconds(5)).GET().build(),
+                    HttpResponse.BodyHandlers.ofString());
+            if (response.statusCode() != 200) {
+                throw new IllegalStateException("Fetching Firebase certificates failed: HTTP "
+                        + response.statusCode());
+            }
+            CertificateFactory factory = CertificateFactory.getInstance("X.509");
+            Map<String, PublicKey> fetched = new HashMap<>();
+            JsonNode certificates = objectMapper.readTree(response.body());
+            for (Map.Entry<String, JsonNode> entry : certificates.properties()) {
+                byte[] pem = entry.getValue().asText().getBytes(StandardCharsets.US_ASCII);
+                fetched.put(entry.getKey(),
+                        factory.generateCertificate(new ByteArrayInputStream(pem)).getPublicKey());
+            }
+            keys = Map.copyOf(fetched);
+            keysExpireAtMillis = System.currentTimeMillis() + maxAge(response).toMillis();
+        } catch (IOException | CertificateException e) {
+            throw new IllegalStateException("Fetching Firebase certificates failed: " + e.getMessage(), e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while fetching Firebase certificates", e);
+        }
+    }
+
+    private static Duration maxAge(HttpResponse<?> response) {
+        return response.headers().firstValue("Cache-Control")
+                .map(MAX_AGE::matcher)
+                .filter(Matcher::find)
+                .map(matcher -> Duration.ofSeconds(Long.parseLong(matcher.group(1))))
+                .orElse(DEFAULT_MAX_AGE);
+    }
+}
@@ -0,0 +1,53 @@
+package com.toastlabplus.service;
+
+import com.toastlabplus.config.CacheRegions;
+import com.toastlabplus.entity.AgendaTemplate;
+import com.toastlabplus.entity.Club;
+import com.toastlabplus.entity.ClubOfficer;
+import com.toastlabplus.entity.MeetingSchedule;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * Keeps the Hibernate second-level and query caches consistent across
+ * instances.
+ */
+@Component
+public class HibernateCacheInvalidationHandler implements CacheInvalidationHandler {
+
+    private static final Map<String, Class<?>> ENTITY_TYPES = Map.of(
+            CacheInvalidationEvent.CLUB, Club.class,
+            CacheInvalidationEvent.AGENDA_TEMPLATE, AgendaTemplate.class,
+            CacheInvalidationEvent.MEETING_SCHEDULE, MeetingSchedule.class,
+            CacheInvalidationEvent.CLUB_OFFICER, ClubOfficer.class);
+
+    private final Cache cache;
+
+    public HibernateCacheInvalidationHandler(EntityManagerFactory entityManagerFactory) {
+        this.cache = entityManagerFactory.unwrap(SessionFactory.class).getCache();
+    }
+
+    @Override
+    public void onInvalidation(CacheInvalidationEvent event) {
+        Class<?> entityClass = ENTITY_TYPES.get(event.entityType());
+        if (entityClass == null) {
+            return;
+        }
+        if (event.id() != null) {
+            cache.evictEntityData(entityClass, event.id());
+        } else {
+            cache.evictEntityData(entityClass);
+        }
+        // Cached active-lists may now include/exclude the changed row
+        cache.evictQueryRegion(CacheRegions.REFERENCE_QUERIES);
+    }
+
+    @Override
+    public void onResync() {
+        cache.evictAllRegions();
+    }
+}
@@ -0,0 +1,26 @@
+package com.toastlabplus.service;
+
+/**
+ * A one-shot, idempotent data fixup applied once per cluster by
+ * {@link MaintenanceTaskRunner}. Bump {@link #version()} to apply a task
+ * again after changing it.
+ *
+ * Implementations are Spring beans; their {@code @Order} decides the
+ * execution order.
+ */
+public interface MaintenanceTask {
+
+    /**
+     * Stable identifier recorded in the {@code maintenance_task} table.
+     */
+    String id();
+
+    default int version() {
+        return 1;
+    }
+
+    /**
+     * Apply the fixup. Runs inside a transaction; must be safe to re-run.
+     */
+    void run();
+}
@@ -0,0 +1,120 @@
+package com.toastlabplus.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Applies pending {@link MaintenanceTask}s once per cluster.
+ *
+ * A normal instance start costs a single read of {@code maintenance_task}.
+ * Only when a task is new (or its version was bumped) does the instance try
+ * to take the maintenance advisory lock; the winner applies the pending tasks,
+ * each in its own transaction, and records them. Losers don't wait - the tasks
+ * are being applied by the lock holder. A failed task is logged and retried on
+ * the next start.
+ *
+ * Runs as an {@link ApplicationRunner}, so the readiness state stays
+ * REFUSING_TRAFFIC until it (and {@link StartupWarmup}) has finished.
+ */
+@Component
+@Profile("!aot-training") // needs the database
+@Order(0)
+public class MaintenanceTaskRunner implements ApplicationRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(MaintenanceTaskRunner.class);
+
+    private final List<MaintenanceTask> tasks;
+    private final AdvisoryLockService advisoryLockService;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+
+    public MaintenanceTaskRunner(List<MaintenanceTask> tasks,
+            AdvisoryLockService advisoryLockService,
+            JdbcTemplate jdbcTemplate,
+            TransactionTemplate transactionTemplate,
+            MeterRegistry meterRegistry) {
+        this.tasks = tasks;
+        this.advisoryLockService = advisoryLockService;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (pendingTasks().isEmpty()) {
+            log.debug("No pending maintenance tasks");
+            return;
+        }
+
+        boolean ran = advisoryLockService.runIfLeader(AdvisoryLockService.LOCK_MAINTENANCE_TASKS,
+                this::applyPending);
+        if (!ran) {
+            log.info("Maintenance tasks pending but another instance holds the lock - skipping");
+        }
+    }
+
+    private void applyPending() {
+        // Re-read under the lock: another instance may have just finished
+        for (MaintenanceTask task : pendingTasks()) {
+            long start = System.nanoTime();
+            String outcome = "applied";
+            try {
+                transactionTemplate.executeWithoutResult(status -> {
+                    task.run();
+                    record(task, (System.nanoTime() - start) / 1_000_000);
+                });
+                log.info("Applied maintenance task {} v{}", task.id(), task.version());
+            } catch (RuntimeException e) {
+                outcome = "failed";
+                log.error("Maintenance task {} v{} failed, will retry on next start", task.id(), task.version(), e);
+            } finally {
+                meterRegistry.counter("maintenance.tasks", "task", task.id(), "outcome", outcome).increment();
+            }
+        }
+    }
+
+    private List<MaintenanceTask> pendingTasks() {
+        Map<String, Integer> applied = new HashMap<>();
+        jdbcTemplate.query("SELECT task_id, version FROM maintenance_task",
+                rs -> { applied.put(rs.getString(1), rs.getInt(2)); });
+        return tasks.stream()
+                .filter(task -> applied.getOrDefault(task.id(), 0) < task.version())
+                .toList();
+    }
+
+    private void record(MaintenanceTask task, long durationMs) {
+        jdbcTemplate.update("""
+                INSERT INTO maintenance_task (task_id, version, applied_at, duration_ms, applied_by)
+                VALUES (?, ?, NOW(), ?, ?)
+                ON CONFLICT (task_id) DO UPDATE
+                   SET version = EXCLUDED.version,
+                       applied_at = EXCLUDED.applied_at,
+                       duration_ms = EXCLUDED.duration_ms,
+                       applied_by = EXCLUDED.applied_by
+                """, task.id(), task.version(), durationMs, instanceName());
+    }
+
+    private static String instanceName() {
+        // Cloud Run exposes the revision; fall back to the host name locally
+        String revision = System.getenv("K_REVISION");
+        if (revision != null) {
+            return revision;
+        }
+        String host = System.getenv("HOSTNAME");
+        return host != null ? host : "local";
+    }
+}
@@ -0,0 +1,94 @@
+package com.toastlabplus.service;
+
+import com.toastlabplus.entity.MeetingSchedule;
+import com.toastlabplus.repository.MeetingScheduleRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Nightly job that rolls every active schedule's generation window forward
+ * ({@code auto_generate_months}). Only the instance holding the Postgres
+ * advisory lock does the work, so autoscaled Cloud Run instances don't race.
+ * Each schedule is generated in its own transaction; a failing schedule is
+ * logged and skipped.
+ */
+@Component
+@ConditionalOnProperty(name = "app.meeting-generator.enabled", havingValue = "true", matchIfMissing = true)
+public class MeetingGenerationJob {
+
+    private static final Logger log = LoggerFactory.getLogger(MeetingGenerationJob.class);
+
+    private final MeetingScheduleRepository meetingScheduleRepository;
+    private final MeetingGenerationService meetingGenerationService;
+    private final AdvisoryLockService advisoryLockService;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${app.meeting-generator.batch-size:50}")
+    private int batchSize;
+
+    public MeetingGenerationJob(MeetingScheduleRepository meetingScheduleRepository,
+            MeetingGenerationService meetingGenerationService,
+            AdvisoryLockService advisoryLockService,
+            MeterRegistry meterRegistry) {
+        this.meetingScheduleRepository = meetingScheduleRepository;
+        this.meetingGenerationService = meetingGenerationService;
+        this.advisoryLockService = advisoryLockService;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Scheduled(cron = "${app.meeting-generator.cron:0 30 3 * * *}", zone = "${app.meeting-generator.zone:Asia/Taipei}")
+    public void run() {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "completed";
+        try {
+            boolean ran = advisoryLockService.runIfLeader(AdvisoryLockService.LOCK_MEETING_GENERATOR,
+                    this::generateAll);
+            if (!ran) {
+                outcome = "skipped";
+                log.info("Meeting generator skipped: another instance holds the lock");
+            }
+        } catch (RuntimeException e) {
+            outcome = "failed";
+            log.error("Meeting generator run failed", e);
+        } finally {
+            sample.stop(meterRegistry.timer("meetings.generator.run", "outcome", outcome));
+        }
+    }
+
+    private void generateAll() {
+        LocalDate today = meetingGenerationService.today();
+        long lastId = 0L;
+        int schedules = 0;
+        int created = 0;
+        int failed = 0;
+
+        List<MeetingSchedule> batch;
+        do {
+            batch = meetingScheduleRepository.findByIsActiveTrueAndIdGreaterThanOrderByIdAsc(lastId,
+                    Limit.of(batchSize));
+            for (MeetingSchedule schedule : batch) {
+                lastId = schedule.getId();
+                schedules++;
+                try {
+                    created += meetingGenerationService.rollForward(schedule.getId(), today);
+                } catch (RuntimeException e) {
+                    failed++;
+                    meterRegistry.counter("meetings.generator.failures").increment();
+                    log.warn("Meeting generation failed for schedule {}: {}", schedule.getId(), e.getMessage());
+                }
+            }
+        } while (batch.size() == batchSize);
+
+        log.info("Meeting generator: {} schedules, {} meetings created, {} failed", schedules, created, failed);
+    }
+}
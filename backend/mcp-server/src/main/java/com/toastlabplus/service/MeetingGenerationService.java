@@ -0,0 +1,205 @@
+package com.toastlabplus.service;
+
+import com.toastlabplus.entity.AgendaTemplate;
+import com.toastlabplus.entity.Meeting;
+import com.toastlabplus.entity.MeetingSchedule;
+import com.toastlabplus.entity.Member;
+import com.toastlabplus.entity.RoleSlot;
+import com.toastlabplus.repository.AgendaTemplateRepository;
+import com.toastlabplus.repository.MeetingRepository;
+import com.toastlabplus.repository.MeetingScheduleRepository;
+import com.toastlabplus.repository.RoleSlotRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Creates meetings (and their default role slots) from a schedule's
+ * recurrence. Generation is idempotent: dates that already have a meeting for
+ * the club are skipped, and concurrent runs for the same club are serialized
+ * with a transaction-scoped advisory lock.
+ */
+@Service
+public class MeetingGenerationService {
+
+    private static final Logger log = LoggerFactory.getLogger(MeetingGenerationService.class);
+
+    public static final String TRIGGER_MANUAL = "manual";
+    public static final String TRIGGER_SCHEDULED = "scheduled";
+
+    private final MeetingRepository meetingRepository;
+    private final MeetingScheduleRepository meetingScheduleRepository;
+    private final RoleSlotRepository roleSlotRepository;
+    private final AgendaTemplateRepository agendaTemplateRepository;
+    private final MeetingRecurrenceService recurrenceService;
+    private final AdvisoryLockService advisoryLockService;
+    private final TemplateStructureService templateStructureService;
+    private final MeterRegistry meterRegistry;
+
+    // Club-local calendar: meeting dates are in this zone, not the server's
+    @Value("${app.meeting-generator.zone:Asia/Taipei}")
+    private String zone;
+
+    public MeetingGenerationService(MeetingRepository meetingRepository,
+            MeetingScheduleRepository meetingScheduleRepository,
+            RoleSlotRepository roleSlotRepository,
+            AgendaTemplateRepository agendaTemplateRepository,
+            MeetingRecurrenceService recurrenceService,
+            AdvisoryLockService advisoryLockService,
+            TemplateStructureService templateStructureService,
+            MeterRegistry meterRegistry) {
+        this.meetingRepository = meetingRepository;
+        this.meetingScheduleRepository = meetingScheduleRepository;
+        this.roleSlotRepository = roleSlotRepository;
+        this.agendaTemplateRepository = agendaTemplateRepository;
+        this.recurrenceService = recurrenceService;
+        this.advisoryLockService = advisoryLockService;
+        this.templateStructureService = templateStructureService;
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * Today's date in the configured meeting zone, the lower bound for
+     * generation and previews.
+     */
+    public LocalDate today() {
+        return LocalDate.now(ZoneId.of(zone));
+    }
+
+    /**
+     * Create missing meetings for every occurrence in {@code [from, toExclusive)}.
+     *
+     * @return number of meetings created
+     */
+    @Transactional
+    public int generate(MeetingSchedule schedule, LocalDate from, LocalDate toExclusive, Member createdBy,
+            String trigger) {
+        Long clubId = schedule.getClub().getId();
+        advisoryLockService.lockForTransaction(AdvisoryLockService.NS_CLUB_MEETINGS, clubId);
+
+        Set<LocalDate> existingDates = new HashSet<>(
+                meetingRepository.findMeetingDatesByClubIdInRange(clubId, from, toExclusive));
+        int nextNumber = meetingRepository.findMaxMeetingNumberByClubId(clubId).orElse(0) + 1;
+        int created = 0;
+
+        Iterator<LocalDate> dates = recurrenceService.occurrences(schedule, from, toExclusive).iterator();
+        while (dates.hasNext()) {
+            LocalDate date = dates.next();
+            // Skip if meeting already exists for this date
+            if (existingDates.contains(date)) {
+                continue;
+            }
+
+            Meeting meeting = new Meeting();
+            meeting.setClub(schedule.getClub());
+            meeting.setMeetingNumber(nextNumber++);
+            meeting.setMeetingDate(date);
+            meeting.setStartTime(schedule.getStartTime());
+            meeting.setEndTime(schedule.getEndTime());
+            meeting.setLocation(schedule.getDefaultLocation());
+            meeting.setSpeakerCount(schedule.getDefaultSpeakerCount());
+            meeting.setTemplateId(schedule.getTemplateId());
+            meeting.setSchedule(schedule);
+            meeting.setStatus(Meeting.STATUS_DRAFT);
+            meeting.setCreatedBy(createdBy);
+
+            Meeting saved = meetingRepository.save(meeting);
+
+            // Create default role slots
+            createDefaultRoleSlots(saved);
+
+            created++;
+        }
+
+        if (created > 0) {
+            meterRegistry.counter("meetings.generated", "trigger", trigger).increment(created);
+            log.info("Generated {} meetings for schedule {} of club {} ({} to {}, {})", created,
+                    schedule.getId(), clubId, from, toExclusive, trigger);
+        }
+        return created;
+    }
+
+    /**
+     * Roll a schedule's generation window forward to today + autoGenerateMonths.
+     * Used by the background generator; meetings are attributed to the schedule
+     * creator.
+     *
+     * @return number of meetings created
+     */
+    @Transactional
+    public int rollForward(Long scheduleId, LocalDate today) {
+        MeetingSchedule schedule = meetingScheduleRepository.findById(scheduleId).orElse(null);
+        if (schedule == null || !Boolean.TRUE.equals(schedule.getIsActive())) {
+            return 0;
+        }
+        int months = schedule.getAutoGenerateMonths() != null ? schedule.getAutoGenerateMonths() : 3;
+        if (months <= 0) {
+            return 0;
+        }
+        return generate(schedule, today, today.plusMonths(months), schedule.getCreatedBy(), TRIGGER_SCHEDULED);
+    }
+
+    // ==================== Helper Methods ====================
+
+    private void createDefaultRoleSlots(Meeting meeting) {
+        List<RoleSlot> slots = new ArrayList<>();
+
+        // Roles laid out by the template (compiled once per parsed structure)
+        Map<String, Integer> templateRoles = Map.of();
+        if (meeting.getTemplateId() != null) {
+            AgendaTemplate template = agendaTemplateRepository.findById(meeting.getTemplateId()).orElse(null);
+            if (template != null) {
+                templateRoles = templateStructureService.compiled(template)
+                        .map(CompiledTemplate::roles)
+                        .orElse(Map.of());
+            }
+        }
+
+        // Fallback to default roles if no template or parsing failed
+        if (templateRoles.isEmpty()) {
+            String[] staticRoles = { RoleSlot.TME, RoleSlot.TIMER, RoleSlot.AH_COUNTER,
+                    RoleSlot.VOTE_COUNTER, RoleSlot.GRAMMARIAN, RoleSlot.GE, RoleSlot.LE,
+                    RoleSlot.TT_MASTER, RoleSlot.SESSION_MASTER, RoleSlot.PHOTOGRAPHER };
+
+            for (String role : staticRoles) {
+                slots.add(new RoleSlot(meeting, role, 1));
+            }
+
+            int speakerCount = meeting.getSpeakerCount() != null ? meeting.getSpeakerCount() : 3;
+            for (int i = 1; i <= speakerCount; i++) {
+                slots.add(new RoleSlot(meeting, RoleSlot.SPEAKER, i));
+                slots.add(new RoleSlot(meeting, RoleSlot.EVALUATOR, i));
+            }
+        } else {
+            // Create role slots based on template
+            for (Map.Entry<String, Integer> role : templateRoles.entrySet()) {
+                String baseRole = role.getKey();
+                int maxIndex = role.getValue();
+
+                // For SPEAKER and EVALUATOR, create multiple slots
+                if (RoleSlot.SPEAKER.equals(baseRole) || RoleSlot.EVALUATOR.equals(baseRole)) {
+                    for (int i = 1; i <= maxIndex; i++) {
+                        slots.add(new RoleSlot(meeting, baseRole, i));
+                    }
+                } else {
+                    // For other roles, create single slot
+                    slots.add(new RoleSlot(meeting, baseRole, 1));
+                }
+            }
+        }
+
+        roleSlotRepository.saveAll(slots);
+    }
+}
@@ -0,0 +1,273 @@
+package com.toastlabplus.service;
+
+import com.toastlabplus.entity.MeetingSchedule;
+import com.toastlabplus.entity.MeetingScheduleException;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAdjusters;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.TreeSet;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Immutable recurrence rule of a {@link MeetingSchedule}, expanded lazily into
+ * meeting dates.
+ *
+ * Supports WEEKLY, BIWEEKLY (anchored on the schedule start date) and MONTHLY
+ * (N-th weekday of the month, -1 = last) rules plus skipped and rescheduled
+ * occurrences. Dates are produced one at a time by a sorted
+ * {@link Spliterator}, so expanding years of occurrences never builds an
+ * intermediate list. Streams are unbounded for valid rules - always finish
+ * them with {@code limit} or {@code takeWhile}.
+ */
+public final class MeetingRecurrence {
+
+    private static final LocalDate[] NO_DATES = new LocalDate[0];
+
+    private final String frequency;
+    private final DayOfWeek dayOfWeek;
+    private final int[] weeksOfMonth;
+    private final LocalDate startDate;
+    private final LocalDate anchorDate;
+    private final Set<LocalDate> excludedDates;
+    private final LocalDate[] overrideDates;
+
+    private MeetingRecurrence(MeetingSchedule schedule, Collection<MeetingScheduleException> exceptions) {
+        this.frequency = schedule.getFrequency();
+        Integer day = schedule.getDayOfWeek();
+        this.dayOfWeek = (day != null && day >= 1 && day <= 7) ? DayOfWeek.of(day) : null;
+        this.weeksOfMonth = normalizeWeeks(schedule.getWeekOfMonth());
+        this.startDate = schedule.getStartDate();
+        if (startDate != null) {
+            this.anchorDate = startDate;
+        } else if (schedule.getCreatedAt() != null) {
+            this.anchorDate = schedule.getCreatedAt().toLocalDate();
+        } else {
+            this.anchorDate = null;
+        }
+
+        Set<LocalDate> excluded = new HashSet<>();
+        TreeSet<LocalDate> overrides = new TreeSet<>();
+        for (MeetingScheduleException exception : exceptions) {
+            excluded.add(exception.getExceptionDate());
+            if (exception.isReschedule()) {
+                overrides.add(exception.getOverrideDate());
+            }
+        }
+        this.excludedDates = Set.copyOf(excluded);
+        this.overrideDates = overrides.toArray(NO_DATES);
+    }
+
+    public static MeetingRecurrence of(MeetingSchedule schedule) {
+        return new MeetingRecurrence(schedule, List.of());
+    }
+
+    public static MeetingRecurrence of(MeetingSchedule schedule, Collection<MeetingScheduleException> exceptions) {
+        return new MeetingRecurrence(schedule, exceptions);
+    }
+
+    /**
+     * All occurrences on or after {@code from}, in ascending order.
+     */
+    public Stream<LocalDate> stream(LocalDate from) {
+        return StreamSupport.stream(new OccurrenceSpliterator(from), false);
+    }
+
+    /**
+     * Occurrences in {@code [from, toExclusive)}, in ascending order.
+     */
+    public Stream<LocalDate> between(LocalDate from, LocalDate toExclusive) {
+        return stream(from).takeWhile(date -> date.isBefore(toExclusive));
+    }
+
+    /**
+     * Whether the rule itself can produce dates (overrides aside).
+     */
+    public boolean isValid() {
+        if (dayOfWeek == null) {
+            return false;
+        }
+        return switch (frequency == null ? "" : frequency) {
+            case MeetingSchedule.FREQ_WEEKLY, MeetingSchedule.FREQ_BIWEEKLY -> true;
+            case MeetingSchedule.FREQ_MONTHLY -> weeksOfMonth.length > 0;
+            default -> false;
+        };
+    }
+
+    // ==================== Helper Methods ====================
+
+    private static int[] normalizeWeeks(int[] weeks) {
+        if (weeks == null) {
+            return new int[0];
+        }
+        // Keep 1-5 and -1 (last), deduplicated
+        return Arrays.stream(weeks)
+                .filter(w -> (w >= 1 && w <= 5) || w == -1)
+                .distinct()
+                .toArray();
+    }
+
+    /**
+     * Lazily merges the rule's dates (minus exceptions) with the sorted
+     * rescheduled dates.
+     */
+    private final class OccurrenceSpliterator extends Spliterators.AbstractSpliterator<LocalDate> {
+
+        private final LocalDate from;
+        private final boolean ruleValid;
+        private int overrideIndex;
+
+        // Last raw date produced by the rule (excluded dates included)
+        private LocalDate ruleCursor;
+        // Next rule date to emit, null when it still has to be computed
+        private LocalDate nextRuleDate;
+
+        // MONTHLY state: candidate dates of the current month
+        private YearMonth month;
+        private final LocalDate[] monthDates;
+        private int monthCount;
+        private int monthPosition;
+
+        OccurrenceSpliterator(LocalDate from) {
+            super(Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.DISTINCT | Spliterator.SORTED
+                    | Spliterator.NONNULL | Spliterator.IMMUTABLE);
+            this.from = (startDate != null && startDate.isAfter(from)) ? startDate : from;
+            this.ruleValid = isValid();
+            this.monthDates = new LocalDate[weeksOfMonth.length];
+
+            // Rescheduled dates before the window never appear
+            while (overrideIndex < overrideDates.length && overrideDates[overrideIndex].isBefore(this.from)) {
+                overrideIndex++;
+            }
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super LocalDate> action) {
+            LocalDate ruleDate = peekRuleDate();
+            LocalDate overrideDate = overrideIndex < overrideDates.length ? overrideDates[overrideIndex] : null;
+
+            if (ruleDate == null && overrideDate == null) {
+                return false;
+            }
+
+            LocalDate next;
+            if (overrideDate == null || (ruleDate != null && ruleDate.isBefore(overrideDate))) {
+                next = ruleDate;
+                nextRuleDate = null;
+            } else {
+                next = overrideDate;
+                overrideIndex++;
+                if (overrideDate.equals(ruleDate)) {
+                    nextRuleDate = null;
+                }
+            }
+
+            action.accept(next);
+            return true;
+        }
+
+        @Override
+        public Comparator<? super LocalDate> getComparator() {
+            return null; // natural order
+        }
+
+        private LocalDate peekRuleDate() {
+            if (!ruleValid) {
+                return null;
+            }
+            while (nextRuleDate == null) {
+                LocalDate candidate = ruleCursor == null ? firstRuleDate() : nextRuleDateAfterCursor();
+                ruleCursor = candidate;
+                if (!excludedDates.contains(candidate)) {
+                    nextRuleDate = candidate;
+                }
+            }
+            return nextRuleDate;
+        }
+
+        private LocalDate firstRuleDate() {
+            return switch (frequency) {
+                case MeetingSchedule.FREQ_WEEKLY -> from.with(TemporalAdjusters.nextOrSame(dayOfWeek));
+                case MeetingSchedule.FREQ_BIWEEKLY -> firstBiweeklyDate();
+                default -> firstMonthlyDate();
+            };
+        }
+
+        private LocalDate nextRuleDateAfterCursor() {
+            return switch (frequency) {
+                case MeetingSchedule.FREQ_WEEKLY -> ruleCursor.plusWeeks(1);
+                case MeetingSchedule.FREQ_BIWEEKLY -> ruleCursor.plusWeeks(2);
+                default -> nextMonthlyDate();
+            };
+        }
+
+        private LocalDate firstBiweeklyDate() {
+            LocalDate anchor = anchorDate != null ? anchorDate : from;
+            LocalDate first = anchor.with(TemporalAdjusters.nextOrSame(dayOfWeek));
+            if (!first.isBefore(from)) {
+                return first;
+            }
+            long periods = (ChronoUnit.DAYS.between(first, from) + 13) / 14;
+            return first.plusWeeks(2 * periods);
+        }
+
+        private LocalDate firstMonthlyDate() {
+            loadMonth(YearMonth.from(from));
+            while (true) {
+                while (monthPosition < monthCount) {
+                    LocalDate date = monthDates[monthPosition++];
+                    if (!date.isBefore(from)) {
+                        return date;
+                    }
+                }
+                loadMonth(month.plusMonths(1));
+            }
+        }
+
+        private LocalDate nextMonthlyDate() {
+            while (monthPosition >= monthCount) {
+                loadMonth(month.plusMonths(1));
+            }
+            return monthDates[monthPosition++];
+        }
+
+        private void loadMonth(YearMonth target) {
+            month = target;
+            monthCount = 0;
+            monthPosition = 0;
+            LocalDate firstOfMonth = target.atDay(1);
+            for (int week : weeksOfMonth) {
+                LocalDate date = week == -1
+                        ? firstOfMonth.with(TemporalAdjusters.lastInMonth(dayOfWeek))
+                        : firstOfMonth.with(TemporalAdjusters.dayOfWeekInMonth(week, dayOfWeek));
+                // A 5th weekday that does not exist rolls into the next month - drop it
+                if (date.getMonthValue() != target.getMonthValue()) {
+                    continue;
+                }
+                boolean duplicate = false;
+                for (int i = 0; i < monthCount; i++) {
+                    if (monthDates[i].equals(date)) {
+                        duplicate = true;
+                        break;
+                    }
+                }
+                if (!duplicate) {
+                    monthDates[monthCount++] = date;
+                }
+            }
+            Arrays.sort(monthDates, 0, monthCount);
+        }
+    }
+}
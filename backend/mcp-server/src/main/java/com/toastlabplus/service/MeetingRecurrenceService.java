@@ -0,0 +1,48 @@
+package com.toastlabplus.service;
+
+import com.toastlabplus.entity.MeetingSchedule;
+import com.toastlabplus.repository.MeetingScheduleExceptionRepository;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Expands meeting schedules into dates, applying the schedule's persisted
+ * skip/reschedule exceptions. Shared by meeting generation and previews.
+ */
+@Service
+public class MeetingRecurrenceService {
+
+    private final MeetingScheduleExceptionRepository exceptionRepository;
+
+    public MeetingRecurrenceService(MeetingScheduleExceptionRepository exceptionRepository) {
+        this.exceptionRepository = exceptionRepository;
+    }
+
+    /**
+     * Build the recurrence for a schedule, loading its exceptions once.
+     */
+    public MeetingRecurrence recurrenceFor(MeetingSchedule schedule) {
+        if (schedule.getId() == null) {
+            return MeetingRecurrence.of(schedule);
+        }
+        return MeetingRecurrence.of(schedule,
+                exceptionRepository.findByScheduleIdOrderByExceptionDateAsc(schedule.getId()));
+    }
+
+    /**
+     * Meeting dates in {@code [from, toExclusive)}.
+     */
+    public Stream<LocalDate> occurrences(MeetingSchedule schedule, LocalDate from, LocalDate toExclusive) {
+        return recurrenceFor(schedule).between(from, toExclusive);
+    }
+
+    /**
+     * The next {@code count} meeting dates on or after {@code from}.
+     */
+    public List<LocalDate> nextOccurrences(MeetingSchedule schedule, LocalDate from, int count) {
+        return recurrenceFor(schedule).stream(from).limit(count).toList();
+    }
+}
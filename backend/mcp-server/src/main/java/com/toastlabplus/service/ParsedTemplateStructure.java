@@ -0,0 +1,95 @@
+package com.toastlabplus.service;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Typed form of the template parser's output, stored as
+ * {@code agenda_template.parsed_structure} (JSONB). Property names follow the
+ * parser's snake_case JSON; unknown properties are dropped.
+ *
+ * Positions are 1-indexed, matching the {@code [R<row>,C<col>]} content sent
+ * to the parser.
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record ParsedTemplateStructure(
+        @JsonProperty("variable_mappings") List<VariableMapping> variableMappings,
+        @JsonProperty("variables") List<Variable> variables,
+        @JsonProperty("role_slots") List<RoleSlotSpec> roleSlots,
+        @JsonProperty("dynamic_blocks") List<JsonNode> dynamicBlocks,
+        @JsonProperty("raw_analysis") String rawAnalysis) {
+
+    public ParsedTemplateStructure {
+        variableMappings = nonNullCopy(variableMappings);
+        variables = nonNullCopy(variables);
+        roleSlots = nonNullCopy(roleSlots);
+        dynamicBlocks = nonNullCopy(dynamicBlocks);
+    }
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public record CellPosition(int row, int col) {
+    }
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public record VariableMapping(
+            @JsonProperty("role") String role,
+            @JsonProperty("label_position") CellPosition labelPosition,
+            @JsonProperty("value_position") CellPosition valuePosition,
+            @JsonProperty("description") String description) {
+    }
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public record Variable(
+            @JsonProperty("name") String name,
+            @JsonProperty("type") String type,
+            @JsonProperty("description") String description) {
+    }
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public record RoleSlotSpec(
+            @JsonProperty("role") String role,
+            @JsonProperty("slot_count") Integer slotCount,
+            @JsonProperty("has_evaluator") Boolean hasEvaluator) {
+    }
+
+    /**
+     * Mappings that cannot be filled: no role, or no valid value position.
+     */
+    public List<String> invalidMappings() {
+        List<String> problems = new ArrayList<>();
+        for (int i = 0; i < variableMappings.size(); i++) {
+            VariableMapping mapping = variableMappings.get(i);
+            if (!isUsable(mapping)) {
+                problems.add("variable_mappings[" + i + "]"
+                        + (mapping != null && mapping.role() != null ? " (" + mapping.role() + ")" : ""));
+            }
+        }
+        return problems;
+    }
+
+    /**
+     * Copy without the mappings reported by {@link #invalidMappings()}.
+     */
+    public ParsedTemplateStructure withUsableMappings() {
+        List<VariableMapping> usable = variableMappings.stream()
+                .filter(ParsedTemplateStructure::isUsable)
+                .toList();
+        return new ParsedTemplateStructure(usable, variables, roleSlots, dynamicBlocks, rawAnalysis);
+    }
+
+    private static <T> List<T> nonNullCopy(List<T> list) {
+        return list == null ? List.of() : list.stream().filter(Objects::nonNull).toList();
+    }
+
+    private static boolean isUsable(VariableMapping mapping) {
+        return mapping != null
+                && mapping.role() != null && !mapping.role().isBlank()
+                && mapping.valuePosition() != null
+                && mapping.valuePosition().row() >= 1 && mapping.valuePosition().col() >= 1;
+    }
+}
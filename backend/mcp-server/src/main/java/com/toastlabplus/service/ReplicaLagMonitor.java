@@ -0,0 +1,70 @@
+package com.toastlabplus.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+
+/**
+ * Polls the read replica's replay lag. Reads fall back to the primary while
+ * the replica is unreachable or further behind than
+ * {@code app.datasource.replica.max-lag-seconds}.
+ */
+@Component
+@ConditionalOnProperty(name = "app.datasource.replica.enabled", havingValue = "true")
+public class ReplicaLagMonitor {
+
+    private static final Logger log = LoggerFactory.getLogger(ReplicaLagMonitor.class);
+
+    // 0 when caught up: an idle primary must not look like lag
+    private static final String LAG_SQL = """
+            SELECT CASE
+                WHEN NOT pg_is_in_recovery() THEN 0
+                WHEN pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0
+                ELSE COALESCE(EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()), 0)
+            END""";
+
+    private final JdbcTemplate replicaJdbcTemplate;
+
+    @Value("${app.datasource.replica.max-lag-seconds:5}")
+    private double maxLagSeconds;
+
+    private volatile double lagSeconds;
+    private volatile boolean reachable = true;
+
+    public ReplicaLagMonitor(@Qualifier("replicaDataSource") DataSource replicaDataSource,
+            MeterRegistry meterRegistry) {
+        this.replicaJdbcTemplate = new JdbcTemplate(replicaDataSource);
+        meterRegistry.gauge("db.replica.lag.seconds", this, m -> m.lagSeconds);
+        meterRegistry.gauge("db.replica.usable", this, m -> m.isReplicaUsable() ? 1 : 0);
+    }
+
+    public boolean isReplicaUsable() {
+        return reachable && lagSeconds <= maxLagSeconds;
+    }
+
+    @Scheduled(fixedDelayString = "${app.datasource.replica.lag-check-interval-ms:5000}")
+    public void checkLag() {
+        boolean wasUsable = isReplicaUsable();
+        try {
+            Double lag = replicaJdbcTemplate.queryForObject(LAG_SQL, Double.class);
+            lagSeconds = lag != null ? lag : 0;
+            reachable = true;
+        } catch (RuntimeException e) {
+            reachable = false;
+            log.warn("Replica lag check failed: {}", e.getMessage());
+        }
+        boolean usable = isReplicaUsable();
+        if (usable != wasUsable) {
+            log.warn("Read replica {} (lag {}s)", usable ? "back in rotation" : "taken out of rotation",
+                    lagSeconds);
+        }
+    }
+}
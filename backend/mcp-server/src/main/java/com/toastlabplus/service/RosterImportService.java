@@ -0,0 +1,360 @@
+package com.toastlabplus.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * Bulk import of a club roster (XLSX or CSV) as approved members.
+ *
+ * The upload is streamed row by row ({@link SpreadsheetReader} /
+ * {@link CsvReader}) and written in chunks of {@code app.roster-import.batch-size}
+ * rows, each in its own transaction: one set-based lookup of the chunk's
+ * emails, then JDBC batch inserts of the new members and upserts of their
+ * memberships. Only the current chunk and the set of emails seen so far are
+ * held in memory. Invalid rows are reported and skipped; they never fail
+ * the import.
+ *
+ * Members created here have no password ({@code auth_provider = IMPORTED});
+ * they can only sign in through Firebase. The account is linked only when
+ * the sign-in carries a Firebase ID token that verifies server-side with
+ * {@code email_verified} for the imported email ({@link FirebaseTokenVerifier});
+ * the email sent by the client alone is not enough. Registering with the same
+ * email is refused like for any existing member, so nobody can claim an
+ * imported account with a password.
+ */
+@Service
+public class RosterImportService {
+
+    private static final Logger log = LoggerFactory.getLogger(RosterImportService.class);
+
+    public static final String AUTH_PROVIDER_IMPORTED = "IMPORTED";
+
+    private static final Pattern EMAIL = Pattern.compile("^[^@\\s]+@[^@\\s]+\\.[^@\\s]+$");
+    private static final int MAX_REPORTED_ERRORS = 200;
+
+    // Accepted header names (lowercase) per column
+    private static final Set<String> NAME_HEADERS = Set.of("name", "full name", "member name", "姓名", "名字");
+    private static final Set<String> EMAIL_HEADERS = Set.of("email", "e-mail", "email address", "電子郵件", "信箱");
+    private static final Set<String> PHONE_HEADERS = Set.of("phone", "mobile", "phone number", "電話", "手機");
+
+    private static final String FIND_MEMBERS_SQL = """
+            SELECT id, LOWER(email) FROM member WHERE LOWER(email) = ANY(?)
+            """;
+    private static final String FIND_MEMBERSHIPS_SQL = """
+            SELECT member_id, status FROM club_membership WHERE club_id = ? AND member_id = ANY(?)
+            """;
+    private static final String INSERT_MEMBER_SQL = """
+            INSERT INTO member (email, name, phone, role, auth_provider, notification_push,
+                                notification_email, created_at, updated_at)
+            VALUES (?, ?, ?, 'MEMBER', ?, TRUE, TRUE, ?, ?)
+            ON CONFLICT (email) DO NOTHING
+            """;
+    private static final String UPSERT_MEMBERSHIP_SQL = """
+            INSERT INTO club_membership (member_id, club_id, status, approved_by, approved_at, created_at, updated_at)
+            VALUES (?, ?, 'APPROVED', ?, ?, ?, ?)
+            ON CONFLICT (member_id, club_id) DO UPDATE
+                SET status = 'APPROVED', approved_by = EXCLUDED.approved_by, approved_at = EXCLUDED.approved_at,
+                    rejection_reason = NULL, updated_at = EXCLUDED.updated_at
+                WHERE club_membership.status <> 'APPROVED'
+            """;
+
+    public enum Format {
+        XLSX, CSV;
+
+        public static Format fromFilename(String filename) {
+            String lower = filename == null ? "" : filename.toLowerCase(Locale.ROOT);
+            if (lower.endsWith(".xlsx")) {
+                return XLSX;
+            }
+            if (lower.endsWith(".csv")) {
+                return CSV;
+            }
+            return null;
+        }
+    }
+
+    public record RowError(int row, String email, String error) {
+    }
+
+    public record ImportResult(int totalRows, int created, int added, int approved, int alreadyMembers,
+            int errorCount, List<RowError> errors, long durationMs) {
+    }
+
+    private record RosterRow(int row, String email, String name, String phone) {
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final SpreadsheetReader spreadsheetReader;
+    private final MeterRegistry meterRegistry;
+    private final int batchSize;
+
+    public RosterImportService(JdbcTemplate jdbcTemplate,
+            TransactionTemplate transactionTemplate,
+            SpreadsheetReader spreadsheetReader,
+            MeterRegistry meterRegistry,
+            @Value("${app.roster-import.batch-size:500}") int batchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.spreadsheetReader = spreadsheetReader;
+        this.meterRegistry = meterRegistry;
+        this.batchSize = Math.max(1, batchSize);
+    }
+
+    /**
+     * Import the first sheet (XLSX) or the file (CSV). The first row must be a
+     * header with at least name and email columns.
+     */
+    public ImportResult importRoster(Long clubId, Long importedById, Format format, InputStream in)
+            throws IOException {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        long start = System.nanoTime();
+        Importer importer = new Importer(clubId, importedById);
+        String outcome = "success";
+        try {
+            if (format == Format.XLSX) {
+                SpreadsheetReader.Limits defaults = spreadsheetReader.defaultLimits();
+                spreadsheetReader.read(in,
+                        new SpreadsheetReader.Limits(1, defaults.maxRows(), defaults.maxCells()),
+                        new SpreadsheetReader.SheetHandler() {
+                            @Override
+                            public void row(int rowNum, List<SpreadsheetReader.SpreadsheetCell> cells) {
+                                List<String> values = new ArrayList<>();
+                                for (SpreadsheetReader.SpreadsheetCell cell : cells) {
+                                    while (values.size() < cell.col() - 1) {
+                                        values.add("");
+                                    }
+                                    values.add(cell.text());
+                                }
+                                importer.accept(rowNum, values);
+                            }
+                        });
+            } else {
+                CsvReader.read(in, spreadsheetReader.defaultLimits().maxRows(), importer::accept);
+            }
+            importer.flush();
+        } catch (IOException | RuntimeException e) {
+            outcome = "failed";
+            throw e;
+        } finally {
+            sample.stop(meterRegistry.timer("members.import", "outcome", outcome));
+        }
+
+        long durationMs = (System.nanoTime() - start) / 1_000_000;
+        log.info("Roster import for club {}: {} rows, {} created, {} added, {} approved, {} errors in {} ms",
+                clubId, importer.totalRows, importer.created, importer.added, importer.approved,
+                importer.errorCount, durationMs);
+        return new ImportResult(importer.totalRows, importer.created, importer.added, importer.approved,
+                importer.alreadyMembers, importer.errorCount, List.copyOf(importer.errors), durationMs);
+    }
+
+    // ==================== Helper Methods ====================
+
+    /**
+     * Per-import state: header mapping, in-file duplicates, the pending chunk
+     * and counters.
+     */
+    private final class Importer {
+
+        private final Long clubId;
+        private final Long importedById;
+
+        private int nameCol = -1;
+        private int emailCol = -1;
+        private int phoneCol = -1;
+        private boolean headerSeen;
+
+        private final Set<String> seenEmails = new HashSet<>();
+        private final List<RosterRow> chunk = new ArrayList<>();
+        private final List<RowError> errors = new ArrayList<>();
+
+        private int totalRows;
+        private int created;
+        private int added;
+        private int approved;
+        private int alreadyMembers;
+        private int errorCount;
+
+        Importer(Long clubId, Long importedById) {
+            this.clubId = clubId;
+            this.importedById = importedById;
+        }
+
+        void accept(int rowNum, List<String> values) {
+            if (values.stream().allMatch(String::isBlank)) {
+                return;
+            }
+            if (!headerSeen) {
+                readHeader(values);
+                return;
+            }
+            totalRows++;
+
+            String email = cell(values, emailCol).toLowerCase(Locale.ROOT);
+            String name = cell(values, nameCol);
+            String phone = phoneCol >= 0 ? cell(values, phoneCol) : "";
+            if (email.isEmpty()) {
+                error(rowNum, null, "Email is required");
+            } else if (email.length() > 100 || !EMAIL.matcher(email).matches()) {
+                error(rowNum, email, "Invalid email");
+            } else if (name.isEmpty()) {
+                error(rowNum, email, "Name is required");
+            } else if (name.length() > 100) {
+                error(rowNum, email, "Name is longer than 100 characters");
+            } else if (phone.length() > 30) {
+                error(rowNum, email, "Phone is longer than 30 characters");
+            } else if (!seenEmails.add(email)) {
+                error(rowNum, email, "Duplicate email in file");
+            } else {
+                chunk.add(new RosterRow(rowNum, email, name, phone.isEmpty() ? null : phone));
+                if (chunk.size() >= batchSize) {
+                    flush();
+                }
+            }
+        }
+
+        void flush() {
+            if (!headerSeen) {
+                throw new IllegalArgumentException("File is empty");
+            }
+            if (chunk.isEmpty()) {
+                return;
+            }
+            List<RosterRow> rows = List.copyOf(chunk);
+            chunk.clear();
+            transactionTemplate.executeWithoutResult(status -> writeChunk(rows));
+        }
+
+        private void readHeader(List<String> values) {
+            for (int i = 0; i < values.size(); i++) {
+                String header = values.get(i).strip().toLowerCase(Locale.ROOT);
+                if (nameCol < 0 && NAME_HEADERS.contains(header)) {
+                    nameCol = i;
+                } else if (emailCol < 0 && EMAIL_HEADERS.contains(header)) {
+                    emailCol = i;
+                } else if (phoneCol < 0 && PHONE_HEADERS.contains(header)) {
+                    phoneCol = i;
+                }
+            }
+            if (nameCol < 0 || emailCol < 0) {
+                throw new IllegalArgumentException("Header row must contain 'name' and 'email' columns");
+            }
+            headerSeen = true;
+        }
+
+        /**
+         * Insert missing members and approve their memberships: one lookup,
+         * two batches and a second lookup for the new ids.
+         */
+        private void writeChunk(List<RosterRow> rows) {
+            Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+            List<String> emails = rows.stream().map(RosterRow::email).toList();
+
+            Map<String, Long> memberIds = findMemberIds(emails);
+            List<RosterRow> newMembers = rows.stream()
+                    .filter(row -> !memberIds.containsKey(row.email()))
+                    .toList();
+            if (!newMembers.isEmpty()) {
+                jdbcTemplate.batchUpdate(INSERT_MEMBER_SQL, newMembers, newMembers.size(), (ps, row) -> {
+                    ps.setString(1, row.email());
+                    ps.setString(2, row.name());
+                    ps.setString(3, row.phone());
+                    ps.setString(4, AUTH_PROVIDER_IMPORTED);
+                    ps.setTimestamp(5, now);
+                    ps.setTimestamp(6, now);
+                });
+                memberIds.putAll(findMemberIds(newMembers.stream().map(RosterRow::email).toList()));
+                created += newMembers.size();
+            }
+
+            Map<Long, String> membershipStatus = findMembershipStatus(memberIds.values());
+            List<Long> toApprove = new ArrayList<>();
+            for (RosterRow row : rows) {
+                Long memberId = memberIds.get(row.email());
+                if (memberId == null) {
+                    // Lost a race with a concurrent insert of a differently cased email
+                    error(row.row(), row.email(), "Could not create member");
+                    continue;
+                }
+                String status = membershipStatus.get(memberId);
+                if ("APPROVED".equals(status)) {
+                    alreadyMembers++;
+                } else {
+                    toApprove.add(memberId);
+                    if (status == null) {
+                        added++;
+                    } else {
+                        approved++;
+                    }
+                }
+            }
+            if (!toApprove.isEmpty()) {
+                jdbcTemplate.batchUpdate(UPSERT_MEMBERSHIP_SQL, toApprove, toApprove.size(), (ps, memberId) -> {
+                    ps.setLong(1, memberId);
+                    ps.setLong(2, clubId);
+                    ps.setLong(3, importedById);
+                    ps.setTimestamp(4, now);
+                    ps.setTimestamp(5, now);
+                    ps.setTimestamp(6, now);
+                });
+            }
+        }
+
+        private Map<String, Long> findMemberIds(List<String> emails) {
+            Map<String, Long> ids = new HashMap<>();
+            jdbcTemplate.query(FIND_MEMBERS_SQL,
+                    ps -> ps.setArray(1, ps.getConnection().createArrayOf("varchar", emails.toArray())),
+                    rs -> {
+                        // Lowest id wins if legacy rows differ only by case
+                        ids.merge(rs.getString(2), rs.getLong(1), Math::min);
+                    });
+            return ids;
+        }
+
+        private Map<Long, String> findMembershipStatus(java.util.Collection<Long> memberIds) {
+            Map<Long, String> statuses = new HashMap<>();
+            if (memberIds.isEmpty()) {
+                return statuses;
+            }
+            jdbcTemplate.query(FIND_MEMBERSHIPS_SQL,
+                    ps -> {
+                        ps.setLong(1, clubId);
+                        ps.setArray(2, ps.getConnection().createArrayOf("bigint", memberIds.toArray()));
+                    },
+                    rs -> {
+                        statuses.put(rs.getLong(1), rs.getString(2));
+                    });
+            return statuses;
+        }
+
+        private void error(int rowNum, String email, String message) {
+            errorCount++;
+            if (errors.size() < MAX_REPORTED_ERRORS) {
+                errors.add(new RowError(rowNum, email, message));
+            }
+        }
+
+        private static String cell(List<String> values, int col) {
+            return col >= 0 && col < values.size() && values.get(col) != null ? values.get(col).strip() : "";
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package com.toastlabplus.service;
+
+import java.time.Instant;
+import java.util.Map;
+
+/**
+ * A pre-signed request that lets a client upload one object directly to the
+ * bucket. The client must send exactly {@code headers} with the request.
+ */
+public record SignedUpload(
+        StorageLocation location,
+        String url,
+        String method,
+        Map<String, String> headers,
+        Instant expiresAt) {
+}
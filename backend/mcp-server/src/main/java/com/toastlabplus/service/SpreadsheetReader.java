@@ -0,0 +1,330 @@
+package com.toastlabplus.service;
+
+import org.apache.poi.UnsupportedFileFormatException;
+import org.apache.poi.openxml4j.exceptions.InvalidOperationException;
+import org.apache.poi.openxml4j.exceptions.OpenXML4JException;
+import org.apache.poi.openxml4j.opc.OPCPackage;
+import org.apache.poi.openxml4j.opc.PackageAccess;
+import org.apache.poi.ss.usermodel.DateUtil;
+import org.apache.poi.ss.util.CellRangeAddress;
+import org.apache.poi.ss.util.CellReference;
+import org.apache.poi.util.XMLHelper;
+import org.apache.poi.xssf.eventusermodel.ReadOnlySharedStringsTable;
+import org.apache.poi.xssf.eventusermodel.XSSFReader;
+import org.apache.poi.xssf.model.StylesTable;
+import org.apache.poi.xssf.usermodel.XSSFCellStyle;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.xml.sax.Attributes;
+import org.xml.sax.InputSource;
+import org.xml.sax.SAXException;
+import org.xml.sax.XMLReader;
+import org.xml.sax.helpers.DefaultHandler;
+
+import javax.xml.parsers.ParserConfigurationException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Streaming .xlsx reader on POI's event API ({@link XSSFReader} + read-only
+ * shared strings table + SAX), used for template extraction and spreadsheet
+ * imports.
+ *
+ * Unlike {@code XSSFWorkbook} it never builds the DOM of a sheet and never
+ * touches drawings or embedded images: the upload is spooled to a temp file,
+ * opened as a zip and each sheet's XML is parsed row by row. Only the shared
+ * strings and styles stay in memory. Sheets beyond {@code max-sheets} are
+ * not read; more than {@code max-rows} rows in a sheet or {@code max-cells}
+ * cells in the workbook fails the read with {@link LimitExceededException}.
+ *
+ * Cell text matches what the DOM-based code produced: trimmed strings, whole
+ * numbers without a fraction, dates as ISO date-times.
+ */
+@Component
+public class SpreadsheetReader {
+
+    /**
+     * A non-empty cell; positions are 1-indexed. {@code string} is true for
+     * string constants (shared or inline), false for numbers, dates, booleans
+     * and formula results.
+     */
+    public record SpreadsheetCell(int row, int col, String text, boolean string, boolean bold) {
+    }
+
+    public interface SheetHandler {
+
+        /**
+         * @return false to skip this sheet
+         */
+        default boolean startSheet(int sheetIndex, String sheetName) {
+            return true;
+        }
+
+        /**
+         * Non-empty cells of one row, in column order (possibly none).
+         */
+        void row(int rowNum, List<SpreadsheetCell> cells);
+
+        default void mergedRegion(int firstRow, int firstCol, int lastRow, int lastCol) {
+        }
+
+        default void endSheet() {
+        }
+    }
+
+    public static class LimitExceededException extends IOException {
+
+        public LimitExceededException(String message) {
+            super(message);
+        }
+    }
+
+    public record Limits(int maxSheets, int maxRows, long maxCells) {
+    }
+
+    private final Limits defaultLimits;
+
+    public SpreadsheetReader(
+            @Value("${app.spreadsheet.max-sheets:10}") int maxSheets,
+            @Value("${app.spreadsheet.max-rows:10000}") int maxRows,
+            @Value("${app.spreadsheet.max-cells:500000}") long maxCells) {
+        this.defaultLimits = new Limits(maxSheets, maxRows, maxCells);
+    }
+
+    public Limits defaultLimits() {
+        return defaultLimits;
+    }
+
+    public void read(InputStream in, SheetHandler handler) throws IOException {
+        read(in, defaultLimits, handler);
+    }
+
+    /**
+     * Stream every sheet (up to the limit) of an .xlsx workbook to
+     * {@code handler}. The stream is consumed but not closed.
+     */
+    public void read(InputStream in, Limits limits, SheetHandler handler) throws IOException {
+        Path spool = Files.createTempFile("spreadsheet-", ".xlsx");
+        try {
+            Files.copy(in, spool, StandardCopyOption.REPLACE_EXISTING);
+            try (OPCPackage pkg = OPCPackage.open(spool.toFile(), PackageAccess.READ)) {
+                readPackage(pkg, limits, handler);
+            } catch (OpenXML4JException | SAXException | ParserConfigurationException
+                    | InvalidOperationException | UnsupportedFileFormatException e) {
+                throw new IOException("Not a readable .xlsx workbook: " + e.getMessage(), e);
+            }
+        } finally {
+            Files.deleteIfExists(spool);
+        }
+    }
+
+    // ==================== Helper Methods ====================
+
+    private void readPackage(OPCPackage pkg, Limits limits, SheetHandler handler)
+            throws IOException, OpenXML4JException, SAXException, ParserConfigurationException {
+        XSSFReader reader = new XSSFReader(pkg);
+        ReadOnlySharedStringsTable sharedStrings = new ReadOnlySharedStringsTable(pkg);
+        StylesTable styles = reader.getStylesTable();
+        CellCounter counter = new CellCounter(limits.maxCells());
+
+        XSSFReader.SheetIterator sheets = (XSSFReader.SheetIterator) reader.getSheetsData();
+        int sheetIndex = 0;
+        while (sheets.hasNext() && sheetIndex < limits.maxSheets()) {
+            try (InputStream sheet = sheets.next()) {
+                if (handler.startSheet(sheetIndex, sheets.getSheetName())) {
+                    XMLReader parser = XMLHelper.newXMLReader();
+                    parser.setContentHandler(new SheetXmlHandler(sharedStrings, styles, limits.maxRows(),
+                            counter, handler));
+                    try {
+                        parser.parse(new InputSource(sheet));
+                    } catch (SAXException e) {
+                        if (e.getCause() instanceof IOException io) {
+                            throw io;
+                        }
+                        throw e;
+                    }
+                    handler.endSheet();
+                }
+            }
+            sheetIndex++;
+        }
+    }
+
+    private static final class CellCounter {
+
+        private final long max;
+        private long count;
+
+        CellCounter(long max) {
+            this.max = max;
+        }
+
+        void increment() throws SAXException {
+            if (++count > max) {
+                throw new SAXException(new LimitExceededException("Spreadsheet has more than " + max + " cells"));
+            }
+        }
+    }
+
+    /**
+     * SAX handler for one worksheet part: rows, cells and merged regions.
+     * {@code XSSFSheetXMLHandler} is not used because it hides cell styles
+     * and merged regions.
+     */
+    private static final class SheetXmlHandler extends DefaultHandler {
+
+        private final ReadOnlySharedStringsTable sharedStrings;
+        private final StylesTable styles;
+        private final int maxRows;
+        private final CellCounter counter;
+        private final SheetHandler handler;
+
+        // Per-style flags, resolved on first use
+        private final Map<Integer, Boolean> boldStyles = new HashMap<>();
+        private final Map<Integer, Boolean> dateStyles = new HashMap<>();
+
+        private int rows;
+        private int rowNum;
+        private List<SpreadsheetCell> cells = new ArrayList<>();
+
+        // Current cell
+        private int col;
+        private String type;
+        private int styleIndex;
+        private boolean formula;
+        private boolean capture;
+        private final StringBuilder value = new StringBuilder();
+
+        SheetXmlHandler(ReadOnlySharedStringsTable sharedStrings, StylesTable styles, int maxRows,
+                CellCounter counter, SheetHandler handler) {
+            this.sharedStrings = sharedStrings;
+            this.styles = styles;
+            this.maxRows = maxRows;
+            this.counter = counter;
+            this.handler = handler;
+        }
+
+        @Override
+        public void startElement(String uri, String localName, String qName, Attributes attributes)
+                throws SAXException {
+            switch (localName) {
+                case "row" -> {
+                    if (++rows > maxRows) {
+                        throw new SAXException(new LimitExceededException(
+                                "Sheet has more than " + maxRows + " rows"));
+                    }
+                    String r = attributes.getValue("r");
+                    rowNum = r != null ? Integer.parseInt(r) : rowNum + 1;
+                    col = 0;
+                    cells = new ArrayList<>();
+                }
+                case "c" -> {
+                    String ref = attributes.getValue("r");
+                    col = ref != null ? new CellReference(ref).getCol() + 1 : col + 1;
+                    type = attributes.getValue("t");
+                    String s = attributes.getValue("s");
+                    styleIndex = s != null ? Integer.parseInt(s) : 0;
+                    formula = false;
+                    value.setLength(0);
+                }
+                case "f" -> formula = true;
+                case "v", "t" -> capture = true;
+                case "mergeCell" -> {
+                    String ref = attributes.getValue("ref");
+                    if (ref != null) {
+                        CellRangeAddress region = CellRangeAddress.valueOf(ref);
+                        handler.mergedRegion(region.getFirstRow() + 1, region.getFirstColumn() + 1,
+                                region.getLastRow() + 1, region.getLastColumn() + 1);
+                    }
+                }
+                default -> {
+                }
+            }
+        }
+
+        @Override
+        public void characters(char[] ch, int start, int length) {
+            if (capture) {
+                value.append(ch, start, length);
+            }
+        }
+
+        @Override
+        public void endElement(String uri, String localName, String qName) throws SAXException {
+            switch (localName) {
+                case "v", "t" -> capture = false;
+                case "c" -> endCell();
+                case "row" -> handler.row(rowNum, cells);
+                default -> {
+                }
+            }
+        }
+
+        private void endCell() throws SAXException {
+            String raw = value.toString();
+            String text;
+            boolean string = false;
+            if ("s".equals(type)) {
+                text = raw.isEmpty() ? "" : sharedStrings.getItemAt(Integer.parseInt(raw.trim())).getString().trim();
+                string = true;
+            } else if ("inlineStr".equals(type)) {
+                text = raw.trim();
+                string = true;
+            } else if ("str".equals(type)) {
+                text = raw.trim();
+            } else if ("b".equals(type)) {
+                // Boolean formula results were never rendered
+                text = formula ? "" : String.valueOf("1".equals(raw.trim()));
+            } else if ("e".equals(type) || raw.isBlank()) {
+                text = "";
+            } else {
+                text = formatNumber(Double.parseDouble(raw.trim()));
+            }
+            if (!text.isEmpty()) {
+                counter.increment();
+                cells.add(new SpreadsheetCell(rowNum, col, text, string, isBold(styleIndex)));
+            }
+        }
+
+        private String formatNumber(double num) {
+            if (formula) {
+                return String.valueOf(num);
+            }
+            if (isDate(styleIndex) && DateUtil.isValidExcelDate(num)) {
+                return DateUtil.getLocalDateTime(num).toString();
+            }
+            if (num == Math.floor(num) && !Double.isInfinite(num)) {
+                return String.valueOf((long) num);
+            }
+            return String.valueOf(num);
+        }
+
+        private boolean isBold(int index) {
+            return boldStyles.computeIfAbsent(index, i -> {
+                XSSFCellStyle style = style(i);
+                return style != null && style.getFont() != null && style.getFont().getBold();
+            });
+        }
+
+        private boolean isDate(int index) {
+            return dateStyles.computeIfAbsent(index, i -> {
+                XSSFCellStyle style = style(i);
+                return style != null && DateUtil.isADateFormat(style.getDataFormat(), style.getDataFormatString());
+            });
+        }
+
+        private XSSFCellStyle style(int index) {
+            if (styles == null || index < 0 || index >= styles.getNumCellStyles()) {
+                return null;
+            }
+            return styles.getStyleAt(index);
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package com.toastlabplus.service;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.function.Supplier;
+
+/**
+ * Meters SQL statement counts and DB time per HTTP endpoint / MCP tool and
+ * flags units of work that exceed the configured budget (typically N+1
+ * lazy loading in a loop).
+ */
+@Component
+public class SqlBudgetMonitor {
+
+    private static final Logger log = LoggerFactory.getLogger(SqlBudgetMonitor.class);
+
+    public static final String SCOPE_HTTP = "http";
+    public static final String SCOPE_MCP_TOOL = "mcp-tool";
+
+    private final MeterRegistry meterRegistry;
+
+    @Value("${app.sql-budget.enabled:true}")
+    private boolean enabled;
+
+    @Value("${app.sql-budget.max-statements:25}")
+    private int maxStatements;
+
+    @Value("${app.sql-budget.max-repeats:5}")
+    private int maxRepeats;
+
+    public SqlBudgetMonitor(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Run {@code work} in its own tracking scope and record the result.
+     */
+    public <T> T measure(String scope, String name, Supplier<T> work) {
+        if (!enabled) {
+            return work.get();
+        }
+        SqlStatementTracker.Scope trackingScope = SqlStatementTracker.begin();
+        try {
+            return work.get();
+        } finally {
+            trackingScope.close();
+            record(scope, name, trackingScope.stats());
+        }
+    }
+
+    public void record(String scope, String name, SqlStatementStats stats) {
+        DistributionSummary.builder("sql.statements")
+                .description("SQL statements per unit of work")
+                .tag("scope", scope)
+                .tag("name", name)
+                .register(meterRegistry)
+                .record(stats.getStatementCount());
+        meterRegistry.timer("sql.time", "scope", scope, "name", name).record(stats.getDbTime());
+
+        boolean tooMany = stats.getStatementCount() > maxStatements;
+        boolean repeated = stats.getMaxRepeats() > maxRepeats;
+        if (tooMany || repeated) {
+            meterRegistry.counter("sql.budget.exceeded", "scope", scope, "name", name,
+                    "reason", repeated ? "repeated" : "count").increment();
+            log.warn("SQL budget exceeded by {} {}: {} statements in {} ms, most repeated x{}: {}",
+                    scope, name, stats.getStatementCount(), stats.getDbTime().toMillis(),
+                    stats.getMaxRepeats(), stats.getMostRepeatedSql());
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package com.toastlabplus.service;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * SQL statements issued through Hibernate within one
+ * {@link SqlStatementTracker} scope (an HTTP request, an MCP tool call or a
+ * test block). Not thread-safe: a scope belongs to one thread.
+ */
+public final class SqlStatementStats {
+
+    // Bound the per-scope map for pathological requests
+    private static final int MAX_DISTINCT_STATEMENTS = 200;
+
+    private int statementCount;
+    private long executionNanos;
+    private final Map<String, Integer> countsBySql = new HashMap<>();
+
+    void recordStatement(String sql) {
+        statementCount++;
+        if (countsBySql.size() < MAX_DISTINCT_STATEMENTS || countsBySql.containsKey(sql)) {
+            countsBySql.merge(sql, 1, Integer::sum);
+        }
+    }
+
+    void recordExecution(long nanos) {
+        executionNanos += nanos;
+    }
+
+    void merge(SqlStatementStats other) {
+        statementCount += other.statementCount;
+        executionNanos += other.executionNanos;
+        other.countsBySql.forEach((sql, count) -> {
+            if (countsBySql.size() < MAX_DISTINCT_STATEMENTS || countsBySql.containsKey(sql)) {
+                countsBySql.merge(sql, count, Integer::sum);
+            }
+        });
+    }
+
+    public int getStatementCount() {
+        return statementCount;
+    }
+
+    public Duration getDbTime() {
+        return Duration.ofNanos(executionNanos);
+    }
+
+    /**
+     * How often the most repeated statement ran - the N in an N+1.
+     */
+    public int getMaxRepeats() {
+        return countsBySql.values().stream().mapToInt(Integer::intValue).max().orElse(0);
+    }
+
+    public String getMostRepeatedSql() {
+        return countsBySql.entrySet().stream()
+                .max(Map.Entry.comparingByValue())
+                .map(Map.Entry::getKey)
+                .orElse(null);
+    }
+}
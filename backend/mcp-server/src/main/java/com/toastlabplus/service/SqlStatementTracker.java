@@ -0,0 +1,74 @@
+package com.toastlabplus.service;
+
+/**
+ * Thread-bound SQL statement counting. Hibernate reports every statement via
+ * {@link #onStatement} and {@link #onExecution}; callers open a
+ * {@link Scope} around a unit of work to collect the totals. Scopes nest:
+ * closing an inner scope adds its numbers to the outer one.
+ *
+ * <pre>
+ * SqlStatementStats stats = SqlStatementTracker.measure(() -&gt; controller.getMembers(user));
+ * SqlStatementAssertions.assertStatementCountAtMost(stats, 3);
+ * </pre>
+ */
+public final class SqlStatementTracker {
+
+    private static final ThreadLocal<SqlStatementStats> CURRENT = new ThreadLocal<>();
+
+    private SqlStatementTracker() {
+    }
+
+    public static Scope begin() {
+        Scope scope = new Scope(CURRENT.get());
+        CURRENT.set(scope.stats);
+        return scope;
+    }
+
+    /**
+     * Run {@code work} in its own scope and return what it issued.
+     */
+    public static SqlStatementStats measure(Runnable work) {
+        try (Scope scope = begin()) {
+            work.run();
+            return scope.stats();
+        }
+    }
+
+    public static void onStatement(String sql) {
+        SqlStatementStats stats = CURRENT.get();
+        if (stats != null) {
+            stats.recordStatement(sql);
+        }
+    }
+
+    public static void onExecution(long nanos) {
+        SqlStatementStats stats = CURRENT.get();
+        if (stats != null) {
+            stats.recordExecution(nanos);
+        }
+    }
+
+    public static final class Scope implements AutoCloseable {
+
+        private final SqlStatementStats parent;
+        private final SqlStatementStats stats = new SqlStatementStats();
+
+        private Scope(SqlStatementStats parent) {
+            this.parent = parent;
+        }
+
+        public SqlStatementStats stats() {
+            return stats;
+        }
+
+        @Override
+        public void close() {
+            if (parent == null) {
+                CURRENT.remove();
+            } else {
+                parent.merge(stats);
+                CURRENT.set(parent);
+            }
+        }
+    }
+}
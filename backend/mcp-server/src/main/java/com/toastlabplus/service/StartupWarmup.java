@@ -0,0 +1,52 @@
+package com.toastlabplus.service;
+
+import com.toastlabplus.repository.ClubRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+/**
+ * Read-only warm-up before the instance reports ready: opens the first pool
+ * connection and loads the active clubs into the second-level/query cache so
+ * the first requests don't pay for it.
+ *
+ * Spring Boot only switches readiness to ACCEPTING_TRAFFIC after all
+ * ApplicationRunners have completed, so /readyz stays 503 until this is done.
+ * Failures are logged; they must not keep the instance out of rotation.
+ */
+@Component
+@Profile("!aot-training") // needs the database
+@Order(1)
+public class StartupWarmup implements ApplicationRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(StartupWarmup.class);
+
+    private final ClubRepository clubRepository;
+    private final MeterRegistry meterRegistry;
+
+    public StartupWarmup(ClubRepository clubRepository, MeterRegistry meterRegistry) {
+        this.clubRepository = clubRepository;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "completed";
+        try {
+            int clubs = clubRepository.findByIsActiveTrue().size();
+            log.info("Startup warm-up: {} active clubs cached", clubs);
+        } catch (RuntimeException e) {
+            outcome = "failed";
+            log.warn("Startup warm-up failed: {}", e.getMessage());
+        } finally {
+            sample.stop(meterRegistry.timer("startup.warmup", "outcome", outcome));
+        }
+    }
+}
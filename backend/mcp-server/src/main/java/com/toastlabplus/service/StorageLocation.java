@@ -0,0 +1,71 @@
+package com.toastlabplus.service;
+
+import java.util.Optional;
+
+/**
+ * An object in storage, addressed as {@code bucket} + {@code objectName}.
+ *
+ * Persisted references use the {@code gs://bucket/object} form regardless
+ * of the backend, so data written against the local or in-memory backends
+ * keeps the same shape as production. Public GCS URLs
+ * ({@code https://storage.googleapis.com/bucket/object}) are accepted too.
+ */
+public record StorageLocation(String bucket, String objectName) {
+
+    private static final String GS_PREFIX = "gs://";
+    private static final String PUBLIC_PREFIX = "https://storage.googleapis.com/";
+
+    public StorageLocation {
+        if (bucket == null || bucket.isBlank() || objectName == null || objectName.isBlank()) {
+            throw new IllegalArgumentException("Bucket and object name are required");
+        }
+    }
+
+    public static StorageLocation of(String bucket, String objectName) {
+        return new StorageLocation(bucket, objectName);
+    }
+
+    /**
+     * Parse a {@code gs://} URI or public GCS URL.
+     */
+    public static StorageLocation parse(String uri) {
+        String path;
+        if (uri != null && uri.startsWith(GS_PREFIX)) {
+            path = uri.substring(GS_PREFIX.length());
+        } else if (uri != null && uri.startsWith(PUBLIC_PREFIX)) {
+            path = uri.substring(PUBLIC_PREFIX.length());
+        } else {
+            throw new IllegalArgumentException("Unsupported storage location: " + uri);
+        }
+        int slashIndex = path.indexOf('/');
+        if (slashIndex <= 0) {
+            throw new IllegalArgumentException("Unsupported storage location: " + uri);
+        }
+        return new StorageLocation(path.substring(0, slashIndex), path.substring(slashIndex + 1));
+    }
+
+    /**
+     * Like {@link #parse}, but empty for URLs outside storage (e.g. avatars
+     * hosted by an identity provider).
+     */
+    public static Optional<StorageLocation> tryParse(String uri) {
+        try {
+            return Optional.of(parse(uri));
+        } catch (IllegalArgumentException e) {
+            return Optional.empty();
+        }
+    }
+
+    public String toUri() {
+        return GS_PREFIX + bucket + "/" + objectName;
+    }
+
+    public String toPublicUrl() {
+        return PUBLIC_PREFIX + bucket + "/" + objectName;
+    }
+
+    @Override
+    public String toString() {
+        return toUri();
+    }
+}
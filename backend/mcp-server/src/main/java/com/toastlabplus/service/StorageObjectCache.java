@@ -0,0 +1,230 @@
+package com.toastlabplus.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.util.FileSystemUtils;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Bounded read-through disk cache for remote storage objects (GCS).
+ *
+ * Files are named by the SHA-256 of {@code uri#generation}, so a changed
+ * object never collides with its stale copy. Entries are evicted LRU once
+ * the total size exceeds {@code app.storage.cache.max-bytes}. An entry is
+ * trusted for {@code validate-after}; after that the remote generation is
+ * checked (a metadata request) before the cached file is served again.
+ *
+ * On Cloud Run the filesystem is in memory, so keep max-bytes small. The
+ * directory is wiped on startup; the index only lives in this process.
+ */
+@Component
+@ConditionalOnProperty(name = "app.storage.cache.enabled", havingValue = "true", matchIfMissing = true)
+public class StorageObjectCache {
+
+    private static final Logger log = LoggerFactory.getLogger(StorageObjectCache.class);
+
+    /**
+     * Fetches the object's current generation; throws FileNotFoundException
+     * if it no longer exists.
+     */
+    @FunctionalInterface
+    public interface GenerationLookup {
+        long currentGeneration() throws IOException;
+    }
+
+    /**
+     * Downloads the given generation of the object into {@code target}.
+     */
+    @FunctionalInterface
+    public interface Downloader {
+        void download(long generation, Path target) throws IOException;
+    }
+
+    private record Entry(Path file, long generation, long size, long validatedAtNanos) {
+    }
+
+    private final Path directory;
+    private final long maxBytes;
+    private final long validateAfterNanos;
+
+    // Access-ordered: iteration starts at the least recently used entry
+    private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private long totalBytes;
+
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter stale;
+    private final Counter evictions;
+    private final Counter bytesSaved;
+
+    public StorageObjectCache(
+            @Value("${app.storage.cache.dir:${java.io.tmpdir}/toastlabplus-storage-cache}") String directory,
+            @Value("${app.storage.cache.max-bytes:67108864}") long maxBytes,
+            @Value("${app.storage.cache.validate-after:30s}") Duration validateAfter,
+            MeterRegistry meterRegistry) throws IOException {
+        this.directory = Path.of(directory).toAbsolutePath().normalize();
+        FileSystemUtils.deleteRecursively(this.directory);
+        Files.createDirectories(this.directory);
+        this.maxBytes = maxBytes;
+        this.validateAfterNanos = validateAfter.toNanos();
+
+        this.hits = meterRegistry.counter("storage.cache.requests", "result", "hit");
+        this.misses = meterRegistry.counter("storage.cache.requests", "result", "miss");
+        this.stale = meterRegistry.counter("storage.cache.requests", "result", "stale");
+        this.evictions = meterRegistry.counter("storage.cache.evictions");
+        this.bytesSaved = meterRegistry.counter("storage.cache.bytes.saved");
+        meterRegistry.gauge("storage.cache.size.bytes", this, StorageObjectCache::sizeBytes);
+        meterRegistry.gauge("storage.cache.entries", this, StorageObjectCache::entryCount);
+        log.info("Storage cache at {} (max {} bytes, validate after {})", this.directory, maxBytes, validateAfter);
+    }
+
+    /**
+     * Open the cached copy of {@code location}, downloading it on a miss or
+     * when the remote generation changed. The returned channel stays
+     * readable even if the entry is evicted afterwards.
+     */
+    public FileChannel open(StorageLocation location, GenerationLookup lookup, Downloader downloader)
+            throws IOException {
+        String key = location.toUri();
+        Entry entry = lookup(key);
+
+        if (entry != null && System.nanoTime() - entry.validatedAtNanos() < validateAfterNanos) {
+            FileChannel channel = openIfPresent(entry);
+            if (channel != null) {
+                hits.increment();
+                bytesSaved.increment(entry.size());
+                return channel;
+            }
+        }
+
+        long generation = lookup.currentGeneration();
+        if (entry != null && entry.generation() == generation) {
+            FileChannel channel = openIfPresent(entry);
+            if (channel != null) {
+                put(key, new Entry(entry.file(), generation, entry.size(), System.nanoTime()));
+                hits.increment();
+                bytesSaved.increment(entry.size());
+                return channel;
+            }
+        }
+        (entry != null ? stale : misses).increment();
+
+        Path file = directory.resolve(fileName(key, generation));
+        Path temp = Files.createTempFile(directory, ".download-", ".part");
+        try {
+            downloader.download(generation, temp);
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+        FileChannel channel = FileChannel.open(file, StandardOpenOption.READ);
+        put(key, new Entry(file, generation, channel.size(), System.nanoTime()));
+        return channel;
+    }
+
+    /**
+     * Drop the cached copy after a local write or delete.
+     */
+    public void invalidate(StorageLocation location) {
+        Entry removed;
+        synchronized (this) {
+            removed = entries.remove(location.toUri());
+            if (removed != null) {
+                totalBytes -= removed.size();
+            }
+        }
+        if (removed != null) {
+            deleteQuietly(removed.file());
+        }
+    }
+
+    // ==================== Helper Methods ====================
+
+    private synchronized Entry lookup(String key) {
+        return entries.get(key);
+    }
+
+    private void put(String key, Entry entry) {
+        List<Path> evicted = new ArrayList<>();
+        synchronized (this) {
+            Entry previous = entries.put(key, entry);
+            if (previous != null) {
+                totalBytes -= previous.size();
+                if (!previous.file().equals(entry.file())) {
+                    evicted.add(previous.file());
+                }
+            }
+            totalBytes += entry.size();
+
+            Iterator<Map.Entry<String, Entry>> it = entries.entrySet().iterator();
+            while (totalBytes > maxBytes && it.hasNext()) {
+                Map.Entry<String, Entry> eldest = it.next();
+                if (eldest.getKey().equals(key)) {
+                    continue; // never evict what we're about to serve
+                }
+                it.remove();
+                totalBytes -= eldest.getValue().size();
+                evicted.add(eldest.getValue().file());
+                evictions.increment();
+            }
+        }
+        // Unlinking is safe for open channels and mappings
+        evicted.forEach(StorageObjectCache::deleteQuietly);
+    }
+
+    private FileChannel openIfPresent(Entry entry) throws IOException {
+        try {
+            return FileChannel.open(entry.file(), StandardOpenOption.READ);
+        } catch (NoSuchFileException e) {
+            return null;
+        }
+    }
+
+    private synchronized long sizeBytes() {
+        return totalBytes;
+    }
+
+    private synchronized int entryCount() {
+        return entries.size();
+    }
+
+    private static String fileName(String key, long generation) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            byte[] hash = digest.digest((key + "#" + generation).getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    private static void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.warn("Failed to delete cached file {}: {}", file, e.getMessage());
+        }
+    }
+}
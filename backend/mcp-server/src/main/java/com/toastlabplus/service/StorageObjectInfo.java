@@ -0,0 +1,10 @@
+package com.toastlabplus.service;
+
+/**
+ * Metadata of a stored object.
+ *
+ * @param generation GCS object generation; last-modified millis on the
+ *                   local backend
+ */
+public record StorageObjectInfo(StorageLocation location, long size, String contentType, long generation) {
+}
@@ -1,10 +1,25 @@
 package com.toastlabplus.service;
 
 import org.springframework.web.multipart.MultipartFile;
+
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
 
 /**
- * Storage service interface for file uploads
+ * Object storage used for avatars and agenda templates.
+ *
+ * Implementations: GCS ({@code gcp.storage.enabled=true}), local filesystem
+ * and in-memory ({@code app.storage.backend=local|memory}, for development
+ * and tests). Reads and writes are streamed through channels; nothing here
+ * requires the whole object in memory except {@link #readAllBytes}.
  */
 public interface StorageService {
     /**
@@ -22,4 +37,123 @@ public interface StorageService {
      * @param fileUrl The URL of the file to delete
      */
     void deleteFile(String fileUrl);
+
+    /**
+     * Open a writer for {@code location}. The object only becomes visible
+     * once the channel is closed; on GCS this is a resumable upload.
+     */
+    WritableByteChannel openWriter(StorageLocation location, String contentType) throws IOException;
+
+    /**
+     * Like {@link #openWriter(StorageLocation, String)} with a
+     * {@code Cache-Control} header for the object; backends without HTTP
+     * serving ignore it.
+     */
+    default WritableByteChannel openWriter(StorageLocation location, String contentType, String cacheControl)
+            throws IOException {
+        return openWriter(location, contentType);
+    }
+
+    /**
+     * Open a reader for {@code location}.
+     *
+     * @throws java.io.FileNotFoundException if the object does not exist
+     */
+    ReadableByteChannel openReader(StorageLocation location) throws IOException;
+
+    /**
+     * Metadata of the object, empty if it does not exist.
+     */
+    Optional<StorageObjectInfo> stat(StorageLocation location) throws IOException;
+
+    /**
+     * Public URL clients can load the object from.
+     */
+    default String publicUrl(StorageLocation location) {
+        return location.toPublicUrl();
+    }
+
+    /**
+     * Sign a direct upload of at most {@code maxBytes} of {@code contentType}
+     * to {@code location}, valid for {@code ttl}. Only backends with a
+     * client-reachable bucket support this.
+     *
+     * @throws UnsupportedOperationException if the backend cannot sign uploads
+     */
+    default SignedUpload signUpload(StorageLocation location, String contentType, long maxBytes, Duration ttl) {
+        throw new UnsupportedOperationException("Signed uploads are not supported by " + getClass().getSimpleName());
+    }
+
+    /**
+     * Stream {@code content} into {@code location}.
+     *
+     * @return the {@code gs://} URI of the stored object
+     */
+    default String store(StorageLocation location, String contentType, InputStream content) throws IOException {
+        return store(location, contentType, null, content);
+    }
+
+    default String store(StorageLocation location, String contentType, String cacheControl, InputStream content)
+            throws IOException {
+        try (OutputStream out = Channels.newOutputStream(openWriter(location, contentType, cacheControl))) {
+            content.transferTo(out);
+        }
+        return location.toUri();
+    }
+
+    default InputStream openStream(StorageLocation location) throws IOException {
+        return Channels.newInputStream(openReader(location));
+    }
+
+    default byte[] readAllBytes(StorageLocation location) throws IOException {
+        try (InputStream in = openStream(location)) {
+            return in.readAllBytes();
+        }
+    }
+
+    /**
+     * Read-only view of the object; the local backend maps the file instead
+     * of copying it onto the heap.
+     */
+    default ByteBuffer readBuffer(StorageLocation location) throws IOException {
+        return ByteBuffer.wrap(readAllBytes(location)).asReadOnlyBuffer();
+    }
+
+    /**
+     * Stream over a buffer from {@link #readBuffer} without copying it.
+     */
+    static InputStream asInputStream(ByteBuffer buffer) {
+        ByteBuffer view = buffer.duplicate();
+        return new InputStream() {
+            @Override
+            public int read() {
+                return view.hasRemaining() ? view.get() & 0xFF : -1;
+            }
+
+            @Override
+            public int read(byte[] b, int off, int len) {
+                if (!view.hasRemaining()) {
+                    return -1;
+                }
+                int n = Math.min(len, view.remaining());
+                view.get(b, off, n);
+                return n;
+            }
+
+            @Override
+            public int available() {
+                return view.remaining();
+            }
+        };
+    }
+
+    /**
+     * Object name for an upload: {@code folder/<uuid><extension>}.
+     */
+    static String newObjectName(String folder, String originalFilename) {
+        String extension = (originalFilename != null && originalFilename.contains("."))
+                ? originalFilename.substring(originalFilename.lastIndexOf("."))
+                : "";
+        return folder + "/" + UUID.randomUUID() + extension;
+    }
 }
@@ -0,0 +1,78 @@
+package com.toastlabplus.service;
+
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+
+/**
+ * Extracts the text content of an agenda template workbook for the LLM
+ * parser, together with its {@link TemplateLayout}. The SHA-256 of the
+ * content keys the shared parse results; the layout matches near-identical
+ * workbooks.
+ *
+ * Reads the first sheet with the streaming {@link SpreadsheetReader}, so
+ * images and other sheets in the workbook cost no heap.
+ */
+@Component
+public class TemplateContentExtractor {
+
+    private final SpreadsheetReader spreadsheetReader;
+
+    public TemplateContentExtractor(SpreadsheetReader spreadsheetReader) {
+        this.spreadsheetReader = spreadsheetReader;
+    }
+
+    public ExtractedTemplate extract(byte[] excelBytes) throws IOException {
+        return extract(new ByteArrayInputStream(excelBytes));
+    }
+
+    /**
+     * Text of the first sheet as {@code [R<row>,C<col>] value} lines
+     * (1-indexed), the format the template parser expects, plus the layout of
+     * that sheet.
+     */
+    public ExtractedTemplate extract(InputStream excel) throws IOException {
+        StringBuilder content = new StringBuilder();
+        TemplateLayout.Builder layout = TemplateLayout.builder();
+
+        // Only read the first sheet (Agenda)
+        SpreadsheetReader.Limits defaults = spreadsheetReader.defaultLimits();
+        SpreadsheetReader.Limits limits = new SpreadsheetReader.Limits(1, defaults.maxRows(), defaults.maxCells());
+        spreadsheetReader.read(excel, limits, new SpreadsheetReader.SheetHandler() {
+
+            @Override
+            public boolean startSheet(int sheetIndex, String sheetName) {
+                content.append("=== Sheet: ").append(sheetName).append(" ===\n");
+                content.append("Format: [Row,Column] Content\n\n");
+                return true;
+            }
+
+            @Override
+            public void row(int rowNum, List<SpreadsheetReader.SpreadsheetCell> cells) {
+                for (SpreadsheetReader.SpreadsheetCell cell : cells) {
+                    // Format: [R行,C列] 內容
+                    content.append("[R").append(rowNum).append(",C").append(cell.col()).append("] ")
+                            .append(cell.text()).append("\n");
+                    if (cell.string()) {
+                        layout.label(rowNum, cell.col(), cell.text(), cell.bold());
+                    }
+                }
+            }
+
+            @Override
+            public void mergedRegion(int firstRow, int firstCol, int lastRow, int lastCol) {
+                layout.region(firstRow, firstCol, lastRow, lastCol);
+            }
+
+            @Override
+            public void endSheet() {
+                content.append("\n");
+            }
+        });
+
+        return new ExtractedTemplate(content.toString(), layout.build());
+    }
+}
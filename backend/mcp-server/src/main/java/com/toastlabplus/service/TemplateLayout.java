@@ -0,0 +1,244 @@
+package com.toastlabplus.service;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Structural signature of an agenda template sheet: the position, text and
+ * boldness of every text label plus the merged regions. Numbers and dates are
+ * left out since they change between otherwise identical workbooks.
+ *
+ * Two layouts are compared on their label texts (position-independent) and
+ * on their structure after aligning the rows on the most common shift, so a
+ * club copy with an extra row or a renamed footer still scores high.
+ * Positions are 1-indexed like the extracted content.
+ */
+public final class TemplateLayout {
+
+    public record Label(int row, int col, String text, boolean bold) {
+    }
+
+    public record Region(int firstRow, int firstCol, int lastRow, int lastCol) {
+    }
+
+    public record Position(int row, int col) {
+    }
+
+    private static final double TEXT_WEIGHT = 0.6;
+
+    private final List<Label> labels;
+    private final List<Region> regions;
+    private final Map<String, Position> uniqueLabels;
+
+    private TemplateLayout(List<Label> labels, List<Region> regions) {
+        this.labels = List.copyOf(labels);
+        this.regions = List.copyOf(regions);
+
+        Map<String, Position> unique = new HashMap<>();
+        Set<String> duplicates = new HashSet<>();
+        for (Label label : this.labels) {
+            if (unique.put(label.text(), new Position(label.row(), label.col())) != null) {
+                duplicates.add(label.text());
+            }
+        }
+        duplicates.forEach(unique::remove);
+        this.uniqueLabels = Collections.unmodifiableMap(unique);
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public List<Label> labels() {
+        return labels;
+    }
+
+    public List<Region> regions() {
+        return regions;
+    }
+
+    public boolean isEmpty() {
+        return labels.isEmpty();
+    }
+
+    /**
+     * Position of a label whose text occurs exactly once in this layout.
+     */
+    public Position locate(String text) {
+        return uniqueLabels.get(normalize(text));
+    }
+
+    /**
+     * Label at a position, or null.
+     */
+    public Label labelAt(int row, int col) {
+        for (Label label : labels) {
+            if (label.row() == row && label.col() == col) {
+                return label;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Nearest label (Manhattan distance, same row preferred) whose text is
+     * unique in this layout - a stable anchor for a value cell.
+     */
+    public Label nearestUniqueLabel(int row, int col) {
+        Label best = null;
+        int bestDistance = Integer.MAX_VALUE;
+        for (Label label : labels) {
+            if (!uniqueLabels.containsKey(label.text())) {
+                continue;
+            }
+            int distance = Math.abs(label.row() - row) * 2 + Math.abs(label.col() - col);
+            if (distance < bestDistance) {
+                best = label;
+                bestDistance = distance;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Similarity in [0, 1]; 1 means the same labels in the same structure.
+     */
+    public double similarity(TemplateLayout other) {
+        if (isEmpty() || other.isEmpty()) {
+            return 0.0;
+        }
+        Set<String> texts = new HashSet<>();
+        labels.forEach(label -> texts.add(label.text()));
+        Set<String> otherTexts = new HashSet<>();
+        other.labels.forEach(label -> otherTexts.add(label.text()));
+        double textScore = jaccard(texts, otherTexts);
+
+        int rowShift = dominantRowShift(other);
+        double structureScore = jaccard(structureFeatures(0), other.structureFeatures(rowShift));
+        return TEXT_WEIGHT * textScore + (1 - TEXT_WEIGHT) * structureScore;
+    }
+
+    /**
+     * Compact line-based form for persistence; see {@link #decode}.
+     */
+    public String encode() {
+        StringBuilder out = new StringBuilder();
+        for (Label label : labels) {
+            out.append("L\t").append(label.row()).append('\t').append(label.col()).append('\t')
+                    .append(label.bold() ? 1 : 0).append('\t').append(label.text()).append('\n');
+        }
+        for (Region region : regions) {
+            out.append("M\t").append(region.firstRow()).append('\t').append(region.firstCol()).append('\t')
+                    .append(region.lastRow()).append('\t').append(region.lastCol()).append('\n');
+        }
+        return out.toString();
+    }
+
+    public static TemplateLayout decode(String encoded) {
+        Builder builder = builder();
+        for (String line : encoded.split("\n")) {
+            String[] parts = line.split("\t", 5);
+            if (parts.length < 5) {
+                continue;
+            }
+            if ("L".equals(parts[0])) {
+                builder.labels.add(new Label(Integer.parseInt(parts[1]), Integer.parseInt(parts[2]),
+                        parts[4], "1".equals(parts[3])));
+            } else if ("M".equals(parts[0])) {
+                builder.regions.add(new Region(Integer.parseInt(parts[1]), Integer.parseInt(parts[2]),
+                        Integer.parseInt(parts[3]), Integer.parseInt(parts[4])));
+            }
+        }
+        return builder.build();
+    }
+
+    static String normalize(String text) {
+        return text == null ? "" : text.strip().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+    }
+
+    // ==================== Helper Methods ====================
+
+    /**
+     * Row offset that maps most of this layout's unique labels onto the
+     * other's; subtracting it aligns the other layout with this one.
+     */
+    private int dominantRowShift(TemplateLayout other) {
+        Map<Integer, Integer> votes = new HashMap<>();
+        uniqueLabels.forEach((text, position) -> {
+            Position match = other.uniqueLabels.get(text);
+            if (match != null && match.col() == position.col()) {
+                votes.merge(match.row() - position.row(), 1, Integer::sum);
+            }
+        });
+        int shift = 0;
+        int bestVotes = 0;
+        for (Map.Entry<Integer, Integer> vote : votes.entrySet()) {
+            if (vote.getValue() > bestVotes) {
+                shift = vote.getKey();
+                bestVotes = vote.getValue();
+            }
+        }
+        return shift;
+    }
+
+    private Set<String> structureFeatures(int rowShift) {
+        Set<String> features = new HashSet<>();
+        for (Label label : labels) {
+            int row = label.row() - rowShift;
+            features.add("L" + row + "," + label.col() + "|" + label.text());
+            if (label.bold()) {
+                features.add("B" + row + "," + label.col());
+            }
+        }
+        for (Region region : regions) {
+            features.add("M" + (region.firstRow() - rowShift) + "," + region.firstCol() + ","
+                    + (region.lastRow() - rowShift) + "," + region.lastCol());
+        }
+        return features;
+    }
+
+    private static double jaccard(Set<String> a, Set<String> b) {
+        if (a.isEmpty() && b.isEmpty()) {
+            return 1.0;
+        }
+        int intersection = 0;
+        for (String item : a) {
+            if (b.contains(item)) {
+                intersection++;
+            }
+        }
+        return (double) intersection / (a.size() + b.size() - intersection);
+    }
+
+    public static final class Builder {
+
+        private final List<Label> labels = new ArrayList<>();
+        private final List<Region> regions = new ArrayList<>();
+
+        private Builder() {
+        }
+
+        public Builder label(int row, int col, String text, boolean bold) {
+            String normalized = normalize(text);
+            if (!normalized.isEmpty()) {
+                labels.add(new Label(row, col, normalized, bold));
+            }
+            return this;
+        }
+
+        public Builder region(int firstRow, int firstCol, int lastRow, int lastCol) {
+            regions.add(new Region(firstRow, firstCol, lastRow, lastCol));
+            return this;
+        }
+
+        public TemplateLayout build() {
+            return new TemplateLayout(labels, regions);
+        }
+    }
+}
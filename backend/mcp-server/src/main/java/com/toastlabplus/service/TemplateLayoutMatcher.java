@@ -0,0 +1,205 @@
+package com.toastlabplus.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.toastlabplus.entity.TemplateParseResult;
+import com.toastlabplus.repository.TemplateParseResultRepository;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Recognises uploads of already parsed template layouts without calling the
+ * LLM parser.
+ *
+ * The library holds the layout of every parser result. A new workbook is
+ * scored against each entry ({@link TemplateLayout#similarity}); above
+ * {@code app.template-parser.layout-match.min-similarity} the best entry's
+ * {@code variable_mappings} are re-anchored onto the new sheet: each mapping
+ * follows its label (or the nearest unique label) to wherever it moved. If
+ * any anchor is missing the upload goes to the parser as before.
+ */
+@Service
+public class TemplateLayoutMatcher {
+
+    private static final Logger log = LoggerFactory.getLogger(TemplateLayoutMatcher.class);
+
+    public record Match(String sourceHash, double similarity, String parsedStructure) {
+    }
+
+    private record Entry(String contentHash, TemplateLayout layout, String parsedStructure) {
+    }
+
+    private final TemplateParseResultRepository parseResultRepository;
+    private final ObjectMapper objectMapper;
+    private final DistributionSummary similaritySummary;
+
+    private final boolean enabled;
+    private final double minSimilarity;
+    private final Duration refreshInterval;
+
+    // Snapshot replaced wholesale on reload/register
+    private volatile List<Entry> library;
+    private volatile long loadedAtNanos;
+
+    public TemplateLayoutMatcher(TemplateParseResultRepository parseResultRepository,
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry,
+            @Value("${app.template-parser.layout-match.enabled:true}") boolean enabled,
+            @Value("${app.template-parser.layout-match.min-similarity:0.9}") double minSimilarity,
+            @Value("${app.template-parser.layout-match.refresh-interval:5m}") Duration refreshInterval) {
+        this.parseResultRepository = parseResultRepository;
+        this.objectMapper = objectMapper;
+        this.enabled = enabled;
+        this.minSimilarity = minSimilarity;
+        this.refreshInterval = refreshInterval;
+        this.similaritySummary = DistributionSummary.builder("templates.layout.similarity")
+                .description("Best layout similarity of templates sent for parsing")
+                .publishPercentiles(0.5, 0.9)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Parse result for {@code layout} adapted from the most similar known
+     * layout, if one is similar enough and all mappings can be re-anchored.
+     */
+    public Optional<Match> match(TemplateLayout layout) {
+        if (!enabled || layout.isEmpty()) {
+            return Optional.empty();
+        }
+        Entry best = null;
+        double bestScore = 0.0;
+        for (Entry entry : library()) {
+            double score = entry.layout().similarity(layout);
+            if (score > bestScore) {
+                best = entry;
+                bestScore = score;
+            }
+        }
+        similaritySummary.record(bestScore);
+        if (best == null || bestScore < minSimilarity) {
+            return Optional.empty();
+        }
+
+        String adapted = adapt(best, layout);
+        if (adapted == null) {
+            log.info("Layout {} matched ({}) but its mappings could not be re-anchored",
+                    best.contentHash(), String.format("%.3f", bestScore));
+            return Optional.empty();
+        }
+        return Optional.of(new Match(best.contentHash(), bestScore, adapted));
+    }
+
+    /**
+     * Add a fresh parser result to this instance's library. Other instances
+     * pick it up on their next refresh.
+     */
+    public void register(String contentHash, TemplateLayout layout, String parsedStructure) {
+        if (layout.isEmpty()) {
+            return;
+        }
+        List<Entry> updated = new ArrayList<>(library());
+        updated.removeIf(entry -> entry.contentHash().equals(contentHash));
+        updated.add(new Entry(contentHash, layout, parsedStructure));
+        library = List.copyOf(updated);
+    }
+
+    // ==================== Helper Methods ====================
+
+    private List<Entry> library() {
+        List<Entry> current = library;
+        if (current == null || System.nanoTime() - loadedAtNanos > refreshInterval.toNanos()) {
+            synchronized (this) {
+                if (library == current) {
+                    current = load();
+                    library = current;
+                    loadedAtNanos = System.nanoTime();
+                } else {
+                    current = library;
+                }
+            }
+        }
+        return current;
+    }
+
+    private List<Entry> load() {
+        List<Entry> entries = new ArrayList<>();
+        for (TemplateParseResult result : parseResultRepository.findByLayoutFingerprintIsNotNullAndDerivedFromIsNull()) {
+            try {
+                entries.add(new Entry(result.getContentHash(),
+                        TemplateLayout.decode(result.getLayoutFingerprint()),
+                        result.getParsedStructure()));
+            } catch (RuntimeException e) {
+                log.warn("Skipping unreadable layout fingerprint {}: {}", result.getContentHash(), e.getMessage());
+            }
+        }
+        log.debug("Loaded {} template layouts", entries.size());
+        return List.copyOf(entries);
+    }
+
+    /**
+     * Shift every mapping by the displacement of its anchor label, or null if
+     * an anchor is not found exactly once in the target layout.
+     */
+    private String adapt(Entry source, TemplateLayout target) {
+        try {
+            JsonNode root = objectMapper.readTree(source.parsedStructure());
+            JsonNode mappings = root.path("variable_mappings");
+            if (!(root instanceof ObjectNode) || !mappings.isArray()) {
+                return null;
+            }
+            for (JsonNode mapping : mappings) {
+                JsonNode labelPosition = mapping.path("label_position");
+                JsonNode valuePosition = mapping.path("value_position");
+                if (!valuePosition.isObject()) {
+                    continue;
+                }
+
+                TemplateLayout.Label anchor = null;
+                if (labelPosition.isObject()) {
+                    TemplateLayout.Label label = source.layout().labelAt(
+                            labelPosition.path("row").asInt(), labelPosition.path("col").asInt());
+                    if (label != null && source.layout().locate(label.text()) != null) {
+                        anchor = label;
+                    }
+                }
+                if (anchor == null) {
+                    anchor = source.layout().nearestUniqueLabel(
+                            valuePosition.path("row").asInt(), valuePosition.path("col").asInt());
+                }
+                if (anchor == null) {
+                    return null;
+                }
+                TemplateLayout.Position moved = target.locate(anchor.text());
+                if (moved == null) {
+                    return null;
+                }
+
+                int rowShift = moved.row() - anchor.row();
+                int colShift = moved.col() - anchor.col();
+                shift(labelPosition, rowShift, colShift);
+                shift(valuePosition, rowShift, colShift);
+            }
+            return objectMapper.writeValueAsString(root);
+        } catch (Exception e) {
+            log.warn("Could not adapt layout {}: {}", source.contentHash(), e.getMessage());
+            return null;
+        }
+    }
+
+    private static void shift(JsonNode position, int rowShift, int colShift) {
+        if (position instanceof ObjectNode node && node.has("row") && node.has("col")) {
+            node.put("row", node.get("row").asInt() + rowShift);
+            node.put("col", node.get("col").asInt() + colShift);
+        }
+    }
+}
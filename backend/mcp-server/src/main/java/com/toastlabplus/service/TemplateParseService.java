@@ -0,0 +1,245 @@
+package com.toastlabplus.service;
+
+import com.toastlabplus.entity.AgendaTemplate;
+import com.toastlabplus.entity.TemplateParseResult;
+import com.toastlabplus.repository.AgendaTemplateRepository;
+import com.toastlabplus.repository.TemplateParseResultRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Consumer;
+
+/**
+ * Asynchronous agenda template parsing.
+ *
+ * {@link #requestParse} marks the template PENDING and returns immediately;
+ * the job downloads the workbook, extracts its content and looks up the
+ * SHA-256 of that content in {@code template_parse_result}. A miss is next
+ * matched against the known layouts ({@link TemplateLayoutMatcher}); only
+ * unrecognised layouts go to the external parser, and concurrent jobs for the
+ * same content on this instance share one call. Clients poll the template's
+ * parse status. The job only ever writes the parse fields, each time on a
+ * freshly loaded row, so edits made while it runs are kept and a deleted
+ * template is not written back.
+ */
+@Service
+public class TemplateParseService {
+
+    private static final Logger log = LoggerFactory.getLogger(TemplateParseService.class);
+
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    private final AgendaTemplateRepository templateRepository;
+    private final TemplateParseResultRepository parseResultRepository;
+    private final StorageService storageService;
+    private final TemplateContentExtractor contentExtractor;
+    private final TemplateParserClient parserClient;
+    private final TemplateLayoutMatcher layoutMatcher;
+    private final TemplateStructureService structureService;
+    private final TaskExecutor taskExecutor;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+
+    private final ConcurrentHashMap<String, CompletableFuture<String>> inFlight = new ConcurrentHashMap<>();
+
+    // A job stuck in PENDING/RUNNING this long (e.g. instance died) may be restarted
+    @Value("${app.template-parser.stale-after:10m}")
+    private Duration staleAfter;
+
+    public TemplateParseService(AgendaTemplateRepository templateRepository,
+            TemplateParseResultRepository parseResultRepository,
+            StorageService storageService,
+            TemplateContentExtractor contentExtractor,
+            TemplateParserClient parserClient,
+            TemplateLayoutMatcher layoutMatcher,
+            TemplateStructureService structureService,
+            @Qualifier("applicationTaskExecutor") TaskExecutor taskExecutor,
+            TransactionTemplate transactionTemplate,
+            MeterRegistry meterRegistry) {
+        this.templateRepository = templateRepository;
+        this.parseResultRepository = parseResultRepository;
+        this.storageService = storageService;
+        this.contentExtractor = contentExtractor;
+        this.parserClient = parserClient;
+        this.layoutMatcher = layoutMatcher;
+        this.structureService = structureService;
+        this.taskExecutor = taskExecutor;
+        this.transactionTemplate = transactionTemplate;
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * Queue a parse job. A job that is already running is not restarted.
+     *
+     * @return the template with its current parse status
+     */
+    public AgendaTemplate requestParse(AgendaTemplate template) {
+        if (template.isParseInProgress()
+                && template.getUpdatedAt().isAfter(LocalDateTime.now().minus(staleAfter))) {
+            return template;
+        }
+        template.setParseStatus(AgendaTemplate.PARSE_PENDING);
+        template.setParseError(null);
+        template.setUpdatedAt(LocalDateTime.now());
+        AgendaTemplate saved = templateRepository.save(template);
+
+        Long templateId = saved.getId();
+        taskExecutor.execute(() -> run(templateId));
+        return saved;
+    }
+
+    private void run(Long templateId) {
+        AgendaTemplate template = templateRepository.findById(templateId).orElse(null);
+        if (template == null) {
+            return;
+        }
+        if (!updateStatus(templateId, AgendaTemplate.PARSE_RUNNING, null)) {
+            return;
+        }
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "parsed";
+        try {
+            ExtractedTemplate extracted;
+            try (InputStream excel = storageService.openStream(StorageLocation.parse(template.getGcsPath()))) {
+                extracted = contentExtractor.extract(excel);
+            }
+            String contentHash = sha256(extracted.content());
+
+            String parsed = parseResultRepository.findById(contentHash)
+                    .map(TemplateParseResult::getParsedStructure)
+                    .orElse(null);
+            if (parsed != null) {
+                outcome = "cache-hit";
+                parsed = structureService.normalize(parsed);
+            } else {
+                Optional<TemplateLayoutMatcher.Match> match = layoutMatcher.match(extracted.layout());
+                if (match.isPresent()) {
+                    outcome = "layout-match";
+                    parsed = structureService.normalize(match.get().parsedStructure());
+                    log.info("Template {} matches layout {} (similarity {})", templateId,
+                            match.get().sourceHash(), String.format("%.3f", match.get().similarity()));
+                    saveResult(new TemplateParseResult(contentHash, parsed,
+                            extracted.layout().encode(), match.get().sourceHash()));
+                } else {
+                    parsed = parseShared(contentHash, extracted, template.getOriginalFilename());
+                }
+            }
+
+            String structure = parsed;
+            boolean stored = updateParseFields(templateId, current -> {
+                current.setContentHash(contentHash);
+                current.setParsedStructure(structure);
+                current.setParseStatus(AgendaTemplate.PARSE_DONE);
+                current.setParseError(null);
+            });
+            if (stored) {
+                log.info("Template {} parsed ({})", templateId, outcome);
+            } else {
+                outcome = "deleted";
+                log.info("Template {} was deleted while parsing, result not stored", templateId);
+            }
+        } catch (Exception e) {
+            if (e instanceof InterruptedException) {
+                Thread.currentThread().interrupt();
+            }
+            outcome = "failed";
+            log.warn("Template {} parse failed: {}", templateId, e.getMessage());
+            updateStatus(templateId, AgendaTemplate.PARSE_FAILED, e.getMessage());
+        } finally {
+            sample.stop(meterRegistry.timer("templates.parse", "outcome", outcome));
+        }
+    }
+
+    /**
+     * Call the parser once per content hash on this instance and store the
+     * result for every later template with the same layout.
+     */
+    private String parseShared(String contentHash, ExtractedTemplate extracted, String filename)
+            throws Exception {
+        CompletableFuture<String> mine = new CompletableFuture<>();
+        CompletableFuture<String> existing = inFlight.putIfAbsent(contentHash, mine);
+        if (existing != null) {
+            try {
+                return existing.get();
+            } catch (ExecutionException e) {
+                throw e.getCause() instanceof Exception cause ? cause : e;
+            }
+        }
+        try {
+            // Validated before it is shared: a bad parse fails every waiting job
+            String parsed = structureService.normalize(parserClient.parse(extracted.content(), filename));
+            saveResult(new TemplateParseResult(contentHash, parsed, extracted.layout().encode(), null));
+            layoutMatcher.register(contentHash, extracted.layout(), parsed);
+            mine.complete(parsed);
+            return parsed;
+        } catch (Exception e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(contentHash, mine);
+        }
+    }
+
+    private void saveResult(TemplateParseResult result) {
+        try {
+            parseResultRepository.save(result);
+        } catch (DataIntegrityViolationException e) {
+            // Another instance stored the same content first
+        }
+    }
+
+    private boolean updateStatus(Long templateId, String status, String error) {
+        return updateParseFields(templateId, current -> {
+            current.setParseStatus(status);
+            current.setParseError(error != null && error.length() > MAX_ERROR_LENGTH
+                    ? error.substring(0, MAX_ERROR_LENGTH)
+                    : error);
+        });
+    }
+
+    /**
+     * Reload the template in its own transaction and apply {@code update} to
+     * it; the other columns are written back as just read.
+     *
+     * @return false if the template was deleted (soft or hard)
+     */
+    private boolean updateParseFields(Long templateId, Consumer<AgendaTemplate> update) {
+        Boolean updated = transactionTemplate.execute(status -> templateRepository.findById(templateId)
+                .filter(current -> !Boolean.FALSE.equals(current.getIsActive()))
+                .map(current -> {
+                    update.accept(current);
+                    current.setUpdatedAt(LocalDateTime.now());
+                    return true;
+                })
+                .orElse(false));
+        return Boolean.TRUE.equals(updated);
+    }
+
+    private static String sha256(String content) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(content.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package com.toastlabplus.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestClient;
+
+import java.io.IOException;
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Client for the chat-backend {@code /parse-template} endpoint (LLM-based
+ * template parsing).
+ *
+ * One pooled JDK HttpClient with a connect timeout; every request has a read
+ * timeout. Connection failures, timeouts, 429 and 5xx responses are retried
+ * with exponential backoff and jitter; other 4xx responses fail immediately.
+ * Point {@code app.template-parser.url} at a local stub to test without the
+ * chat backend.
+ */
+@Component
+public class TemplateParserClient {
+
+    private static final Logger log = LoggerFactory.getLogger(TemplateParserClient.class);
+
+    private final RestClient restClient;
+    private final int maxAttempts;
+    private final Duration initialBackoff;
+
+    public TemplateParserClient(
+            @Value("${app.template-parser.url:${chat.backend.url:http://localhost:8000}}") String baseUrl,
+            @Value("${app.template-parser.connect-timeout:2s}") Duration connectTimeout,
+            @Value("${app.template-parser.read-timeout:90s}") Duration readTimeout,
+            @Value("${app.template-parser.max-attempts:3}") int maxAttempts,
+            @Value("${app.template-parser.initial-backoff:1s}") Duration initialBackoff) {
+        HttpClient httpClient = HttpClient.newBuilder()
+                .connectTimeout(connectTimeout)
+                .build();
+        JdkClientHttpRequestFactory requestFactory = new JdkClientHttpRequestFactory(httpClient);
+        requestFactory.setReadTimeout(readTimeout);
+
+        this.restClient = RestClient.builder()
+                .baseUrl(baseUrl)
+                .requestFactory(requestFactory)
+                .build();
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.initialBackoff = initialBackoff;
+    }
+
+    /**
+     * Parse extracted template content.
+     *
+     * @return the parser's JSON response
+     */
+    public String parse(String templateContent, String filename) throws IOException, InterruptedException {
+        Map<String, Object> requestBody = Map.of(
+                "template_content", templateContent,
+                "filename", filename != null ? filename : "");
+
+        for (int attempt = 1;; attempt++) {
+            try {
+                String response = restClient.post()
+                        .uri("/parse-template")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .body(requestBody)
+                        .retrieve()
+                        .body(String.class);
+                if (response == null || response.isBlank()) {
+                    throw new IOException("Template parser returned an empty response");
+                }
+                return response;
+            } catch (HttpClientErrorException e) {
+                if (e.getStatusCode().value() != 429 || attempt >= maxAttempts) {
+                    throw new IOException("Template parser returned status: " + e.getStatusCode().value(), e);
+                }
+                backoff(attempt, e);
+            } catch (HttpServerErrorException | ResourceAccessException e) {
+                if (attempt >= maxAttempts) {
+                    throw new IOException("Template parser failed after " + attempt + " attempts: "
+                            + e.getMessage(), e);
+                }
+                backoff(attempt, e);
+            }
+        }
+    }
+
+    private void backoff(int attempt, Exception cause) throws InterruptedException {
+        long base = initialBackoff.toMillis() << (attempt - 1);
+        long delay = base + ThreadLocalRandom.current().nextLong(base / 2 + 1);
+        log.warn("Template parser attempt {}/{} failed ({}), retrying in {} ms",
+                attempt, maxAttempts, cause.getMessage(), delay);
+        Thread.sleep(delay);
+    }
+}
@@ -0,0 +1,111 @@
+package com.toastlabplus.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.toastlabplus.entity.AgendaTemplate;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Reads, validates and compiles parsed template structures.
+ *
+ * Parser output is validated and normalized to {@link ParsedTemplateStructure}
+ * before it is stored, so readers never see malformed mappings. Compiled
+ * templates are kept per template id and reused while the stored structure is
+ * unchanged; a re-parse replaces the entry on next access. Entries are evicted
+ * when the template is deleted or re-parsed, on this instance directly and on
+ * the others through {@link CacheInvalidationBus}.
+ */
+@Service
+public class TemplateStructureService implements CacheInvalidationHandler {
+
+    private static final Logger log = LoggerFactory.getLogger(TemplateStructureService.class);
+
+    private record Entry(String source, CompiledTemplate compiled) {
+    }
+
+    private final ObjectMapper objectMapper;
+    private final ConcurrentHashMap<Long, Entry> compiledTemplates = new ConcurrentHashMap<>();
+
+    public TemplateStructureService(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Validate parser output and return it in normalized form. Mappings that
+     * cannot be filled are dropped.
+     *
+     * @throws IllegalArgumentException if no usable mapping remains
+     */
+    public String normalize(String parserOutput) throws IOException {
+        ParsedTemplateStructure structure = read(parserOutput);
+        List<String> invalid = structure.invalidMappings();
+        if (!invalid.isEmpty()) {
+            log.warn("Dropping unusable template mappings: {}", invalid);
+            structure = structure.withUsableMappings();
+        }
+        if (structure.variableMappings().isEmpty()) {
+            throw new IllegalArgumentException("Template parser found no usable variable mappings");
+        }
+        return objectMapper.writeValueAsString(structure);
+    }
+
+    public ParsedTemplateStructure read(String json) throws IOException {
+        ParsedTemplateStructure structure = objectMapper.readValue(json, ParsedTemplateStructure.class);
+        if (structure == null) {
+            throw new IOException("Parsed structure is empty");
+        }
+        return structure;
+    }
+
+    /**
+     * Compiled form of the template's current parsed structure; empty if it
+     * has not been parsed or the stored structure is unreadable.
+     */
+    public Optional<CompiledTemplate> compiled(AgendaTemplate template) {
+        String source = template.getParsedStructure();
+        if (source == null || source.isBlank()) {
+            return Optional.empty();
+        }
+        Entry entry = compiledTemplates.get(template.getId());
+        if (entry != null && entry.source().equals(source)) {
+            return Optional.of(entry.compiled());
+        }
+        try {
+            CompiledTemplate compiled = CompiledTemplate.compile(read(source));
+            if (template.getId() != null) {
+                compiledTemplates.put(template.getId(), new Entry(source, compiled));
+            }
+            return Optional.of(compiled);
+        } catch (IOException e) {
+            log.warn("Unreadable parsed structure for template {}: {}", template.getId(), e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    public void evict(Long templateId) {
+        compiledTemplates.remove(templateId);
+    }
+
+    @Override
+    public void onInvalidation(CacheInvalidationEvent event) {
+        if (!CacheInvalidationEvent.AGENDA_TEMPLATE.equals(event.entityType())) {
+            return;
+        }
+        if (event.id() != null) {
+            evict(event.id());
+        } else {
+            compiledTemplates.clear();
+        }
+    }
+
+    @Override
+    public void onResync() {
+        compiledTemplates.clear();
+    }
+}
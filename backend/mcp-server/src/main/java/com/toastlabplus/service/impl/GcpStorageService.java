@@ -1,22 +1,57 @@
 package com.toastlabplus.service.impl;
 
+import com.google.auth.ServiceAccountSigner;
+import com.google.auth.oauth2.ServiceAccountCredentials;
+import com.google.cloud.ReadChannel;
+import com.google.cloud.WriteChannel;
+import com.google.cloud.storage.Blob;
 import com.google.cloud.storage.BlobId;
 import com.google.cloud.storage.BlobInfo;
+import com.google.cloud.storage.HttpMethod;
 import com.google.cloud.storage.Storage;
+import com.google.cloud.storage.StorageException;
+import com.toastlabplus.service.SignedUpload;
+import com.toastlabplus.service.StorageLocation;
+import com.toastlabplus.service.StorageObjectCache;
+import com.toastlabplus.service.StorageObjectInfo;
 import com.toastlabplus.service.StorageService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.io.Resource;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.io.FileNotFoundException;
 import java.io.IOException;
-import java.util.UUID;
+import java.io.InputStream;
+import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 
 /**
  * GCP Cloud Storage implementation of StorageService.
- * Only activated when gcp.storage.enabled=true
+ * Only activated when gcp.storage.enabled=true. Uses the shared
+ * {@link Storage} client from GcpStorageConfig. Reads go through the
+ * {@link StorageObjectCache} disk tier when it is enabled.
+ *
+ * Upload URLs are V4-signed locally with the key at
+ * {@code gcp.storage.signing-key-location}; without one the client's own
+ * credentials sign (a service account key signs locally, ADC on Cloud Run
+ * falls back to the IAM signBlob API).
  */
 @Service
 @ConditionalOnProperty(name = "gcp.storage.enabled", havingValue = "true", matchIfMissing = true)
@@ -24,52 +59,224 @@ public class GcpStorageService implements StorageService {
 
     private static final Logger log = LoggerFactory.getLogger(GcpStorageService.class);
 
+    // Resumable upload chunk size (must be a multiple of 256 KiB)
+    private static final int WRITE_CHUNK_SIZE = 4 * 256 * 1024;
+    private static final int READ_CHUNK_SIZE = 2 * 1024 * 1024;
+
     private final Storage storage;
+    private StorageObjectCache objectCache;
 
     @Value("${gcp.storage.bucket-name}")
     private String bucketName;
 
+    @Value("${gcp.storage.signing-key-location:}")
+    private Resource signingKeyLocation;
+
+    // Emulator / fake bucket host, also used for signed URLs
+    @Value("${gcp.storage.host:}")
+    private String host;
+
+    private volatile ServiceAccountSigner signer;
+
     public GcpStorageService(Storage storage) {
         this.storage = storage;
         log.info("GCP Storage Service initialized");
     }
 
+    @Autowired(required = false)
+    public void setObjectCache(StorageObjectCache objectCache) {
+        this.objectCache = objectCache;
+    }
+
     @Override
     public String uploadFile(MultipartFile file, String folder) throws IOException {
-        String originalFilename = file.getOriginalFilename();
-        String extension = (originalFilename != null && originalFilename.contains("."))
-                ? originalFilename.substring(originalFilename.lastIndexOf("."))
-                : "";
-        String fileName = folder + "/" + UUID.randomUUID().toString() + extension;
-
-        BlobId blobId = BlobId.of(bucketName, fileName);
-        BlobInfo blobInfo = BlobInfo.newBuilder(blobId)
-                .setContentType(file.getContentType())
-                .build();
+        StorageLocation location = StorageLocation.of(bucketName,
+                StorageService.newObjectName(folder, file.getOriginalFilename()));
 
-        storage.create(blobInfo, file.getBytes());
+        try (InputStream in = file.getInputStream()) {
+            store(location, file.getContentType(), in);
+        }
 
-        String publicUrl = String.format("https://storage.googleapis.com/%s/%s", bucketName, fileName);
+        String publicUrl = location.toPublicUrl();
         log.info("Uploaded file to: {}", publicUrl);
         return publicUrl;
     }
 
     @Override
     public void deleteFile(String fileUrl) {
+        StorageLocation location = StorageLocation.tryParse(fileUrl).orElse(null);
+        if (location == null) {
+            return; // not one of ours
+        }
         try {
-            String prefix = String.format("https://storage.googleapis.com/%s/", bucketName);
-            if (fileUrl.startsWith(prefix)) {
-                String blobName = fileUrl.substring(prefix.length());
-                BlobId blobId = BlobId.of(bucketName, blobName);
-                boolean deleted = storage.delete(blobId);
-                if (deleted) {
-                    log.info("Deleted file: {}", blobName);
-                } else {
-                    log.warn("File not found for deletion: {}", blobName);
-                }
+            invalidate(location);
+            boolean deleted = storage.delete(blobId(location));
+            if (deleted) {
+                log.info("Deleted file: {}", location);
+            } else {
+                log.warn("File not found for deletion: {}", location);
             }
         } catch (Exception e) {
             log.error("Error deleting file: {}", fileUrl, e);
         }
     }
+
+    @Override
+    public WritableByteChannel openWriter(StorageLocation location, String contentType) throws IOException {
+        return openWriter(location, contentType, null);
+    }
+
+    @Override
+    public WritableByteChannel openWriter(StorageLocation location, String contentType, String cacheControl)
+            throws IOException {
+        BlobInfo blobInfo = BlobInfo.newBuilder(blobId(location))
+                .setContentType(contentType)
+                .setCacheControl(cacheControl)
+                .build();
+        invalidate(location);
+        try {
+            WriteChannel writer = storage.writer(blobInfo);
+            writer.setChunkSize(WRITE_CHUNK_SIZE);
+            return writer;
+        } catch (StorageException e) {
+            throw new IOException("Failed to open writer for " + location + ": " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public ReadableByteChannel openReader(StorageLocation location) throws IOException {
+        if (objectCache != null) {
+            return openCached(location);
+        }
+        try {
+            ReadChannel reader = storage.reader(blobId(location));
+            reader.setChunkSize(READ_CHUNK_SIZE);
+            return reader;
+        } catch (StorageException e) {
+            throw translate(location, e);
+        }
+    }
+
+    @Override
+    public byte[] readAllBytes(StorageLocation location) throws IOException {
+        if (objectCache != null) {
+            return StorageService.super.readAllBytes(location);
+        }
+        try {
+            return storage.readAllBytes(blobId(location));
+        } catch (StorageException e) {
+            throw translate(location, e);
+        }
+    }
+
+    /**
+     * Memory-mapped view of the cached copy when the disk cache is enabled.
+     */
+    @Override
+    public ByteBuffer readBuffer(StorageLocation location) throws IOException {
+        if (objectCache == null) {
+            return StorageService.super.readBuffer(location);
+        }
+        try (FileChannel channel = openCached(location)) {
+            return channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+    }
+
+    @Override
+    public Optional<StorageObjectInfo> stat(StorageLocation location) throws IOException {
+        try {
+            Blob blob = storage.get(blobId(location), Storage.BlobGetOption.fields(Storage.BlobField.SIZE,
+                    Storage.BlobField.CONTENT_TYPE, Storage.BlobField.GENERATION));
+            if (blob == null) {
+                return Optional.empty();
+            }
+            return Optional.of(new StorageObjectInfo(location, blob.getSize(), blob.getContentType(),
+                    blob.getGeneration()));
+        } catch (StorageException e) {
+            throw translate(location, e);
+        }
+    }
+
+    @Override
+    public SignedUpload signUpload(StorageLocation location, String contentType, long maxBytes, Duration ttl) {
+        BlobInfo blobInfo = BlobInfo.newBuilder(blobId(location))
+                .setContentType(contentType)
+                .build();
+        // Enforced by GCS: bodies outside the range are rejected
+        Map<String, String> extensionHeaders = Map.of("x-goog-content-length-range", "0," + maxBytes);
+
+        List<Storage.SignUrlOption> options = new ArrayList<>(List.of(
+                Storage.SignUrlOption.httpMethod(HttpMethod.PUT),
+                Storage.SignUrlOption.withV4Signature(),
+                Storage.SignUrlOption.withContentType(),
+                Storage.SignUrlOption.withExtHeaders(extensionHeaders)));
+        ServiceAccountSigner localSigner = signer();
+        if (localSigner != null) {
+            options.add(Storage.SignUrlOption.signWith(localSigner));
+        }
+        if (host != null && !host.isBlank()) {
+            options.add(Storage.SignUrlOption.withHostName(host));
+        }
+
+        URL url = storage.signUrl(blobInfo, ttl.toSeconds(), TimeUnit.SECONDS,
+                options.toArray(Storage.SignUrlOption[]::new));
+
+        Map<String, String> headers = new LinkedHashMap<>(extensionHeaders);
+        headers.put("Content-Type", contentType);
+        return new SignedUpload(location, url.toString(), "PUT", headers, Instant.now().plus(ttl));
+    }
+
+    private ServiceAccountSigner signer() {
+        if (signer == null && signingKeyLocation != null && signingKeyLocation.exists()) {
+            try (InputStream in = signingKeyLocation.getInputStream()) {
+                signer = ServiceAccountCredentials.fromStream(in);
+            } catch (IOException e) {
+                throw new IllegalStateException("Failed to load signing key: " + e.getMessage(), e);
+            }
+        }
+        return signer;
+    }
+
+    private FileChannel openCached(StorageLocation location) throws IOException {
+        return objectCache.open(location,
+                () -> currentGeneration(location),
+                (generation, target) -> download(location, generation, target));
+    }
+
+    private long currentGeneration(StorageLocation location) throws IOException {
+        try {
+            Blob blob = storage.get(blobId(location), Storage.BlobGetOption.fields(Storage.BlobField.GENERATION));
+            if (blob == null) {
+                throw new FileNotFoundException("Object not found: " + location);
+            }
+            return blob.getGeneration();
+        } catch (StorageException e) {
+            throw translate(location, e);
+        }
+    }
+
+    private void download(StorageLocation location, long generation, Path target) throws IOException {
+        try {
+            storage.downloadTo(BlobId.of(location.bucket(), location.objectName(), generation), target);
+        } catch (StorageException e) {
+            throw translate(location, e);
+        }
+    }
+
+    private void invalidate(StorageLocation location) {
+        if (objectCache != null) {
+            objectCache.invalidate(location);
+        }
+    }
+
+    private static BlobId blobId(StorageLocation location) {
+        return BlobId.of(location.bucket(), location.objectName());
+    }
+
+    private static IOException translate(StorageLocation location, StorageException e) {
+        if (e.getCode() == 404) {
+            return new FileNotFoundException("Object not found: " + location);
+        }
+        return new IOException("Failed to read " + location + ": " + e.getMessage(), e);
+    }
 }
@@ -0,0 +1,90 @@
+package com.toastlabplus.service.impl;
+
+import com.toastlabplus.service.StorageLocation;
+import com.toastlabplus.service.StorageObjectInfo;
+import com.toastlabplus.service.StorageService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory StorageService for tests and the AOT training run. Contents are
+ * lost on restart.
+ */
+@Service
+@ConditionalOnProperty(name = "gcp.storage.enabled", havingValue = "false")
+@ConditionalOnProperty(name = "app.storage.backend", havingValue = "memory")
+public class InMemoryStorageService implements StorageService {
+
+    private record StoredObject(byte[] content, String contentType, long generation) {
+    }
+
+    private final Map<StorageLocation, StoredObject> objects = new ConcurrentHashMap<>();
+
+    @Value("${gcp.storage.bucket-name}")
+    private String bucketName;
+
+    @Override
+    public String uploadFile(MultipartFile file, String folder) throws IOException {
+        StorageLocation location = StorageLocation.of(bucketName,
+                StorageService.newObjectName(folder, file.getOriginalFilename()));
+        try (InputStream in = file.getInputStream()) {
+            return store(location, file.getContentType(), in);
+        }
+    }
+
+    @Override
+    public void deleteFile(String fileUrl) {
+        StorageLocation.tryParse(fileUrl).ifPresent(objects::remove);
+    }
+
+    @Override
+    public WritableByteChannel openWriter(StorageLocation location, String contentType) {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream() {
+            @Override
+            public void close() {
+                objects.put(location, new StoredObject(toByteArray(), contentType, System.nanoTime()));
+            }
+        };
+        return Channels.newChannel(buffer);
+    }
+
+    @Override
+    public ReadableByteChannel openReader(StorageLocation location) throws IOException {
+        return Channels.newChannel(new ByteArrayInputStream(readAllBytes(location)));
+    }
+
+    @Override
+    public byte[] readAllBytes(StorageLocation location) throws IOException {
+        StoredObject object = objects.get(location);
+        if (object == null) {
+            throw new FileNotFoundException("Object not found: " + location);
+        }
+        return object.content().clone();
+    }
+
+    @Override
+    public Optional<StorageObjectInfo> stat(StorageLocation location) {
+        return Optional.ofNullable(objects.get(location))
+                .map(object -> new StorageObjectInfo(location, object.content().length, object.contentType(),
+                        object.generation()));
+    }
+
+    @Override
+    public String publicUrl(StorageLocation location) {
+        return location.toUri();
+    }
+}
@@ -0,0 +1,178 @@
+package com.toastlabplus.service.impl;
+
+import com.toastlabplus.service.StorageLocation;
+import com.toastlabplus.service.StorageObjectInfo;
+import com.toastlabplus.service.StorageService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Optional;
+
+/**
+ * Local filesystem StorageService for development: objects live under
+ * {@code <root>/<bucket>/<objectName>}. Writes go to a temp file that is
+ * moved into place on close, so readers never see partial objects.
+ *
+ * Avatar "URLs" are {@code gs://} URIs here - they are not browsable.
+ */
+@Service
+@ConditionalOnProperty(name = "gcp.storage.enabled", havingValue = "false")
+@ConditionalOnProperty(name = "app.storage.backend", havingValue = "local", matchIfMissing = true)
+public class LocalStorageService implements StorageService {
+
+    private static final Logger log = LoggerFactory.getLogger(LocalStorageService.class);
+
+    private final Path root;
+
+    @Value("${gcp.storage.bucket-name}")
+    private String bucketName;
+
+    public LocalStorageService(@Value("${app.storage.local.root:${java.io.tmpdir}/toastlabplus-storage}") String root)
+            throws IOException {
+        this.root = Files.createDirectories(Path.of(root)).toAbsolutePath().normalize();
+        log.info("Local Storage Service initialized at {}", this.root);
+    }
+
+    @Override
+    public String uploadFile(MultipartFile file, String folder) throws IOException {
+        StorageLocation location = StorageLocation.of(bucketName,
+                StorageService.newObjectName(folder, file.getOriginalFilename()));
+        try (InputStream in = file.getInputStream()) {
+            return store(location, file.getContentType(), in);
+        }
+    }
+
+    @Override
+    public void deleteFile(String fileUrl) {
+        StorageLocation location = StorageLocation.tryParse(fileUrl).orElse(null);
+        if (location == null) {
+            return; // not one of ours
+        }
+        try {
+            Files.deleteIfExists(resolve(location));
+        } catch (Exception e) {
+            log.error("Error deleting file: {}", fileUrl, e);
+        }
+    }
+
+    @Override
+    public Optional<StorageObjectInfo> stat(StorageLocation location) throws IOException {
+        Path path = resolve(location);
+        if (!Files.isRegularFile(path)) {
+            return Optional.empty();
+        }
+        return Optional.of(new StorageObjectInfo(location, Files.size(path), Files.probeContentType(path),
+                Files.getLastModifiedTime(path).toMillis()));
+    }
+
+    @Override
+    public String publicUrl(StorageLocation location) {
+        return location.toUri();
+    }
+
+    /**
+     * Copies into a temp file and moves it into place only once the whole
+     * content was read; on failure the temp file is deleted and any existing
+     * object is left untouched.
+     */
+    @Override
+    public String store(StorageLocation location, String contentType, String cacheControl, InputStream content)
+            throws IOException {
+        Path target = resolve(location);
+        Files.createDirectories(target.getParent());
+        Path temp = Files.createTempFile(target.getParent(), ".upload-", ".part");
+        try {
+            Files.copy(content, temp, StandardCopyOption.REPLACE_EXISTING);
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+        return location.toUri();
+    }
+
+    @Override
+    public WritableByteChannel openWriter(StorageLocation location, String contentType) throws IOException {
+        Path target = resolve(location);
+        Files.createDirectories(target.getParent());
+        Path temp = Files.createTempFile(target.getParent(), ".upload-", ".part");
+        FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+        return new WritableByteChannel() {
+            @Override
+            public int write(ByteBuffer src) throws IOException {
+                return channel.write(src);
+            }
+
+            @Override
+            public boolean isOpen() {
+                return channel.isOpen();
+            }
+
+            @Override
+            public void close() throws IOException {
+                if (!channel.isOpen()) {
+                    return;
+                }
+                try {
+                    channel.close();
+                    Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+                } finally {
+                    Files.deleteIfExists(temp);
+                }
+            }
+        };
+    }
+
+    @Override
+    public ReadableByteChannel openReader(StorageLocation location) throws IOException {
+        try {
+            return FileChannel.open(resolve(location), StandardOpenOption.READ);
+        } catch (NoSuchFileException e) {
+            throw new FileNotFoundException("Object not found: " + location);
+        }
+    }
+
+    @Override
+    public byte[] readAllBytes(StorageLocation location) throws IOException {
+        try {
+            return Files.readAllBytes(resolve(location));
+        } catch (NoSuchFileException e) {
+            throw new FileNotFoundException("Object not found: " + location);
+        }
+    }
+
+    /**
+     * Memory-mapped, read-only view of the file.
+     */
+    @Override
+    public ByteBuffer readBuffer(StorageLocation location) throws IOException {
+        try (FileChannel channel = FileChannel.open(resolve(location), StandardOpenOption.READ)) {
+            return channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        } catch (NoSuchFileException e) {
+            throw new FileNotFoundException("Object not found: " + location);
+        }
+    }
+
+    private Path resolve(StorageLocation location) {
+        Path path = root.resolve(location.bucket()).resolve(location.objectName()).normalize();
+        if (!path.startsWith(root.resolve(location.bucket()))) {
+            throw new IllegalArgumentException("Invalid object name: " + location.objectName());
+        }
+        return path;
+    }
+}
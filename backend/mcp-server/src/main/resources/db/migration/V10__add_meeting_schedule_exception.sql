@@ -0,0 +1,17 @@
+-- V10: Recurrence anchor and per-occurrence exceptions for meeting schedules
+
+-- 1. Anchor date for BIWEEKLY schedules (and lower bound for generation)
+ALTER TABLE meeting_schedule ADD COLUMN IF NOT EXISTS start_date DATE;
+
+-- 2. Skipped (holiday) and rescheduled occurrences
+CREATE TABLE IF NOT EXISTS meeting_schedule_exception (
+    id BIGSERIAL PRIMARY KEY,
+    schedule_id BIGINT NOT NULL REFERENCES meeting_schedule(id) ON DELETE CASCADE,
+    exception_date DATE NOT NULL, -- the occurrence date produced by the rule
+    type VARCHAR(20) NOT NULL, -- SKIP, RESCHEDULE
+    override_date DATE, -- new date when type = RESCHEDULE
+    reason VARCHAR(200),
+    created_at TIMESTAMP DEFAULT NOW(),
+    -- Also serves lookups by schedule_id
+    CONSTRAINT uq_schedule_exception UNIQUE (schedule_id, exception_date)
+);
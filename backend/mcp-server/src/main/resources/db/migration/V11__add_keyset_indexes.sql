@@ -0,0 +1,5 @@
+-- V11: Composite indexes backing keyset-paginated list endpoints
+
+-- Meetings ordered by (meeting_date DESC, id DESC), optionally per club
+CREATE INDEX IF NOT EXISTS idx_meeting_club_date_id ON meeting(club_id, meeting_date DESC, id DESC);
+CREATE INDEX IF NOT EXISTS idx_meeting_date_id ON meeting(meeting_date DESC, id DESC);
@@ -0,0 +1,9 @@
+-- V12: Ledger of one-shot data maintenance tasks (see MaintenanceTaskRunner)
+
+CREATE TABLE IF NOT EXISTS maintenance_task (
+    task_id VARCHAR(100) PRIMARY KEY,
+    version INT NOT NULL,
+    applied_at TIMESTAMP NOT NULL DEFAULT NOW(),
+    duration_ms BIGINT,
+    applied_by VARCHAR(100)
+);
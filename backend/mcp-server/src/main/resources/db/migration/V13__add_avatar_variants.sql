@@ -0,0 +1,3 @@
+-- V13: Pre-sized avatar variants produced by AvatarImageProcessor
+ALTER TABLE member ADD COLUMN IF NOT EXISTS avatar_thumb_url VARCHAR(500);
+ALTER TABLE member ADD COLUMN IF NOT EXISTS avatar_medium_url VARCHAR(500);
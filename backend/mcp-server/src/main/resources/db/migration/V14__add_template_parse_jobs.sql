@@ -0,0 +1,12 @@
+-- V14: Asynchronous template parsing + parse results shared by content hash
+
+ALTER TABLE agenda_template ADD COLUMN IF NOT EXISTS parse_status VARCHAR(20);
+ALTER TABLE agenda_template ADD COLUMN IF NOT EXISTS parse_error VARCHAR(500);
+ALTER TABLE agenda_template ADD COLUMN IF NOT EXISTS content_hash VARCHAR(64);
+
+-- Parser output keyed by SHA-256 of the extracted sheet content
+CREATE TABLE IF NOT EXISTS template_parse_result (
+    content_hash VARCHAR(64) PRIMARY KEY,
+    parsed_structure JSONB NOT NULL,
+    created_at TIMESTAMP DEFAULT NOW()
+);
@@ -0,0 +1,5 @@
+-- V15: Layout fingerprints of parsed templates, matched in-process before calling the parser
+
+ALTER TABLE template_parse_result ADD COLUMN IF NOT EXISTS layout_fingerprint TEXT;
+-- Result the mappings were adapted from (NULL when it came from the parser)
+ALTER TABLE template_parse_result ADD COLUMN IF NOT EXISTS derived_from VARCHAR(64);
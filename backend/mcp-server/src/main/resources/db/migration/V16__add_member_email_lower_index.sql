@@ -0,0 +1,3 @@
+-- V16: Case-insensitive email lookups for bulk roster imports (RosterImportService)
+
+CREATE INDEX IF NOT EXISTS idx_member_email_lower ON member (LOWER(email));
@@ -0,0 +1,177 @@
+package com.toastlabplus.config;
+
+import com.toastlabplus.config.BulkheadFilter.RequestClass;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.security.autoconfigure.SecurityProperties;
+import org.springframework.core.annotation.OrderUtils;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BulkheadFilterTest {
+
+    @Test
+    void runsAfterTheSecurityFilterChain() {
+        assertEquals(BulkheadFilter.ORDER, OrderUtils.getOrder(BulkheadFilter.class));
+        assertTrue(BulkheadFilter.ORDER > SecurityProperties.DEFAULT_FILTER_ORDER);
+    }
+
+    @Test
+    void defaultPermitsNeverExceedThePool() {
+        assertEquals(Map.of(RequestClass.READ, 2, RequestClass.WRITE, 1, RequestClass.BULK, 1,
+                RequestClass.TRANSFER, 1), BulkheadFilter.defaultPermits(5));
+        assertEquals(Map.of(RequestClass.READ, 6, RequestClass.WRITE, 2, RequestClass.BULK, 1,
+                RequestClass.TRANSFER, 1), BulkheadFilter.defaultPermits(10));
+        for (int pool = 4; pool <= 50; pool++) {
+            int total = BulkheadFilter.defaultPermits(pool).values().stream().mapToInt(Integer::intValue).sum();
+            assertEquals(pool, total, "pool " + pool);
+        }
+    }
+
+    @Test
+    void lightAdminAndAgendaReadsAreInteractive() {
+        assertEquals(RequestClass.READ, classify("GET", "/api/admin/members/page"));
+        assertEquals(RequestClass.READ, classify("GET", "/api/admin/clubs"));
+        assertEquals(RequestClass.READ, classify("GET", "/api/meetings/4/agenda/preview"));
+        assertEquals(RequestClass.WRITE, classify("PATCH", "/api/admin/members/3/role"));
+    }
+
+    @Test
+    void heavyWorkIsBulk() {
+        assertEquals(RequestClass.BULK, classify("GET", "/api/admin/members"));
+        assertEquals(RequestClass.BULK, classify("GET", "/api/meetings/4/agenda/generate"));
+        assertEquals(RequestClass.BULK, classify("POST", "/api/clubs/2/meeting-schedules/5/generate"));
+        assertEquals(RequestClass.BULK, classify("POST", "/api/clubs/2/templates/upload"));
+        assertEquals(RequestClass.BULK, classify("DELETE", "/api/members/9"));
+        assertEquals(RequestClass.READ, classify("GET", "/api/clubs/2/templates"));
+    }
+
+    @Test
+    void importsAndExportsHaveTheirOwnCompartment() {
+        assertEquals(RequestClass.TRANSFER, classify("GET", "/api/meetings/club/2/export"));
+        assertEquals(RequestClass.TRANSFER, classify("POST", "/api/clubs/2/members/import"));
+    }
+
+    @Test
+    void longExportDoesNotBlockBulkWork() throws Exception {
+        BulkheadFilter filter = filter();
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Thread export = Thread.ofVirtual().start(() -> {
+            try {
+                filter.doFilter(request("GET", "/api/meetings/club/2/export"), new MockHttpServletResponse(),
+                        blocking(entered, release));
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        assertTrue(entered.await(5, TimeUnit.SECONDS));
+
+        MockHttpServletResponse generate = new MockHttpServletResponse();
+        filter.doFilter(request("GET", "/api/meetings/4/agenda/generate"), generate, (req, res) -> {
+        });
+        release.countDown();
+        export.join();
+
+        assertEquals(200, generate.getStatus());
+    }
+
+    @Test
+    void secondExportWaitsForTheFirst() throws Exception {
+        BulkheadFilter filter = filter();
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Thread first = Thread.ofVirtual().start(() -> {
+            try {
+                filter.doFilter(request("GET", "/api/meetings/club/2/export"), new MockHttpServletResponse(),
+                        blocking(entered, release));
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        assertTrue(entered.await(5, TimeUnit.SECONDS));
+        Thread.ofVirtual().start(() -> {
+            try {
+                Thread.sleep(100);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            release.countDown();
+        });
+
+        // Queues within the transfer timeout instead of failing fast
+        MockHttpServletResponse second = new MockHttpServletResponse();
+        filter.doFilter(request("GET", "/api/meetings/club/3/export"), second, (req, res) -> {
+        });
+        first.join();
+
+        assertEquals(200, second.getStatus());
+    }
+
+    @Test
+    void saturatedClassIsRejectedWithRetryAfter() throws Exception {
+        BulkheadFilter filter = filter();
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        Thread first = Thread.ofVirtual().start(() -> {
+            try {
+                filter.doFilter(request("GET", "/api/admin/members"), new MockHttpServletResponse(),
+                        blocking(entered, release));
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        assertTrue(entered.await(5, TimeUnit.SECONDS));
+
+        MockHttpServletResponse rejected = new MockHttpServletResponse();
+        filter.doFilter(request("GET", "/api/admin/members"), rejected, (req, res) -> {
+        });
+        MockHttpServletResponse admitted = new MockHttpServletResponse();
+        filter.doFilter(request("GET", "/api/admin/members/page"), admitted, (req, res) -> {
+        });
+        release.countDown();
+        first.join();
+
+        assertEquals(503, rejected.getStatus());
+        assertEquals("10", rejected.getHeader("Retry-After"));
+        assertEquals(200, admitted.getStatus());
+    }
+
+    // ==================== Helper Methods ====================
+
+    private static BulkheadFilter filter() {
+        BulkheadFilter filter = new BulkheadFilter(new SimpleMeterRegistry(), 5, 0, 200, 1, 0, 500, 2, 0, 0, 10,
+                0, 2000, 10);
+        ReflectionTestUtils.setField(filter, "enabled", true);
+        return filter;
+    }
+
+    private static FilterChain blocking(CountDownLatch entered, CountDownLatch release) {
+        return (req, res) -> {
+            entered.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        };
+    }
+
+    private static RequestClass classify(String method, String uri) {
+        return BulkheadFilter.classify(request(method, uri));
+    }
+
+    private static MockHttpServletRequest request(String method, String uri) {
+        return new MockHttpServletRequest(method, uri);
+    }
+}
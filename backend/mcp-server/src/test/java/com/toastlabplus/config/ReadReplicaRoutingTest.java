@@ -0,0 +1,119 @@
+package com.toastlabplus.config;
+
+import com.toastlabplus.PostgresIntegrationTest;
+import com.toastlabplus.entity.Club;
+import com.toastlabplus.repository.ClubRepository;
+import com.toastlabplus.service.ReplicaLagMonitor;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.orm.jpa.EntityManagerFactoryUtils;
+import org.springframework.orm.jpa.EntityManagerHolder;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.mockito.Mockito.when;
+
+/**
+ * Routing of transactions within one open-in-view request. The "replica" is
+ * a read-only pool on the same database, told apart by its
+ * application_name; a write routed to it would fail.
+ */
+@TestPropertySource(properties = {
+        "app.datasource.replica.enabled=true",
+        "spring.datasource.hikari.data-source-properties.ApplicationName=primary",
+        "app.datasource.replica.hikari.data-source-properties.ApplicationName=replica" })
+class ReadReplicaRoutingTest extends PostgresIntegrationTest {
+
+    @DynamicPropertySource
+    static void replica(DynamicPropertyRegistry registry) {
+        registry.add("app.datasource.replica.url", postgres::getJdbcUrl);
+    }
+
+    @MockitoBean
+    private ReplicaLagMonitor replicaLagMonitor;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private ClubRepository clubRepository;
+
+    private TransactionTemplate readOnly;
+    private TransactionTemplate readWrite;
+
+    @BeforeEach
+    void setUp() {
+        when(replicaLagMonitor.isReplicaUsable()).thenReturn(true);
+        readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        readWrite = new TransactionTemplate(transactionManager);
+    }
+
+    @Test
+    void writeAfterReadInOneRequestGoesToPrimary() {
+        inRequest(() -> {
+            assertEquals("replica", readOnly.execute(status -> applicationName()));
+            assertEquals("primary", readWrite.execute(status -> applicationName()));
+
+            Club club = new Club();
+            club.setName("Routing " + UUID.randomUUID());
+            assertNotNull(readWrite.execute(status -> clubRepository.save(club).getId()));
+        });
+    }
+
+    @Test
+    void readAfterWriteInOneRequestCanUseReplica() {
+        inRequest(() -> {
+            assertEquals("primary", readWrite.execute(status -> applicationName()));
+            assertEquals("replica", readOnly.execute(status -> applicationName()));
+        });
+    }
+
+    @Test
+    void laggingReplicaIsNotUsed() {
+        when(replicaLagMonitor.isReplicaUsable()).thenReturn(false);
+
+        inRequest(() -> assertEquals("primary", readOnly.execute(status -> applicationName())));
+    }
+
+    // ==================== Helper Methods ====================
+
+    /**
+     * Bind one EntityManager to the thread for the duration of
+     * {@code work}, as OpenEntityManagerInViewInterceptor does per request.
+     */
+    private void inRequest(Runnable work) {
+        EntityManager requestEntityManager = entityManagerFactory.createEntityManager();
+        TransactionSynchronizationManager.bindResource(entityManagerFactory,
+                new EntityManagerHolder(requestEntityManager));
+        try {
+            work.run();
+        } finally {
+            TransactionSynchronizationManager.unbindResource(entityManagerFactory);
+            EntityManagerFactoryUtils.closeEntityManager(requestEntityManager);
+        }
+    }
+
+    private String applicationName() {
+        return (String) entityManager.createNativeQuery("SELECT current_setting('application_name')")
+                .getSingleResult();
+    }
+}
@@ -0,0 +1,199 @@
+package com.toastlabplus.config;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Source chain fallback and the overall deadline, with fake sources in
+ * place of the environment and Secret Manager.
+ */
+class SecretLoaderTest {
+
+    private static final Duration DEADLINE = Duration.ofSeconds(2);
+
+    private final String first = secretName();
+    private final String second = secretName();
+    private final String third = secretName();
+
+    @AfterEach
+    void clearProperties() {
+        List.of(first, second, third).forEach(System::clearProperty);
+    }
+
+    @Test
+    void firstSourceWithTheSecretWins() {
+        FakeSource mounted = new FakeSource("file").with(first, "from-file");
+        FakeSource manager = new FakeSource("secret-manager").with(first, "from-manager").with(second, "only-here");
+
+        Map<String, String> resolvedBy = new SecretLoader(List.of(mounted, manager), DEADLINE).load(first, second);
+
+        assertEquals(Map.of(first, "file", second, "secret-manager"), resolvedBy);
+        assertEquals("from-file", System.getProperty(first));
+        assertEquals("only-here", System.getProperty(second));
+    }
+
+    @Test
+    void failingSourceFallsBackToTheNextOne() {
+        FakeSource broken = new FakeSource("file").failing();
+        FakeSource manager = new FakeSource("secret-manager").with(first, "value");
+
+        Map<String, String> resolvedBy = new SecretLoader(List.of(broken, manager), DEADLINE).load(first);
+
+        assertEquals(Map.of(first, "secret-manager"), resolvedBy);
+        assertEquals("value", System.getProperty(first));
+    }
+
+    @Test
+    void secretMissingEverywhereIsLeftUnset() {
+        FakeSource empty = new FakeSource("file");
+        FakeSource manager = new FakeSource("secret-manager").with(second, "value");
+
+        Map<String, String> resolvedBy = new SecretLoader(List.of(empty, manager), DEADLINE).load(first, second);
+
+        assertEquals(Map.of(second, "secret-manager"), resolvedBy);
+        assertNull(System.getProperty(first));
+    }
+
+    @Test
+    void failureInEverySourceIsNotFatal() {
+        FakeSource broken = new FakeSource("file").failing();
+        FakeSource manager = new FakeSource("secret-manager").failing();
+
+        Map<String, String> resolvedBy = new SecretLoader(List.of(broken, manager), DEADLINE).load(first);
+
+        assertTrue(resolvedBy.isEmpty());
+        assertNull(System.getProperty(first));
+    }
+
+    @Test
+    void environmentValuesAreNotCopiedToSystemProperties() {
+        FakeSource env = new FakeSource("env").with(first, "value");
+
+        Map<String, String> resolvedBy = new SecretLoader(List.of(env), DEADLINE).load(first);
+
+        assertEquals(Map.of(first, "env"), resolvedBy);
+        assertNull(System.getProperty(first));
+    }
+
+    @Test
+    void slowSecretIsDroppedAtTheDeadline() throws Exception {
+        FakeSource manager = new FakeSource("secret-manager").with(first, "fast").with(second, "slow")
+                .slow(second, Duration.ofSeconds(30));
+
+        long startedAt = System.nanoTime();
+        Map<String, String> resolvedBy = new SecretLoader(List.of(manager), Duration.ofMillis(300))
+                .load(first, second);
+        long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+
+        assertTrue(elapsedMs < 5_000, "load() took " + elapsedMs + " ms");
+        assertEquals(Map.of(first, "secret-manager"), resolvedBy);
+        assertEquals("fast", System.getProperty(first));
+        assertNull(System.getProperty(second));
+        assertTrue(manager.interrupted.await(5, TimeUnit.SECONDS), "slow lookup was not cancelled");
+    }
+
+    @Test
+    void secretsAreResolvedConcurrently() {
+        Duration lookup = Duration.ofMillis(500);
+        FakeSource manager = new FakeSource("secret-manager")
+                .with(first, "a").slow(first, lookup)
+                .with(second, "b").slow(second, lookup)
+                .with(third, "c").slow(third, lookup);
+
+        // One after another the three lookups would need 1.5 s
+        Map<String, String> resolvedBy = new SecretLoader(List.of(manager), Duration.ofMillis(1_200))
+                .load(first, second, third);
+
+        assertEquals(3, resolvedBy.size(), "resolved: " + resolvedBy);
+    }
+
+    @Test
+    void sourcesAreClosedAfterLoading() {
+        FakeSource mounted = new FakeSource("file").with(first, "value");
+        FakeSource manager = new FakeSource("secret-manager").slow(first, Duration.ofSeconds(30));
+
+        new SecretLoader(List.of(mounted, manager), DEADLINE).load(first);
+
+        assertTrue(mounted.closed);
+        assertTrue(manager.closed);
+    }
+
+    // ==================== Helper Methods ====================
+
+    private static String secretName() {
+        return "SECRET_LOADER_TEST_" + UUID.randomUUID().toString().replace("-", "_").toUpperCase();
+    }
+
+    /**
+     * In-memory source; lookups can fail or block to simulate an
+     * unreachable Secret Manager.
+     */
+    private static final class FakeSource implements SecretSource {
+
+        private final String name;
+        private final Map<String, String> values = new HashMap<>();
+        private final Map<String, Duration> delays = new HashMap<>();
+        private final CountDownLatch interrupted = new CountDownLatch(1);
+        private boolean failing;
+        private volatile boolean closed;
+
+        FakeSource(String name) {
+            this.name = name;
+        }
+
+        FakeSource with(String secretName, String value) {
+            values.put(secretName, value);
+            return this;
+        }
+
+        FakeSource slow(String secretName, Duration delay) {
+            delays.put(secretName, delay);
+            return this;
+        }
+
+        FakeSource failing() {
+            failing = true;
+            return this;
+        }
+
+        @Override
+        public String name() {
+            return name;
+        }
+
+        @Override
+        public Optional<String> get(String secretName) throws Exception {
+            Duration delay = delays.get(secretName);
+            if (delay != null) {
+                try {
+                    Thread.sleep(delay.toMillis());
+                } catch (InterruptedException e) {
+                    interrupted.countDown();
+                    throw e;
+                }
+            }
+            if (failing) {
+                throw new IllegalStateException(name + " unavailable");
+            }
+            return Optional.ofNullable(values.get(secretName));
+        }
+
+        @Override
+        public void close() {
+            closed = true;
+        }
+    }
+}
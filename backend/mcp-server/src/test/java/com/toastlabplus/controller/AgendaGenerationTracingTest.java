@@ -0,0 +1,175 @@
+package com.toastlabplus.controller;
+
+import com.toastlabplus.entity.AgendaTemplate;
+import com.toastlabplus.entity.Club;
+import com.toastlabplus.entity.Meeting;
+import com.toastlabplus.repository.AgendaTemplateRepository;
+import com.toastlabplus.repository.ClubAdminRepository;
+import com.toastlabplus.repository.ClubMembershipRepository;
+import com.toastlabplus.repository.MeetingRepository;
+import com.toastlabplus.repository.MemberRepository;
+import com.toastlabplus.repository.RoleSlotRepository;
+import com.toastlabplus.service.StorageLocation;
+import com.toastlabplus.service.StorageService;
+import com.toastlabplus.service.TemplateStructureService;
+import io.micrometer.observation.ObservationRegistry;
+import io.micrometer.tracing.handler.DefaultTracingObservationHandler;
+import io.micrometer.tracing.otel.bridge.OtelCurrentTraceContext;
+import io.micrometer.tracing.otel.bridge.OtelTracer;
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.sdk.testing.exporter.InMemorySpanExporter;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.opentelemetry.sdk.trace.export.SimpleSpanProcessor;
+import io.opentelemetry.sdk.trace.samplers.Sampler;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.ResponseEntity;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Spans produced by agenda generation, captured by an in-memory exporter
+ * in place of the OTLP one.
+ */
+class AgendaGenerationTracingTest {
+
+    private static final long MEETING_ID = 1L;
+    private static final long TEMPLATE_ID = 7L;
+    private static final String TEMPLATE_PATH = "gs://bucket/templates/agenda.xlsx";
+
+    private final InMemorySpanExporter exporter = InMemorySpanExporter.create();
+    private final SdkTracerProvider tracerProvider = SdkTracerProvider.builder()
+            .setSampler(Sampler.alwaysOn())
+            .addSpanProcessor(SimpleSpanProcessor.create(exporter))
+            .build();
+    private final StorageService storageService = mock(StorageService.class);
+
+    private AgendaGenerationController controller;
+
+    @BeforeEach
+    void setUp() {
+        OtelTracer tracer = new OtelTracer(tracerProvider.get("test"), new OtelCurrentTraceContext(), event -> {
+        });
+        ObservationRegistry observationRegistry = ObservationRegistry.create();
+        observationRegistry.observationConfig().observationHandler(new DefaultTracingObservationHandler(tracer));
+
+        MeetingRepository meetingRepository = mock(MeetingRepository.class);
+        AgendaTemplateRepository templateRepository = mock(AgendaTemplateRepository.class);
+        TemplateStructureService templateStructureService = mock(TemplateStructureService.class);
+        when(meetingRepository.findById(MEETING_ID)).thenReturn(Optional.of(meeting()));
+        when(templateRepository.findById(TEMPLATE_ID)).thenReturn(Optional.of(template()));
+        when(templateStructureService.compiled(any())).thenReturn(Optional.empty());
+
+        controller = new AgendaGenerationController(meetingRepository, mock(RoleSlotRepository.class),
+                templateRepository, mock(ClubAdminRepository.class), mock(MemberRepository.class),
+                mock(ClubMembershipRepository.class), observationRegistry, storageService,
+                templateStructureService);
+    }
+
+    @AfterEach
+    void tearDown() {
+        tracerProvider.close();
+    }
+
+    @Test
+    void generationIsOneTraceWithAChildSpanPerStage() throws Exception {
+        when(storageService.readBuffer(StorageLocation.parse(TEMPLATE_PATH))).thenReturn(templateWorkbook());
+
+        ResponseEntity<?> response = controller.generateAgenda(MEETING_ID, TEMPLATE_ID, "excel", null);
+
+        assertEquals(200, response.getStatusCode().value());
+        Map<String, SpanData> spans = spansByName();
+        SpanData root = spans.get("agenda.generate");
+        assertNotNull(root, "spans: " + spans.keySet());
+        assertEquals("excel", attribute(root, "format"));
+
+        for (String stage : List.of("download", "parse", "fill")) {
+            assertChildOf(root, spans.get("agenda." + stage));
+        }
+        SpanData fill = spans.get("agenda.fill");
+        for (String stage : List.of("build-data", "load-workbook", "fill-cells", "serialize")) {
+            assertChildOf(fill, spans.get("agenda." + stage));
+        }
+        assertNotNull(attribute(spans.get("agenda.download"), "output.bytes"));
+        assertNotNull(attribute(spans.get("agenda.fill"), "output.bytes"));
+    }
+
+    @Test
+    void failedStageMarksItsSpanAsError() throws Exception {
+        when(storageService.readBuffer(StorageLocation.parse(TEMPLATE_PATH)))
+                .thenThrow(new IOException("bucket unavailable"));
+
+        ResponseEntity<?> response = controller.generateAgenda(MEETING_ID, TEMPLATE_ID, "excel", null);
+
+        assertEquals(500, response.getStatusCode().value());
+        Map<String, SpanData> spans = spansByName();
+        assertEquals(StatusCode.ERROR, spans.get("agenda.download").getStatus().getStatusCode());
+        assertEquals(StatusCode.ERROR, spans.get("agenda.generate").getStatus().getStatusCode());
+        assertFalse(spans.containsKey("agenda.fill"));
+    }
+
+    // ==================== Helper Methods ====================
+
+    private Map<String, SpanData> spansByName() {
+        return exporter.getFinishedSpanItems().stream()
+                .collect(Collectors.toMap(SpanData::getName, Function.identity()));
+    }
+
+    private static void assertChildOf(SpanData parent, SpanData child) {
+        assertNotNull(child);
+        assertEquals(parent.getTraceId(), child.getTraceId());
+        assertEquals(parent.getSpanId(), child.getParentSpanId(), child.getName());
+    }
+
+    private static String attribute(SpanData span, String key) {
+        return span.getAttributes().asMap().entrySet().stream()
+                .filter(e -> e.getKey().getKey().equals(key))
+                .map(e -> String.valueOf(e.getValue()))
+                .findFirst().orElse(null);
+    }
+
+    private static Meeting meeting() {
+        Club club = new Club();
+        club.setId(3L);
+        club.setName("Tracing Club");
+        Meeting meeting = new Meeting();
+        meeting.setId(MEETING_ID);
+        meeting.setClub(club);
+        meeting.setMeetingNumber(12);
+        meeting.setMeetingDate(LocalDate.of(2025, 3, 4));
+        return meeting;
+    }
+
+    private static AgendaTemplate template() {
+        AgendaTemplate template = new AgendaTemplate();
+        template.setId(TEMPLATE_ID);
+        template.setGcsPath(TEMPLATE_PATH);
+        return template;
+    }
+
+    private static ByteBuffer templateWorkbook() throws IOException {
+        try (XSSFWorkbook workbook = new XSSFWorkbook(); ByteArrayOutputStream out = new ByteArrayOutputStream()) {
+            workbook.createSheet("Agenda").createRow(0).createCell(0).setCellValue("Meeting {{MEETING_NUMBER}}");
+            workbook.write(out);
+            return ByteBuffer.wrap(out.toByteArray());
+        }
+    }
+}
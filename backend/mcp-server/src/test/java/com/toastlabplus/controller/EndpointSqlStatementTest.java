@@ -0,0 +1,152 @@
+package com.toastlabplus.controller;
+
+import com.toastlabplus.PostgresIntegrationTest;
+import com.toastlabplus.entity.Club;
+import com.toastlabplus.entity.ClubAdmin;
+import com.toastlabplus.entity.ClubMembership;
+import com.toastlabplus.entity.Member;
+import com.toastlabplus.repository.ClubAdminRepository;
+import com.toastlabplus.repository.ClubMembershipRepository;
+import com.toastlabplus.repository.ClubRepository;
+import com.toastlabplus.repository.MemberRepository;
+import com.toastlabplus.service.SqlBudgetMonitor;
+import com.toastlabplus.service.SqlStatementStats;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+
+import java.net.http.HttpResponse;
+import java.util.UUID;
+
+import static com.toastlabplus.service.SqlStatementAssertions.assertNoStatementRepeatedMoreThan;
+import static com.toastlabplus.service.SqlStatementAssertions.assertStatementCountAtMost;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+/**
+ * SQL statements per HTTP endpoint, as recorded by SqlBudgetFilter. Each
+ * club has {@value #MEMBERS} members so that lazy loading in a loop (N+1)
+ * shows up as a repeated statement.
+ */
+class EndpointSqlStatementTest extends PostgresIntegrationTest {
+
+    private static final int MEMBERS = 10;
+
+    @MockitoSpyBean
+    private SqlBudgetMonitor sqlBudgetMonitor;
+
+    @Autowired
+    private ClubRepository clubRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private ClubAdminRepository clubAdminRepository;
+
+    @Autowired
+    private ClubMembershipRepository clubMembershipRepository;
+
+    private Club club;
+    private String adminToken;
+
+    @BeforeEach
+    void seedClub() {
+        String run = UUID.randomUUID().toString().substring(0, 8);
+        club = new Club();
+        club.setName("SQL budget " + run);
+        club = clubRepository.save(club);
+
+        Member admin = member("admin-" + run, "PLATFORM_ADMIN");
+        adminToken = tokenFor(admin);
+        for (int i = 0; i < MEMBERS; i++) {
+            Member member = member("member-" + i + "-" + run, "MEMBER");
+            membership(member, i % 2 == 0 ? "APPROVED" : "PENDING");
+            clubAdminRepository.save(new ClubAdmin(member, club, admin));
+        }
+    }
+
+    @Test
+    void clubsAreListedWithOneQuery() throws Exception {
+        SqlStatementStats stats = request("/api/clubs", "GET /api/clubs", null);
+
+        assertStatementCountAtMost(stats, 1);
+    }
+
+    @Test
+    void clubAdminsAreLoadedWithTheirMembers() throws Exception {
+        SqlStatementStats stats = request("/api/clubs/" + club.getId() + "/admins",
+                "GET /api/clubs/{id}/admins", adminToken);
+
+        assertStatementCountAtMost(stats, 2);
+        assertNoStatementRepeatedMoreThan(stats, 1);
+    }
+
+    @Test
+    void clubMembersAreLoadedWithTheirMembers() throws Exception {
+        SqlStatementStats stats = request("/api/members/club/" + club.getId(),
+                "GET /api/members/club/{clubId}", adminToken);
+
+        assertStatementCountAtMost(stats, 3);
+        assertNoStatementRepeatedMoreThan(stats, 1);
+    }
+
+    @Test
+    void pendingMembersAreLoadedWithTheirMembers() throws Exception {
+        SqlStatementStats stats = request("/api/members/club/" + club.getId() + "/pending",
+                "GET /api/members/club/{clubId}/pending", adminToken);
+
+        assertStatementCountAtMost(stats, 3);
+        assertNoStatementRepeatedMoreThan(stats, 1);
+    }
+
+    @Test
+    void memberPageIsOneQuery() throws Exception {
+        SqlStatementStats stats = request("/api/admin/members/page?size=5", "GET /api/admin/members/page",
+                adminToken);
+
+        assertStatementCountAtMost(stats, 1);
+    }
+
+    @Test
+    void meetingPageIsOneQueryAfterTheCurrentMember() throws Exception {
+        SqlStatementStats stats = request("/api/meetings/page?size=5", "GET /api/meetings/page", adminToken);
+
+        assertStatementCountAtMost(stats, 2);
+        assertNoStatementRepeatedMoreThan(stats, 1);
+    }
+
+    // ==================== Helper Methods ====================
+
+    private SqlStatementStats request(String path, String endpoint, String token) throws Exception {
+        HttpResponse<String> response = get(path, token);
+        assertEquals(200, response.statusCode(), response.body());
+
+        // Recorded after the response is flushed, so wait for it
+        ArgumentCaptor<SqlStatementStats> stats = ArgumentCaptor.forClass(SqlStatementStats.class);
+        verify(sqlBudgetMonitor, timeout(5_000)).record(eq(SqlBudgetMonitor.SCOPE_HTTP), eq(endpoint),
+                stats.capture());
+        return stats.getValue();
+    }
+
+    private Member member(String name, String role) {
+        Member member = new Member();
+        member.setName(name);
+        member.setEmail(name + "@example.com");
+        member.setPasswordHash("not-used");
+        member.setRole(role);
+        return memberRepository.save(member);
+    }
+
+    private void membership(Member member, String status) {
+        ClubMembership membership = new ClubMembership();
+        membership.setMember(member);
+        membership.setClub(club);
+        membership.setStatus(status);
+        clubMembershipRepository.save(membership);
+    }
+}
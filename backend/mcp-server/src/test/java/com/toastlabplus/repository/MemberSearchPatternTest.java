@@ -0,0 +1,26 @@
+package com.toastlabplus.repository;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class MemberSearchPatternTest {
+
+    @Test
+    void blankTermMatchesEverything() {
+        assertEquals("%", MemberRepository.containsPattern(null));
+        assertEquals("%", MemberRepository.containsPattern("  "));
+    }
+
+    @Test
+    void termIsTrimmedAndLowercased() {
+        assertEquals("%alice%", MemberRepository.containsPattern(" Alice "));
+    }
+
+    @Test
+    void wildcardsAndEscapeCharacterAreEscaped() {
+        assertEquals("%100\\%%", MemberRepository.containsPattern("100%"));
+        assertEquals("%first\\_last%", MemberRepository.containsPattern("first_last"));
+        assertEquals("%a\\\\b%", MemberRepository.containsPattern("a\\b"));
+    }
+}
@@ -0,0 +1,36 @@
+package com.toastlabplus.service;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AdvisoryLockServiceTest {
+
+    @Test
+    void idsAboveIntRangeGetDistinctKeys() {
+        // An (int) cast maps both ids of each pair to the same lock
+        assertNotEquals(AdvisoryLockService.lockKey(AdvisoryLockService.NS_CLUB_MEETINGS, (1L << 32) + 7),
+                AdvisoryLockService.lockKey(AdvisoryLockService.NS_CLUB_MEETINGS, 7));
+        assertNotEquals(AdvisoryLockService.lockKey(AdvisoryLockService.NS_CLUB_MEETINGS, 1L << 32),
+                AdvisoryLockService.lockKey(AdvisoryLockService.NS_CLUB_MEETINGS, 0L));
+    }
+
+    @Test
+    void namespacesDoNotOverlapEachOtherOrLeaderLocks() {
+        long maxId = (1L << 48) - 1;
+
+        assertNotEquals(AdvisoryLockService.lockKey(1001, maxId), AdvisoryLockService.lockKey(1002, 0));
+        assertTrue(AdvisoryLockService.lockKey(1, 0) > AdvisoryLockService.LOCK_MEETING_GENERATOR);
+        assertTrue(AdvisoryLockService.lockKey(1, 0) > AdvisoryLockService.LOCK_MAINTENANCE_TASKS);
+    }
+
+    @Test
+    void rejectsIdsThatDoNotFit() {
+        assertThrows(IllegalArgumentException.class,
+                () -> AdvisoryLockService.lockKey(AdvisoryLockService.NS_CLUB_MEETINGS, 1L << 48));
+        assertThrows(IllegalArgumentException.class,
+                () -> AdvisoryLockService.lockKey(AdvisoryLockService.NS_CLUB_MEETINGS, -1));
+    }
+}
@@ -0,0 +1,80 @@
+package com.toastlabplus.service;
+
+import org.junit.jupiter.api.Test;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AvatarImageProcessorTest {
+
+    @Test
+    void largePhotoIsDecodedAsASubsampledSquare() throws Exception {
+        BufferedImage decoded = decode(8000, 5000);
+
+        // 40 MP source, about 1.5 MP decoded
+        assertEquals(decoded.getWidth(), decoded.getHeight());
+        assertTrue(decoded.getWidth() >= 2 * AvatarImageProcessor.MEDIUM_SIZE, "side " + decoded.getWidth());
+        assertTrue(decoded.getWidth() < 4 * AvatarImageProcessor.MEDIUM_SIZE, "side " + decoded.getWidth());
+    }
+
+    @Test
+    void smallPhotoIsCroppedWithoutSubsampling() throws Exception {
+        BufferedImage decoded = decode(600, 400);
+
+        assertEquals(400, decoded.getWidth());
+        assertEquals(400, decoded.getHeight());
+    }
+
+    // ==================== Helper Methods ====================
+
+    /**
+     * Decodes a small JPEG whose header declares {@code width x height}, so
+     * large sources are tested without allocating them; the missing scan
+     * data decodes as gray.
+     */
+    private static BufferedImage decode(int width, int height) throws Exception {
+        ByteArrayOutputStream jpeg = new ByteArrayOutputStream();
+        ImageIO.write(new BufferedImage(64, 40, BufferedImage.TYPE_INT_RGB), "jpeg", jpeg);
+        byte[] bytes = withDimensions(jpeg.toByteArray(), width, height);
+
+        try (ImageInputStream in = ImageIO.createImageInputStream(new ByteArrayInputStream(bytes))) {
+            ImageReader reader = ImageIO.getImageReaders(in).next();
+            try {
+                reader.setInput(in, true, true);
+                assertEquals(width, reader.getWidth(0));
+                assertEquals(height, reader.getHeight(0));
+                return reader.read(0, AvatarImageProcessor.squareReadParam(reader, width, height));
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    /**
+     * Rewrites the frame size in the baseline SOF0 segment.
+     */
+    private static byte[] withDimensions(byte[] jpeg, int width, int height) {
+        // Segments after SOI: FF <marker> <2-byte length including itself> <payload>
+        for (int i = 2; i + 3 < jpeg.length;) {
+            int marker = jpeg[i + 1] & 0xFF;
+            int length = ((jpeg[i + 2] & 0xFF) << 8) | (jpeg[i + 3] & 0xFF);
+            if (marker == 0xC0) {
+                // Payload: precision, height, width
+                jpeg[i + 5] = (byte) (height >> 8);
+                jpeg[i + 6] = (byte) height;
+                jpeg[i + 7] = (byte) (width >> 8);
+                jpeg[i + 8] = (byte) width;
+                return jpeg;
+            }
+            i += 2 + length;
+        }
+        throw new IllegalStateException("No SOF0 segment");
+    }
+}
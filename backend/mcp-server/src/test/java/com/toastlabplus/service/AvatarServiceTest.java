@@ -0,0 +1,125 @@
+package com.toastlabplus.service;
+
+import com.toastlabplus.entity.Member;
+import com.toastlabplus.repository.MemberRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Ownership and content checks of {@link AvatarService#completeUpload}: a
+ * member may only attach objects from their own {@code avatars/<id>/}
+ * folder.
+ */
+class AvatarServiceTest {
+
+    private static final String BUCKET = "avatars-bucket";
+    private static final long MAX_BYTES = 5 * 1024 * 1024;
+
+    private final StorageService storageService = mock(StorageService.class);
+    private final MemberRepository memberRepository = mock(MemberRepository.class);
+    private final AvatarImageProcessor imageProcessor = mock(AvatarImageProcessor.class);
+
+    private AvatarService avatarService;
+    private Member member;
+
+    @BeforeEach
+    void setUp() {
+        avatarService = new AvatarService(storageService, memberRepository, imageProcessor);
+        ReflectionTestUtils.setField(avatarService, "bucketName", BUCKET);
+        ReflectionTestUtils.setField(avatarService, "maxBytes", MAX_BYTES);
+        when(storageService.publicUrl(any())).thenAnswer(invocation -> invocation
+                .<StorageLocation>getArgument(0).toPublicUrl());
+
+        member = new Member();
+        member.setId(1L);
+    }
+
+    @Test
+    void ownUploadBecomesTheAvatar() throws Exception {
+        member.setAvatarUrl("gs://" + BUCKET + "/avatars/1/old.png");
+        member.setAvatarThumbUrl("gs://" + BUCKET + "/avatars/1/old-thumb.jpg");
+        stored("avatars/1/new.jpg", "image/jpeg", 1024);
+
+        String avatarUrl = avatarService.completeUpload(member, "avatars/1/new.jpg");
+
+        assertEquals(StorageLocation.of(BUCKET, "avatars/1/new.jpg").toPublicUrl(), avatarUrl);
+        assertEquals(avatarUrl, member.getAvatarUrl());
+        assertNull(member.getAvatarThumbUrl());
+        verify(memberRepository).save(member);
+        verify(storageService).deleteFile("gs://" + BUCKET + "/avatars/1/old.png");
+        verify(storageService).deleteFile("gs://" + BUCKET + "/avatars/1/old-thumb.jpg");
+        verify(imageProcessor).submit(1L, avatarUrl);
+    }
+
+    @Test
+    void objectsOutsideTheMembersFolderAreRejected() throws Exception {
+        for (String objectName : List.of(
+                "avatars/2/photo.jpg",
+                // Prefix of another member's id
+                "avatars/12/photo.jpg",
+                "avatars/1",
+                "avatars/1/../2/photo.jpg",
+                "templates/1/photo.jpg",
+                "/avatars/1/photo.jpg")) {
+            assertThrows(IllegalArgumentException.class, () -> avatarService.completeUpload(member, objectName),
+                    objectName);
+        }
+        assertThrows(IllegalArgumentException.class, () -> avatarService.completeUpload(member, null));
+
+        verify(storageService, never()).stat(any());
+        verify(storageService, never()).deleteFile(anyString());
+        verify(memberRepository, never()).save(any());
+    }
+
+    @Test
+    void missingUploadIsRejected() throws Exception {
+        when(storageService.stat(any())).thenReturn(Optional.empty());
+
+        assertThrows(IllegalArgumentException.class,
+                () -> avatarService.completeUpload(member, "avatars/1/never-uploaded.jpg"));
+        verify(memberRepository, never()).save(any());
+    }
+
+    @Test
+    void uploadWithWrongContentTypeIsDeleted() throws Exception {
+        stored("avatars/1/new.jpg", "text/html", 1024);
+
+        assertThrows(IllegalArgumentException.class, () -> avatarService.completeUpload(member, "avatars/1/new.jpg"));
+
+        verify(storageService).deleteFile("gs://" + BUCKET + "/avatars/1/new.jpg");
+        verify(memberRepository, never()).save(any());
+        verify(imageProcessor, never()).submit(any(), any());
+    }
+
+    @Test
+    void oversizedUploadIsDeleted() throws Exception {
+        stored("avatars/1/new.png", "image/png", MAX_BYTES + 1);
+
+        assertThrows(IllegalArgumentException.class, () -> avatarService.completeUpload(member, "avatars/1/new.png"));
+
+        verify(storageService).deleteFile("gs://" + BUCKET + "/avatars/1/new.png");
+        verify(memberRepository, never()).save(any());
+    }
+
+    // ==================== Helper Methods ====================
+
+    private void stored(String objectName, String contentType, long size) throws Exception {
+        StorageLocation location = StorageLocation.of(BUCKET, objectName);
+        when(storageService.stat(location))
+                .thenReturn(Optional.of(new StorageObjectInfo(location, size, contentType, 1L)));
+    }
+}
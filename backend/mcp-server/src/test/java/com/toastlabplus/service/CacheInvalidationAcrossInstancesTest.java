@@ -0,0 +1,112 @@
+package com.toastlabplus.service;
+
+import com.toastlabplus.McpServerApplication;
+import com.toastlabplus.PostgresIntegrationTest;
+import com.toastlabplus.entity.Club;
+import com.toastlabplus.repository.ClubRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * The full path between two application instances on one database: a
+ * committed write in this context goes through the entity listener and
+ * NOTIFY, and evicts the entity from the other context's second-level cache.
+ */
+@TestPropertySource(properties = "app.cache-invalidation.enabled=true")
+class CacheInvalidationAcrossInstancesTest extends PostgresIntegrationTest {
+
+    private static ConfigurableApplicationContext other;
+
+    @Autowired
+    private ClubRepository clubRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private TransactionTemplate transaction;
+
+    @BeforeEach
+    void startOtherInstance() throws InterruptedException {
+        transaction = new TransactionTemplate(transactionManager);
+        if (other == null) {
+            other = new SpringApplicationBuilder(McpServerApplication.class)
+                    .profiles("test")
+                    .properties(Map.of(
+                            "server.port", "0",
+                            "spring.datasource.url", postgres.getJdbcUrl(),
+                            "spring.datasource.username", postgres.getUsername(),
+                            "spring.datasource.password", postgres.getPassword(),
+                            "app.cache-invalidation.enabled", "true"))
+                    .run();
+        }
+        awaitListening(meterRegistry);
+        awaitListening(other.getBean(MeterRegistry.class));
+    }
+
+    @AfterAll
+    static void stopOtherInstance() {
+        if (other != null) {
+            other.close();
+            other = null;
+        }
+    }
+
+    @Test
+    void committedUpdateEvictsTheClubCachedByTheOtherInstance() throws InterruptedException {
+        // Inserted without the entity listener, so no invalidation is in flight
+        Long clubId = jdbcTemplate.queryForObject("INSERT INTO club (name) VALUES (?) RETURNING id", Long.class,
+                "Cached " + UUID.randomUUID());
+        ClubRepository otherClubs = other.getBean(ClubRepository.class);
+        TransactionTemplate otherTransaction = new TransactionTemplate(
+                other.getBean(PlatformTransactionManager.class));
+        Cache otherCache = other.getBean(EntityManagerFactory.class).unwrap(SessionFactory.class).getCache();
+
+        otherTransaction.executeWithoutResult(status -> otherClubs.findById(clubId).orElseThrow());
+        assertTrue(otherCache.containsEntity(Club.class, clubId), "club not cached by the other instance");
+
+        transaction.executeWithoutResult(status -> clubRepository.findById(clubId).orElseThrow()
+                .setName("Renamed"));
+
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (otherCache.containsEntity(Club.class, clubId)) {
+            assertTrue(System.currentTimeMillis() < deadline, "club not evicted from the other instance");
+            Thread.sleep(50);
+        }
+        assertEquals("Renamed",
+                otherTransaction.execute(status -> otherClubs.findById(clubId).orElseThrow().getName()));
+    }
+
+    // ==================== Helper Methods ====================
+
+    private static void awaitListening(MeterRegistry registry) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (registry.get("cache.invalidation.connected").gauge().value() < 1) {
+            assertTrue(System.currentTimeMillis() < deadline, "listener did not connect");
+            Thread.sleep(50);
+        }
+    }
+}
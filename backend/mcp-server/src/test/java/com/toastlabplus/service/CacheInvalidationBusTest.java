@@ -0,0 +1,161 @@
+package com.toastlabplus.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.postgresql.PostgreSQLContainer;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Runs two bus instances against one real Postgres, as two Cloud Run
+ * instances would, and checks that their local caches converge.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class CacheInvalidationBusTest {
+
+    @Container
+    static final PostgreSQLContainer postgres = new PostgreSQLContainer("postgres:16-alpine");
+
+    private final List<CacheInvalidationBus> buses = new ArrayList<>();
+
+    // Shared by the buses and the test's transactions, so a NOTIFY sent by
+    // publish() runs on the transaction's connection
+    private DriverManagerDataSource dataSource;
+
+    @BeforeEach
+    void createDataSource() {
+        dataSource = new DriverManagerDataSource(postgres.getJdbcUrl(), postgres.getUsername(),
+                postgres.getPassword());
+    }
+
+    @AfterEach
+    void stopBuses() {
+        buses.forEach(CacheInvalidationBus::stop);
+    }
+
+    @Test
+    void invalidationFromOneInstanceEvictsOnBoth() throws Exception {
+        LocalCache first = new LocalCache();
+        LocalCache second = new LocalCache();
+        CacheInvalidationBus publisher = start(first);
+        start(second);
+        first.entries.put(42L, "stale");
+        second.entries.put(42L, "stale");
+        second.entries.put(43L, "fresh");
+
+        publisher.publish(CacheInvalidationEvent.CLUB, 42L, null);
+
+        assertEquals(42L, first.received.poll(10, TimeUnit.SECONDS).id());
+        assertEquals(42L, second.received.poll(10, TimeUnit.SECONDS).id());
+        assertTrue(first.entries.isEmpty());
+        assertEquals(Map.of(43L, "fresh"), second.entries);
+    }
+
+    @Test
+    void rolledBackPublishIsNotDelivered() throws Exception {
+        LocalCache cache = new LocalCache();
+        CacheInvalidationBus bus = start(cache);
+        TransactionTemplate transaction = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+
+        transaction.executeWithoutResult(status -> {
+            bus.publish(CacheInvalidationEvent.CLUB, 1L, null);
+            status.setRollbackOnly();
+        });
+        transaction.executeWithoutResult(status -> bus.publish(CacheInvalidationEvent.CLUB, 2L, null));
+
+        CacheInvalidationEvent event = cache.received.poll(10, TimeUnit.SECONDS);
+        assertNotNull(event);
+        assertEquals(2L, event.id());
+    }
+
+    @Test
+    void stopClosesListenConnectionPromptly() throws Exception {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        CacheInvalidationBus bus = start(new LocalCache(), registry);
+
+        long startedAt = System.nanoTime();
+        bus.stop();
+        long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+
+        // Well under the 10 s notification poll timeout
+        assertTrue(elapsedMs < 5_000, "stop() took " + elapsedMs + " ms");
+        assertFalse(bus.isRunning());
+        assertEquals(0.0, registry.get("cache.invalidation.connected").gauge().value());
+        assertEquals(0, listenerSessions());
+    }
+
+    // ==================== Helper Methods ====================
+
+    private CacheInvalidationBus start(LocalCache cache) throws InterruptedException {
+        return start(cache, new SimpleMeterRegistry());
+    }
+
+    private CacheInvalidationBus start(LocalCache cache, SimpleMeterRegistry registry) throws InterruptedException {
+        StaticListableBeanFactory beans = new StaticListableBeanFactory(Map.of("localCache", cache));
+        CacheInvalidationBus bus = new CacheInvalidationBus(new JdbcTemplate(dataSource), new ObjectMapper(),
+                beans.getBeanProvider(CacheInvalidationHandler.class), registry);
+        ReflectionTestUtils.setField(bus, "enabled", true);
+        ReflectionTestUtils.setField(bus, "channel", "cache_invalidation");
+        ReflectionTestUtils.setField(bus, "url", postgres.getJdbcUrl());
+        ReflectionTestUtils.setField(bus, "username", postgres.getUsername());
+        ReflectionTestUtils.setField(bus, "password", postgres.getPassword());
+        bus.start();
+        buses.add(bus);
+
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (registry.get("cache.invalidation.connected").gauge().value() < 1) {
+            assertTrue(System.currentTimeMillis() < deadline, "listener did not connect");
+            Thread.sleep(50);
+        }
+        return bus;
+    }
+
+    private int listenerSessions() {
+        Integer count = new JdbcTemplate(dataSource).queryForObject(
+                "SELECT count(*) FROM pg_stat_activity WHERE query LIKE 'LISTEN cache_invalidation%'",
+                Integer.class);
+        return count != null ? count : 0;
+    }
+
+    /**
+     * Stands in for an instance-local cache region.
+     */
+    private static final class LocalCache implements CacheInvalidationHandler {
+
+        private final Map<Long, String> entries = new ConcurrentHashMap<>();
+        private final BlockingQueue<CacheInvalidationEvent> received = new LinkedBlockingQueue<>();
+
+        @Override
+        public void onInvalidation(CacheInvalidationEvent event) {
+            entries.remove(event.id());
+            received.add(event);
+        }
+
+        @Override
+        public void onResync() {
+            entries.clear();
+        }
+    }
+}
@@ -0,0 +1,217 @@
+package com.toastlabplus.service;
+
+import com.toastlabplus.PostgresIntegrationTest;
+import com.toastlabplus.entity.Club;
+import com.toastlabplus.entity.ClubAdmin;
+import com.toastlabplus.entity.Member;
+import com.toastlabplus.repository.ClubAdminRepository;
+import com.toastlabplus.repository.ClubRepository;
+import com.toastlabplus.repository.MemberRepository;
+import com.toastlabplus.service.ClubHistoryExportService.ExportSummary;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.http.HttpResponse;
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * Club history workbook for a date range: four weekly meetings with three
+ * role slots each, and four members of whom two take no role in the range.
+ */
+class ClubHistoryExportServiceTest extends PostgresIntegrationTest {
+
+    private static final LocalDate FIRST_MEETING = LocalDate.of(2026, 1, 5);
+
+    @Autowired
+    private ClubHistoryExportService exportService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ClubRepository clubRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private ClubAdminRepository clubAdminRepository;
+
+    private String run;
+    private Club club;
+    private Member clubAdmin;
+
+    @BeforeEach
+    void seedHistory() {
+        run = UUID.randomUUID().toString().substring(0, 8);
+        club = club("History export");
+        clubAdmin = member("Admin", "MEMBER");
+        clubAdminRepository.save(new ClubAdmin(clubAdmin, club, clubAdmin));
+
+        Member ann = clubMember("Ann");
+        Member bob = clubMember("Bob");
+        clubMember("Cat");
+        Member dan = clubMember("Dan");
+        for (int week = 0; week < 4; week++) {
+            long meetingId = meeting(FIRST_MEETING.plusWeeks(week), 100 + week);
+            // Dan only takes a role in the first meeting
+            roleSlot(meetingId, "TME", 1, week == 0 ? dan : ann, null);
+            roleSlot(meetingId, "SPEAKER", 1, bob, "Ice Breaker " + week);
+            roleSlot(meetingId, "SPEAKER", 2, null, null);
+        }
+    }
+
+    @Test
+    void rangeBoundsAreInclusive() throws IOException {
+        LocalDate from = FIRST_MEETING.plusWeeks(1);
+        LocalDate to = FIRST_MEETING.plusWeeks(2);
+
+        try (XSSFWorkbook workbook = export(from, to, new ExportSummary(2, 6, 4))) {
+            assertEquals(List.of("Meetings", "Roles", "Members"),
+                    List.of(workbook.getSheetName(0), workbook.getSheetName(1), workbook.getSheetName(2)));
+
+            Sheet meetings = workbook.getSheet("Meetings");
+            assertEquals(2, meetings.getLastRowNum());
+            assertEquals(List.of(from, to), dates(meetings));
+            assertEquals(101, (int) meetings.getRow(1).getCell(1).getNumericCellValue());
+            assertEquals(3, (int) meetings.getRow(1).getCell(8).getNumericCellValue());
+            assertEquals(2, (int) meetings.getRow(1).getCell(9).getNumericCellValue());
+
+            Sheet roles = workbook.getSheet("Roles");
+            assertEquals(6, roles.getLastRowNum());
+            assertEquals(List.of(from, from, from, to, to, to), dates(roles));
+            assertEquals("Ice Breaker 1", roles.getRow(1).getCell(6).getStringCellValue());
+            // The open speaker slot has no member
+            assertNull(roles.getRow(2).getCell(4));
+        }
+    }
+
+    @Test
+    void membersWithoutRolesInTheRangeAreListed() throws IOException {
+        LocalDate from = FIRST_MEETING.plusWeeks(1);
+        LocalDate to = FIRST_MEETING.plusWeeks(3);
+
+        try (XSSFWorkbook workbook = export(from, to, new ExportSummary(3, 9, 4))) {
+            Sheet members = workbook.getSheet("Members");
+            assertEquals(4, members.getLastRowNum());
+            assertMember(members.getRow(1), "Ann", 3, to);
+            assertMember(members.getRow(2), "Bob", 3, to);
+            assertMember(members.getRow(3), "Cat", 0, null);
+            // Dan's role was before the range
+            assertMember(members.getRow(4), "Dan", 0, null);
+        }
+    }
+
+    @Test
+    void emptyRangeStillHasHeaders() throws IOException {
+        LocalDate day = FIRST_MEETING.plusDays(1);
+
+        try (XSSFWorkbook workbook = export(day, day, new ExportSummary(0, 0, 4))) {
+            assertEquals(0, workbook.getSheet("Meetings").getLastRowNum());
+            assertEquals("Date", workbook.getSheet("Meetings").getRow(0).getCell(0).getStringCellValue());
+            assertEquals(0, workbook.getSheet("Roles").getLastRowNum());
+        }
+    }
+
+    @Test
+    void adminOfAnotherClubIsForbidden() throws Exception {
+        Member otherAdmin = member("Other admin", "MEMBER");
+        clubAdminRepository.save(new ClubAdmin(otherAdmin, club("Other club"), otherAdmin));
+
+        HttpResponse<String> response = get(exportPath("?from=2026-01-01&to=2026-01-31"), tokenFor(otherAdmin));
+
+        assertEquals(403, response.statusCode(), response.body());
+    }
+
+    @Test
+    void fromAfterToIsRejected() throws Exception {
+        HttpResponse<String> response = get(exportPath("?from=2026-02-01&to=2026-01-01"), tokenFor(clubAdmin));
+
+        assertEquals(400, response.statusCode(), response.body());
+    }
+
+    // ==================== Helper Methods ====================
+
+    private XSSFWorkbook export(LocalDate from, LocalDate to, ExportSummary expected) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        assertEquals(expected, exportService.export(club.getId(), from, to, out));
+        return new XSSFWorkbook(new ByteArrayInputStream(out.toByteArray()));
+    }
+
+    private String exportPath(String query) {
+        return "/api/meetings/club/" + club.getId() + "/export" + query;
+    }
+
+    private static List<LocalDate> dates(Sheet sheet) {
+        List<LocalDate> dates = new ArrayList<>();
+        for (int i = 1; i <= sheet.getLastRowNum(); i++) {
+            dates.add(sheet.getRow(i).getCell(0).getLocalDateTimeCellValue().toLocalDate());
+        }
+        return dates;
+    }
+
+    private void assertMember(Row row, String name, int roles, LocalDate lastRole) {
+        assertEquals(name + " " + run, row.getCell(0).getStringCellValue());
+        assertEquals("APPROVED", row.getCell(3).getStringCellValue());
+        assertEquals(roles, (int) row.getCell(6).getNumericCellValue());
+        if (lastRole == null) {
+            assertNull(row.getCell(7));
+        } else {
+            assertEquals(lastRole, row.getCell(7).getLocalDateTimeCellValue().toLocalDate());
+        }
+    }
+
+    private Club club(String name) {
+        Club club = new Club();
+        club.setName(name + " " + run);
+        return clubRepository.save(club);
+    }
+
+    private Member member(String name, String role) {
+        Member member = new Member();
+        member.setName(name + " " + run);
+        member.setEmail(name.toLowerCase().replace(' ', '-') + "-" + run + "@example.com");
+        member.setPasswordHash("not-used");
+        member.setRole(role);
+        return memberRepository.save(member);
+    }
+
+    private Member clubMember(String name) {
+        Member member = member(name, "MEMBER");
+        jdbcTemplate.update("""
+                INSERT INTO club_membership (member_id, club_id, status, approved_at)
+                VALUES (?, ?, 'APPROVED', NOW())
+                """, member.getId(), club.getId());
+        return member;
+    }
+
+    private long meeting(LocalDate date, int number) {
+        return jdbcTemplate.queryForObject("""
+                INSERT INTO meeting (club_id, title, meeting_date, start_time, meeting_number, status)
+                VALUES (?, ?, ?, '19:00', ?, 'PUBLISHED')
+                RETURNING id
+                """, Long.class, club.getId(), "Meeting " + number, Date.valueOf(date), number);
+    }
+
+    private void roleSlot(long meetingId, String role, int slot, Member member, String speechTitle) {
+        jdbcTemplate.update("""
+                INSERT INTO role_slot (meeting_id, role_name, slot_index, assigned_member_id, speech_title)
+                VALUES (?, ?, ?, ?, ?)
+                """, meetingId, role, slot, member != null ? member.getId() : null, speechTitle);
+    }
+}
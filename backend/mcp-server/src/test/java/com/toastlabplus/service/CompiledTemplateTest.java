@@ -0,0 +1,84 @@
+package com.toastlabplus.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.toastlabplus.entity.RoleSlot;
+import com.toastlabplus.service.CompiledTemplate.CellBinding;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+/**
+ * Compiled cell plan of a template with two speaker slots, before and after
+ * making room for more speakers.
+ */
+class CompiledTemplateTest {
+
+    private static final String STRUCTURE = """
+            {"variable_mappings": [
+              {"role": "TME", "value_position": {"row": 3, "col": 2}},
+              {"role": "SPEAKER_1", "value_position": {"row": 5, "col": 2}},
+              {"role": "SPEAKER_1_TITLE", "value_position": {"row": 5, "col": 3}},
+              {"role": "SPEAKER_2", "value_position": {"row": 6, "col": 2}},
+              {"role": "SPEAKER_2_TITLE", "value_position": {"row": 6, "col": 3}},
+              {"role": "SPEAKER_2_PROJECT", "value_position": {"row": 6, "col": 4}},
+              {"role": "GE", "value_position": {"row": 8, "col": 2}}
+            ]}
+            """;
+
+    @Test
+    void speakerSlotsAreCounted() throws Exception {
+        CompiledTemplate template = compile(STRUCTURE);
+
+        assertEquals(2, template.speakerCount());
+        assertEquals(6, template.lastSpeakerRow());
+        assertEquals(2, template.roles().get(RoleSlot.SPEAKER));
+        assertEquals(new CellBinding("SPEAKER_2_TITLE", "SPEECH_TITLE_2", 6, 3), template.binding("speaker_2_title"));
+    }
+
+    @Test
+    void extraSpeakersGetRowsAfterTheLastSpeaker() throws Exception {
+        List<CellBinding> plan = compile(STRUCTURE).cellPlanFor(4);
+
+        assertEquals(List.of(
+                new CellBinding("TME", "TME_NAME", 3, 2),
+                new CellBinding("SPEAKER_1", "SPEAKER_1_NAME", 5, 2),
+                new CellBinding("SPEAKER_1_TITLE", "SPEECH_TITLE_1", 5, 3),
+                new CellBinding("SPEAKER_2", "SPEAKER_2_NAME", 6, 2),
+                new CellBinding("SPEAKER_2_TITLE", "SPEECH_TITLE_2", 6, 3),
+                new CellBinding("SPEAKER_2_PROJECT", "SPEECH_PROJECT_2", 6, 4),
+                new CellBinding("SPEAKER_3", "SPEAKER_3_NAME", 7, 2),
+                new CellBinding("SPEAKER_3_TITLE", "SPEECH_TITLE_3", 7, 3),
+                new CellBinding("SPEAKER_3_PROJECT", "SPEECH_PROJECT_3", 7, 4),
+                new CellBinding("SPEAKER_4", "SPEAKER_4_NAME", 8, 2),
+                new CellBinding("SPEAKER_4_TITLE", "SPEECH_TITLE_4", 8, 3),
+                new CellBinding("SPEAKER_4_PROJECT", "SPEECH_PROJECT_4", 8, 4),
+                // Moved down by the two inserted rows
+                new CellBinding("GE", "GE_NAME", 10, 2)), plan);
+    }
+
+    @Test
+    void planIsUnchangedWhenTheTemplateHasRoom() throws Exception {
+        CompiledTemplate template = compile(STRUCTURE);
+
+        assertSame(template.cellPlan(), template.cellPlanFor(2));
+        assertSame(template.cellPlan(), template.cellPlanFor(0));
+    }
+
+    @Test
+    void templateWithoutSpeakersIsNotShifted() throws Exception {
+        CompiledTemplate template = compile("""
+                {"variable_mappings": [{"role": "TME", "value_position": {"row": 3, "col": 2}}]}
+                """);
+
+        assertSame(template.cellPlan(), template.cellPlanFor(3));
+    }
+
+    // ==================== Helper Methods ====================
+
+    private static CompiledTemplate compile(String json) throws Exception {
+        return CompiledTemplate.compile(new ObjectMapper().readValue(json, ParsedTemplateStructure.class));
+    }
+}
@@ -0,0 +1,100 @@
+package com.toastlabplus.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Records as Excel and Google Sheets export them.
+ */
+class CsvReaderTest {
+
+    @Test
+    void plainRecordsAreSplitOnCommas() throws IOException {
+        assertEquals(List.of(
+                List.of("name", "email"),
+                List.of("Ann", "ann@example.com")), read("name,email\nAnn,ann@example.com\n"));
+    }
+
+    @Test
+    void quotedFieldsKeepCommasQuotesAndLineBreaks() throws IOException {
+        String csv = "name,note\n"
+                + "\"Lee, Ann\",\"said \"\"hi\"\"\"\n"
+                + "Bob,\"first line\nsecond line\"\n";
+
+        assertEquals(List.of(
+                List.of("name", "note"),
+                List.of("Lee, Ann", "said \"hi\""),
+                List.of("Bob", "first line\nsecond line")), read(csv));
+    }
+
+    @Test
+    void crlfAndLoneCrEndRecords() throws IOException {
+        assertEquals(List.of(
+                List.of("a", "b"),
+                List.of("c", "d"),
+                List.of("e", "f")), read("a,b\r\nc,d\re,f\r\n"));
+    }
+
+    @Test
+    void crlfInsideQuotesIsKept() throws IOException {
+        assertEquals(List.of(List.of("one\r\ntwo", "x")), read("\"one\r\ntwo\",x\r\n"));
+    }
+
+    @Test
+    void byteOrderMarkIsSkipped() throws IOException {
+        List<List<String>> records = read("\uFEFFname,email\r\nAnn,ann@example.com\r\n");
+
+        assertEquals(List.of("name", "email"), records.get(0));
+        assertEquals(2, records.size());
+    }
+
+    @Test
+    void lastRecordWithoutLineBreakAndEmptyFieldsAreKept() throws IOException {
+        assertEquals(List.of(
+                List.of("a", "", "c"),
+                List.of("", "")), read("a,,c\n,"));
+    }
+
+    @Test
+    void rowNumbersCountRecordsNotLines() throws IOException {
+        List<Integer> rowNums = new ArrayList<>();
+
+        CsvReader.read(stream("h\n\"multi\nline\"\nlast\n"), 10, (rowNum, fields) -> rowNums.add(rowNum));
+
+        assertEquals(List.of(1, 2, 3), rowNums);
+    }
+
+    @Test
+    void moreRecordsThanTheLimitFail() {
+        assertThrows(SpreadsheetReader.LimitExceededException.class,
+                () -> CsvReader.read(stream("a\nb\nc\n"), 2, (rowNum, fields) -> {
+                }));
+    }
+
+    @Test
+    void overlongFieldFails() {
+        String csv = "\"" + "x".repeat(10_001) + "\"\n";
+
+        assertThrows(IOException.class, () -> read(csv));
+    }
+
+    // ==================== Helper Methods ====================
+
+    private static List<List<String>> read(String csv) throws IOException {
+        List<List<String>> records = new ArrayList<>();
+        CsvReader.read(stream(csv), 100, (rowNum, fields) -> records.add(fields));
+        return records;
+    }
+
+    private static ByteArrayInputStream stream(String csv) {
+        return new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,164 @@
+package com.toastlabplus.service;
+
+import com.toastlabplus.entity.MeetingSchedule;
+import com.toastlabplus.entity.MeetingScheduleException;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MeetingRecurrenceTest {
+
+    private static final LocalDate JAN_1 = LocalDate.of(2025, 1, 1); // Wednesday
+
+    @Test
+    void weeklyStartsOnFirstMatchingDay() {
+        MeetingRecurrence recurrence = MeetingRecurrence.of(schedule(MeetingSchedule.FREQ_WEEKLY, 3));
+
+        assertEquals(dates("2025-01-01", "2025-01-08", "2025-01-15"), take(recurrence, JAN_1, 3));
+        assertEquals(dates("2025-01-08", "2025-01-15"), take(recurrence, LocalDate.of(2025, 1, 2), 2));
+    }
+
+    @Test
+    void biweeklyIsAnchoredOnStartDate() {
+        MeetingSchedule schedule = schedule(MeetingSchedule.FREQ_BIWEEKLY, 1);
+        schedule.setStartDate(LocalDate.of(2025, 1, 6)); // Monday
+        MeetingRecurrence recurrence = MeetingRecurrence.of(schedule);
+
+        // Jan 13 is a Monday but in the off week
+        assertEquals(dates("2025-01-20", "2025-02-03", "2025-02-17"),
+                take(recurrence, LocalDate.of(2025, 1, 10), 3));
+        assertEquals(dates("2025-01-20"), take(recurrence, LocalDate.of(2025, 1, 20), 1));
+        // Nothing before the start date
+        assertEquals(dates("2025-01-06", "2025-01-20"), take(recurrence, LocalDate.of(2024, 6, 1), 2));
+    }
+
+    @Test
+    void biweeklyWithoutStartDateIsAnchoredOnCreation() {
+        MeetingSchedule schedule = schedule(MeetingSchedule.FREQ_BIWEEKLY, 1);
+        schedule.setCreatedAt(LocalDateTime.of(2025, 1, 6, 9, 0));
+        MeetingRecurrence recurrence = MeetingRecurrence.of(schedule);
+
+        assertEquals(dates("2025-03-03", "2025-03-17"), take(recurrence, LocalDate.of(2025, 3, 1), 2));
+    }
+
+    @Test
+    void monthlyNthWeekdays() {
+        MeetingSchedule schedule = schedule(MeetingSchedule.FREQ_MONTHLY, 2); // Tuesday
+        schedule.setWeekOfMonth(new int[] { 3, 1 });
+        MeetingRecurrence recurrence = MeetingRecurrence.of(schedule);
+
+        assertEquals(dates("2025-01-07", "2025-01-21", "2025-02-04", "2025-02-18"),
+                take(recurrence, JAN_1, 4));
+        assertEquals(dates("2025-01-21", "2025-02-04"), take(recurrence, LocalDate.of(2025, 1, 8), 2));
+    }
+
+    @Test
+    void monthlyLastWeekday() {
+        MeetingSchedule schedule = schedule(MeetingSchedule.FREQ_MONTHLY, 5); // Friday
+        schedule.setWeekOfMonth(new int[] { -1 });
+        MeetingRecurrence recurrence = MeetingRecurrence.of(schedule);
+
+        assertEquals(dates("2025-01-31", "2025-02-28", "2025-03-28"), take(recurrence, JAN_1, 3));
+    }
+
+    @Test
+    void monthlyFifthWeekdaySkipsMonthsWithoutOne() {
+        MeetingSchedule schedule = schedule(MeetingSchedule.FREQ_MONTHLY, 3); // Wednesday
+        schedule.setWeekOfMonth(new int[] { 5 });
+        MeetingRecurrence recurrence = MeetingRecurrence.of(schedule);
+
+        assertEquals(dates("2025-01-29", "2025-04-30"), take(recurrence, JAN_1, 2));
+    }
+
+    @Test
+    void monthlyLastAndFifthWeekdayAreNotDuplicated() {
+        MeetingSchedule schedule = schedule(MeetingSchedule.FREQ_MONTHLY, 3); // Wednesday
+        schedule.setWeekOfMonth(new int[] { 5, -1 });
+        MeetingRecurrence recurrence = MeetingRecurrence.of(schedule);
+
+        assertEquals(dates("2025-01-29", "2025-02-26"), take(recurrence, JAN_1, 2));
+    }
+
+    @Test
+    void skippedAndRescheduledOccurrencesAreMerged() {
+        MeetingSchedule schedule = schedule(MeetingSchedule.FREQ_WEEKLY, 3);
+        MeetingRecurrence recurrence = MeetingRecurrence.of(schedule, List.of(
+                skip(schedule, "2025-01-08"),
+                reschedule(schedule, "2025-01-15", "2025-01-17")));
+
+        assertEquals(dates("2025-01-01", "2025-01-17", "2025-01-22"), take(recurrence, JAN_1, 3));
+    }
+
+    @Test
+    void rescheduleOntoAnotherOccurrenceYieldsItOnce() {
+        MeetingSchedule schedule = schedule(MeetingSchedule.FREQ_WEEKLY, 3);
+        MeetingRecurrence recurrence = MeetingRecurrence.of(schedule, List.of(
+                reschedule(schedule, "2025-01-08", "2025-01-15")));
+
+        assertEquals(dates("2025-01-01", "2025-01-15", "2025-01-22"), take(recurrence, JAN_1, 3));
+    }
+
+    @Test
+    void rescheduledDatesBeforeTheWindowAreDropped() {
+        MeetingSchedule schedule = schedule(MeetingSchedule.FREQ_WEEKLY, 3);
+        MeetingRecurrence recurrence = MeetingRecurrence.of(schedule, List.of(
+                reschedule(schedule, "2025-01-15", "2025-01-17")));
+
+        assertEquals(dates("2025-01-22"), take(recurrence, LocalDate.of(2025, 1, 20), 1));
+    }
+
+    @Test
+    void betweenExcludesEndDate() {
+        MeetingRecurrence recurrence = MeetingRecurrence.of(schedule(MeetingSchedule.FREQ_WEEKLY, 3));
+
+        assertEquals(dates("2025-01-01", "2025-01-08"),
+                recurrence.between(JAN_1, LocalDate.of(2025, 1, 15)).toList());
+    }
+
+    @Test
+    void invalidRuleOnlyYieldsRescheduledDates() {
+        MeetingSchedule schedule = schedule(MeetingSchedule.FREQ_MONTHLY, 3);
+        MeetingRecurrence recurrence = MeetingRecurrence.of(schedule, List.of(
+                reschedule(schedule, "2025-01-08", "2025-01-10")));
+
+        assertFalse(recurrence.isValid());
+        assertEquals(dates("2025-01-10"), recurrence.stream(JAN_1).toList());
+        assertTrue(MeetingRecurrence.of(schedule(MeetingSchedule.FREQ_WEEKLY, null)).stream(JAN_1)
+                .findAny().isEmpty());
+    }
+
+    // ==================== Helper Methods ====================
+
+    private static MeetingSchedule schedule(String frequency, Integer dayOfWeek) {
+        MeetingSchedule schedule = new MeetingSchedule();
+        schedule.setFrequency(frequency);
+        schedule.setDayOfWeek(dayOfWeek);
+        return schedule;
+    }
+
+    private static MeetingScheduleException skip(MeetingSchedule schedule, String date) {
+        return new MeetingScheduleException(schedule, LocalDate.parse(date), MeetingScheduleException.TYPE_SKIP);
+    }
+
+    private static MeetingScheduleException reschedule(MeetingSchedule schedule, String date, String newDate) {
+        MeetingScheduleException exception = new MeetingScheduleException(schedule, LocalDate.parse(date),
+                MeetingScheduleException.TYPE_RESCHEDULE);
+        exception.setOverrideDate(LocalDate.parse(newDate));
+        return exception;
+    }
+
+    private static List<LocalDate> take(MeetingRecurrence recurrence, LocalDate from, int count) {
+        return recurrence.stream(from).limit(count).toList();
+    }
+
+    private static List<LocalDate> dates(String... dates) {
+        return Arrays.stream(dates).map(LocalDate::parse).toList();
+    }
+}
@@ -0,0 +1,201 @@
+package com.toastlabplus.service;
+
+import com.toastlabplus.PostgresIntegrationTest;
+import com.toastlabplus.entity.Club;
+import com.toastlabplus.entity.ClubMembership;
+import com.toastlabplus.entity.Member;
+import com.toastlabplus.repository.ClubMembershipRepository;
+import com.toastlabplus.repository.ClubRepository;
+import com.toastlabplus.repository.MemberRepository;
+import com.toastlabplus.service.RosterImportService.ImportResult;
+import com.toastlabplus.service.RosterImportService.RowError;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Roster imports against Postgres, with a batch size of {@value #BATCH_SIZE}
+ * so that every file spans several chunks.
+ */
+class RosterImportServiceTest extends PostgresIntegrationTest {
+
+    private static final int BATCH_SIZE = 2;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private SpreadsheetReader spreadsheetReader;
+
+    @Autowired
+    private ClubRepository clubRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private ClubMembershipRepository clubMembershipRepository;
+
+    private RosterImportService importService;
+    private String run;
+    private Club club;
+    private Member admin;
+
+    @BeforeEach
+    void setUp() {
+        importService = new RosterImportService(jdbcTemplate, transactionTemplate, spreadsheetReader,
+                new SimpleMeterRegistry(), BATCH_SIZE);
+        run = UUID.randomUUID().toString().substring(0, 8);
+        club = new Club();
+        club.setName("Roster import " + run);
+        club = clubRepository.save(club);
+        admin = member("admin");
+    }
+
+    @Test
+    void newMembersAreCreatedAndApprovedAcrossChunks() throws IOException {
+        ImportResult result = importCsv(csv("ann", "bob", "cat", "dan", "eve"));
+
+        assertEquals(5, result.totalRows());
+        assertEquals(5, result.created());
+        assertEquals(5, result.added());
+        assertEquals(0, result.errorCount());
+        assertEquals(5, approvedMemberships());
+        assertEquals("IMPORTED", jdbcTemplate.queryForObject(
+                "SELECT auth_provider FROM member WHERE email = ?", String.class, email("eve")));
+    }
+
+    @Test
+    void existingMembersAreLinkedNotCreated() throws IOException {
+        member("ann");
+        membership(member("bob"), "PENDING");
+        membership(member("cat"), "APPROVED");
+
+        ImportResult result = importCsv(csv("ann", "bob", "cat", "dan"));
+
+        assertEquals(4, result.totalRows());
+        assertEquals(1, result.created());
+        assertEquals(2, result.added());
+        assertEquals(1, result.approved());
+        assertEquals(1, result.alreadyMembers());
+        assertEquals(4, approvedMemberships());
+        assertEquals(1, jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM member WHERE LOWER(email) = ?", Integer.class, email("bob")));
+    }
+
+    @Test
+    void duplicateEmailInTheFileIsReportedOnce() throws IOException {
+        String csv = "name,email\n"
+                + "Ann," + email("ann") + "\n"
+                + "Bob," + email("bob") + "\n"
+                + "Ann Again," + email("ann").toUpperCase() + "\n";
+
+        ImportResult result = importCsv(csv);
+
+        assertEquals(3, result.totalRows());
+        assertEquals(2, result.created());
+        assertEquals(List.of(new RowError(4, email("ann"), "Duplicate email in file")), result.errors());
+        assertEquals("Ann", jdbcTemplate.queryForObject(
+                "SELECT name FROM member WHERE email = ?", String.class, email("ann")));
+    }
+
+    @Test
+    void invalidRowsAreReportedAndSkipped() throws IOException {
+        String csv = "email,name,phone\n"
+                + email("ann") + ",Ann,0912345678\n"
+                + "not-an-email,Bob,\n"
+                + email("cat") + ",,\n"
+                + ",Dan,\n"
+                + email("eve") + ",Eve,\n";
+
+        ImportResult result = importCsv(csv);
+
+        assertEquals(5, result.totalRows());
+        assertEquals(2, result.created());
+        assertEquals(3, result.errorCount());
+        assertEquals(List.of(
+                new RowError(3, "not-an-email", "Invalid email"),
+                new RowError(4, email("cat"), "Name is required"),
+                new RowError(5, null, "Email is required")), result.errors());
+        assertEquals("0912345678", jdbcTemplate.queryForObject(
+                "SELECT phone FROM member WHERE email = ?", String.class, email("ann")));
+    }
+
+    @Test
+    void reimportingTheSameFileChangesNothing() throws IOException {
+        String csv = csv("ann", "bob", "cat");
+        importCsv(csv);
+
+        ImportResult again = importCsv(csv);
+
+        assertEquals(3, again.totalRows());
+        assertEquals(0, again.created());
+        assertEquals(0, again.added());
+        assertEquals(0, again.approved());
+        assertEquals(3, again.alreadyMembers());
+        assertEquals(3, approvedMemberships());
+    }
+
+    @Test
+    void fileWithoutNameOrEmailHeaderIsRejected() {
+        assertThrows(IllegalArgumentException.class, () -> importCsv("email,phone\n" + email("ann") + ",1\n"));
+        assertThrows(IllegalArgumentException.class, () -> importCsv(""));
+    }
+
+    // ==================== Helper Methods ====================
+
+    private ImportResult importCsv(String csv) throws IOException {
+        return importService.importRoster(club.getId(), admin.getId(), RosterImportService.Format.CSV,
+                new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private String csv(String... names) {
+        StringBuilder csv = new StringBuilder("name,email\n");
+        for (String name : names) {
+            csv.append(name).append(',').append(email(name)).append('\n');
+        }
+        return csv.toString();
+    }
+
+    private String email(String name) {
+        return name + "-" + run + "@example.com";
+    }
+
+    private int approvedMemberships() {
+        return jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM club_membership WHERE club_id = ? AND status = 'APPROVED'",
+                Integer.class, club.getId());
+    }
+
+    private Member member(String name) {
+        Member member = new Member();
+        member.setName(name);
+        member.setEmail(email(name));
+        member.setPasswordHash("not-used");
+        member.setRole("MEMBER");
+        return memberRepository.save(member);
+    }
+
+    private void membership(Member member, String status) {
+        ClubMembership membership = new ClubMembership();
+        membership.setMember(member);
+        membership.setClub(club);
+        membership.setStatus(status);
+        clubMembershipRepository.save(membership);
+    }
+}
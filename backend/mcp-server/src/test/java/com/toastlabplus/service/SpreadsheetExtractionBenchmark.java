@@ -0,0 +1,195 @@
+package com.toastlabplus.service;
+
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.ClientAnchor;
+import org.apache.poi.ss.usermodel.DateUtil;
+import org.apache.poi.ss.usermodel.Drawing;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.ss.usermodel.Workbook;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+
+/**
+ * Compares template content extraction through the POI DOM
+ * ({@code XSSFWorkbook}, the previous implementation) with the streaming
+ * {@link SpreadsheetReader}: time, bytes allocated and peak heap per
+ * extraction, and checks both produce the same content. Test sources only,
+ * not a unit test; run with {@code scripts/loadtest/spreadsheet-benchmark.sh}.
+ *
+ * <pre>
+ * SpreadsheetExtractionBenchmark [workbook.xlsx] [iterations]
+ * </pre>
+ *
+ * Without a file a synthetic agenda is generated: a 60-row agenda sheet,
+ * a 4 MB embedded image and five 5,000-row data sheets.
+ */
+public final class SpreadsheetExtractionBenchmark {
+
+    private interface Extraction {
+        String run(byte[] workbook) throws IOException;
+    }
+
+    public static void main(String[] args) throws IOException {
+        byte[] workbook = args.length > 0 && !args[0].isBlank()
+                ? Files.readAllBytes(Path.of(args[0]))
+                : syntheticWorkbook();
+        int iterations = args.length > 1 ? Integer.parseInt(args[1]) : 20;
+
+        SpreadsheetReader reader = new SpreadsheetReader(10, 100_000, 10_000_000);
+        TemplateContentExtractor streaming = new TemplateContentExtractor(reader);
+
+        String domContent = domExtract(workbook);
+        String streamingContent = streaming.extract(workbook).content();
+        System.out.printf("workbook: %,d bytes, content: %,d chars, identical: %s%n",
+                workbook.length, domContent.length(), domContent.equals(streamingContent));
+
+        measure("dom", workbook, iterations, SpreadsheetExtractionBenchmark::domExtract);
+        measure("streaming", workbook, iterations, bytes -> streaming.extract(bytes).content());
+    }
+
+    private static void measure(String name, byte[] workbook, int iterations, Extraction extraction)
+            throws IOException {
+        // Warm up
+        for (int i = 0; i < Math.max(3, iterations / 4); i++) {
+            extraction.run(workbook);
+        }
+
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory
+                .getThreadMXBean();
+        long threadId = Thread.currentThread().threadId();
+        long totalNanos = 0;
+        long totalAllocated = 0;
+        long peakHeap = 0;
+        for (int i = 0; i < iterations; i++) {
+            System.gc();
+            long baseline = resetPeakHeap();
+            long allocatedBefore = threads.getThreadAllocatedBytes(threadId);
+            long start = System.nanoTime();
+            extraction.run(workbook);
+            totalNanos += System.nanoTime() - start;
+            totalAllocated += threads.getThreadAllocatedBytes(threadId) - allocatedBefore;
+            peakHeap = Math.max(peakHeap, peakHeap() - baseline);
+        }
+        System.out.printf("%-10s %8.1f ms/op %10.1f MB allocated/op %8.1f MB peak heap%n", name,
+                totalNanos / 1e6 / iterations, totalAllocated / 1048576.0 / iterations, peakHeap / 1048576.0);
+    }
+
+    private static long resetPeakHeap() {
+        long used = 0;
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if (pool.getType() == MemoryType.HEAP) {
+                pool.resetPeakUsage();
+                used += pool.getUsage().getUsed();
+            }
+        }
+        return used;
+    }
+
+    private static long peakHeap() {
+        long peak = 0;
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if (pool.getType() == MemoryType.HEAP) {
+                peak += pool.getPeakUsage().getUsed();
+            }
+        }
+        return peak;
+    }
+
+    /**
+     * The DOM-based extraction this benchmark compares against.
+     */
+    private static String domExtract(byte[] excelBytes) throws IOException {
+        StringBuilder content = new StringBuilder();
+        try (XSSFWorkbook workbook = new XSSFWorkbook(new ByteArrayInputStream(excelBytes))) {
+            if (workbook.getNumberOfSheets() > 0) {
+                Sheet sheet = workbook.getSheetAt(0);
+                content.append("=== Sheet: ").append(sheet.getSheetName()).append(" ===\n");
+                content.append("Format: [Row,Column] Content\n\n");
+                for (Row row : sheet) {
+                    for (Cell cell : row) {
+                        String value = domCellValue(cell);
+                        if (!value.isEmpty()) {
+                            content.append("[R").append(row.getRowNum() + 1).append(",C")
+                                    .append(cell.getColumnIndex() + 1).append("] ").append(value).append("\n");
+                        }
+                    }
+                }
+                content.append("\n");
+            }
+        }
+        return content.toString();
+    }
+
+    private static String domCellValue(Cell cell) {
+        switch (cell.getCellType()) {
+            case STRING:
+                return cell.getStringCellValue().trim();
+            case NUMERIC:
+                if (DateUtil.isCellDateFormatted(cell)) {
+                    return cell.getLocalDateTimeCellValue().toString();
+                }
+                double num = cell.getNumericCellValue();
+                return num == Math.floor(num) ? String.valueOf((long) num) : String.valueOf(num);
+            case BOOLEAN:
+                return String.valueOf(cell.getBooleanCellValue());
+            case FORMULA:
+                try {
+                    return cell.getStringCellValue().trim();
+                } catch (Exception e) {
+                    try {
+                        return String.valueOf(cell.getNumericCellValue());
+                    } catch (Exception e2) {
+                        return "";
+                    }
+                }
+            default:
+                return "";
+        }
+    }
+
+    private static byte[] syntheticWorkbook() throws IOException {
+        try (Workbook workbook = new XSSFWorkbook()) {
+            Sheet agenda = workbook.createSheet("Agenda");
+            String[] roles = { "TME", "Timer", "Ah Counter", "Grammarian", "GE", "LE", "Speaker 1", "Speaker 2" };
+            for (int r = 0; r < 60; r++) {
+                Row row = agenda.createRow(r);
+                row.createCell(0).setCellValue(roles[r % roles.length]);
+                row.createCell(1).setCellValue("{{" + roles[r % roles.length].toUpperCase() + "}}");
+                row.createCell(2).setCellValue(r * 5);
+            }
+
+            byte[] image = new byte[4 * 1024 * 1024];
+            new Random(42).nextBytes(image);
+            int pictureIndex = workbook.addPicture(image, Workbook.PICTURE_TYPE_PNG);
+            Drawing<?> drawing = agenda.createDrawingPatriarch();
+            ClientAnchor anchor = workbook.getCreationHelper().createClientAnchor();
+            anchor.setCol1(5);
+            anchor.setRow1(0);
+            drawing.createPicture(anchor, pictureIndex);
+
+            for (int s = 1; s <= 5; s++) {
+                Sheet data = workbook.createSheet("Data " + s);
+                for (int r = 0; r < 5_000; r++) {
+                    Row row = data.createRow(r);
+                    for (int c = 0; c < 6; c++) {
+                        row.createCell(c).setCellValue("Member " + r + " / " + c);
+                    }
+                }
+            }
+
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            workbook.write(out);
+            return out.toByteArray();
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.toastlabplus.service;
+
+import static org.junit.jupiter.api.Assertions.fail;
+
+/**
+ * Assertions on the SQL statements recorded in a {@link SqlStatementStats}.
+ */
+public final class SqlStatementAssertions {
+
+    private SqlStatementAssertions() {
+    }
+
+    /**
+     * Fail if more than {@code max} statements were issued.
+     */
+    public static void assertStatementCountAtMost(SqlStatementStats stats, int max) {
+        if (stats.getStatementCount() > max) {
+            fail("Expected at most " + max + " SQL statements but got " + stats.getStatementCount()
+                    + " (most repeated x" + stats.getMaxRepeats() + ": " + stats.getMostRepeatedSql() + ")");
+        }
+    }
+
+    /**
+     * Fail if any statement ran more than {@code max} times.
+     */
+    public static void assertNoStatementRepeatedMoreThan(SqlStatementStats stats, int max) {
+        if (stats.getMaxRepeats() > max) {
+            fail("Statement repeated " + stats.getMaxRepeats() + " times (max " + max + "): "
+                    + stats.getMostRepeatedSql());
+        }
+    }
+}
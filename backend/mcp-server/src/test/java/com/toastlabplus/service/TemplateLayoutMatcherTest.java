@@ -0,0 +1,122 @@
+package com.toastlabplus.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.toastlabplus.repository.TemplateParseResultRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import static com.toastlabplus.service.TemplateLayoutTest.agenda;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Which known layout a new upload reuses, and where its mappings land.
+ */
+class TemplateLayoutMatcherTest {
+
+    private static final double MIN_SIMILARITY = 0.9;
+
+    private static final String PARSED = """
+            {"variable_mappings": [
+              {"role": "TME", "label_position": {"row": 3, "col": 1}, "value_position": {"row": 3, "col": 2}},
+              {"role": "TIMER", "label_position": {"row": 4, "col": 1}, "value_position": {"row": 4, "col": 2}},
+              {"role": "SPEAKER", "label_position": {"row": 8, "col": 1}, "value_position": {"row": 8, "col": 2}}
+            ]}
+            """;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void identicalLayoutReusesTheMappings() throws Exception {
+        TemplateLayoutMatcher matcher = matcher(MIN_SIMILARITY);
+
+        TemplateLayoutMatcher.Match match = matcher.match(agenda(0).build()).orElseThrow();
+
+        assertEquals("known", match.sourceHash());
+        assertEquals(1.0, match.similarity());
+        assertEquals(objectMapper.readTree(PARSED), objectMapper.readTree(match.parsedStructure()));
+    }
+
+    @Test
+    void mappingsMoveWithShiftedRows() throws Exception {
+        TemplateLayoutMatcher matcher = matcher(MIN_SIMILARITY);
+
+        JsonNode mappings = mappings(matcher.match(agenda(2).build()).orElseThrow());
+
+        assertPosition(5, 1, mappings.get(0).path("label_position"));
+        assertPosition(5, 2, mappings.get(0).path("value_position"));
+        assertPosition(6, 2, mappings.get(1).path("value_position"));
+        // "Speaker" is repeated, so the slot follows the nearest unique label
+        assertPosition(10, 1, mappings.get(2).path("label_position"));
+        assertPosition(10, 2, mappings.get(2).path("value_position"));
+    }
+
+    @Test
+    void anchorThatIsAmbiguousInTheUploadIsNotReanchored() {
+        TemplateLayoutMatcher matcher = matcher(MIN_SIMILARITY);
+        // A second "Timer" label: similar enough, but TIMER has no unique anchor
+        TemplateLayout upload = agenda(0).label(13, 1, "Timer", false).build();
+        assertTrue(agenda(0).build().similarity(upload) >= MIN_SIMILARITY);
+
+        assertEquals(Optional.empty(), matcher.match(upload));
+    }
+
+    @Test
+    void layoutJustBelowTheThresholdGoesToTheParser() {
+        TemplateLayout upload = agenda(0).label(13, 1, "Sergeant at Arms", false).build();
+        double similarity = agenda(0).build().similarity(upload);
+
+        assertTrue(matcher(similarity).match(upload).isPresent());
+        assertEquals(Optional.empty(), matcher(Math.nextUp(similarity)).match(upload));
+    }
+
+    @Test
+    void defaultThresholdToleratesOneExtraLabelButNotTwo() {
+        TemplateLayoutMatcher matcher = matcher(MIN_SIMILARITY);
+
+        assertTrue(matcher.match(agenda(0).label(13, 1, "Sergeant at Arms", false).build()).isPresent());
+        assertEquals(Optional.empty(), matcher.match(agenda(0).label(13, 1, "Sergeant at Arms", false)
+                .label(14, 1, "Photographer", false).build()));
+    }
+
+    @Test
+    void mergedRegionAndStyleDifferencesStillMatchInPlace() throws Exception {
+        TemplateLayoutMatcher matcher = matcher(MIN_SIMILARITY);
+
+        TemplateLayoutMatcher.Match match = matcher.match(agenda(0, false, 6).build()).orElseThrow();
+
+        assertTrue(match.similarity() < 1.0, "similarity " + match.similarity());
+        assertEquals(objectMapper.readTree(PARSED), objectMapper.readTree(match.parsedStructure()));
+    }
+
+    @Test
+    void emptyLibraryMatchesNothing() {
+        TemplateLayoutMatcher matcher = new TemplateLayoutMatcher(mock(TemplateParseResultRepository.class),
+                objectMapper, new SimpleMeterRegistry(), true, MIN_SIMILARITY, Duration.ofMinutes(5));
+
+        assertEquals(Optional.empty(), matcher.match(agenda(0).build()));
+    }
+
+    // ==================== Helper Methods ====================
+
+    private TemplateLayoutMatcher matcher(double minSimilarity) {
+        TemplateLayoutMatcher matcher = new TemplateLayoutMatcher(mock(TemplateParseResultRepository.class),
+                objectMapper, new SimpleMeterRegistry(), true, minSimilarity, Duration.ofMinutes(5));
+        matcher.register("known", agenda(0).build(), PARSED);
+        return matcher;
+    }
+
+    private JsonNode mappings(TemplateLayoutMatcher.Match match) throws Exception {
+        return objectMapper.readTree(match.parsedStructure()).path("variable_mappings");
+    }
+
+    private static void assertPosition(int row, int col, JsonNode position) {
+        assertEquals(row, position.path("row").asInt(), position.toString());
+        assertEquals(col, position.path("col").asInt(), position.toString());
+    }
+}
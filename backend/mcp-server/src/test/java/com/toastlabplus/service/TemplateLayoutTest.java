@@ -0,0 +1,95 @@
+package com.toastlabplus.service;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Similarity and anchoring of template layouts.
+ */
+class TemplateLayoutTest {
+
+    private static final String[] LABELS = { "Toastlabplus Club Meeting", "Date", "Toastmaster of the Evening",
+            "Timer", "Ah Counter", "Grammarian", "General Evaluator", "Speaker", "Speaker",
+            "Table Topics Master", "Closing Remarks", "Next Meeting" };
+
+    @Test
+    void identicalLayoutsScoreOne() {
+        assertEquals(1.0, agenda(0).build().similarity(agenda(0).build()));
+    }
+
+    @Test
+    void wholeSheetShiftedDownStillScoresOne() {
+        assertEquals(1.0, agenda(0).build().similarity(agenda(2).build()));
+    }
+
+    @Test
+    void mergedRegionAndBoldDifferencesLowerTheScore() {
+        TemplateLayout layout = agenda(0).build();
+
+        double region = layout.similarity(agenda(0, true, 6).build());
+        double bold = layout.similarity(agenda(0, false, 4).build());
+        double both = layout.similarity(agenda(0, false, 6).build());
+
+        assertTrue(region < 1.0, "region " + region);
+        assertTrue(bold < 1.0, "bold " + bold);
+        assertTrue(both < Math.min(region, bold), "both " + both);
+    }
+
+    @Test
+    void extraLabelsLowerTheScore() {
+        TemplateLayout layout = agenda(0).build();
+
+        double oneExtra = layout.similarity(agenda(0).label(13, 1, "Sergeant at Arms", false).build());
+        double twoExtra = layout.similarity(agenda(0).label(13, 1, "Sergeant at Arms", false)
+                .label(14, 1, "Photographer", false).build());
+
+        assertTrue(oneExtra < 1.0, "one extra " + oneExtra);
+        assertTrue(twoExtra < oneExtra, "two extra " + twoExtra);
+    }
+
+    @Test
+    void emptyLayoutMatchesNothing() {
+        assertEquals(0.0, TemplateLayout.builder().build().similarity(agenda(0).build()));
+    }
+
+    @Test
+    void repeatedLabelsAreNotAnchors() {
+        TemplateLayout layout = agenda(0).build();
+
+        assertNull(layout.locate("Speaker"));
+        assertEquals(new TemplateLayout.Position(4, 1), layout.locate("  timer "));
+        // A speaker slot anchors to the closest unique label instead
+        assertEquals("general evaluator", layout.nearestUniqueLabel(8, 2).text());
+    }
+
+    @Test
+    void encodedLayoutDecodesToTheSameLayout() {
+        TemplateLayout layout = agenda(0).build();
+
+        TemplateLayout decoded = TemplateLayout.decode(layout.encode());
+
+        assertEquals(layout.labels(), decoded.labels());
+        assertEquals(layout.regions(), decoded.regions());
+    }
+
+    // ==================== Helper Methods ====================
+
+    static TemplateLayout.Builder agenda(int rowShift) {
+        return agenda(rowShift, true, 4);
+    }
+
+    /**
+     * A one-column agenda: a bold, merged title over role labels, two of
+     * them the same "Speaker".
+     */
+    static TemplateLayout.Builder agenda(int rowShift, boolean boldTitle, int titleLastCol) {
+        TemplateLayout.Builder builder = TemplateLayout.builder();
+        for (int i = 0; i < LABELS.length; i++) {
+            builder.label(i + 1 + rowShift, 1, LABELS[i], i == 0 && boldTitle);
+        }
+        return builder.region(1 + rowShift, 1, 1 + rowShift, titleLastCol);
+    }
+}
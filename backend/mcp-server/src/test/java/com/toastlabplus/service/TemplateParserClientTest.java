@@ -0,0 +1,171 @@
+package com.toastlabplus.service;
+
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Retry and backoff behavior against a local stub of the chat-backend
+ * {@code /parse-template} endpoint.
+ */
+class TemplateParserClientTest {
+
+    private static final String PARSED = "{\"variable_mappings\": []}";
+    private static final Duration BACKOFF = Duration.ofMillis(50);
+
+    private final AtomicInteger attempts = new AtomicInteger();
+    private final List<Long> attemptNanos = new CopyOnWriteArrayList<>();
+    private HttpServer server;
+    private volatile Response[] script;
+
+    @BeforeEach
+    void startServer() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/parse-template", exchange -> {
+            attemptNanos.add(System.nanoTime());
+            int attempt = attempts.getAndIncrement();
+            Response response = script[Math.min(attempt, script.length - 1)];
+            if (response.delay() != null) {
+                try {
+                    Thread.sleep(response.delay().toMillis());
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            byte[] body = response.body().getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(response.status(), body.length == 0 ? -1 : body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        // Concurrent handlers, so a stalled attempt does not hold up the retry
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.start();
+    }
+
+    @AfterEach
+    void stopServer() {
+        server.stop(0);
+    }
+
+    @Test
+    void serverErrorIsRetried() throws Exception {
+        script = new Response[] { status(503), status(502), ok(PARSED) };
+
+        assertEquals(PARSED, client(3).parse("[R1,C1] TME", "agenda.xlsx"));
+        assertEquals(3, attempts.get());
+    }
+
+    @Test
+    void tooManyRequestsIsRetried() throws Exception {
+        script = new Response[] { status(429), ok(PARSED) };
+
+        assertEquals(PARSED, client(3).parse("[R1,C1] TME", "agenda.xlsx"));
+        assertEquals(2, attempts.get());
+    }
+
+    @Test
+    void clientErrorFailsWithoutRetry() {
+        script = new Response[] { status(400), ok(PARSED) };
+
+        IOException e = assertThrows(IOException.class, () -> client(3).parse("[R1,C1] TME", "agenda.xlsx"));
+
+        assertTrue(e.getMessage().contains("400"), e.getMessage());
+        assertEquals(1, attempts.get());
+    }
+
+    @Test
+    void givesUpAfterMaxAttempts() {
+        script = new Response[] { status(500) };
+
+        IOException e = assertThrows(IOException.class, () -> client(3).parse("[R1,C1] TME", "agenda.xlsx"));
+
+        assertTrue(e.getMessage().contains("after 3 attempts"), e.getMessage());
+        assertEquals(3, attempts.get());
+    }
+
+    @Test
+    void backoffGrowsExponentially() throws Exception {
+        script = new Response[] { status(503), status(503), ok(PARSED) };
+
+        client(3).parse("[R1,C1] TME", "agenda.xlsx");
+
+        // Jitter adds up to half the base delay: 50-75 ms, then 100-150 ms
+        long firstGap = TimeUnit.NANOSECONDS.toMillis(attemptNanos.get(1) - attemptNanos.get(0));
+        long secondGap = TimeUnit.NANOSECONDS.toMillis(attemptNanos.get(2) - attemptNanos.get(1));
+        assertTrue(firstGap >= BACKOFF.toMillis(), "first backoff " + firstGap + " ms");
+        assertTrue(secondGap >= 2 * BACKOFF.toMillis(), "second backoff " + secondGap + " ms");
+    }
+
+    @Test
+    void readTimeoutIsRetried() throws Exception {
+        script = new Response[] { new Response(200, PARSED, Duration.ofSeconds(2)), ok(PARSED) };
+
+        TemplateParserClient client = new TemplateParserClient(baseUrl(), Duration.ofSeconds(1),
+                Duration.ofMillis(300), 2, BACKOFF);
+
+        assertEquals(PARSED, client.parse("[R1,C1] TME", "agenda.xlsx"));
+        assertEquals(2, attempts.get());
+    }
+
+    @Test
+    void connectionFailureIsRetriedThenReported() throws Exception {
+        int closedPort;
+        try (ServerSocket socket = new ServerSocket(0)) {
+            closedPort = socket.getLocalPort();
+        }
+        TemplateParserClient client = new TemplateParserClient("http://127.0.0.1:" + closedPort,
+                Duration.ofSeconds(1), Duration.ofSeconds(1), 2, BACKOFF);
+
+        IOException e = assertThrows(IOException.class, () -> client.parse("[R1,C1] TME", "agenda.xlsx"));
+
+        assertTrue(e.getMessage().contains("after 2 attempts"), e.getMessage());
+    }
+
+    @Test
+    void emptyResponseIsAnError() {
+        script = new Response[] { ok("") };
+
+        assertThrows(IOException.class, () -> client(3).parse("[R1,C1] TME", "agenda.xlsx"));
+    }
+
+    // ==================== Helper Methods ====================
+
+    private TemplateParserClient client(int maxAttempts) {
+        return new TemplateParserClient(baseUrl(), Duration.ofSeconds(1), Duration.ofSeconds(5), maxAttempts,
+                BACKOFF);
+    }
+
+    private String baseUrl() {
+        return "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    private static Response ok(String body) {
+        return new Response(200, body, null);
+    }
+
+    private static Response status(int status) {
+        return new Response(status, "{\"error\": \"stub\"}", null);
+    }
+
+    private record Response(int status, String body, Duration delay) {
+    }
+}
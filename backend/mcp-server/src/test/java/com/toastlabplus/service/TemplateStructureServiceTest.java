@@ -0,0 +1,85 @@
+package com.toastlabplus.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.toastlabplus.entity.AgendaTemplate;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+/**
+ * Lifetime of compiled templates in the per-instance cache.
+ */
+class TemplateStructureServiceTest {
+
+    private static final String STRUCTURE = """
+            {"variable_mappings": [
+              {"role": "TME", "label_position": {"row": 3, "col": 1}, "value_position": {"row": 3, "col": 2}}
+            ]}
+            """;
+
+    private final TemplateStructureService service = new TemplateStructureService(new ObjectMapper());
+
+    @Test
+    void compiledTemplateIsReusedWhileUnchanged() {
+        AgendaTemplate template = template(1L);
+
+        assertSame(service.compiled(template).orElseThrow(), service.compiled(template).orElseThrow());
+    }
+
+    @Test
+    void evictDropsTheCompiledTemplate() {
+        AgendaTemplate template = template(1L);
+        CompiledTemplate first = service.compiled(template).orElseThrow();
+
+        service.evict(1L);
+
+        assertNotSame(first, service.compiled(template).orElseThrow());
+    }
+
+    @Test
+    void templateInvalidationFromAnotherInstanceEvicts() {
+        AgendaTemplate template = template(1L);
+        AgendaTemplate other = template(2L);
+        CompiledTemplate first = service.compiled(template).orElseThrow();
+        CompiledTemplate otherFirst = service.compiled(other).orElseThrow();
+
+        service.onInvalidation(event(CacheInvalidationEvent.AGENDA_TEMPLATE, 1L));
+
+        assertNotSame(first, service.compiled(template).orElseThrow());
+        assertSame(otherFirst, service.compiled(other).orElseThrow());
+    }
+
+    @Test
+    void otherEntityTypesAreIgnored() {
+        AgendaTemplate template = template(1L);
+        CompiledTemplate first = service.compiled(template).orElseThrow();
+
+        service.onInvalidation(event(CacheInvalidationEvent.CLUB, 1L));
+
+        assertSame(first, service.compiled(template).orElseThrow());
+    }
+
+    @Test
+    void resyncDropsEverything() {
+        AgendaTemplate template = template(1L);
+        CompiledTemplate first = service.compiled(template).orElseThrow();
+
+        service.onResync();
+
+        assertNotSame(first, service.compiled(template).orElseThrow());
+    }
+
+    // ==================== Helper Methods ====================
+
+    private static AgendaTemplate template(long id) {
+        AgendaTemplate template = new AgendaTemplate();
+        template.setId(id);
+        template.setParsedStructure(STRUCTURE);
+        return template;
+    }
+
+    private static CacheInvalidationEvent event(String entityType, Long id) {
+        return new CacheInvalidationEvent(entityType, id, 1L, "other-instance", System.currentTimeMillis());
+    }
+}
@@ -0,0 +1,87 @@
+package com.toastlabplus.service.impl;
+
+import com.toastlabplus.service.StorageLocation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LocalStorageServiceTest {
+
+    private static final StorageLocation LOCATION = StorageLocation.of("bucket", "templates/1/agenda.xlsx");
+
+    @TempDir
+    Path root;
+
+    private LocalStorageService storage;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        storage = new LocalStorageService(root.toString());
+    }
+
+    @Test
+    void storedObjectIsReadable() throws IOException {
+        storage.store(LOCATION, "application/octet-stream", content("complete"));
+
+        assertArrayEquals(bytes("complete"), storage.readAllBytes(LOCATION));
+    }
+
+    @Test
+    void failedCopyPublishesNothing() throws IOException {
+        assertThrows(IOException.class,
+                () -> storage.store(LOCATION, "application/octet-stream", failingAfter("partial")));
+
+        assertTrue(storage.stat(LOCATION).isEmpty());
+        assertEquals(0, leftoverTempFiles());
+    }
+
+    @Test
+    void failedCopyKeepsThePreviousObject() throws IOException {
+        storage.store(LOCATION, "application/octet-stream", content("previous"));
+
+        assertThrows(IOException.class,
+                () -> storage.store(LOCATION, "application/octet-stream", failingAfter("partial")));
+
+        assertArrayEquals(bytes("previous"), storage.readAllBytes(LOCATION));
+        assertEquals(0, leftoverTempFiles());
+    }
+
+    // ==================== Helper Methods ====================
+
+    private static byte[] bytes(String text) {
+        return text.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static InputStream content(String text) {
+        return new ByteArrayInputStream(bytes(text));
+    }
+
+    private static InputStream failingAfter(String text) {
+        return new SequenceInputStream(content(text), new InputStream() {
+            @Override
+            public int read() throws IOException {
+                throw new IOException("connection reset");
+            }
+        });
+    }
+
+    private long leftoverTempFiles() throws IOException {
+        try (Stream<Path> files = Files.walk(root)) {
+            return files.filter(path -> path.getFileName().toString().endsWith(".part")).count();
+        }
+    }
+}
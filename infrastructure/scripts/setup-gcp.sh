@@ -23,7 +23,8 @@ gcloud services enable \
   secretmanager.googleapis.com \
   artifactregistry.googleapis.com \
   vpcaccess.googleapis.com \
-  cloudbuild.googleapis.com
+  cloudbuild.googleapis.com \
+  monitoring.googleapis.com
 
 echo "✅ API 已啟用"
 
@@ -68,6 +69,16 @@ gcloud compute networks vpc-access connectors create serverless-connector \
 
 echo "✅ VPC Connector: serverless-connector"
 
+# Prometheus sidecar 設定 (mcp-server 的 collector container 掛載)
+echo "建立 Prometheus sidecar 設定..."
+SCRIPT_DIR="$(cd "$(dirname "$0")" && pwd)"
+GMP_CONFIG="$SCRIPT_DIR/../../backend/mcp-server/deploy/rungmp-config.yaml"
+gcloud secrets create mcp-server-rungmp-config \
+  --data-file="$GMP_CONFIG" \
+  2>/dev/null || gcloud secrets versions add mcp-server-rungmp-config --data-file="$GMP_CONFIG"
+
+echo "✅ Secret: mcp-server-rungmp-config"
+
 echo ""
 echo "=== GCP Setup 完成 ==="
 echo "下一步:"
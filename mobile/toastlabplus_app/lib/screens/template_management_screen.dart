@@ -291,17 +291,29 @@ class _TemplateManagementScreenState extends State<TemplateManagementScreen> {
 
     try {
       final authService = Provider.of<AuthService>(context, listen: false);
+      final baseUrl =
+          '${ApiConfig.mcpServerBaseUrl}/api/clubs/${widget.clubId}/templates/${template.id}';
       final response = await http.post(
-        Uri.parse(
-          '${ApiConfig.mcpServerBaseUrl}/api/clubs/${widget.clubId}/templates/${template.id}/parse',
-        ),
+        Uri.parse('$baseUrl/parse'),
         headers: authService.authHeaders,
       );
 
+      // Parsing runs in the background: poll until it finishes
+      String? error;
+      if (response.statusCode == 202 || response.statusCode == 200) {
+        error = await _waitForParse(baseUrl, authService);
+      } else {
+        error = 'Parse failed';
+        try {
+          final data = json.decode(response.body);
+          error = data['error'] ?? error;
+        } catch (_) {}
+      }
+
       // Close loading dialog
       if (mounted) Navigator.of(context).pop();
 
-      if (response.statusCode == 200 && mounted) {
+      if (error == null && mounted) {
         scaffoldMessenger.showSnackBar(
           SnackBar(
             content: Text('Template parsed successfully!'),
@@ -310,13 +322,8 @@ class _TemplateManagementScreenState extends State<TemplateManagementScreen> {
         );
         _loadTemplates();
       } else if (mounted) {
-        String error = 'Parse failed';
-        try {
-          final data = json.decode(response.body);
-          error = data['error'] ?? error;
-        } catch (_) {}
         scaffoldMessenger.showSnackBar(
-          SnackBar(content: Text(error), backgroundColor: Colors.red),
+          SnackBar(content: Text(error!), backgroundColor: Colors.red),
         );
       }
     } catch (e) {
@@ -327,6 +334,31 @@ class _TemplateManagementScreenState extends State<TemplateManagementScreen> {
     }
   }
 
+  /// Polls the parse status; returns null on success or an error message.
+  Future<String?> _waitForParse(String baseUrl, AuthService authService) async {
+    const pollInterval = Duration(seconds: 2);
+    const maxPolls = 90; // ~3 minutes
+
+    for (var i = 0; i < maxPolls; i++) {
+      await Future.delayed(pollInterval);
+      final response = await http.get(
+        Uri.parse('$baseUrl/parse-status'),
+        headers: authService.authHeaders,
+      );
+      if (response.statusCode != 200) {
+        return 'Parse failed';
+      }
+      final data = json.decode(response.body);
+      switch (data['parseStatus']) {
+        case 'DONE':
+          return null;
+        case 'FAILED':
+          return data['parseError'] ?? 'Parse failed';
+      }
+    }
+    return 'Parsing is taking longer than expected, please check back later';
+  }
+
   Future<void> _viewParsedStructure(AgendaTemplate template) async {
     final authService = Provider.of<AuthService>(context, listen: false);
 
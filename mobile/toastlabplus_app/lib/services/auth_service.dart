@@ -348,6 +348,8 @@ class AuthService extends ChangeNotifier {
       }
 
       // 4. Call backend to create/update member and get JWT token
+      // (the ID token lets the backend verify the email of imported accounts)
+      final String? idToken = await firebaseUser.getIdToken();
       final response = await http
           .post(
             Uri.parse('${ApiConfig.mcpServerBaseUrl}/api/auth/firebase'),
@@ -357,6 +359,7 @@ class AuthService extends ChangeNotifier {
               'email': firebaseUser.email,
               'name': firebaseUser.displayName ?? 'User',
               'provider': 'GOOGLE',
+              'idToken': idToken,
             }),
           )
           .timeout(ApiConfig.connectionTimeout);
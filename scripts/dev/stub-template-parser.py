@@ -0,0 +1,55 @@
+#!/usr/bin/env python3
+"""Local stand-in for the chat-backend /parse-template endpoint.
+
+Returns a fixed parse result so template parsing (TemplateParseService) can be
+exercised without the LLM backend:
+
+    python3 scripts/dev/stub-template-parser.py [port] [delay-seconds] [fail-first-n]
+    TEMPLATE_PARSER_URL=http://localhost:8090 ./mvnw spring-boot:run
+
+fail-first-n answers the first N requests with 503 to exercise retries.
+"""
+import json
+import sys
+import time
+from http.server import BaseHTTPRequestHandler, ThreadingHTTPServer
+
+PORT = int(sys.argv[1]) if len(sys.argv) > 1 else 8090
+DELAY = float(sys.argv[2]) if len(sys.argv) > 2 else 1.0
+FAIL_FIRST = int(sys.argv[3]) if len(sys.argv) > 3 else 0
+
+RESULT = {
+    "variable_mappings": [
+        {"variable": "meeting_date", "cell": "B2", "description": "Meeting date"},
+        {"variable": "theme", "cell": "B3", "description": "Meeting theme"},
+    ]
+}
+
+requests_seen = 0
+
+
+class Handler(BaseHTTPRequestHandler):
+    def do_POST(self):
+        global requests_seen
+        if self.path != "/parse-template":
+            self.send_error(404)
+            return
+        body = json.loads(self.rfile.read(int(self.headers.get("Content-Length", 0))))
+        requests_seen += 1
+        print(f"parse #{requests_seen}: {body.get('filename')} "
+              f"({len(body.get('template_content', ''))} chars)", flush=True)
+        if requests_seen <= FAIL_FIRST:
+            self.send_error(503)
+            return
+        time.sleep(DELAY)
+        payload = json.dumps(RESULT).encode()
+        self.send_response(200)
+        self.send_header("Content-Type", "application/json")
+        self.send_header("Content-Length", str(len(payload)))
+        self.end_headers()
+        self.wfile.write(payload)
+
+
+if __name__ == "__main__":
+    print(f"Stub template parser on :{PORT}", flush=True)
+    ThreadingHTTPServer(("", PORT), Handler).serve_forever()
@@ -0,0 +1,61 @@
+// Mixed API + agenda load for comparing platform vs virtual thread modes.
+//
+//   k6 run -e BASE_URL=http://localhost:8080 -e TOKEN=<jwt> \
+//          -e CLUB_ID=1 -e MEETING_ID=1 scripts/loadtest/mixed-traffic.js
+//
+// Run once with VIRTUAL_THREADS_ENABLED=false and once with true against the
+// same database, then compare http_reqs (throughput) and the p(99) of
+// http_req_duration per scenario tag.
+import http from 'k6/http';
+import { check } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+const CLUB_ID = __ENV.CLUB_ID || '1';
+const MEETING_ID = __ENV.MEETING_ID || '1';
+const params = { headers: { Authorization: `Bearer ${__ENV.TOKEN}` } };
+
+export const options = {
+  scenarios: {
+    api: {
+      executor: 'constant-arrival-rate',
+      exec: 'api',
+      rate: Number(__ENV.API_RATE || 100),
+      timeUnit: '1s',
+      duration: __ENV.DURATION || '3m',
+      preAllocatedVUs: 200,
+      tags: { scenario: 'api' },
+    },
+    agenda: {
+      executor: 'constant-arrival-rate',
+      exec: 'agenda',
+      rate: Number(__ENV.AGENDA_RATE || 2),
+      timeUnit: '1s',
+      duration: __ENV.DURATION || '3m',
+      preAllocatedVUs: 50,
+      tags: { scenario: 'agenda' },
+    },
+  },
+  summaryTrendStats: ['avg', 'p(50)', 'p(95)', 'p(99)', 'max'],
+  thresholds: {
+    'http_req_duration{scenario:api}': ['p(99)<1000'],
+  },
+};
+
+const apiPaths = [
+  '/api/clubs',
+  `/api/meetings/page?size=20`,
+  `/api/meetings/club/${CLUB_ID}`,
+  `/api/clubs/${CLUB_ID}/officers`,
+  `/api/meetings/${MEETING_ID}/roles`,
+];
+
+export function api() {
+  const path = apiPaths[Math.floor(Math.random() * apiPaths.length)];
+  const res = http.get(`${BASE_URL}${path}`, params);
+  check(res, { 'api ok or shed': (r) => r.status === 200 || r.status === 503 });
+}
+
+export function agenda() {
+  const res = http.get(`${BASE_URL}/api/meetings/${MEETING_ID}/agenda/generate?format=excel`, params);
+  check(res, { 'agenda ok or shed': (r) => r.status === 200 || r.status === 503 });
+}
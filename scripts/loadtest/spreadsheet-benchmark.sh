@@ -0,0 +1,19 @@
+#!/usr/bin/env bash
+# Heap and time of template content extraction: POI DOM (XSSFWorkbook) vs the
+# streaming SpreadsheetReader. Without a workbook a synthetic agenda with a
+# large embedded image and extra data sheets is used.
+#
+#   ./scripts/loadtest/spreadsheet-benchmark.sh [workbook.xlsx] [iterations]
+set -euo pipefail
+
+FILE="${1:-}"
+ITERATIONS="${2:-20}"
+if [ -n "$FILE" ]; then
+  FILE="$(cd "$(dirname "$FILE")" && pwd)/$(basename "$FILE")"
+fi
+
+cd "$(dirname "$0")/../../backend/mcp-server"
+# The benchmark lives in the test sources so it is not packaged into the jar
+mvn -q -DskipTests test-compile dependency:build-classpath -Dmdep.outputFile=target/benchmark.classpath
+java -Xmx1g -XX:+UseG1GC -cp "target/test-classes:target/classes:$(cat target/benchmark.classpath)" \
+  com.toastlabplus.service.SpreadsheetExtractionBenchmark "$FILE" "$ITERATIONS"
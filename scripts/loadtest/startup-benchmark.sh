@@ -0,0 +1,49 @@
+#!/usr/bin/env bash
+# Time-to-first-request and idle RSS of the MCP server image with and without
+# the AOT cache. For the native image (Dockerfile.native) both modes are the
+# same binary, so compare its "with-aot" line against the JVM image.
+#
+#   ./scripts/loadtest/startup-benchmark.sh <image> <env-file> [runs]
+#
+# The env file must provide DB/secret settings reachable from the container
+# (DB_HOST, DB_PASSWORD, JWT_SECRET, ... and SECRET_MANAGER_ENABLED=false for
+# local runs). Each run starts a fresh container and polls /api/health.
+set -euo pipefail
+
+IMAGE="${1:?image required}"
+ENV_FILE="${2:?env file required}"
+RUNS="${3:-5}"
+PORT=18080
+
+measure() {
+  local aot_disabled="$1"
+  local name="startup-bench-$$"
+  local start end
+  start=$(date +%s%N)
+  docker run -d --rm --name "$name" -p "$PORT:8080" --env-file "$ENV_FILE" \
+    -e AOT_CACHE_DISABLED="$aot_disabled" "$IMAGE" > /dev/null
+  until curl -sf "http://localhost:$PORT/api/health" > /dev/null; do
+    sleep 0.05
+  done
+  end=$(date +%s%N)
+  sleep 5
+  local rss
+  rss=$(docker stats --no-stream --format '{{.MemUsage}}' "$name" | cut -d/ -f1 | tr -d ' ')
+  docker stop "$name" > /dev/null
+  echo "$(( (end - start) / 1000000 )) $rss"
+}
+
+for mode in with-aot without-aot; do
+  disabled=false
+  [ "$mode" = "without-aot" ] && disabled=true
+  times=()
+  rss=()
+  for _ in $(seq "$RUNS"); do
+    read -r ms mem <<< "$(measure "$disabled")"
+    times+=("$ms")
+    rss+=("$mem")
+  done
+  sorted=$(printf '%s\n' "${times[@]}" | sort -n)
+  median=$(echo "$sorted" | sed -n "$(( (RUNS + 1) / 2 ))p")
+  echo "$mode: median ${median} ms to first request (runs: ${times[*]}), idle RSS: ${rss[*]}"
+done